@@ -0,0 +1,85 @@
+package com.rilixtech.materialfancybutton.benchmark;
+
+import com.rilixtech.materialfancybutton.CoreIcon;
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import com.rilixtech.materialfancybutton.utils.FontFileCache;
+import ohos.agp.components.AttrSet;
+import ohos.agp.components.DirectionalLayout;
+import ohos.app.AbilityContext;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inflates layouts of buttons of each typeface, like the icon button layouts of the sample application. The time and
+ * allocation of an operation are those of a whole layout, and checkInflationBaseline reports them per button.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ButtonInflationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int buttonCount;
+
+    @Param({"CMDI", "DEVI", "DRPI", "ENTI", "FAWI", "FOUI", "GLYI", "GMDI", "IONI", "MBRI", "MDII", "METI", "MFGI",
+            "OCTI", "OPIC", "PE7I", "PICI", "THEI", "TYPI", "VAAI", "WICI"})
+    public String mappingPrefix;
+
+    private AbilityContext context;
+    private List<AttrSet> attrSets;
+
+    /**
+     * Font loads and extractions of the benchmark, which should only happen for the first layout inflated, as fonts
+     * are cached. Reported as counts per iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FontLoads {
+
+        public long fontBuilds;
+        public long fontExtractions;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            fontBuilds = 0;
+            fontExtractions = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        ButtonLayouts.setTypefaceProvider();
+        File cacheDir = Files.createTempDirectory("mfb-benchmark").toFile();
+        context = ButtonLayouts.createContext(cacheDir);
+        attrSets = ButtonLayouts.createAttrSets(CoreIcon.findFont(mappingPrefix), buttonCount);
+    }
+
+    @Benchmark
+    public DirectionalLayout inflate(FontLoads fontLoads) {
+        long fontBuilds = StubCounters.getCallCount("Font.Builder.build");
+        long fontExtractions = FontFileCache.getMissCount();
+        DirectionalLayout layout = ButtonLayouts.inflate(context, attrSets);
+        fontLoads.fontBuilds += StubCounters.getCallCount("Font.Builder.build") - fontBuilds;
+        fontLoads.fontExtractions += FontFileCache.getMissCount() - fontExtractions;
+        return layout;
+    }
+}
@@ -0,0 +1,80 @@
+package com.rilixtech.materialfancybutton.benchmark;
+
+import com.rilixtech.materialfancybutton.CoreIcon;
+import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the font registry of {@link CoreIcon}, with all the typefaces available.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoreIconBenchmark {
+
+    // Keys spread over several typefaces, so that lookups don't always hit the same font
+    private static final String[] HIT_KEYS = {
+        "FAWI_STAR", "CMDI_ACCOUNT", "GMDI-ALARM", "IONI_APERTURE", "OCTI_ALERT", "WICI_DAY_SUNNY"
+    };
+    // Unknown icons of known fonts, and icons of a font that doesn't exist
+    private static final String[] MISS_KEYS = {
+        "FAWI_STAR_FROM_A_NEWER_VERSION", "CMDI_UNKNOWN", "XXXX_STAR", "GMDI-UNKNOWN-ALARM"
+    };
+    private static final String[] PREFIXES = {"FAWI", "CMDI", "GMDI", "IONI", "OCTI", "WICI"};
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ButtonLayouts.setTypefaceProvider();
+        CoreIcon.init();
+        for (String key : HIT_KEYS) {
+            if (!CoreIcon.iconExists(key)) {
+                throw new IllegalStateException("No icon " + key);
+            }
+        }
+    }
+
+    /**
+     * Cold start of the registry, loading every typeface. Each measurement runs in a new JVM, as the typefaces are
+     * only loaded once.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public boolean init() {
+        CoreIcon.init();
+        return CoreIcon.isInitDone();
+    }
+
+    @Benchmark
+    public MfbTypeface findFont() {
+        return CoreIcon.findFont(PREFIXES[next++ % PREFIXES.length]);
+    }
+
+    @Benchmark
+    public boolean iconExistsHit() {
+        return CoreIcon.iconExists(HIT_KEYS[next++ % HIT_KEYS.length]);
+    }
+
+    @Benchmark
+    public boolean iconExistsMiss() {
+        return CoreIcon.iconExists(MISS_KEYS[next++ % MISS_KEYS.length]);
+    }
+}
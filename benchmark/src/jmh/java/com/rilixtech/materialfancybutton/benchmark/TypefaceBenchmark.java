@@ -0,0 +1,69 @@
+package com.rilixtech.materialfancybutton.benchmark;
+
+import com.rilixtech.materialfancybutton.CoreIcon;
+import com.rilixtech.materialfancybutton.typeface.MfbIcon;
+import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the icon accessors of each typeface, selected by mapping prefix.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypefaceBenchmark {
+
+    @Param({"CMDI", "DEVI", "DRPI", "ENTI", "FAWI", "FOUI", "GLYI", "GMDI", "IONI", "MBRI", "MDII", "METI", "MFGI",
+            "OCTI", "OPIC", "PE7I", "PICI", "THEI", "TYPI", "VAAI", "WICI"})
+    public String mappingPrefix;
+
+    private MfbTypeface typeface;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ButtonLayouts.setTypefaceProvider();
+        typeface = CoreIcon.findFont(mappingPrefix);
+        if (typeface == null) {
+            throw new IllegalStateException("No typeface for " + mappingPrefix);
+        }
+        keys = typeface.getIcons().toArray(new String[0]);
+    }
+
+    @Benchmark
+    public MfbIcon getIcon() {
+        return typeface.getIcon(keys[next++ % keys.length]);
+    }
+
+    @Benchmark
+    public HashMap<String, Character> getCharacters() {
+        return typeface.getCharacters();
+    }
+
+    @Benchmark
+    public Collection<String> getIcons() {
+        return typeface.getIcons();
+    }
+
+    @Benchmark
+    public int getIconCount() {
+        return typeface.getIconCount();
+    }
+}
@@ -0,0 +1,157 @@
+package com.rilixtech.materialfancybutton.benchmark;
+
+import com.rilixtech.materialfancybutton.CoreIcon;
+import com.rilixtech.materialfancybutton.MaterialFancyButton;
+import com.rilixtech.materialfancybutton.fixtures.StubAbilityContext;
+import com.rilixtech.materialfancybutton.fixtures.StubAttrSet;
+import com.rilixtech.materialfancybutton.generated.TypefaceProvider;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
+import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import ohos.agp.components.AttrSet;
+import ohos.agp.components.DirectionalLayout;
+import ohos.app.AbilityContext;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reproduces the icon button layouts of the sample application, eg. ability_community_material_buttons.xml, with the
+ * ohos stand-ins of the test_fixtures module. Every other button names its icon with {@code mfb_icon}, the others
+ * give its character with {@code mfb_fontIconResource} and the font file with {@code mfb_iconFont}, and all of them
+ * set the colors, radius, border and icon position of the sample buttons.
+ */
+public final class ButtonLayouts {
+
+    /**
+     * System property giving the root directory of the project, which holds the typeface modules.
+     */
+    public static final String ROOT_DIR_PROPERTY = "mfb.rootDir";
+
+    private static final String RESOURCES_DIR = "src/main/resources";
+    private static final String JAVA_DIR = "src/main/java";
+
+    private ButtonLayouts() {}
+
+    /**
+     * Sets the typeface provider generated for all the typeface modules, as the sample application does at startup.
+     */
+    public static void setTypefaceProvider() {
+        if (CoreIcon.getTypefaceProvider() == null) {
+            CoreIcon.setTypefaceProvider(new TypefaceProvider());
+        }
+    }
+
+    /**
+     * Creates a context whose raw files are the resources of all the typeface modules.
+     *
+     * @param cacheDir The directory into which fonts are extracted.
+     * @return The context.
+     */
+    public static StubAbilityContext createContext(File cacheDir) {
+        List<File> resourceDirs = new ArrayList<>();
+        for (File moduleDir : getModuleDirs()) {
+            File resourceDir = new File(moduleDir, RESOURCES_DIR);
+            if (resourceDir.isDirectory()) {
+                resourceDirs.add(resourceDir);
+            }
+        }
+        return new StubAbilityContext(cacheDir, resourceDirs.toArray(new File[0]));
+    }
+
+    /**
+     * Creates the attributes of the buttons of a layout using the icons of a typeface, in turn.
+     *
+     * @param typeface The typeface of the icons.
+     * @param buttonCount The number of buttons of the layout.
+     * @return The attributes of each button.
+     */
+    public static List<AttrSet> createAttrSets(MfbTypeface typeface, int buttonCount) {
+        IconTable iconTable = typeface.getIconTable();
+        String fontFile = findFontFile(typeface);
+        List<AttrSet> attrSets = new ArrayList<>(buttonCount);
+        for (int index = 0; index < buttonCount; index++) {
+            int ordinal = index % iconTable.size();
+            StubAttrSet attrSet = new StubAttrSet()
+                    .put("mfb_text", "Button " + index)
+                    .put("mfb_textColor", "#FFFFFF")
+                    .put("mfb_defaultColor", "#3b5998")
+                    .put("mfb_focusColor", "#5577bd")
+                    .put("mfb_radius", 30)
+                    .put("mfb_iconPosition", index % 4 == 0 ? "LEFT" : "RIGHT")
+                    .put("mfb_fontIconSize", 40);
+            if (index % 2 == 0) {
+                attrSet.put("mfb_icon", iconTable.getName(ordinal));
+            } else {
+                attrSet.put("mfb_fontIconResource", String.valueOf(iconTable.getCharacter(ordinal)))
+                        .put("mfb_iconFont", fontFile)
+                        .put("mfb_borderColor", "#FFFFFF")
+                        .put("mfb_borderWidth", 1)
+                        .put("mfb_iconPaddingLeft", 20)
+                        .put("mfb_iconPaddingRight", 0);
+            }
+            attrSets.add(attrSet);
+        }
+        return attrSets;
+    }
+
+    /**
+     * Inflates the buttons of a layout into a vertical DirectionalLayout, as the layout inflater would.
+     *
+     * @param context The context of the buttons.
+     * @param attrSets The attributes of each button.
+     * @return The layout holding the buttons.
+     */
+    public static DirectionalLayout inflate(AbilityContext context, List<AttrSet> attrSets) {
+        DirectionalLayout layout = new DirectionalLayout(context);
+        layout.setOrientation(DirectionalLayout.VERTICAL);
+        for (AttrSet attrSet : attrSets) {
+            layout.addComponent(new MaterialFancyButton(context, attrSet));
+        }
+        return layout;
+    }
+
+    /**
+     * Finds the name of the font file of a typeface, which is the only font in the rawfile directory of the module
+     * holding the typeface class.
+     *
+     * @param typeface The typeface.
+     * @return The name of its font file in the rawfile directory.
+     */
+    public static String findFontFile(MfbTypeface typeface) {
+        String[] fontFiles = new File(findModuleDir(typeface), RESOURCES_DIR + "/rawfile")
+                .list((dir, name) -> name.endsWith(".ttf"));
+        if (fontFiles == null || fontFiles.length == 0) {
+            throw new IllegalStateException("Can't find the font file of " + typeface.getFontName());
+        }
+        Arrays.sort(fontFiles);
+        return fontFiles[0];
+    }
+
+    /**
+     * Finds the directory of the typeface module holding the class of a typeface.
+     *
+     * @param typeface The typeface.
+     * @return The directory of its module.
+     */
+    public static File findModuleDir(MfbTypeface typeface) {
+        String packageDir = typeface.getClass().getPackage().getName().replace('.', '/');
+        for (File moduleDir : getModuleDirs()) {
+            if (new File(moduleDir, JAVA_DIR + "/" + packageDir).isDirectory()) {
+                return moduleDir;
+            }
+        }
+        throw new IllegalStateException("Can't find the module of " + typeface.getFontName());
+    }
+
+    private static File[] getModuleDirs() {
+        File rootDir = new File(System.getProperty(ROOT_DIR_PROPERTY, ".."));
+        File[] moduleDirs = rootDir.listFiles(file -> file.isDirectory() && file.getName().endsWith("_typeface"));
+        if (moduleDirs == null || moduleDirs.length == 0) {
+            throw new IllegalStateException("No typeface module in " + rootDir.getAbsolutePath() + ", set -D"
+                    + ROOT_DIR_PROPERTY + " to the root directory of the project.");
+        }
+        Arrays.sort(moduleDirs);
+        return moduleDirs;
+    }
+}
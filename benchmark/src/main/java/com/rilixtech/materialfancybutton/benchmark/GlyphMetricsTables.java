@@ -0,0 +1,112 @@
+package com.rilixtech.materialfancybutton.benchmark;
+
+import com.rilixtech.materialfancybutton.generated.TypefaceProvider;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
+import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import com.rilixtech.materialfancybutton.typeface.MfbTypefaceProvider;
+import com.rilixtech.materialfancybutton.utils.TrueTypeFont;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks or rewrites the GlyphMetrics tables of the typeface modules, the {@code <Typeface>Metrics} class next to
+ * each typeface. The metrics of the icons are read from the font file of the module by
+ * {@link TrueTypeFont#getGlyphMetrics(IconTable)}, the same parser the library uses at run time, and stored as the
+ * String read by {@link GlyphMetrics#decode(int, int, int, String)}. Run by the checkGlyphMetrics task.
+ */
+public final class GlyphMetricsTables {
+
+    /**
+     * Argument rewriting the outdated tables instead of failing.
+     */
+    public static final String UPDATE_ARGUMENT = "--update";
+
+    // Number of icons written per line of the tables
+    private static final int ICONS_PER_LINE = 3;
+
+    private GlyphMetricsTables() {}
+
+    public static void main(String[] args) throws IOException {
+        boolean update = args.length > 0 && UPDATE_ARGUMENT.equals(args[0]);
+        List<File> outdatedFiles = new ArrayList<>();
+        MfbTypefaceProvider typefaceProvider = new TypefaceProvider();
+        for (String mappingPrefix : typefaceProvider.getMappingPrefixes()) {
+            MfbTypeface typeface = typefaceProvider.newTypeface(mappingPrefix);
+            File moduleDir = ButtonLayouts.findModuleDir(typeface);
+            String fontFile = ButtonLayouts.findFontFile(typeface);
+            File fontPath = new File(moduleDir, "src/main/resources/rawfile/" + fontFile);
+            GlyphMetrics glyphMetrics = TrueTypeFont.read(fontPath).getGlyphMetrics(typeface.getIconTable());
+            Class<?> typefaceClass = typeface.getClass();
+            File sourceFile = new File(moduleDir, "src/main/java/"
+                    + typefaceClass.getPackage().getName().replace('.', '/') + "/" + typefaceClass.getSimpleName()
+                    + "Metrics.java");
+            String source = writeSource(typefaceClass, fontFile, glyphMetrics);
+            if (sourceFile.isFile()
+                    && source.equals(new String(Files.readAllBytes(sourceFile.toPath()), StandardCharsets.UTF_8))) {
+                continue;
+            }
+            if (update) {
+                Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+            }
+            outdatedFiles.add(sourceFile);
+        }
+        if (update) {
+            System.out.println("Rewrote " + outdatedFiles.size() + " glyph metrics tables.");
+        } else if (!outdatedFiles.isEmpty()) {
+            throw new IllegalStateException("The glyph metrics tables " + outdatedFiles + " don't match their font "
+                    + "files. Rewrite them with gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics.");
+        }
+    }
+
+    /**
+     * Writes the source of the metrics table of a typeface.
+     *
+     * @param typefaceClass The class of the typeface.
+     * @param fontFile The name of the font file of the typeface.
+     * @param glyphMetrics The metrics of the icons of the typeface, read from its font file.
+     * @return The source of the {@code <Typeface>Metrics} class.
+     */
+    static String writeSource(Class<?> typefaceClass, String fontFile, GlyphMetrics glyphMetrics) {
+        String className = typefaceClass.getSimpleName() + "Metrics";
+        StringBuilder source = new StringBuilder()
+                .append("// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.\n")
+                .append("package ").append(typefaceClass.getPackage().getName()).append(";\n\n")
+                .append("import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;\n\n")
+                .append("/**\n")
+                .append(" * Metrics of the glyphs of ").append(fontFile).append(" for the ")
+                .append(typefaceClass.getSimpleName()).append(" icons, in ordinal order.\n")
+                .append(" */\n")
+                .append("final class ").append(className).append(" {\n\n")
+                .append("    private ").append(className).append("() {}\n\n")
+                .append("    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(")
+                .append(glyphMetrics.getUnitsPerEm()).append(", ")
+                .append(glyphMetrics.getAscender()).append(", ")
+                .append(glyphMetrics.getDescender()).append(", \"\"");
+        String encodedMetrics = glyphMetrics.encode();
+        int valuesPerLine = ICONS_PER_LINE * GlyphMetrics.STRIDE;
+        for (int index = 0; index < encodedMetrics.length(); index++) {
+            if (index % valuesPerLine == 0) {
+                source.append(index == 0 ? "\n" : "\"\n").append("            + \"");
+            }
+            appendCharLiteral(source, encodedMetrics.charAt(index));
+        }
+        if (!encodedMetrics.isEmpty()) {
+            source.append('"');
+        }
+        return source.append(");\n}\n").toString();
+    }
+
+    // Java literal of a char, avoiding the unicode escapes of line terminators, quotes and backslashes
+    private static void appendCharLiteral(StringBuilder source, char character) {
+        if (character < 0x100) {
+            source.append('\\').append(Integer.toOctalString(character));
+        } else {
+            source.append(String.format("\\u%04x", (int) character));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton;
+
+import com.rilixtech.materialfancybutton.fixtures.StubAbilityContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class ButtonEditTest {
+
+    @Rule
+    public TemporaryFolder cacheFolder = new TemporaryFolder();
+
+    private MaterialFancyButton button;
+
+    @Before
+    public void setUp() throws IOException {
+        button = new MaterialFancyButton(new StubAbilityContext(cacheFolder.newFolder()));
+    }
+
+    @Test
+    public void testSettersAreDeferredUntilApply() {
+        int textRebuilds = button.getRebuildCount(MaterialFancyButton.ASPECT_TEXT_STYLE);
+        button.edit();
+        button.setText("Sign in");
+        button.setTextColor(0xFF112233);
+        button.setTextAllCaps(true);
+        assertEquals("BUTTON", button.getText());
+        assertEquals(textRebuilds, button.getRebuildCount(MaterialFancyButton.ASPECT_TEXT_STYLE));
+        button.apply();
+
+        assertEquals("SIGN IN", button.getText());
+        assertEquals(0xFF112233, button.getTextViewObject().getTextColor().getValue());
+        assertEquals(textRebuilds + 1, button.getRebuildCount(MaterialFancyButton.ASPECT_TEXT_STYLE));
+    }
+
+    @Test
+    public void testSetTextOutsideTransaction() {
+        button.setText("Sign in");
+        assertEquals("Sign in", button.getText());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton;
+
+import com.rilixtech.materialfancybutton.fixtures.StubAbilityContext;
+import com.rilixtech.materialfancybutton.fixtures.StubAttrSet;
+import ohos.agp.components.element.StateElement;
+import ohos.agp.utils.TextAlignment;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class ButtonStyleTest {
+
+    @Rule
+    public TemporaryFolder cacheFolder = new TemporaryFolder();
+
+    private StubAbilityContext context;
+
+    @Before
+    public void setUp() throws IOException {
+        context = new StubAbilityContext(cacheFolder.newFolder());
+        ButtonStyle.clearCache();
+    }
+
+    @Test
+    public void testBuildInternsEqualStyles() {
+        ButtonStyle style = new ButtonStyle.Builder(context).setRadius(30).setGhost(true).build();
+        assertSame(style, new ButtonStyle.Builder(context).setGhost(true).setRadius(30).build());
+        assertSame(style, style.toBuilder().build());
+        assertNotEquals(style, style.toBuilder().setRadiusTopLeft(0).build());
+    }
+
+    @Test
+    public void testFromAttrSet() {
+        ButtonStyle style = ButtonStyle.fromAttrSet(context, new StubAttrSet()
+                .put("mfb_textColor", 0xFF112233)
+                .put("mfb_radius", 30)
+                .put("mfb_radiusTopLeft", 5));
+        assertEquals(0xFF112233, style.getIconColor());
+        assertEquals(5, style.getRadiusTopLeft());
+        assertEquals(30, style.getRadiusBottomRight());
+        assertEquals(TextAlignment.CENTER, style.getTextGravity());
+        assertTrue(style.isEnabled());
+    }
+
+    @Test
+    public void testButtonsShareStyleAndBackground() {
+        StubAttrSet attrSet = new StubAttrSet().put("mfb_text", "Sign in").put("mfb_radius", 30);
+        MaterialFancyButton button = new MaterialFancyButton(context, attrSet);
+        MaterialFancyButton otherButton = new MaterialFancyButton(context, attrSet.put("mfb_text", "Sign up"));
+        assertSame(button.getButtonStyle(), otherButton.getButtonStyle());
+        assertNotNull(button.getBackgroundElement());
+        assertNotSame(button.getBackgroundElement(), otherButton.getBackgroundElement());
+        assertSame(button.getButtonStyle().getBackgroundStyle().getShapes(),
+                otherButton.getButtonStyle().getBackgroundStyle().getShapes());
+    }
+
+    @Test
+    public void testSameStyleButtonsOfDifferentSizes() {
+        StubAttrSet attrSet = new StubAttrSet().put("mfb_text", "OK").put("mfb_focusColor", 0xFF00FF00);
+        MaterialFancyButton button = new MaterialFancyButton(context, attrSet);
+        MaterialFancyButton otherButton = new MaterialFancyButton(context, attrSet.put("mfb_text", "Create account"));
+        assertSame(button.getButtonStyle(), otherButton.getButtonStyle());
+        StateElement background = (StateElement) button.getBackgroundElement();
+        StateElement otherBackground = (StateElement) otherButton.getBackgroundElement();
+        assertEquals(4, background.getStateCount());
+        assertEquals(background.getStateCount(), otherBackground.getStateCount());
+
+        // As laid out, each button sets the bounds of the shapes of its states to its own size
+        for (int index = 0; index < background.getStateCount(); index++) {
+            background.getStateElement(index).setBounds(0, 0, 120, 48);
+        }
+        for (int index = 0; index < otherBackground.getStateCount(); index++) {
+            otherBackground.getStateElement(index).setBounds(0, 0, 360, 48);
+        }
+        for (int index = 0; index < background.getStateCount(); index++) {
+            assertNotSame(background.getStateElement(index), otherBackground.getStateElement(index));
+            assertEquals(120, background.getStateElement(index).getBounds().getWidth());
+            assertEquals(360, otherBackground.getStateElement(index).getBounds().getWidth());
+        }
+    }
+
+    @Test
+    public void testSetButtonStyleUpdatesChangedAspects() {
+        MaterialFancyButton button = new MaterialFancyButton(context);
+        int textRebuilds = button.getRebuildCount(MaterialFancyButton.ASPECT_TEXT_STYLE);
+        int backgroundRebuilds = button.getRebuildCount(MaterialFancyButton.ASPECT_BACKGROUND);
+
+        button.setButtonStyle(button.getButtonStyle().toBuilder().setRadius(12).build());
+        assertEquals(12, button.getRadiusBottomLeft());
+        assertEquals(textRebuilds, button.getRebuildCount(MaterialFancyButton.ASPECT_TEXT_STYLE));
+        assertEquals(backgroundRebuilds + 1, button.getRebuildCount(MaterialFancyButton.ASPECT_BACKGROUND));
+
+        button.setRadius(12);
+        assertEquals(backgroundRebuilds + 1, button.getRebuildCount(MaterialFancyButton.ASPECT_BACKGROUND));
+    }
+
+    @Test
+    public void testStyleSettersKeepDisabledColors() {
+        MaterialFancyButton button = new MaterialFancyButton(context);
+        button.setDisableTextColor(0xFF777777);
+        button.setEnabled(false);
+        int textRebuilds = button.getRebuildCount(MaterialFancyButton.ASPECT_TEXT_STYLE);
+
+        button.setTextColor(0xFF112233);
+        assertEquals(0xFF112233, button.getTextColor());
+        assertEquals(0xFF777777, button.getTextViewObject().getTextColor().getValue());
+        assertSame(button.getButtonStyle(), new ButtonStyle.Builder(context).setDisableTextColor(0xFF777777)
+                .setEnabled(false).setTextColor(0xFF112233).build());
+
+        button.setEnabled(true);
+        assertEquals(0xFF112233, button.getTextViewObject().getTextColor().getValue());
+
+        button.edit();
+        button.setTextSize(20);
+        button.setTextGravity(TextAlignment.START);
+        button.setIconPadding(4, 8, 4, 8);
+        button.apply();
+        assertEquals(textRebuilds + 2, button.getRebuildCount(MaterialFancyButton.ASPECT_TEXT_STYLE));
+        assertEquals(TextAlignment.START, button.getTextGravity());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.benchmark;
+
+import com.rilixtech.materialfancybutton.CoreIcon;
+import com.rilixtech.materialfancybutton.fixtures.StubAbilityContext;
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import com.rilixtech.materialfancybutton.utils.FontFileCache;
+import com.rilixtech.materialfancybutton.utils.FontUtil;
+import com.rilixtech.materialfancybutton.utils.GenericsUtil;
+import com.rilixtech.materialfancybutton.utils.LruCache;
+import ohos.agp.components.AttrSet;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Regression gate on the work done to inflate the layouts of ButtonInflationBenchmark, counted with the ohos
+ * stand-ins so that it doesn't depend on timings. Lower the budgets when an optimization lands.
+ */
+public class ButtonInflationGateTest {
+
+    private static final int BUTTON_COUNT = 1000;
+    // Stand-in objects created per button: the button, its child components and its own background StateElement and
+    // ShapeElements
+    private static final int MAX_ALLOCATIONS_PER_BUTTON = 8;
+    // Calls to the stand-in methods changing a component, per button
+    private static final int MAX_CALLS_PER_BUTTON = 50;
+    // Attribute lookups per button, one per attribute declared by the largest buttons of the layouts
+    private static final int MAX_ATTR_LOOKUPS_PER_BUTTON = 13;
+
+    @Rule
+    public TemporaryFolder cacheFolder = new TemporaryFolder();
+
+    private StubAbilityContext context;
+
+    @Before
+    public void setUp() throws IOException {
+        ButtonLayouts.setTypefaceProvider();
+        context = ButtonLayouts.createContext(cacheFolder.newFolder());
+        FontUtil.trimMemory(LruCache.TRIM_MEMORY_COMPLETE);
+    }
+
+    @Test
+    public void testFontLoadedOncePerLayout() {
+        for (String mappingPrefix : GenericsUtil.getMappingPrefixes()) {
+            List<AttrSet> attrSets = ButtonLayouts.createAttrSets(CoreIcon.findFont(mappingPrefix), BUTTON_COUNT);
+            long fontExtractions = FontFileCache.getMissCount();
+            StubCounters.reset();
+            ButtonLayouts.inflate(context, attrSets);
+            assertEquals(mappingPrefix, 1, StubCounters.getCallCount("Font.Builder.build"));
+            assertEquals(mappingPrefix, 1, FontFileCache.getMissCount() - fontExtractions);
+
+            // Inflated again, the layout finds its font in the caches
+            fontExtractions = FontFileCache.getMissCount();
+            StubCounters.reset();
+            ButtonLayouts.inflate(context, attrSets);
+            assertEquals(mappingPrefix, 0, StubCounters.getCallCount("Font.Builder.build"));
+            assertEquals(mappingPrefix, 0, FontFileCache.getMissCount() - fontExtractions);
+        }
+    }
+
+    @Test
+    public void testWorkPerButton() {
+        for (String mappingPrefix : GenericsUtil.getMappingPrefixes()) {
+            List<AttrSet> attrSets = ButtonLayouts.createAttrSets(CoreIcon.findFont(mappingPrefix), BUTTON_COUNT);
+            ButtonLayouts.inflate(context, attrSets);
+            StubCounters.reset();
+            ButtonLayouts.inflate(context, attrSets);
+            // The layout holding the buttons is created and called once
+            assertTrue(mappingPrefix + ": " + StubCounters.getAllocationCount() + " allocations",
+                    StubCounters.getAllocationCount() <= 1 + (long) MAX_ALLOCATIONS_PER_BUTTON * BUTTON_COUNT);
+            assertTrue(mappingPrefix + ": " + StubCounters.getCallCount() + " calls",
+                    StubCounters.getCallCount() <= 1 + (long) MAX_CALLS_PER_BUTTON * BUTTON_COUNT);
+            assertTrue(mappingPrefix + ": " + StubCounters.getCallCount("AttrSet.getAttr") + " attribute lookups",
+                    StubCounters.getCallCount("AttrSet.getAttr") <= (long) MAX_ATTR_LOOKUPS_PER_BUTTON * BUTTON_COUNT);
+            assertEquals(mappingPrefix, BUTTON_COUNT, StubCounters.getCallCount("Component.setBackground"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.benchmark;
+
+import com.rilixtech.materialfancybutton.CoreIcon;
+import com.rilixtech.materialfancybutton.fixtures.StubAbilityContext;
+import com.rilixtech.materialfancybutton.generated.TypefaceProvider;
+import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import com.rilixtech.materialfancybutton.typeface.MfbTypefaceProvider;
+import com.rilixtech.materialfancybutton.utils.FontUtil;
+import com.rilixtech.materialfancybutton.utils.GenericsUtil;
+import com.rilixtech.materialfancybutton.utils.TrueTypeFont;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks every typeface against the font file packaged in its module, so that an icon added without its glyph, or a
+ * font updated without one of its glyphs, fails the build instead of drawing a blank icon.
+ */
+public class TypefaceFontsTest {
+
+    @Rule
+    public TemporaryFolder cacheFolder = new TemporaryFolder();
+
+    @Test
+    public void testNoMissingIcons() throws IOException {
+        ButtonLayouts.setTypefaceProvider();
+        assertTrue(GenericsUtil.getMappingPrefixes().length > 0);
+        StubAbilityContext context = ButtonLayouts.createContext(cacheFolder.newFolder());
+        for (String mappingPrefix : GenericsUtil.getMappingPrefixes()) {
+            MfbTypeface typeface = CoreIcon.findFont(mappingPrefix);
+            assertNotNull(mappingPrefix, typeface);
+            TrueTypeFont font = FontUtil.readFontFile(context, ButtonLayouts.findFontFile(typeface));
+            assertEquals(mappingPrefix, Collections.emptyList(), font.findMissingIcons(typeface.getIconTable()));
+        }
+    }
+
+    @Test
+    public void testIndexMatchesProvider() throws ReflectiveOperationException {
+        // Fonts are created by class name from the library's index when no provider is set
+        MfbTypefaceProvider typefaceProvider = new TypefaceProvider();
+        assertArrayEquals(typefaceProvider.getMappingPrefixes(), GenericsUtil.getMappingPrefixes());
+        for (String mappingPrefix : GenericsUtil.getMappingPrefixes()) {
+            Object typeface = Class.forName(GenericsUtil.getFontClassName(mappingPrefix))
+                    .getDeclaredConstructor().newInstance();
+            assertSame(mappingPrefix, typefaceProvider.newTypeface(mappingPrefix).getClass(), typeface.getClass());
+            assertEquals(mappingPrefix, ((MfbTypeface) typeface).getMappingPrefix());
+        }
+    }
+}
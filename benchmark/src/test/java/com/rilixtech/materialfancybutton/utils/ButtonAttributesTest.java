@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.utils;
+
+import com.rilixtech.materialfancybutton.fixtures.StubAttrSet;
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.agp.utils.TextAlignment;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ButtonAttributesTest {
+
+    @Before
+    public void setUp() {
+        StubCounters.reset();
+    }
+
+    @Test
+    public void testReadTypedValues() {
+        ButtonAttributes attributes = ButtonAttributes.read(new StubAttrSet()
+                .put("mfb_textColor", 0xFF112233)
+                .put("mfb_ghost", true)
+                .put("mfb_radius", 30)
+                .put("mfb_textGravity", "START")
+                .put("mfb_iconPosition", "TOP")
+                .put("mfb_text", "Sign in"));
+        assertEquals(0xFF112233, attributes.getInt(ButtonAttributes.TEXT_COLOR, 0));
+        assertTrue(attributes.getBoolean(ButtonAttributes.GHOST, false));
+        assertEquals(30, attributes.getInt(ButtonAttributes.RADIUS, 0));
+        assertEquals(TextAlignment.START, attributes.getInt(ButtonAttributes.TEXT_GRAVITY, 0));
+        assertEquals(AttrEnumUtil.MfbIconPosition.TOP.value, attributes.getInt(ButtonAttributes.ICON_POSITION, 0));
+        assertEquals("Sign in", attributes.getString(ButtonAttributes.TEXT));
+    }
+
+    @Test
+    public void testMissingAttributesKeepDefaults() {
+        ButtonAttributes attributes = ButtonAttributes.read(new StubAttrSet()
+                .put("mfb_iconPosition", "NOWHERE")
+                .put("unknown_attribute", 1));
+        assertFalse(attributes.has(ButtonAttributes.ICON_POSITION));
+        assertEquals(7, attributes.getInt(ButtonAttributes.ICON_POSITION, 7));
+        assertTrue(attributes.getBoolean(ButtonAttributes.ENABLED, true));
+        assertEquals(12, attributes.getInt(ButtonAttributes.RADIUS_TOP_LEFT, 12));
+        assertNull(attributes.getString(ButtonAttributes.ICON));
+        assertNull(attributes.getIconResource());
+    }
+
+    @Test
+    public void testReadLooksEachAttributeUpOnce() {
+        ButtonAttributes.read(new StubAttrSet()
+                .put("mfb_text", "Sign in")
+                .put("text_size", 40)
+                .put("mfb_icon", "FAWI_GITHUB"));
+        assertEquals(3, StubCounters.getCallCount("AttrSet.getAttr"));
+    }
+}
@@ -2,12 +2,13 @@ package com.rilixtech.communitymaterialtypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Community Material Design font. It hosts a variety of icons that can be used by
@@ -26,7 +27,6 @@ public class CommunityMaterial implements MfbTypeface {
             + " 1.1, Google Material Design Icons: Attribution 4.0 International";
     public static final String COMMUNITY_MATERIAL_LICENSE_URL =
             "https://raw.githubusercontent.com/Templarian/MaterialDesign/master/license.txt";
-    private static Font communityMaterialTypeface = null;
     private static HashMap<String, Character> communityMaterialCharMap;
 
     /**
@@ -36,7 +36,22 @@ public class CommunityMaterial implements MfbTypeface {
      */
     @Override
     public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No CommunityMaterial icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * CommunityMaterial MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which CommunityMaterial MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override
+    public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -47,15 +62,31 @@ public class CommunityMaterial implements MfbTypeface {
     @Override
     public HashMap<String, Character> getCharacters() {
         if (communityMaterialCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.communityMaterialCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return communityMaterialCharMap;
     }
 
+    /**
+     * Get the compact table of all the CommunityMaterial icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all CommunityMaterial icon names and characters.
+     */
+    @Override
+    public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the CommunityMaterial icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all CommunityMaterial icons.
+     */
+    @Override
+    public GlyphMetrics getGlyphMetrics() {
+        return CommunityMaterialMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the Community Material Characters into a HashMap.
      */
@@ -85,17 +116,12 @@ public class CommunityMaterial implements MfbTypeface {
 
     @Override
     public int getIconCount() {
-        return communityMaterialCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override
     public Collection<String> getIcons() {
-        Collection<String> communityMaterialKeyList = new LinkedList<>();
-
-        for (Icon value : Icon.values()) {
-            communityMaterialKeyList.add(value.name());
-        }
-        return communityMaterialKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override
@@ -125,18 +151,7 @@ public class CommunityMaterial implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (communityMaterialTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return communityMaterialTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        communityMaterialTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -2093,6 +2108,9 @@ public class CommunityMaterial implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface communityMaterialTypeface;
 
@@ -0,0 +1,657 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.communitymaterialtypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of communitymaterial-font-v1.9.32.ttf for the CommunityMaterial icons, in ordinal order.
+ */
+final class CommunityMaterialMetrics {
+
+    private CommunityMaterialMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(512, 448, -64, ""
+            + "\u0200\0\0\u01d6\u0157\u0200\0\uffea\u01d6\u0182\u0200\0\0\u01ab\u016b"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u0200\u0180\u0200\0\0\u01d0\u0156\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffc0\u01ff\u01c0\u0200\0\0\u01d6\u016b\u0200\0\0\u0200\u016b"
+            + "\u0200\0\uffd5\u01c0\u0196\u0200\0\0\u01eb\u016b\u0200\0\0\u01eb\u0156"
+            + "\u0200\0\0\u0200\u0156\u0200\0\0\u01eb\u0156\u0200\0\0\u0200\u0156"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01ab\u016b\u0200\0\0\u01ab\u016b"
+            + "\u0200\0\0\u01eb\u016b\u0200\0\0\u01eb\u016b\u0200\0\0\u01b6\u0180"
+            + "\u0200\0\uffc0\u01ab\u016b\u0200\0\uffc0\u01ff\u016b\u0200\0\0\u01eb\u016b"
+            + "\u0200\0\uffd0\u01eb\u01ab\u0200\0\uffea\u01d6\u0196\u0200\0\uffc0\u01c0\u01ce"
+            + "\u0200\0\uffd5\u01ab\u01ab\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01cb\u0196"
+            + "\u0200\0\uffea\u01c4\u0196\u0200\0\0\u01da\u0174\u0200\0\uffea\u01eb\u0180"
+            + "\u0200\0\uffea\u01d6\u0199\u0200\0\uffea\u01d6\u0199\u0200\0\uffea\u01d6\u0199"
+            + "\u0200\0\uffea\u01d6\u0199\u0200\0\uffea\u01d6\u0199\u0200\0\uffea\u01d6\u0199"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01eb\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffe0\u01eb\u01a0"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffee\u01d2\u0192\u0200\0\0\u01eb\u0196"
+            + "\u0200\0\0\u0200\u0133\u0200\0\0\u0183\u0129\u0200\0\0\u01d6\u012b"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\uffea\u01da\u0197\u0200\0\0\u01d6\u0124"
+            + "\u0200\0\0\u01eb\u016b\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0196"
+            + "\u0200\0\ufff5\u01bd\u018b\u0200\0\ufff5\u01bd\u018b\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01ad\u0196\u0200\0\uffd6\u01d6\u01ab\u0200\0\0\u01ab\u012b"
+            + "\u0200\0\uffc0\u01d6\u01c0\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01a6\u016b"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u014c"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u016b\u0200\0\0\u01ab\u016b"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffee\u01d2\u0192"
+            + "\u0200\0\0\u0196\u0156\u0200\0\0\u0196\u0156\u0200\0\0\u01bf\u017f"
+            + "\u0200\0\0\u01bf\u017f\u0200\0\0\u01a9\u016b\u0200\0\0\u01a8\u016b"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01a9\u016b"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01ab\u0169"
+            + "\u0200\0\0\u01ab\u0168\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01ab\u0169\u0200\0\0\u01a8\u0169\u0200\0\0\u01a8\u0168"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01a8\u0169"
+            + "\u0200\0\0\u0196\u0156\u0200\0\0\u0196\u0156\u0200\0\0\u01a9\u0168"
+            + "\u0200\0\0\u01a8\u0168\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01a9\u0168\u0200\0\uffd5\u01c0\u0196\u0200\0\uffea\u01cf\u0196"
+            + "\u0200\0\uffff\u01ab\u0181\u0200\0\0\u01bd\u017d\u0200\0\0\u01d6\u012b"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffd5\u01d6\u0196\u0200\0\0\u01d6\u014b"
+            + "\u0200\0\uffd5\u01ab\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0149\u0200\0\0\u0200\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01d6\u0140\u0200\0\uffea\u01c0\u01ab"
+            + "\u0200\0\0\u01d6\u0140\u0200\0\uffea\u0200\u0196\u0200\0\uffd5\u0176\u01a7"
+            + "\u0200\0\0\u0196\u0180\u0200\0\0\u01d6\u0171\u0200\0\0\u01eb\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u01ab\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\uffea\u01ec\u0196\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\uffea\u01eb\u0196\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u0196\u0196\u0200\0\0\u01d6\u014a\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01c4\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffd5\u01c0\u0196"
+            + "\u0200\0\uffea\u01d5\u0196\u0200\0\uffea\u01d5\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffd2\u016e\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u0200\u01a7"
+            + "\u0200\0\0\u0180\u0180\u0200\0\0\u01ab\u0180\u0200\0\0\u01d6\u012b"
+            + "\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01b9\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u015b\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffc0\u0200\u01c0\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u017a\u0196"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffc0\u017a\u01c0\u0200\0\uffea\u01d6\u0196\u0200\0\ufff5\u01cb\u018b"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\ufff5\u01cb\u018b\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u0200\u0196\u0200\0\uffc0\u01bb\u0186\u0200\0\0\u01d6\u012b"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01eb\u016b\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\ufff5\u01eb\u0161\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\0\u0196\u0180\u0200\0\0\u0196\u0180\u0200\0\0\u0196\u0180"
+            + "\u0200\0\0\u0196\u0180\u0200\0\0\u0196\u0180\u0200\0\0\u0196\u0180"
+            + "\u0200\0\0\u0196\u0180\u0200\0\0\u01d6\u0156\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c1\u01c1"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u012b\u0200\0\uffea\u01d6\u0162\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01eb\u013d\u0200\0\ufff0\u01c6\u0193\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01eb\u012b\u0200\0\0\u01d6\u0196\u0200\0\0\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u0196\u0200\0\0\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u0196\u0196\u0200\0\uffce\u01f2\u01b2"
+            + "\u0200\0\uffce\u01f2\u01b2\u0200\0\uffce\u01f2\u01b2\u0200\0\uffce\u01f2\u01b2"
+            + "\u0200\0\uffce\u01f2\u01b2\u0200\0\ufffc\u01bc\u0186\u0200\0\0\u01c1\u0181"
+            + "\u0200\0\ufffc\u01c3\u0186\u0200\0\0\u01ab\u0180\u0200\0\uffea\u01d6\u01c0"
+            + "\u0200\0\0\u01c0\u0156\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01eb\u0156"
+            + "\u0200\0\0\u01ab\u0197\u0200\0\0\u01eb\u016b\u0200\0\uffd5\u01eb\u01b6"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffea\u01c0\u01c0\u0200\0\uffea\u0196\u0196"
+            + "\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffd5\u01eb\u01ab"
+            + "\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab"
+            + "\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab"
+            + "\u0200\0\0\u0196\u0156\u0200\0\0\u0189\u0176\u0200\0\0\u01c0\u012b"
+            + "\u0200\0\0\u01ab\u016b\u0200\0\0\u01ab\u016b\u0200\0\0\u01c0\u0140"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01d6\u01ab\u0200\0\0\u01c0\u0196"
+            + "\u0200\0\0\u01d6\u0196\u0200\0\0\u01eb\u0156\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\uffc0\u0196\u01c0\u0200\0\uffc0\u01ab\u01c0\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0196\u0200\0\uffc0\u0196\u01c0"
+            + "\u0200\0\uffc0\u01ab\u01c0\u0200\0\0\u01d6\u0196\u0200\0\uffea\u01d6\u01ab"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\0\u01c0\u0156\u0200\0\0\u01eb\u0180\u0200\0\uffc0\u01c0\u01c0"
+            + "\u0200\0\uffd5\u01c0\u01af\u0200\0\ufffa\u01e8\u0190\u0200\0\ufffa\u01e8\u0190"
+            + "\u0200\0\ufffa\u01e8\u0190\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u015c\u0196"
+            + "\u0200\0\uffea\u01c1\u0196\u0200\0\uffc0\u01e5\u01a5\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01c4\u01ab\u0200\0\uffea\u01d6\u0180\u0200\0\0\u01c0\u0140"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\uffea\u01eb\u0140\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01eb\u0180\u0200\0\0\u01eb\u0180\u0200\0\uffdb\u01f9\u01a5"
+            + "\u0200\0\uffea\u01eb\u01ab\u0200\0\0\u01d4\u0160\u0200\0\0\u01ab\u016b"
+            + "\u0200\0\uffd5\u0196\u01ab\u0200\0\uffea\u016b\u0196\u0200\0\uffd5\u0180\u01ab"
+            + "\u0200\0\uffd5\u0180\u01ab\u0200\0\0\u0200\u016b\u0200\0\uffe3\u0200\u019d"
+            + "\u0200\0\uffc0\u0180\u01c0\u0200\0\uffea\u01d6\u0180\u0200\0\uffea\u01d6\u0178"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01d6\u018c\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\0\u01ab\u016b\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01d6\u0180\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01c0\u0149\u0200\0\0\u01f9\u0149\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0196\u0200\0\0\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\ufff0\u01eb\u0196\u0200\0\0\u0180\u0149\u0200\0\0\u0189\u0140"
+            + "\u0200\0\0\u0196\u0140\u0200\0\0\u0180\u0156\u0200\0\0\u0180\u0109"
+            + "\u0200\0\0\u0149\u0140\u0200\0\0\u0156\u0140\u0200\0\0\u0180\u0116"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0196"
+            + "\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab"
+            + "\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab"
+            + "\u0200\0\uffea\u01c0\u019a\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u01ab"
+            + "\u0200\0\0\u01c0\u01ab\u0200\0\uffea\u0179\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffc0\u01c0\u01ab\u0200\0\0\u01eb\u016b"
+            + "\u0200\0\uffea\u0196\u01b0\u0200\0\uffea\u01eb\u01ab\u0200\0\uffc0\u01d6\u01ab"
+            + "\u0200\0\0\u0196\u0156\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01d6\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\0\u0200\u016b\u0200\0\0\u0200\u016b"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u0200\u016b\u0200\0\uffea\u0200\u016b"
+            + "\u0200\0\0\u0200\u016b\u0200\0\uffea\u0200\u0196\u0200\0\uffea\u0200\u0196"
+            + "\u0200\0\0\u0200\u016b\u0200\0\0\u0200\u016b\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01ab\u016b\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01ab\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01d6\u0140"
+            + "\u0200\0\uffe0\u01eb\u0178\u0200\0\uffff\u01c1\u0183\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\uffe7\u01bd\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01eb\u016b\u0200\0\0\u01c0\u0180\u0200\0\uffc0\u0200\26"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01c0\u01ab\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0180\u0200\0\0\u0200\u0180"
+            + "\u0200\0\uffc0\u01d6\u01c0\u0200\0\uffd5\u01c0\u01ab\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffd5\u01c0\u01ab\u0200\0\uffea\u01c0\u01c0\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffc0\u01c0\u0196\u0200\0\0\u01be\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c1\u0181"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01d6\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01eb\u016b"
+            + "\u0200\0\uffea\u01d6\u0182\u0200\0\uffd5\u0200\u016b\u0200\0\uffea\u0200\u0196"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0156"
+            + "\u0200\0\0\u0196\u0180\u0200\0\uffbf\u0200\u01c1\u0200\0\0\u01ab\u016b"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0156"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01eb\u016b"
+            + "\u0200\0\0\u01eb\u016b\u0200\0\uffea\u01c0\u0196\u0200\0\uffd5\u01c0\u0196"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u0199\u0196\u0200\0\0\u01b4\u0180"
+            + "\u0200\0\0\u0180\u0180\u0200\0\0\u0180\u0180\u0200\0\0\u01ab\u0180"
+            + "\u0200\0\0\u0196\u0180\u0200\0\0\u0196\u0180\u0200\0\0\u0160\u0180"
+            + "\u0200\0\0\u01aa\u0180\u0200\0\uffe7\u01a1\u0196\u0200\0\uffe7\u01a1\u0196"
+            + "\u0200\0\uffe5\u01db\u019b\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u0156\u0196"
+            + "\u0200\0\0\u01ab\u0180\u0200\0\0\u01eb\u0180\u0200\0\uffea\u01eb\u0180"
+            + "\u0200\0\uffea\u0194\u0196\u0200\0\uffea\u0194\u0192\u0200\0\0\u01f5\u0140"
+            + "\u0200\0\uffe0\u01eb\u01a0\u0200\0\uffe0\u01eb\u01a0\u0200\0\0\u01c0\u0156"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\0\u0196\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01b3\u0198\u0200\0\0\u0196\u0180\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\uffea\u01c1\u0180\u0200\0\0\u01d6\u016b\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u0180\u0196\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\uffea\u0180\u0196\u0200\0\uffd5\u01ab\u01ab"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d5\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\0\u01ee\u018a\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\uffc0\u01d6\u01ab\u0200\0\0\u01ab\u016b"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01d6\u0196\u0200\0\uffe8\u01d6\u0196"
+            + "\u0200\0\0\u0196\u0156\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\0\u01d6\u0180\u0200\0\0\u01ab\353"
+            + "\u0200\0\0\u012b\u016b\u0200\0\0\u01ab\u016b\u0200\0\0\u0196\u0180"
+            + "\u0200\0\uffd5\u01d6\u0180\u0200\0\0\u016b\u0156\u0200\0\0\u01c0\u0100"
+            + "\u0200\0\0\u0140\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0180"
+            + "\u0200\0\uffea\u01e0\u018b\u0200\0\uffea\u01c0\u01a2\u0200\0\ufffc\u01d8\u0196"
+            + "\u0200\0\ufff5\u01cb\u018b\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01c5\u019e"
+            + "\u0200\0\0\u0196\u0156\u0200\0\0\u01c0\u0130\u0200\0\0\u01c0\u0130"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u0156"
+            + "\u0200\0\0\u01d6\u01b3\u0200\0\0\u01d6\u01b3\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u0200\u01c0\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01e0\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01f1\u019b\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01eb\u016b\u0200\0\0\u01eb\u016b"
+            + "\u0200\0\0\u0196\u0116\u0200\0\0\u01c0\u0180\u0200\0\ufff1\u01d1\u0181"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01d6\u0180"
+            + "\u0200\0\uffea\u0156\u0180\u0200\0\uffea\u01ab\u0180\u0200\0\ufffe\u01a6\u0181"
+            + "\u0200\0\0\u01b6\u0180\u0200\0\uffe6\u01b7\u0196\u0200\0\0\u0116\u0160"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01eb\u016b\u0200\0\0\u01eb\u0160"
+            + "\u0200\0\uffea\u01eb\u0180\u0200\0\uffea\u01eb\u016b\u0200\0\0\u01eb\u0160"
+            + "\u0200\0\uffea\u01d3\u0193\u0200\0\0\u01c1\u0181\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u016b\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01cb\u0140\u0200\0\0\u01cb\u0140\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\uffea\u01d6\u019c\u0200\0\uffd5\u01d7\u01ab\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffc0\u01d6\u01c0\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01d6\u01ab\u0200\0\0\u01ab\u0180"
+            + "\u0200\0\uffd5\u01c0\u0180\u0200\0\uffd7\u01c0\u0196\u0200\0\uffd7\u01c0\u0196"
+            + "\u0200\0\uffd7\u01f0\u0196\u0200\0\uffd7\u01f0\u0196\u0200\0\0\u01c0\u0140"
+            + "\u0200\0\ufff5\u01cb\u016b\u0200\0\uffdf\u01c4\u019c\u0200\0\uffea\u01ab\u01b2"
+            + "\u0200\0\ufff6\u01c0\u0184\u0200\0\0\u01d6\u0156\u0200\0\0\u01ab\u016b"
+            + "\u0200\0\0\u01ab\u016b\u0200\0\0\u01ab\u016b\u0200\0\0\u01ac\u0180"
+            + "\u0200\0\uffea\u0196\u0196\u0200\0\0\u01ac\u0180\u0200\0\uffea\u016b\u0196"
+            + "\u0200\0\uffd5\u01da\u0196\u0200\0\uffea\u0196\u0196\u0200\0\uffea\u016b\u0196"
+            + "\u0200\0\uffd5\u01d6\u0196\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01c0\u01ab"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b\u0200\0\uffea\u0200\u0196"
+            + "\u0200\0\uffea\u0200\u0196\u0200\0\uffea\u0200\u0196\u0200\0\0\u01f0\u016b"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01ab\u0180"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\uffea\u01c5\u019b\u0200\0\0\u01d6\u0182"
+            + "\u0200\0\uffd5\u01d6\u0180\u0200\0\uffea\u01d8\u0180\u0200\0\0\u01af\u016f"
+            + "\u0200\0\0\u01b9\u0179\u0200\0\ufffe\u01d6\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01d6\u0196\u0200\0\0\u017b\u016b\u0200\0\0\u01ab\u0156"
+            + "\u0200\0\0\u01c0\u01c0\u0200\0\0\u018b\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01ab\u016b\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\0\u01c0\u016b\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\0\u01b4\u016b\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\0\u01eb\u016b\u0200\0\0\u01eb\u016b"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\0\u01c0\u016b\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u0180\u016b\u0200\0\0\u01d6\u0176"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\0\u01c0\u016b\u0200\0\0\u01c0\u0160"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\0\u01c0\u0156\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\0\u016b\u016b"
+            + "\u0200\0\0\u0180\u0180\u0200\0\0\u0196\u012b\u0200\0\0\u0196\u012b"
+            + "\u0200\0\uffea\u01d6\u01b0\u0200\0\uffe9\u0174\u0196\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\uffea\u01eb\u019f\u0200\0\uffff\u01d3\u0140"
+            + "\u0200\0\0\u01d3\u0196\u0200\0\0\u01a4\u016b\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\0\u0196\u016b\u0200\0\0\u0196\u0180"
+            + "\u0200\0\0\u01ab\u0180\u0200\0\uffd5\u01ab\u01ab\u0200\0\0\u01ab\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01ab\u016b"
+            + "\u0200\0\uffea\u01a0\u0196\u0200\0\uffea\u0196\u0196\u0200\0\uffea\u0196\u0196"
+            + "\u0200\0\uffea\u0196\u0196\u0200\0\uffea\u0196\u0196\u0200\0\0\u0196\u0156"
+            + "\u0200\0\0\u0196\u0156\u0200\0\0\u0192\u017c\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01eb\u0140\u0200\0\0\u0196\u0156\u0200\0\0\u0196\u0156"
+            + "\u0200\0\uffea\u0156\u0196\u0200\0\0\u01b6\u0180\u0200\0\0\u01eb\u0156"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d8\u0198\u0200\0\uffea\u0180\u016b"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffd5\u01c0\u0196\u0200\0\uffd5\u01eb\u01ab"
+            + "\u0200\0\uffd5\u0196\u0180\u0200\0\uffd5\u0196\u0180\u0200\0\uffd5\u0196\u01ab"
+            + "\u0200\0\uffd5\u0196\u01ab\u0200\0\uffd5\u0196\u0180\u0200\0\uffd5\u0196\u0156"
+            + "\u0200\0\uffd5\u0196\u01ab\u0200\0\uffd5\u0196\u0180\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffff\u01c0\u0180"
+            + "\u0200\0\ufff4\u01d6\u0196\u0200\0\0\u01d6\u0165\u0200\0\uffea\u0156\u0196"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u0156\u0196\u0200\0\uffea\u0161\u0196"
+            + "\u0200\0\uffe6\u0181\u0196\u0200\0\0\u01fe\u0116\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\uffea\u01c5\u0196\u0200\0\0\u01d8\u0176\u0200\0\uffea\u01cb\u0196"
+            + "\u0200\0\0\u01d6\u0140\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01eb\u01ab"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0196\u0200\0\uffd5\u0200\u01ab"
+            + "\u0200\0\0\u01d6\u0140\u0200\0\uffea\u01d6\u016b\u0200\0\0\u01e8\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01cb\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01c0\u0196\u0200\0\uffea\u01c2\u0181\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffdf\u01c0\u01a0\u0200\0\uffed\u01bb\u0193"
+            + "\u0200\0\0\u01eb\u0156\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01eb\u01ab"
+            + "\u0200\0\0\u01bd\u0181\u0200\0\0\u01c0\u0180\u0200\0\ufff0\u01d6\u01a1"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffc0\u01e0\u01a0"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01d6\u0180\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\uffea\u01bc\u0196\u0200\0\uffea\u01bc\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u0169\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\uffe0\u01ab\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01c0\u01ab"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffc0\u01c0\u01ab\u0200\0\uffd5\u01c0\u01ab"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\uffd5\u01e0\u01ab\u0200\0\ufff8\u01d6\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\ufff8\u01d6\u0180"
+            + "\u0200\0\ufff8\u0116\u0180\u0200\0\ufff8\u01d6\u0181\u0200\0\ufff8\u0116\u0180"
+            + "\u0200\0\uffea\u01d6\u0180\u0200\0\ufff8\u01d6\u0180\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\uffea\u0192\u0196\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01d6\u0180\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01db\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u0196\u0200\0\0\u01d6\u0118\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\0\u0180\u0180\u0200\0\0\u01d4\u0194"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\uffea\u0180\u0196\u0200\0\uffe5\u01ab\u019c"
+            + "\u0200\0\ufff0\u01c0\u019c\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u0196\u0196\u0200\0\0\u01eb\u0156\u0200\0\uffc0\u0194\u01c0"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\uffea\u0160\u0196\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01ab\u01ab"
+            + "\u0200\0\uffea\u0196\u01ab\u0200\0\uffea\u014b\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u0156\u0196\u0200\0\ufff9\u01f0\u0181\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01d6\u0156\u0200\0\uffd5\u01d6\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\uffd5\u01eb\u01ab"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u0200\u016b\u0200\0\uffea\u01d6\u01c0\u0200\0\0\u01eb\u0140"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffeb\u01d5\u0195\u0200\0\uffd1\u01cf\u01af"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01ab\u016b\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01eb\u0180"
+            + "\u0200\0\0\u0200\u0133\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u0140\u016b\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u0156\u0196"
+            + "\u0200\0\ufff4\u01d6\u0196\u0200\0\ufff3\u01ab\u0190\u0200\0\uffdf\u01ac\u019b"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01a5\u0196\u0200\0\0\u01eb\u016c"
+            + "\u0200\0\0\u0200\u0180\u0200\0\uffea\u0196\u0196\u0200\0\uffea\u01d6\u0180"
+            + "\u0200\0\0\u01eb\u0140\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\uffea\u01d6\u0180\u0200\0\uffea\u01d6\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\0\u01c0\u0140\u0200\0\0\u0180\u0149"
+            + "\u0200\0\uffd5\u01d6\u0180\u0200\0\uffea\u01d6\u0180\u0200\0\0\u01c0\u0140"
+            + "\u0200\0\0\u01d6\u0140\u0200\0\0\u01d6\u012b\u0200\0\uffff\u01a4\u0181"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01d6\u0156\u0200\0\0\u01d6\u0156"
+            + "\u0200\0\0\u0180\u016b\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffd5\u01eb\u01ab"
+            + "\u0200\0\0\u0157\u0156\u0200\0\0\u0200\u0156\u0200\0\0\u01d6\u0156"
+            + "\u0200\0\0\u01d5\u0180\u0200\0\0\u01aa\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u0200\u0142\u0200\0\uffe0\u01d6\u018b\u0200\0\0\u01d6\u0188"
+            + "\u0200\0\ufffb\u01d6\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u0200\u016b"
+            + "\u0200\0\0\u0200\u0180\u0200\0\0\u0200\u0180\u0200\0\uffea\u0200\u0180"
+            + "\u0200\0\0\u0200\u016b\u0200\0\0\u01d6\u0140\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\ufffe\u01c0\u0196\u0200\0\ufffe\u01d6\u01ab\u0200\0\ufff0\u01cc\u0186"
+            + "\u0200\0\uffea\u01d9\u0180\u0200\0\uffd5\u0180\u0140\u0200\0\uffd5\u01d6\u01c0"
+            + "\u0200\0\uffd5\u0180\u0140\u0200\0\uffea\u01ab\u0180\u0200\0\0\u0180\u0180"
+            + "\u0200\0\0\u0180\u0180\u0200\0\uffdf\u01c0\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u0196\u0196"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffea\u0196\u0196"
+            + "\u0200\0\0\u01d6\u0140\u0200\0\uffea\u01d6\u016b\u0200\0\ufffa\u01c6\u0186"
+            + "\u0200\0\uffea\u01c6\u0186\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01dd\u0196\u0200\0\0\u0100\u0196\u0200\0\uffea\u01ab\u01ab"
+            + "\u0200\0\uffea\u01ab\u01ab\u0200\0\uffea\u01ab\u01ab\u0200\0\uffea\u01ab\u01ab"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01ab\u01ab\u0200\0\uffea\u01e3\u0196"
+            + "\u0200\0\uffea\u0196\u0196\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01db\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01eb\u0140\u0200\0\uffea\u01d6\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffe5\u01ae\u019b\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01c0\u01a0\u0200\0\0\u01b6\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01b6\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01b6\u0180"
+            + "\u0200\0\uffeb\u01d7\u0195\u0200\0\uffea\u01d6\u01c0\u0200\0\uffff\u01c0\u0180"
+            + "\u0200\0\uffea\u0196\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\uffd5\u01ab\u0196\u0200\0\0\u01c0\u0194\u0200\0\0\u01cb\u0116"
+            + "\u0200\0\0\u01f2\u01a8\u0200\0\uffd5\u01c0\u01ab\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01d6\u0163\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d0\u0156\u0200\0\0\u01d8\u0180\u0200\0\0\u01d6\u0177"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0140\u0200\0\0\u016b\353"
+            + "\u0200\0\0\u0180\u0100\u0200\0\0\u012b\u012b\u0200\0\0\u0140\u012b"
+            + "\u0200\0\0\u016b\353\u0200\0\0\u0180\u010b\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffc5\u01d6\u019c"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffc0\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\ufffb\u01c7\u0180\u0200\0\0\u0196\u0196\u0200\0\0\u01c0\u0196"
+            + "\u0200\0\0\u0196\u0196\u0200\0\uffc0\u0196\u01ab\u0200\0\uffd5\u01ab\u0180"
+            + "\u0200\0\uffd5\u01ab\u0180\u0200\0\uffea\u01cb\u0194\u0200\0\uffea\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u0196\326\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffd5\u01d6\u0180\u0200\0\0\u01eb\u014b\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\uffd5\u0200\u01ab\u0200\0\0\u0200\u0180\u0200\0\ufff8\u0200\u01c0"
+            + "\u0200\0\uffd5\u01ab\u01aa\u0200\0\uffd5\u01ab\u01aa\u0200\0\uffd5\u01d6\u0194"
+            + "\u0200\0\uffd5\u01d6\u0194\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffd5\u01eb\u01b7"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01b2\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u0196\u0180\u0200\0\0\u01f3\u0180"
+            + "\u0200\0\ufff6\u01f3\u0180\u0200\0\0\u0196\u0180\u0200\0\0\u0196\u0180"
+            + "\u0200\0\ufff6\u01c0\u0180\u0200\0\0\u0196\u0180\u0200\0\0\u0196\u0180"
+            + "\u0200\0\0\u0196\300\u0200\0\uffea\u01c0\u0180\u0200\0\uffea\u0199\u0192"
+            + "\u0200\0\uffea\u01d9\u0192\u0200\0\0\u01a0\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffee\u01d0\u019b\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u0176\u0196\u0200\0\uffd5\u01d6\u0180\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\0\u01c2\u0167\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffe7\u01c0\u0199"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffc0\u01eb\u0196\u0200\0\uffc0\u01eb\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u012b\u0200\0\0\u01c0\u0100"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u012b\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01d6\u0180\u0200\0\ufff8\u01c6\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffee\u01d2\u0192\u0200\0\uffee\u01d2\u0192"
+            + "\u0200\0\uffea\u0185\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\0\u0200\u0140"
+            + "\u0200\0\uffbf\u0200\u01ab\u0200\0\0\u0199\u016e\u0200\0\0\u01d6\u013d"
+            + "\u0200\0\0\u01d6\u017f\u0200\0\ufff1\u01ab\u018e\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffeb\u01eb\u0196\u0200\0\uffea\u01c6\u0196"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\uffea\u01ab\u01ab\u0200\0\uffea\u01ab\u01ab"
+            + "\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01e2\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\0\u0189\u0140\u0200\0\0\u0180\u0140\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0180"
+            + "\u0200\0\0\u01eb\u0180\u0200\0\uffea\u01b6\u0196\u0200\0\0\u01eb\u016b"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u0180\u01ab"
+            + "\u0200\0\0\u0196\u0180\u0200\0\0\u0180\u0156\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\ufffa\u01da\u0183\u0200\0\uffe0\u01da\u0183\u0200\0\0\u01cd\u0181"
+            + "\u0200\0\0\u01c1\u0181\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01eb\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\ufff5\u01d6\u018b\u0200\0\ufff5\u01d6\u018b"
+            + "\u0200\0\0\u01ab\u016b\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01c0\u01ab"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u01ab\u0200\0\uffea\u0200\u0180"
+            + "\u0200\0\0\u01eb\u01ab\u0200\0\0\u0200\u012b\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u01ab\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u0200\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffd5\u0200\u0180\u0200\0\0\u01ab\u0156\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\uffea\u01cc\u0197\u0200\0\ufff4\u01cc\u018c"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffff\u01a6\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01eb\u016b\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffd5\u01c0\u01ab\u0200\0\0\u0196\u0153\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0156"
+            + "\u0200\0\0\u01df\u0156\u0200\0\0\u01eb\u0140\u0200\0\0\u01d6\u0140"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\0\u01d6\u0140\u0200\0\0\u01c6\u0140"
+            + "\u0200\0\0\u01da\u0165\u0200\0\uffea\u01d6\u0196\u0200\0\0\u0196\u0156"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u0200\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffd5\u01d6\u0180"
+            + "\u0200\0\0\u0196\u0156\u0200\0\0\u01ab\u016b\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01ab\u0180\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01f6\u016b\u0200\0\0\u01d6\u0196"
+            + "\u0200\0\uffe9\u01d6\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u017f"
+            + "\u0200\0\0\u01d3\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01ab\u0180"
+            + "\u0200\0\0\u0180\u0180\u0200\0\uffe9\u01ab\u0180\u0200\0\uffc0\u01ab\u0196"
+            + "\u0200\0\0\u01c0\u0156\u0200\0\0\u01a7\u016b\u0200\0\uffea\u01d6\u01ab"
+            + "\u0200\0\uffea\u01d6\u01ab\u0200\0\0\u01d6\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\uffc0\u01d6\u0196\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01d6\u0140"
+            + "\u0200\0\uffe6\u01c0\u0196\u0200\0\0\u0196\u016b\u0200\0\0\u01c0\u015a"
+            + "\u0200\0\uffea\u01eb\u01ab\u0200\0\uffea\u01cc\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffc0\u0200\u01c0\u0200\0\uffd5\u01eb\u01ab\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u01ab\u0200\0\uffea\u016b\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0185\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\0\u01eb\u0100\u0200\0\0\u01eb\u0116"
+            + "\u0200\0\0\u01d6\u0100\u0200\0\0\u01eb\u0116\u0200\0\0\u01eb\u0100"
+            + "\u0200\0\0\u01d6\u0100\u0200\0\0\u01d7\u0173\u0200\0\uffec\u01e6\u0194"
+            + "\u0200\0\uffe0\u01eb\u0180\u0200\0\0\u01eb\u016b\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\0\u0196\u0156\u0200\0\0\u01ab\u0156\u0200\0\uffd5\u01da\u017f"
+            + "\u0200\0\0\u01d6\u0183\u0200\0\0\u01d6\u012b\u0200\0\0\u01ab\u018b"
+            + "\u0200\0\0\u01ab\u016b\u0200\0\0\u01c0\u0156\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01dd\u016b\u0200\0\uffd5\u01a6\u01c0\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0156\u0200\0\0\u0196\u0180\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01ab\u01ab"
+            + "\u0200\0\0\u01c0\u0156\u0200\0\0\u0200\u0156\u0200\0\ufffd\u01d9\u0196"
+            + "\u0200\0\uffea\u01d6\300\u0200\0\uffea\u0200\u016b\u0200\0\0\u0196\u01b2"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\0\u01ab\u0140\u0200\0\0\u01c0\u0140"
+            + "\u0200\0\uffea\u01d5\u0196\u0200\0\uffea\u01d5\u0196\u0200\0\uffe0\u0196\u01ab"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01be\u016b\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\ufffb\u01a6\u0166\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\0\u01ab\u01ab\u0200\0\uffea\u01d6\u01ab\u0200\0\0\u01aa\u01ab"
+            + "\u0200\0\uffea\u01d6\u01ab\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\uffc0\u01c0\u01ab\u0200\0\0\u01a2\u0162"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffdd\u01e3\u01a3\u0200\0\uffd5\u0196\u01a0"
+            + "\u0200\0\uffea\u01d6\u01bc\u0200\0\uffce\u01e6\u01b2\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u01ab\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01d6\u0180"
+            + "\u0200\0\uffea\u01de\u0180\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0156"
+            + "\u0200\0\0\u01eb\u0180\u0200\0\uffc0\u01ff\u01c0\u0200\0\uffd5\u01fa\u01c0"
+            + "\u0200\0\uffea\u01d9\u019a\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01b3\u0196\u0200\0\0\u01b6\u0180\u0200\0\0\u01d6\u012b"
+            + "\u0200\0\0\u01e7\u0165\u0200\0\0\u01eb\u012b\u0200\0\0\u01ee\u0180"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\0\u01ad\u0180\u0200\0\0\u01d6\u0198"
+            + "\u0200\0\ufff5\u01ab\u0196\u0200\0\uffd5\u01c0\u01ab\u0200\0\uffd5\u01c0\u01ab"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffd5\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffca\u01d6\u0196\u0200\0\0\u01eb\u0180\u0200\0\uffea\u0196\u0180"
+            + "\u0200\0\uffd5\u01c0\u01ab\u0200\0\0\u01c0\u016b\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffd5\u01d6\u0196\u0200\0\uffc0\u01d6\u01ab\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\uffd5\u01d6\u01ab\u0200\0\0\u01d6\u0156"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\0\u01d6\u0156\u0200\0\0\u01d6\u0156"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\0\u01d6\u0156\u0200\0\0\u01d6\u0156"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\uffea\u01d2\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\0\u01d6\u0196\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\uffec\u01c0\u0196\u0200\0\uffd5\u01c0\u01ab\u0200\0\uffd5\u01c0\u01ab"
+            + "\u0200\0\uffd5\u01c0\u01ab\u0200\0\uffea\u01c0\u01ab\u0200\0\uffea\u01c0\u01ab"
+            + "\u0200\0\uffe2\u01da\u019a\u0200\0\uffe2\u01db\u019a\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01ab\u016b\u0200\0\0\u01a0\u0160\u0200\0\0\u01db\u0180"
+            + "\u0200\0\0\u0180\u016b\u0200\0\0\u01ab\u016b\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\uffea\u01b6\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01d6\u0160\u0200\0\0\u01d6\u0160\u0200\0\0\u01d6\u0160"
+            + "\u0200\0\0\u0160\u0160\u0200\0\0\u01d6\u0160\u0200\0\uffd5\u01c0\u0180"
+            + "\u0200\0\0\u01ab\u016b\u0200\0\ufff9\u01d7\u0182\u0200\0\ufff9\u01da\u0184"
+            + "\u0200\0\ufff9\u01d7\u0182\u0200\0\ufff9\u01da\u0184\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffdd\u01c3\u0180\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\0\u01ab\u0156\u0200\0\0\u01ab\u0156\u0200\0\0\u0180\u0140"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u0180\u0140"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\uffda\u01e6\u01a6"
+            + "\u0200\0\0\u01eb\u016b\u0200\0\uffea\u01eb\u016b\u0200\0\0\u01d6\u0196"
+            + "\u0200\0\uffd5\u01d6\u0196\u0200\0\0\u01c1\u0176\u0200\0\uffea\u01c7\u0196"
+            + "\u0200\0\uffea\u01d5\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u0200\u0140"
+            + "\u0200\0\uffc0\u0200\u01c0\u0200\0\0\u01d6\u0176\u0200\0\uffe5\u01bc\u019b"
+            + "\u0200\0\0\u01d6\u0176\u0200\0\0\u01d6\u016b\u0200\0\uffe5\u01a6\u019b"
+            + "\u0200\0\0\u01c0\u0140\u0200\0\0\u01eb\u011c\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\0\u016b\u0180\u0200\0\0\u016b\u0180\u0200\0\0\u016b\u0180"
+            + "\u0200\0\0\u016b\u0180\u0200\0\0\u016b\u0180\u0200\0\0\u016b\u012b"
+            + "\u0200\0\0\u016b\u012b\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u019b\u0200\0\uffea\u0196\u0196\u0200\0\uffd5\u01c0\u0196"
+            + "\u0200\0\0\u01eb\u0180\u0200\0\0\u01d6\u0180\u0200\0\uffe0\u01eb\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0180\u0200\0\ufff0\u01ce\u0193"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffc0\u0200\u01c0\u0200\0\0\u01c0\u0180\u0200\0\0\u01d6\u0140"
+            + "\u0200\0\uffea\u01ab\u0196\u0200\0\uffea\u01ab\u0199\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\0\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0196"
+            + "\u0200\0\0\u0200\u013f\u0200\0\uffea\u01d6\u0196\u0200\0\0\u0196\u0156"
+            + "\u0200\0\0\u01d6\u0156\u0200\0\0\u01c0\u0156\u0200\0\0\u01eb\u0156"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d9\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffe8\u0196\u0196\u0200\0\0\u0180\u0140\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u016b\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01ab\u016b\u0200\0\0\u0196\u016b"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01ab\u0197\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01fe\u0116\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01c0\u0156\u0200\0\0\u0196\u0180\u0200\0\0\u01d6\u017d"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01b1\u0180\u0200\0\ufff1\u01e3\u018c"
+            + "\u0200\0\uffd5\u01ab\u01ab\u0200\0\0\u01c0\u016b\u0200\0\ufffd\u01ab\u016b"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u016b\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0180\u0200\0\0\u01eb\u0156\u0200\0\uffea\u01d6\u0180"
+            + "\u0200\0\0\u01d6\u0196\u0200\0\0\u01d6\u016b\u0200\0\0\u01eb\u016b"
+            + "\u0200\0\uffc0\u01c0\u01c0\u0200\0\0\u01eb\u0140\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u0200\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c3\u0165\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01eb\u0180\u0200\0\0\u01ba\u0180\u0200\0\0\u01ab\u0180"
+            + "\u0200\0\0\u0196\u0156\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0180"
+            + "\u0200\0\0\u01eb\u0140\u0200\0\uffea\u016b\u0196\u0200\0\0\u01ab\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01eb\u0196\u0200\0\uffe4\u01dc\u01a1"
+            + "\u0200\0\uffea\u016b\u0196\u0200\0\uffea\u01c0\u0196\u0200\0\uffd5\u01eb\u0180"
+            + "\u0200\0\uffd5\u01eb\u0180\u0200\0\0\u01eb\u01ab\u0200\0\0\u01eb\u01ab"
+            + "\u0200\0\uffb5\u0200\u01b6\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\0\u01da\u0100\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01c0\u01ab"
+            + "\u0200\0\0\u0201\u0143\u0200\0\0\u01c3\u0143\u0200\0\uffd5\u01c0\u01ab"
+            + "\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u0180\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u012b\u0200\0\0\u01d6\u012b"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffe8\u0180\u0196\u0200\0\uffd5\u01c0\u01ab"
+            + "\u0200\0\uffd5\u01c0\u01ab\u0200\0\0\u01ab\u0180\u0200\0\0\u01ab\u01ad"
+            + "\u0200\0\uffea\u0196\u0196\u0200\0\0\u01d6\u0156\u0200\0\uffd5\u01d6\u0180"
+            + "\u0200\0\0\u01db\u015b\u0200\0\uffd5\u01d6\u01a0\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01ab\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01d6\u0140\u0200\0\0\u01d6\u0116\u0200\0\0\u01d6\u0140"
+            + "\u0200\0\0\u01eb\u0196\u0200\0\0\u01eb\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffe8\u019e\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01eb\u016b\u0200\0\0\u01eb\u016b"
+            + "\u0200\0\0\u0200\u016b\u0200\0\0\u01d6\u016b\u0200\0\0\u01e8\u0180"
+            + "\u0200\0\0\u01e8\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\ufffa\u01b0\u0186"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01e0\u016b\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01db\u0146\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01c0\u0196\u0200\0\uffea\u01c0\u0196"
+            + "\u0200\0\0\u01e0\u012b\u0200\0\0\u01ab\u018b\u0200\0\0\u0162\u016b"
+            + "\u0200\0\0\u01ab\u0122\u0200\0\0\u0162\u0180\u0200\0\0\u01c0\u0122"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u0198\u0180\u0200\0\0\u01d9\u0173"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u0196\u0180\u0200\0\uffd5\u01d6\u0180"
+            + "\u0200\0\uffe6\u0196\u01ab\u0200\0\uffea\u01d6\u01ab\u0200\0\uffea\u01d6\u01ab"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0180\u0200\0\uffea\u01d6\u01ab"
+            + "\u0200\0\uffd5\u01eb\u0196\u0200\0\uffea\u01d6\u01ab\u0200\0\uffea\u01d6\u01ab"
+            + "\u0200\0\uffea\u01d6\u01ab\u0200\0\uffea\u01d6\u01ab\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u016b\u0200\0\uffea\u01d6\u01ab"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0180\u0200\0\uffea\u01d6\u01ab"
+            + "\u0200\0\uffd5\u01c0\u01ab\u0200\0\0\u0200\u0180\u0200\0\0\u01c0\u0140"
+            + "\u0200\0\0\u01c0\u0196\u0200\0\0\u01d6\u0156\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0156\u0200\0\0\u01d6\u016b\u0200\0\0\u01c0\u0156"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01c0\u0156\u0200\0\0\u01c0\u0156\u0200\0\0\u01c0\u0156"
+            + "\u0200\0\0\u01ab\u0180\u0200\0\0\u01c0\u0156\u0200\0\0\u01c0\u016b"
+            + "\u0200\0\0\u01c0\u0156\u0200\0\0\u01c0\u0156\u0200\0\0\u01da\u017b"
+            + "\u0200\0\ufffa\u01a9\u0180\u0200\0\uffea\u0180\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d3\u012b\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffd5\u01d8\u01ab\u0200\0\0\u01eb\u0196\u0200\0\0\u0200\u0140"
+            + "\u0200\0\0\u01c0\u017c\u0200\0\0\u0156\u016b\u0200\0\0\u018b\u016b"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01d6\u016b\u0200\0\0\u01c0\u0180"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01eb\u0156\u0200\0\uffea\u0196\u01bc"
+            + "\u0200\0\0\u01d6\u0180\u0200\0\0\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01d6\u0196\u0200\0\uffd5\u01d6\u0196\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\uffc0\u01ab\u01c0\u0200\0\uffc0\u01e8\u01c0\u0200\0\uffc0\u01ab\u01c0"
+            + "\u0200\0\0\u0200\u0180\u0200\0\0\u0180\u017b\u0200\0\ufffd\u01a8\u017c"
+            + "\u0200\0\0\u0180\u017b\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01eb\u0180"
+            + "\u0200\0\0\u01d6\u016b\u0200\0\0\u01eb\u0156\u0200\0\0\u01eb\u0180"
+            + "\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01eb\u0196\u0200\0\uffea\u01eb\u0196"
+            + "\u0200\0\uffea\u01c6\u01ab\u0200\0\uffea\u01d6\u019a\u0200\0\uffef\u01eb\u0196"
+            + "\u0200\0\uffea\u01eb\u0196\u0200\0\uffd6\u01eb\u0196\u0200\0\ufffd\u01eb\u0196"
+            + "\u0200\0\uffea\u01b9\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u0196"
+            + "\u0200\0\ufffd\u01d6\u0196\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\uffea\u01d6\u0196\u0200\0\uffea\u01ab\u0196\u0200\0\ufffb\u01d5\u018d"
+            + "\u0200\0\uffea\u01c0\u0196\u0200\0\0\u01d6\u016b\u0200\0\0\u01d7\u0180"
+            + "\u0200\0\0\u01d7\u0180\u0200\0\uffea\u01d6\u0196\u0200\0\uffe0\u01ab\u01a0"
+            + "\u0200\0\0\u01fc\u016b\u0200\0\uffe1\u01eb\u01a0\u0200\0\uffe1\u01b5\u01b5"
+            + "\u0200\0\uffe1\u01eb\u01b5\u0200\0\0\u01dc\u019c\u0200\0\0\u01e7\u0180"
+            + "\u0200\0\0\u01e7\u0180\u0200\0\0\u01d6\u0121\u0200\0\0\u01d6\u0160"
+            + "\u0200\0\0\u01d6\u013f\u0200\0\0\u0196\u0156\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\0\u01ab\u016b\u0200\0\0\u01ab\353\u0200\0\uffea\u01ab\u0196"
+            + "\u0200\0\0\u01ab\u016b\u0200\0\uffea\u01ab\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01ab\u0196\u0200\0\0\u01d6\u0156\u0200\0\uffd5\u01eb\u01ae"
+            + "\u0200\0\0\u01c0\u0180\u0200\0\0\u01fc\u0156\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01dd\u014c\u0200\0\0\u01eb\u0180\u0200\0\0\u01eb\u0180"
+            + "\u0200\0\0\u01eb\u0180\u0200\0\0\u01eb\u0180\u0200\0\0\u01eb\u0180"
+            + "\u0200\0\0\u01eb\u0180\u0200\0\uffea\u01d6\u016b\u0200\ufffe\0\u0200\u0156"
+            + "\u0200\0\uffea\u01c2\u0196\u0200\0\0\u01c0\u0180\u0200\0\uffea\u01d6\u0196"
+            + "\u0200\0\0\u01df\u0180\u0200\0\0\u01ca\u0161\u0200\0\uffea\u01d6\u0180"
+            + "\u0200\0\uffe6\u01aa\u0197\u0200\0\uffea\u01d6\u0196\u0200\0\0\u01d6\u016b"
+            + "\u0200\0\0\u01c0\u0180");
+}
@@ -18,12 +18,13 @@ package com.rilixtech.devicontypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Devicon font. It hosts a variety of icons that can be used by
@@ -40,7 +41,6 @@ public class Devicon implements MfbTypeface {
             + " & development tools. You can use it as a font or directly copy/paste the svg code into your project.";
     public static final String DEVICON_LICENSE = "MIT License";
     public static final String DEVICON_LICENSE_URL = "https://github.com/konpa/devicon/blob/master/LICENSE";
-    private static Font deviconTypeface = null;
     private static HashMap<String, Character> deviconCharMap;
 
     /**
@@ -49,7 +49,21 @@ public class Devicon implements MfbTypeface {
      * @param key Key for which Devicon MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No Devicon icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * Devicon MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which Devicon MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -59,15 +73,29 @@ public class Devicon implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (deviconCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.deviconCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return deviconCharMap;
     }
 
+    /**
+     * Get the compact table of all the Devicon icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all Devicon icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the Devicon icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all Devicon icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return DeviconMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the Devicon Characters into a HashMap.
      */
@@ -97,16 +125,12 @@ public class Devicon implements MfbTypeface {
 
     @Override
     public int getIconCount() {
-        return deviconCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override
     public Collection<String> getIcons() {
-        Collection<String> deviconKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            deviconKeyList.add(value.name());
-        }
-        return deviconKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override
@@ -136,18 +160,7 @@ public class Devicon implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (deviconTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return deviconTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        deviconTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -333,6 +346,9 @@ public class Devicon implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface deviconTypeface;
 
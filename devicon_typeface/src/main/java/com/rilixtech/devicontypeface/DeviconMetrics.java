@@ -0,0 +1,68 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.devicontypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of devicon-font-v2.0.0.1.ttf for the Devicon icons, in ordinal order.
+ */
+final class DeviconMetrics {
+
+    private DeviconMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1024, 960, -64, ""
+            + "\u0400\12\263\u03f6\u02ce\u0400\134\uffc8\u03a4\u03ba\u0400\2\uffc8\u03fe\u0398"
+            + "\u0400\6\uffc6\u03fa\u03ba\u0400\40\uffe8\u03e0\u0360\u0400\20\130\u03f3\u0378"
+            + "\u0400\77\uffca\u03ca\u03ba\u0400\4\uffc6\u03fc\u03ba\u0400\5\uffc0\u03fb\u03b3"
+            + "\u0400\11\ufff1\u03f7\u038c\u0400\3\uffc0\u03fd\u03b4\u0400\35\uffea\u03e3\u0397"
+            + "\u0400\10\uffe0\u03f4\u0398\u0400\3\uffc8\u03fd\u03a8\u0400\14\5\u03f4\u037b"
+            + "\u0400\2\uffcb\u03fe\u039d\u0400\114\uffc8\u03b4\u03b8\u0400\204\uffcb\u037c\u03ae"
+            + "\u0400\12\uffca\u03f6\u03b6\u0400\210\uffcc\u0378\u03b4\u0400\14\uffcc\u03f4\u03b4"
+            + "\u0400\2\u0116\u03fc\u027e\u0400\10\340\u03f9\u0298\u0400\10\350\u03f0\u0298"
+            + "\u0400\50\116\u03f2\u0322\u0400\17\uffca\u03f1\u03b6\u0400\15\100\u03f3\u03b2"
+            + "\u0400\100\uffda\u03a4\u03b6\u0400\120\uffd1\u03af\u03ae\u0400\100\uffda\u03a4\u03b6"
+            + "\u0400\120\uffd1\u03af\u03ae\u0400\100\uffda\u03a4\u03b6\u0400\120\uffd1\u03af\u03ae"
+            + "\u0400\10\uffed\u03f8\u03b0\u0400\70\uffce\u03b8\u03c2\u0400\10\uffed\u03f8\u03b2"
+            + "\u0400\120\uffcd\u03cf\u03b3\u0400\10\u0158\u03ed\u022c\u0400\10\7\u03f8\u0379"
+            + "\u0400\10\200\u03f8\u0300\u0400\13\uffd2\u03f3\u03b8\u0400\217\uffca\u0371\u03b0"
+            + "\u0400\33\uffd2\u0403\u03b3\u0400\237\uffc8\u0382\u03b5\u0400\16\300\u03f0\u02d0"
+            + "\u0400\16\u0150\u03f1\u026a\u0400\12\300\u03fd\u02d8\u0400\12\u0132\u03fd\u0250"
+            + "\u0400\212\uffc3\u0376\u03bc\u0400\10\uffc7\u03f8\u03ad\u0400\6\42\u03f7\u0361"
+            + "\u0400\10\u0148\u03fa\u0235\u0400\10\uffd0\u03f8\u03b0\u0400\20\uffd8\u03f0\u03b0"
+            + "\u0400\160\uffcf\u0391\u03b0\u0400\20\uffd0\u03f0\u03b0\u0400\160\uffcf\u0391\u03b0"
+            + "\u0400\221\uffd1\u036c\u03b6\u0400\10\ufffc\u03f9\u0388\u0400\15\175\u03f3\u0300"
+            + "\u0400\16\70\u03f2\u0348\u0400\16\371\u03f2\u0287\u0400\11\u013f\u03f7\u0241"
+            + "\u0400\44\uffc8\u03dc\u03b8\u0400\24\20\u03ec\u0373\u0400\14\27\u03f4\u0369"
+            + "\u0400\225\uffcf\u0395\u03b1\u0400\34\u0149\u03e7\u0237\u0400\15\ufffb\u03dc\u0384"
+            + "\u0400\137\uffd2\u03a1\u039c\u0400\170\uffda\u0388\u03a6\u0400\114\uffcf\u03b4\u03b0"
+            + "\u0400\10\uffc8\u03f0\u03b0\u0400\70\uffcd\u03c5\u03b3\u0400\64\22\u03ef\u0373"
+            + "\u0400\110\uffd6\u03b5\u03a8\u0400\35\20\u03e8\u0372\u0400\126\uffd2\u03aa\u03b0"
+            + "\u0400\26\uffd4\u03e4\u03a5\u0400\130\uffc9\u03a8\u03b7\u0400\156\uffd0\u039d\u03b0"
+            + "\u0400\26\uffce\u03e9\u0396\u0400\22\57\u03ec\u034d\u0400\235\uffcc\u0363\u03b8"
+            + "\u0400\106\uffcc\u03ba\u03b8\u0400\212\uffd2\u0374\u03ae\u0400\163\uffd1\u038e\u03af"
+            + "\u0400\13\ufff6\u03f6\u038a\u0400\13\367\u03f6\u0289\u0400\130\uffd0\u03a8\u03b0"
+            + "\u0400\115\uffce\u03b3\u03b2\u0400\140\uffd8\u03a0\u03ad\u0400\40\ufff6\u03e0\u0389"
+            + "\u0400\143\uffce\u039d\u03b6\u0400\122\uffca\u03af\u03b6\u0400\22\366\u03f5\u0292"
+            + "\u0400\32\uffda\u03e6\u03a6\u0400\130\uffca\u03aa\u03b0\u0400\227\uffcf\u036a\u03b0"
+            + "\u0400\130\uffca\u03aa\u03b6\u0400\232\ufff2\u0367\u03af\u0400\u0128\ufff1\u02d8\u039d"
+            + "\u0400\235\uffcb\u0363\u03b3\u0400\110\uffcc\u03b8\u03b0\u0400\50\uffe9\u03f1\u03a4"
+            + "\u0400\10\uffc8\u03f8\u03b8\u0400\10\uffc8\u03f8\u03b8\u0400\153\ufff2\u0397\u0386"
+            + "\u0400\76\ufffa\u03ca\u0381\u0400\373\uffca\u0305\u03b6\u0400\302\uffd0\u0370\u03b3"
+            + "\u0400\20\uffd0\u03f8\u03b8\u0400\62\uffe3\u03cd\u03b6\u0400\103\uffec\u03f2\u03a0"
+            + "\u0400\220\uffd3\u0370\u03aa\u0400\60\uffda\u03c8\u03a5\u0400\130\uffc8\u03ab\u03b8"
+            + "\u0400\10\uffc8\u03f8\u03b2\u0400\10\322\u03f8\u02ae\u0400\144\uffd9\u0390\u03a3"
+            + "\u0400\25\uffdc\u03ea\u03a7\u0400\u012b\uffe4\u02d4\u039c\u0400\17\u0126\u03f6\u0228"
+            + "\u0400\17\160\u03f0\u0312\u0400\20\276\u03f0\u02b5\u0400\13\uffd2\u03f8\u038b"
+            + "\u0400\41\u013a\u03df\u0247\u0400\120\uffdc\u03a8\u039a\u0400\7\u017e\u03f9\u0202"
+            + "\u0400\10\uffc8\u03f8\u03ba\u0400\10\uffca\u03f8\u03b8\u0400\27\310\u03e9\u02b8"
+            + "\u0400\27\uffd1\u03e9\u03a0\u0400\50\uffd9\u03da\u03a8\u0400\256\uffd0\u0351\u03af"
+            + "\u0400\54\uffe8\u03d2\u03a9\u0400\164\uffd0\u038d\u03b8\u0400\20\uffd0\u03f0\u03ac"
+            + "\u0400\151\uffd0\u0397\u03af\u0400\13\1\u03f5\u037f\u0400\232\uffd4\u0361\u03a7"
+            + "\u0400\20\uffe4\u03f0\u039c\u0400\12\111\u03f6\u0338\u0400\46\uffd0\u03dc\u03b8"
+            + "\u0400\22\uffd2\u03ee\u03ae\u0400\30\340\u03e5\u02a8\u0400\20\uffd0\u03e8\u03a8"
+            + "\u0400\30\u0138\u03f3\u0250\u0400\10\uffc8\u03f8\u03b8\u0400\30\uffd4\u03e8\u03b3"
+            + "\u0400\32\uffda\u03e6\u03a6\u0400\10\uffd7\u03f5\u03a8\u0400\4\u0160\u03fc\u0222"
+            + "\u0400\15\uffcd\u03f0\u03b3\u0400\32\uffcb\u03e4\u03b5\u0400\17\uffce\u03f1\u03b3"
+            + "\u0400\75\uffd7\u03e3\u03b1\u0400\54\uffca\u03d5\u03b6\u0400\15\30\u03f3\u0367"
+            + "\u0400\16\321\u03f2\u02ae");
+}
@@ -2,12 +2,13 @@ package com.rilixtech.dripiconstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Dripicons font. It hosts a variety of icons that can be used by
@@ -24,7 +25,6 @@ public class Dripicons implements MfbTypeface {
     public static final String DRIPICONS_LICENSE = "SIL Open Font License";
     public static final String DRIPICONS_LICENSE_URL = "http://scripts.sil.org/cms/scripts/page.php?site_id=nrsi&id=OFL";
 
-    private static Font dripiconsTypeface = null;
 
     private static HashMap<String, Character> dripiconsCharMap;
 
@@ -34,7 +34,21 @@ public class Dripicons implements MfbTypeface {
      * @param key Key for which Dripicons MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No Dripicons icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * Dripicons MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which Dripicons MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -44,16 +58,29 @@ public class Dripicons implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (dripiconsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.dripiconsCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
-
         return dripiconsCharMap;
     }
 
+    /**
+     * Get the compact table of all the Dripicons icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all Dripicons icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the Dripicons icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all Dripicons icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return DripiconsMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the Dripicons Characters into a HashMap.
      */
@@ -79,17 +106,11 @@ public class Dripicons implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return dripiconsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> dripiconsKeyList = new LinkedList<>();
-
-        for (Icon value : Icon.values()) {
-            dripiconsKeyList.add(value.name());
-        }
-
-        return dripiconsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -114,18 +135,7 @@ public class Dripicons implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (dripiconsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return dripiconsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        dripiconsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     private static final char A_LOWERCASE = 0x0027;
@@ -354,6 +364,9 @@ public class Dripicons implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface dripiconsTypeface;
 
@@ -0,0 +1,81 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.dripiconstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of dripicons-v2.ttf for the Dripicons icons, in ordinal order.
+ */
+final class DripiconsMetrics {
+
+    private DripiconsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(512, 513, -1, ""
+            + "\u0200\26\21\u01ea\u01ef\u0200\41\70\u01df\u01c8\u0200\41\70\u01df\u01c8"
+            + "\u0200\41\70\u01df\u01c8\u0200\41\70\u01df\u01c8\u0200\26\0\u01e9\u0200"
+            + "\u0200\0\26\u0200\u01e4\u0200\104\42\u01bc\u01df\u0200\41\103\u01de\u01bc"
+            + "\u0200\41\103\u01dd\u01bc\u0200\145\55\u019b\u01d3\u0200\63\137\u01d3\u019b"
+            + "\u0200\55\137\u01cd\u019b\u0200\145\55\u01a2\u01cd\u0200\104\42\u01bc\u01df"
+            + "\u0200\103\13\u01bd\u01f5\u0200\0\207\u0200\u017d\u0200\0\26\u0200\u01e9"
+            + "\u0200\0\0\u0200\u0200\u0200\0\157\u0200\u0191\u0200\0\157\u0200\u0191"
+            + "\u0200\0\157\u0200\u0191\u0200\0\157\u0200\u0191\u0200\26\1\u01ea\u0201"
+            + "\u0200\103\13\u01bd\u01f5\u0200\173\0\u018b\u01fe\u0200\165\70\u018b\u01c8"
+            + "\u0200\206\0\u017a\u0200\u0200\157\0\u018b\u0200\u0200\0\62\u01ff\u01ce"
+            + "\u0200\0\41\u0200\u01df\u0200\75\75\u01c3\u01c3\u0200\0\0\u0200\u0200"
+            + "\u0200\0\0\u0200\u0200\u0200\4\20\u01fd\u01ef\u0200\0\62\u0200\u01ce"
+            + "\u0200\0\0\u0200\u0200\u0200\1\0\u0200\u0200\u0200\0\34\u0200\u01ea"
+            + "\u0200\0\165\u0200\u018b\u0200\0\47\u0200\u01d9\u0200\0\131\u0201\u01a7"
+            + "\u0200\0\60\u01ff\u01c3\u0200\21\21\u01f5\u01ef\u0200\70\157\u01ca\u0190"
+            + "\u0200\145\241\u019b\u015f\u0200\241\137\u015f\u019b\u0200\241\137\u015f\u019b"
+            + "\u0200\145\241\u019b\u015f\u0200\75\0\u01c3\u0200\u0200\0\0\u0200\u0200"
+            + "\u0200\26\70\u01e4\u01c8\u0200\1\116\u0200\u01ab\u0200\7\uffff\u01fa\u01fe"
+            + "\u0200\2\41\u0200\u01dc\u0200\21\137\u01ef\u019b\u0200\22\13\u01ee\u01ee"
+            + "\u0200\22\13\u01ee\u01ee\u0200\0\61\u0200\u01c3\u0200\62\1\u01ce\u0200"
+            + "\u0200\13\21\u01ee\u01f0\u0200\167\157\u0189\u0189\u0200\0\0\u01ff\u0200"
+            + "\u0200\7\26\u01ff\u01e4\u0200\0\47\u0200\u01d9\u0200\157\0\u0191\u0200"
+            + "\u0200\62\0\u01ce\u0200\u0200\27\26\u01e8\u01e8\u0200\0\0\u0200\u0200"
+            + "\u0200\103\13\u01bd\u01f5\u0200\103\13\u01bd\u01f5\u0200\41\0\u01df\u01fa"
+            + "\u0200\103\13\u01bd\u01f5\u0200\103\13\u01bd\u01f5\u0200\331\331\u0127\u0127"
+            + "\u0200\226\331\u016a\u0127\u0200\116\331\u01b2\u0127\u0200\21\6\u01ef\u01fa"
+            + "\u0200\0\0\u0200\u0200\u0200\21\62\u01ef\u01ce\u0200\0\62\u01f9\u01ce"
+            + "\u0200\13\13\u01f5\u01f5\u0200\13\13\u01f5\u01f5\u0200\15\13\u01f3\u01f5"
+            + "\u0200\0\47\u01fa\u01d7\u0200\31\31\u01e6\u01e7\u0200\14\uffff\u01f5\u01ff"
+            + "\u0200\0\136\u0200\u01a1\u0200\55\116\u01d3\u01b2\u0200\1\110\u01ff\u01b2"
+            + "\u0200\62\137\u01c8\u01a0\u0200\0\130\u0200\u01a6\u0200\0\0\u0200\u0200"
+            + "\u0200\0\107\u0201\u01ba\u0200\110\21\u01b8\u01ef\u0200\6\70\u01fa\u01c7"
+            + "\u0200\0\0\u0200\u0200\u0200\21\6\u01ef\u0200\u0200\23\50\u01ed\u01d9"
+            + "\u0200\0\0\u0200\u0200\u0200\6\0\u01fa\u01fa\u0200\70\13\u01c8\u01f5"
+            + "\u0200\1\62\u0200\u01ce\u0200\0\0\u0200\u0200\u0200\307\73\u012a\u01b5"
+            + "\u0200\6\102\u01fa\u01bd\u0200\13\144\u01f5\u019c\u0200\131\0\u01a8\u0200"
+            + "\u0200\0\0\u01f9\u01f9\u0200\0\0\u0200\u01f9\u0200\1\57\u01fc\u01d1"
+            + "\u0200\17\3\u01f1\u01fd\u0200\110\0\u01b8\u0200\u0200\123\6\u01ad\u01fa"
+            + "\u0200\123\6\u01ad\u01fa\u0200\1\152\u0201\u0196\u0200\0\36\u01ff\u01e6"
+            + "\u0200\110\131\u01b8\u01a0\u0200\75\62\u01c3\u01cc\u0200\200\55\u0180\u01d3"
+            + "\u0200\165\62\u018b\u01cc\u0200\70\62\u01c3\u01cc\u0200\52\52\u01d6\u01d6"
+            + "\u0200\34\70\u01e5\u01c2\u0200\47\47\u01d3\u01d3\u0200\0\41\u0200\u01df"
+            + "\u0200\52\72\u01d6\u01c6\u0200\0\41\u0200\u01df\u0200\0\147\u0200\u0196"
+            + "\u0200\165\0\u018b\u0200\u0200\155\347\u0193\u0119\u0200\0\62\u0200\u01ce"
+            + "\u0200\0\0\u0200\u01f9\u0200\21\13\u01ef\u01f3\u0200\131\6\u01a8\u01fa"
+            + "\u0200\124\6\u01ad\u01fa\u0200\14\6\u01f4\u01fa\u0200\137\3\u01a1\u01fd"
+            + "\u0200\306\6\u013a\u01fa\u0200\55\16\u01ce\u01f2\u0200\27\3\u01df\u01fd"
+            + "\u0200\2\0\u0200\u0200\u0200\6\6\u01ed\u01fa\u0200\0\75\u0200\u01c3"
+            + "\u0200\0\55\u01fe\u01ce\u0200\13\13\u01f5\u01f5\u0200\7\0\u01f9\u01f9"
+            + "\u0200\155\155\u0193\u0193\u0200\55\34\u01d3\u01e4\u0200\4\152\u01fc\u0196"
+            + "\u0200\0\6\u0200\u01f5\u0200\0\41\u0200\u01df\u0200\0\0\u0200\u0200"
+            + "\u0200\71\137\u01cf\u01a0\u0200\1\136\u0201\u01a0\u0200\70\131\u01c8\u01a0"
+            + "\u0200\7\152\u01fa\u0175\u0200\2\1\u01fe\u01ff\u0200\0\137\u0200\u01a1"
+            + "\u0200\26\12\u01ee\u01f4\u0200\75\6\u01c3\u01fa\u0200\47\122\u01d4\u01b0"
+            + "\u0200\75\0\u01c3\u0200\u0200\14\26\u01f4\u01ea\u0200\26\11\u01eb\u01f3"
+            + "\u0200\0\13\u0200\u01f5\u0200\0\41\u01ff\u01df\u0200\0\116\u0200\u01ac"
+            + "\u0200\0\157\u0200\u0191\u0200\0\157\u0200\u0191\u0200\0\62\u0200\u01ce"
+            + "\u0200\3\0\u01fd\u0200\u0200\3\0\u01fd\u0200\u0200\0\0\u01f9\u01f9"
+            + "\u0200\7\47\u0200\u01d9\u0200\26\6\u01ea\u0200\u0200\0\0\u0200\u0200"
+            + "\u0200\21\0\u01ef\u01fa\u0200\3\26\u01fd\u01ea\u0200\21\6\u01ef\u01fa"
+            + "\u0200\0\21\u0200\u01ef\u0200\0\103\u01fa\u01bd\u0200\0\131\u0200\u01a7"
+            + "\u0200\uffff\100\u0200\u01c5\u0200\110\116\u01b8\u01b2\u0200\13\47\u01fa\u01d9"
+            + "\u0200\0\137\u01ff\u01a1\u0200\13\55\u01f5\u01d3\u0200\0\26\u0200\u01e8"
+            + "\u0200\131\26\u01a5\u01e8\u0200\55\26\u01d3\u01e8\u0200\21\26\u01ea\u01e8"
+            + "\u0200\6\41\u01fa\u01df\u0200\3\34\u01fd\u01e4\u0200\0\0\u0200\u0200"
+            + "\u0200\34\6\u01e4\u01fa\u0200\10\32\u0200\u01bd\u0200\0\uffff\u0200\u01ff"
+            + "\u0200\0\0\u01f9\u0200\u0200\0\0\u01f9\u0200");
+}
@@ -16,6 +16,7 @@
 
 package com.rilixtech.materialfancybutton;
 
+import com.rilixtech.materialfancybutton.generated.TypefaceProvider;
 import ohos.aafwk.ability.AbilityPackage;
 
 /**
@@ -25,5 +26,6 @@ public class MyApplication extends AbilityPackage {
     @Override
     public void onInitialize() {
         super.onInitialize();
+        CoreIcon.setTypefaceProvider(new TypefaceProvider());
     }
 }
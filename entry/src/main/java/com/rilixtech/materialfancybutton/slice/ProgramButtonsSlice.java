@@ -114,6 +114,7 @@ public class ProgramButtonsSlice extends AbilitySlice {
     private void addButtonToLayout(MfbIcon icon) {
         String buttonText = String.format(BUTTON_TEXT_FORMAT, icon.getTypeface().getFontName());
         MaterialFancyButton materialFancyButton = new MaterialFancyButton(this);
+        materialFancyButton.edit();
         materialFancyButton.setIcon(icon);
         materialFancyButton.setIconPosition(MaterialFancyButton.POSITION_RIGHT);
         materialFancyButton.setText(buttonText);
@@ -121,6 +122,7 @@ public class ProgramButtonsSlice extends AbilitySlice {
         materialFancyButton.setTextSize(12);
         materialFancyButton.setFontIconSize(12);
         materialFancyButton.setIconPadding(4, 8, 4, 8);
+        materialFancyButton.apply();
         ComponentContainer.LayoutConfig layoutConfig =
                 new ComponentContainer.LayoutConfig(MATCH_CONTENT, MATCH_CONTENT);
         layoutConfig.setMarginBottom(12);
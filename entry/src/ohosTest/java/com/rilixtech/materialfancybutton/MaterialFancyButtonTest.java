@@ -18,10 +18,14 @@ package com.rilixtech.materialfancybutton;
 
 import ohos.agp.components.Attr;
 import ohos.agp.components.AttrSet;
+import ohos.agp.components.ComponentContainer;
 import ohos.agp.components.element.Element;
+import ohos.agp.components.element.StateElement;
 import ohos.agp.utils.Color;
 import ohos.agp.utils.TextAlignment;
 import ohos.app.Context;
+import com.rilixtech.fontawesometypeface.FontAwesome;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
 import com.rilixtech.materialfancybutton.utils.AttrEnumUtil;
 import ohos.aafwk.ability.delegation.AbilityDelegatorRegistry;
 import org.junit.Test;
@@ -392,6 +396,96 @@ public class MaterialFancyButtonTest {
         assertTrue(mfb.isGhost());
     }
 
+    @Test
+    public void testEditApply() {
+        MaterialFancyButton mfb = new MaterialFancyButton(context);
+        Element background = mfb.getBackgroundElement();
+        mfb.edit();
+        mfb.setRadius(30);
+        mfb.setBorderWidth(2);
+        mfb.setGhost(true);
+        assertSame(background, mfb.getBackgroundElement());
+        mfb.apply();
+        assertNotSame(background, mfb.getBackgroundElement());
+        assertEquals(30, mfb.getRadiusTopLeft());
+        assertEquals(2, mfb.getBorderWidth());
+    }
+
+    @Test
+    public void testIconColorDoesNotRebuild() {
+        MaterialFancyButton mfb = new MaterialFancyButton(context);
+        int childOrderRebuilds = mfb.getRebuildCount(MaterialFancyButton.ASPECT_CHILD_ORDER);
+        int glyphRebuilds = mfb.getRebuildCount(MaterialFancyButton.ASPECT_ICON_GLYPH);
+        mfb.setIconColor(Color.RED.getValue());
+        assertEquals(childOrderRebuilds, mfb.getRebuildCount(MaterialFancyButton.ASPECT_CHILD_ORDER));
+        assertEquals(glyphRebuilds, mfb.getRebuildCount(MaterialFancyButton.ASPECT_ICON_GLYPH));
+    }
+
+    @Test
+    public void testIconPositionRebuilds() {
+        MaterialFancyButton mfb = new MaterialFancyButton(context);
+        int childOrderRebuilds = mfb.getRebuildCount(MaterialFancyButton.ASPECT_CHILD_ORDER);
+        int orientationRebuilds = mfb.getRebuildCount(MaterialFancyButton.ASPECT_ORIENTATION);
+        // Left to top keeps the icon leading the text
+        mfb.setIconPosition(MaterialFancyButton.POSITION_TOP);
+        assertEquals(childOrderRebuilds, mfb.getRebuildCount(MaterialFancyButton.ASPECT_CHILD_ORDER));
+        assertEquals(orientationRebuilds + 1, mfb.getRebuildCount(MaterialFancyButton.ASPECT_ORIENTATION));
+        // Top to bottom moves the icon after the text
+        mfb.setIconPosition(MaterialFancyButton.POSITION_BOTTOM);
+        assertEquals(childOrderRebuilds + 1, mfb.getRebuildCount(MaterialFancyButton.ASPECT_CHILD_ORDER));
+        assertEquals(orientationRebuilds + 1, mfb.getRebuildCount(MaterialFancyButton.ASPECT_ORIENTATION));
+    }
+
+    @Test
+    public void testFontIconSizeRebuildsGlyph() {
+        MaterialFancyButton mfb = new MaterialFancyButton(context);
+        mfb.setIcon(FontAwesome.Icon.FAWI_STAR);
+        int glyphRebuilds = mfb.getRebuildCount(MaterialFancyButton.ASPECT_ICON_GLYPH);
+        mfb.setFontIconSize(24);
+        assertEquals(glyphRebuilds + 1, mfb.getRebuildCount(MaterialFancyButton.ASPECT_ICON_GLYPH));
+    }
+
+    @Test
+    public void testGlyphMetrics() {
+        GlyphMetrics glyphMetrics = FontAwesome.Icon.FAWI_STAR.getTypeface().getGlyphMetrics();
+        assertNotNull(glyphMetrics);
+        assertEquals(FontAwesome.Icon.values().length, glyphMetrics.size());
+        assertTrue(glyphMetrics.getAdvanceWidth(FontAwesome.Icon.FAWI_STAR.ordinal(), 16f) > 0);
+    }
+
+    @Test
+    public void testFontIconViewWrapsContent() {
+        MaterialFancyButton mfb = new MaterialFancyButton(context);
+        mfb.setIcon(FontAwesome.Icon.FAWI_STAR);
+        mfb.setButtonStyle(mfb.getButtonStyle().toBuilder().setFontIconSize(41).build());
+        // The icon is measured as text, so the glyph is never clipped to the line height of its font
+        ComponentContainer.LayoutConfig params = mfb.getIconFontObject().getLayoutConfig();
+        assertEquals(ComponentContainer.LayoutConfig.MATCH_CONTENT, params.width);
+        assertEquals(ComponentContainer.LayoutConfig.MATCH_CONTENT, params.height);
+    }
+
+    @Test
+    public void testPressDoesNotAffectSameStyleButton() {
+        MaterialFancyButton pressed = new MaterialFancyButton(context);
+        MaterialFancyButton other = new MaterialFancyButton(context);
+        pressed.setFocusBackgroundColor(Color.RED.getValue());
+        other.setButtonStyle(pressed.getButtonStyle());
+        StateElement pressedBackground = (StateElement) pressed.getBackgroundElement();
+        StateElement otherBackground = (StateElement) other.getBackgroundElement();
+        assertNotSame(pressedBackground, otherBackground);
+        int otherIndex = otherBackground.getCurrentIndex();
+
+        pressed.setPressState(true);
+        assertNotEquals(otherIndex, pressedBackground.getCurrentIndex());
+        assertEquals(otherIndex, otherBackground.getCurrentIndex());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testApplyWithoutEdit() {
+        MaterialFancyButton mfb = new MaterialFancyButton(context);
+        mfb.apply();
+    }
+
     /**
      * Basic implementation of AttrSet for use in testing.
      */
@@ -2,12 +2,13 @@ package com.rilixtech.entypotypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Entypo font. It hosts a variety of icons that can be used by
@@ -24,7 +25,6 @@ public class Entypo implements MfbTypeface {
     public static final String ENTYPO_LICENSE = "CC BY-SA 4.0";
     public static final String ENTYPO_LICENSE_URL = "https://creativecommons.org/licenses/by-sa/4.0/";
 
-    private static Font entypoTypeface = null;
 
     private static HashMap<String, Character> entypoCharMap;
 
@@ -35,7 +35,22 @@ public class Entypo implements MfbTypeface {
      */
     @Override
     public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No Entypo icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * Entypo MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which Entypo MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override
+    public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -46,17 +61,31 @@ public class Entypo implements MfbTypeface {
     @Override
     public HashMap<String, Character> getCharacters() {
         if (entypoCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(),
-                        v.entypoCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
-
         return entypoCharMap;
     }
 
+    /**
+     * Get the compact table of all the Entypo icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all Entypo icon names and characters.
+     */
+    @Override
+    public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the Entypo icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all Entypo icons.
+     */
+    @Override
+    public GlyphMetrics getGlyphMetrics() {
+        return EntypoMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the Entypo Characters into a HashMap.
      */
@@ -86,18 +115,12 @@ public class Entypo implements MfbTypeface {
 
     @Override
     public int getIconCount() {
-        return entypoCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override
     public Collection<String> getIcons() {
-        Collection<String> entypoKeyList = new LinkedList<>();
-
-        for (Icon value : Icon.values()) {
-            entypoKeyList.add(value.name());
-        }
-
-        return entypoKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override
@@ -127,18 +150,7 @@ public class Entypo implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (entypoTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return entypoTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        entypoTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -549,6 +561,9 @@ public class Entypo implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface entypoTypeface;
 
@@ -0,0 +1,143 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.entypotypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of entypo-font-v1.0.0.1.ttf for the Entypo icons, in ordinal order.
+ */
+final class EntypoMetrics {
+
+    private EntypoMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1024, 960, -64, ""
+            + "\u0400\0\232\u0400\u0300\u0400\146\uffcd\u039a\u03cd\u0400\110\267\u03cd\u02e3"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\0\146\u0400\u0333\u0400\0\uffcd\u03df\u03c7\u0400\31\0\u03e7\u039a"
+            + "\u0400\200\115\u0380\u0333\u0400\200\115\u0366\u034d\u0400\232\115\u0380\u034d"
+            + "\u0400\200\146\u0380\u034d\u0400\263\115\u034d\u0333\u0400\200\200\u0366\u031a"
+            + "\u0400\346\ufff3\u031a\u039a\u0400\46\263\u03cd\u02e6\u0400\63\263\u03da\u02e6"
+            + "\u0400\346\0\u031a\u03a6\u0400\232\200\u0380\u031a\u0400\263\146\u034d\u034d"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\u0133\0\u02cd\u039a\u0400\315\uffcd\u0333\u03cd"
+            + "\u0400\347\u0100\u0319\u024a\u0400\u0133\264\u027e\u02e6\u0400\u0182\264\u02cd\u02e6"
+            + "\u0400\u011f\u0145\u02e1\u023a\u0400\u0178\354\u026e\u02ae\u0400\u0192\354\u0288\u02ae"
+            + "\u0400\u011f\u015f\u02e1\u0255\u0400\122\322\u03ae\u0294\u0400\u0105\37\u02c7\u037b"
+            + "\u0400\u0139\37\u02fb\u037b\u0400\122\u0106\u03ae\u02c8\u0400\347\u014f\u0319\u029a"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\0\232\u0400\u0333\u0400\63\267\u03b8\u02e3"
+            + "\u0400\315\232\u0333\u0300\u0400\315\232\u0333\u0300\u0400\315\146\u0333\u0333"
+            + "\u0400\u0100\243\u0300\u02f7\u0400\232\146\u0366\u0333\u0400\315\232\u0333\u0300"
+            + "\u0400\103\315\u03cd\u02c7\u0400\u018f\u015c\u0271\u023d\u0400\51\u015c\u03d7\u023d"
+            + "\u0400\u018f\ufff6\u0271\u03a4\u0400\303\u015c\u033d\u023d\u0400\u018f\217\u0271\u030a"
+            + "\u0400\2\0\u03fe\u039a\u0400\24\uffe1\u03ec\u03b8\u0400\270\37\u0348\u037b"
+            + "\u0400\270\uffec\u0348\u03ae\u0400\u0185\37\u027b\u037b\u0400\270\37\u0348\u037b"
+            + "\u0400\37\uffec\u03e1\u03ae\u0400\44\63\u03dc\u0366\u0400\10\77\u03f8\u035f"
+            + "\u0400\4\ufffd\u03fb\u038f\u0400\63\0\u03cd\u039a\u0400\146\63\u039a\u0366"
+            + "\u0400\146\63\u039a\u0366\u0400\u0100\0\u0300\u039a\u0400\114\30\u03b4\u0381"
+            + "\u0400\264\153\u03f9\u03c6\u0400\173\uffcd\u0385\u03cd\u0400\u0100\315\u0300\u029a"
+            + "\u0400\u0100\315\u02cd\u02cd\u0400\u0133\315\u0300\u02cd\u0400\u0100\u0100\u0300\u02cd"
+            + "\u0400\44\63\u03dc\u0366\u0400\0\232\u0400\u0333\u0400\2\0\u03fe\u039a"
+            + "\u0400\0\uffcd\u0400\u03c7\u0400\0\0\u0400\u039a\u0400\0\uffcd\u0400\u03cd"
+            + "\u0400\77\122\u03c1\u031d\u0400\101\230\u03c0\u0310\u0400\32\344\u03f9\u02b7"
+            + "\u0400\56\107\u03e6\u0352\u0400\146\146\u039a\u0333\u0400\63\63\u03cd\u0366"
+            + "\u0400\232\63\u0366\u0366\u0400\232\63\u0366\u0366\u0400\146\146\u039a\u0333"
+            + "\u0400\146\0\u039a\u039a\u0400\16\63\u03f2\u0366\u0400\5\63\u0400\u0366"
+            + "\u0400\162\uffd7\u03cd\u03bd\u0400\257\uffe2\u0351\u03c8\u0400\30\51\u03d6\u0371"
+            + "\u0400\63\315\u03cd\u0333\u0400\146\0\u039a\u039a\u0400\0\232\u0400\u0300"
+            + "\u0400\146\0\u0366\u039a\u0400\171\67\u0396\u038e\u0400\63\uffcd\u03cd\u03cd"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\232\uffe6\u0366\u03aa\u0400\147\uffe7\u038f\u03af"
+            + "\u0400\63\63\u03cd\u0366\u0400\0\63\u0400\u039a\u0400\0\63\u0400\u0366"
+            + "\u0400\32\10\u03e8\u03ab\u0400\34\0\u03c2\u039a\u0400\63\uffcd\u03cd\u03cb"
+            + "\u0400\315\0\u0333\u039a\u0400\63\0\u03cd\u039a\u0400\0\63\u0400\u0366"
+            + "\u0400\43\51\u03e1\u0371\u0400\0\0\u0400\u039a\u0400\271\147\u034b\u0328"
+            + "\u0400\122\37\u03ae\u037b\u0400\122\37\u03ae\u037b\u0400\122\37\u03ae\u037b"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\25\uffe3\u03eb\u03b7\u0400\0\63\u0400\u0366"
+            + "\u0400\232\uffcd\u0366\u03cd\u0400\24\uffe1\u03ec\u03b8\u0400\0\146\u0400\u0332"
+            + "\u0400\122\37\u03ae\u037b\u0400\31\57\u03ed\u0370\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\146\uffcd\u039a\u03cd\u0400\0\146\u0400\u0333\u0400\364\0\u02f4\u039a"
+            + "\u0400\u0121\325\u02df\u02c5\u0400\244\0\u035c\u039a\u0400\37\51\u03dd\u0371"
+            + "\u0400\167\51\u0389\u0371\u0400\232\24\u0366\u039a\u0400\232\uffcd\u0366\u03cd"
+            + "\u0400\70\5\u039d\u0369\u0400\232\0\u0366\u039a\u0400\1\uffce\u03ff\u03cb"
+            + "\u0400\146\0\u039a\u039a\u0400\44\63\u03dc\u0366\u0400\341\uffe1\u031f\u03b0"
+            + "\u0400\75\12\u03c2\u038f\u0400\24\uffe2\u03eb\u03b8\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\24\uffe1\u03ec\u03b8\u0400\15\146\u0400\u0333"
+            + "\u0400\207\47\u0379\u0373\u0400\0\146\u0400\u0385\u0400\0\256\u0400\u02ec"
+            + "\u0400\253\uffe3\u0361\u03c2\u0400\63\0\u03c9\u0304\u0400\u0133\0\u02cd\u039a"
+            + "\u0400\76\13\u03bf\u038c\u0400\136\ufff8\u03a3\u03a2\u0400\1\63\u03ff\u0366"
+            + "\u0400\1\63\u03ff\u0366\u0400\1\63\u03ff\u0366\u0400\1\63\u03ff\u0366"
+            + "\u0400\63\167\u03cd\u0335\u0400\146\0\u039a\u039a\u0400\34\155\u03e4\u0334"
+            + "\u0400\0\161\u0400\u0319\u0400\24\uffe1\u03ec\u03b8\u0400\31\110\u03e7\u0344"
+            + "\u0400\315\232\u0333\u0300\u0400\24\uffe1\u03ec\u03b8\u0400\147\uffed\u0396\u03ae"
+            + "\u0400\220\146\u0370\u02f8\u0400\220\146\u0370\u02f8\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\327\0\u0329\u039a\u0400\101\63\u03bf\u036b\u0400\341\uffcd\u031f\u03cd"
+            + "\u0400\63\146\u03cd\u0333\u0400\0\63\u0400\u0366\u0400\3\0\u0400\u03cb"
+            + "\u0400\6\315\u03fa\u029a\u0400\0\354\u0400\u02ae\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\u0114\uffcd\u02ec\u03cd\u0400\161\uffd7\u038a\u03be\u0400\0\232\u0400\u0300"
+            + "\u0400\267\0\u0349\u039a\u0400\136\uffd7\u03cd\u03c0\u0400\0\110\u03f3\u0350"
+            + "\u0400\0\63\u0400\u0366\u0400\57\107\u03ce\u0315\u0400\63\146\u03cd\u02cd"
+            + "\u0400\63\232\u03cd\u0300\u0400\223\140\u036d\u033a\u0400\233\uffcd\u0365\u03cd"
+            + "\u0400\232\146\u0366\u0333\u0400\0\uffcd\u0400\u03cd\u0400\1\24\u03f8\u037d"
+            + "\u0400\146\63\u039a\u0333\u0400\232\232\u0366\u0300\u0400\u0100\63\u0300\u0366"
+            + "\u0400\40\uffcd\u03e0\u03cd\u0400\232\0\u0366\u039a\u0400\232\0\u0366\u039a"
+            + "\u0400\63\0\u03cd\u039a\u0400\63\0\u03cd\u039a\u0400\0\232\u0400\u0333"
+            + "\u0400\134\12\u03a4\u038f\u0400\154\107\u0389\u0361\u0400\63\232\u03cd\u0300"
+            + "\u0400\316\uffcd\u0332\u03cd\u0400\0\uffe1\u0400\u03a8\u0400\0\327\u0400\u02c7"
+            + "\u0400\114\0\u03b4\u039a\u0400\121\1\u038e\u0396\u0400\232\315\u0366\u02cd"
+            + "\u0400\146\63\u039a\u0300\u0400\270\uffcd\u0348\u03cd\u0400\315\u019a\u0333\u0200"
+            + "\u0400\315\uffcd\u0333\u03cd\u0400\67\0\u03b1\u037d\u0400\134\254\u0321\u0371"
+            + "\u0400\345\uffd9\u0315\u03c9\u0400\232\0\u0366\u039a\u0400\51\ufff6\u03d7\u03a4"
+            + "\u0400\63\0\u03ca\u0397\u0400\103\ufff6\u03bd\u03a2\u0400\146\0\u039a\u039a"
+            + "\u0400\315\uffcd\u02ff\u03cd\u0400\63\0\u03cd\u039a\u0400\u0100\uffcd\u0300\u03cd"
+            + "\u0400\3\63\u03fd\u0366\u0400\57\102\u03c3\u0347\u0400\62\127\u03d4\u0346"
+            + "\u0400\227\25\u0369\u0385\u0400\240\111\u0383\u032d\u0400\61\ufffb\u03d2\u039c"
+            + "\u0400\211\uffe1\u036a\u0384\u0400\315\232\u0333\u0300\u0400\146\63\u039a\u0366"
+            + "\u0400\0\232\u0400\u0300\u0400\352\uffe6\u031e\u03af\u0400\31\uffda\u03e1\u03cb"
+            + "\u0400\0\0\u0400\u039a\u0400\0\315\u0400\u02cd\u0400\0\315\u0400\u02cd"
+            + "\u0400\0\315\u0400\u02cd\u0400\0\315\u0400\u02cd\u0400\0\0\u0400\u039a"
+            + "\u0400\173\173\u02be\u031f\u0400\63\0\u03cd\u039a\u0400\0\166\u0400\u032f"
+            + "\u0400\63\167\u03cd\u0335\u0400\0\232\u0400\u0300\u0400\75\ufff7\u03a4\u0373"
+            + "\u0400\32\61\u03e6\u0380\u0400\173\110\u0385\u0352\u0400\26\uffe3\u03ea\u03b6"
+            + "\u0400\63\56\u03cd\u036c\u0400\146\uffcd\u039a\u03cd\u0400\200\44\u0380\u0376"
+            + "\u0400\0\63\u0400\u0366\u0400\173\0\u0385\u039a\u0400\63\63\u03cd\u0366"
+            + "\u0400\110\0\u03b8\u039a\u0400\63\63\u03cd\u0391\u0400\0\0\u039a\u039a"
+            + "\u0400\0\32\u0400\u0380\u0400\12\63\u03f6\u0294\u0400\63\0\u03cd\u039a"
+            + "\u0400\32\uffe6\u03e6\u03b3\u0400\232\0\u0366\u039a\u0400\146\63\u039a\u0366"
+            + "\u0400\146\63\u039a\u0366\u0400\146\63\u039a\u0366\u0400\75\5\u03c3\u038a"
+            + "\u0400\75\5\u03c3\u038a\u0400\141\ufffb\u03d2\u03cd\u0400\0\0\u0400\u039a"
+            + "\u0400\0\146\u0400\u0333\u0400\63\232\u03cd\u0300\u0400\0\146\u0400\u0333"
+            + "\u0400\146\uffcd\u039a\u03cd\u0400\63\0\u03bb\u038c\u0400\232\0\u0366\u039a"
+            + "\u0400\232\0\u0366\u039a\u0400\315\146\u0333\u0333\u0400\354\uffcd\u0314\u03cd"
+            + "\u0400\146\4\u039a\u039a\u0400\146\0\u039a\u0396\u0400\0\232\u0400\u0333"
+            + "\u0400\56\ufffb\u03d2\u039f\u0400\24\uffe1\u03ec\u03b8\u0400\7\15\u03fb\u0391"
+            + "\u0400\71\25\u03c7\u039a\u0400\0\uffcd\u0400\u03cd\u0400\63\ufff6\u03cd\u03a4"
+            + "\u0400\0\0\u0400\u039a\u0400\146\63\u039a\u0300\u0400\63\232\u03cd\u0333"
+            + "\u0400\63\0\u03be\u038c\u0400\63\uffcd\u03cd\u03c2\u0400\0\uffcd\u0400\u03c7"
+            + "\u0400\0\146\u0400\u0333\u0400\0\146\u0400\u0333\u0400\51\ufff6\u03d7\u03a4"
+            + "\u0400\0\315\u0400\u02a4\u0400\146\63\u039a\u0358\u0400\47\uffcd\u03d9\u03c8"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\0\313\u0400\u02cf\u0400\44\63\u03dc\u0366"
+            + "\u0400\0\173\u03fe\u031f\u0400\24\146\u03ec\u0333\u0400\24\ufffb\u03ec\u039f"
+            + "\u0400\171\0\u0378\u0398\u0400\146\63\u039a\u0366\u0400\315\5\u0341\u039a"
+            + "\u0400\0\0\u0400\u039a\u0400\110\uffcd\u03b8\u03cd\u0400\75\12\u03c3\u038f"
+            + "\u0400\0\146\u0400\u0333\u0400\4\uffeb\u03fc\u03a9\u0400\0\232\u0400\u0333"
+            + "\u0400\167\0\u0384\u039a\u0400\51\ufff6\u03d7\u03a4\u0400\125\114\u03d5\u03a3"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\51\ufff9\u03d7\u03a1\u0400\63\0\u03cd\u039a"
+            + "\u0400\3\24\u03fd\u0385\u0400\24\uffe1\u03ec\u03b8\u0400\51\uffe1\u03d7\u03b8"
+            + "\u0400\27\311\u03e9\u0362\u0400\41\uffed\u03df\u03ac\u0400\0\u0100\u0400\u02c3"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\75\12\u03c3\u038f\u0400\12\5\u03e5\u0390"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\202\45\u037e\u0380\u0400\63\0\u03cd\u039a"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\2\250\u03ff\u02f2\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\143\0\u039d\u039a\u0400\166\uffe3\u038a\u03b5\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\51\ufff6\u03d7\u03a4\u0400\24\uffe1\u03ec\u03b8\u0400\63\0\u03cd\u039a"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\65\u0100\u03cb\u029a\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\51\75\u03d7\u035c\u0400\24\uffe1\u03ec\u03b8\u0400\65\12\u03cd\u038f"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\63\0\u03cd\u039a\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\0\256\u0400\u02ec\u0400\24\uffe1\u03ec\u03b8\u0400\63\0\u03cd\u039a"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\162\uffcd\u038a\u03c9\u0400\51\75\u03c6\u035c"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\0\110\u0400\u0352\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\341\ufff6\u031f\u03a4\u0400\24\uffe1\u03ec\u03b8\u0400\51\116\u03d7\u034c"
+            + "\u0400\24\uffe1\u03ec\u03b8\u0400\63\107\u03c8\u035e\u0400\24\uffe1\u03ec\u03b8"
+            + "\u0400\0\103\u0400\u0357");
+}
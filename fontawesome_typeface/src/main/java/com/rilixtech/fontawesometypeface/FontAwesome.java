@@ -2,12 +2,13 @@ package com.rilixtech.fontawesometypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the FontAwesome font. It hosts a variety of icons that can be used by
@@ -26,7 +27,6 @@ public class FontAwesome implements MfbTypeface {
     public static final String FONT_AWESOME_LICENSE = "SIL OFL 1.1";
     public static final String FONT_AWESOME_LICENSE_URL = "http://scripts.sil.org/OFL";
 
-    private static Font fontAwesomeTypeface = null;
 
     private static HashMap<String, Character> fontAwesomeCharMap;
 
@@ -36,7 +36,21 @@ public class FontAwesome implements MfbTypeface {
      * @param key Key for which FontAwesome MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No FontAwesome icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * FontAwesome MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which FontAwesome MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -47,17 +61,31 @@ public class FontAwesome implements MfbTypeface {
     @Override
     public HashMap<String, Character> getCharacters() {
         if (fontAwesomeCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(),
-                        v.fontAwesomeCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
-
         return fontAwesomeCharMap;
     }
 
+    /**
+     * Get the compact table of all the FontAwesome icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all FontAwesome icon names and characters.
+     */
+    @Override
+    public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the FontAwesome icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all FontAwesome icons.
+     */
+    @Override
+    public GlyphMetrics getGlyphMetrics() {
+        return FontAwesomeMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the FontAwesome Characters into a HashMap.
      */
@@ -83,17 +111,11 @@ public class FontAwesome implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return fontAwesomeCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> fontAwesomeKeyList = new LinkedList<>();
-
-        for (Icon value : Icon.values()) {
-            fontAwesomeKeyList.add(value.name());
-        }
-
-        return fontAwesomeKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -118,18 +140,7 @@ public class FontAwesome implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (fontAwesomeTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return fontAwesomeTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        fontAwesomeTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -829,6 +840,9 @@ public class FontAwesome implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface fontAwesomeTypeface;
 
@@ -0,0 +1,239 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.fontawesometypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of fontawesome-font-v4.7.ttf for the FontAwesome icons, in ordinal order.
+ */
+final class FontAwesomeMetrics {
+
+    private FontAwesomeMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1792, 1536, -256, ""
+            + "\u0700\135\uff00\u06a3\u0580\u0600\0\uff00\u0600\u0580\u0680\0\uff00\u0680\u0580"
+            + "\u0700\0\uff80\u0700\u0500\u0700\0\uff80\u0700\u0580\u0680\0\uffad\u0680\u05e0"
+            + "\u0680\0\uffad\u0680\u05e0\u0500\0\uff80\u0500\u0580\u0780\0\uff00\u0780\u0580"
+            + "\u0680\0\0\u0680\u0580\u0700\0\0\u0700\u0580\u0700\0\0\u0700\u0580"
+            + "\u0700\171\16\u0687\u04b2\u0580\156\uffee\u0512\u0492\u0680\0\uff00\u0680\u0580"
+            + "\u0680\0\uff00\u0680\u0580\u0600\0\uff80\u0600\u0600\u0700\0\uff80\u0700\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0580\0\uff80\u0580\u0580\u0680\32\0\u0666\u0503"
+            + "\u0600\0\uff00\u0600\u0600\u0600\0\uff80\u0600\u0580\u0780\62\0\u074e\u0500"
+            + "\u0680\0\0\u0680\u0600\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\0\u0600\u0500\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0700\0\0\u0700\u0580\u0480\0\0\u0480\u0580"
+            + "\u0700\100\uff80\u0700\u0580\u0680\0\0\u0680\u0580\u0300\0\40\u0300\u04e0"
+            + "\u0480\0\40\u0480\u04e0\u0680\0\uffb9\u0680\u0547\u0580\0\0\u0580\u0580"
+            + "\u0700\0\0\u0700\u0580\u0600\0\uff95\u05eb\u0580\u0780\0\uff95\u076b\u0580"
+            + "\u0680\12\uff80\u0679\u0580\u0500\0\uff97\u0500\u0580\u0680\0\uff80\u0680\u0580"
+            + "\u0780\0\uff80\u0780\u0600\u0680\0\uff80\u0680\u0580\u0580\0\uff80\u0580\u0580"
+            + "\u0400\0\uff80\u0400\u0580\u0700\0\uff80\u06fa\u0580\u0600\0\uff03\u0600\u0580"
+            + "\u0700\0\0\u0700\u0580\u0700\0\0\u0700\u0580\u0700\0\0\u0700\u0580"
+            + "\u0700\0\0\u0700\u0580\u0700\0\0\u0700\u0580\u0700\0\0\u0700\u0580"
+            + "\u0700\0\0\u0700\u0580\u0700\0\0\u0700\u0500\u0780\0\uff80\u0780\u0580"
+            + "\u0600\0\uff80\u05eb\u056b\u0400\0\uff80\u0400\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0400\0\0\u0400\u05c0\u0700\0\0\u06f8\u0580\u0680\0\0\u0680\u0600"
+            + "\u0680\0\0\u067f\u0580\u0700\0\uff00\u0700\u0600\u0400\0\uff80\u0400\u0580"
+            + "\u0700\0\uff80\u0700\u0580\u0680\172\uff80\u0680\u0580\u0580\0\uff7c\u057f\u0584"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0680\0\uff80\u0606\u0580"
+            + "\u0700\0\uff80\u0700\u0580\u0400\0\uff80\u0400\u0580\u0602\1\0\u0601\u0506"
+            + "\u0500\232\uff9a\u04a6\u05e6\u0500\132\uff9a\u0466\u05e6\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0585"
+            + "\u0600\100\uff35\u0600\u054b\u0600\0\uff35\u05c0\u054b\u0680\65\uff80\u064b\u0540"
+            + "\u0680\65\uffb5\u064b\u0580\u0700\0\uff80\u0700\u05c0\u0600\0\uff80\u0600\u0580"
+            + "\u0600\15\uff8d\u05f3\u0573\u0580\0\0\u0580\u0580\u0580\0\u0200\u0580\u0380"
+            + "\u0680\172\uff80\u0606\u0580\u0600\0\uff80\u0600\u0580\u0600\0\0\u0600\u0540"
+            + "\u0700\0\0\u0700\u0580\u0580\0\uff00\u0580\u0600\u0700\0\0\u0700\u0480"
+            + "\u0700\0\uffa0\u0700\u04e0\u0700\20\uff80\u06f0\u0600\u0580\0\0\u056c\u056c"
+            + "\u0680\0\uff00\u0680\u0600\u0700\0\uffa0\u0700\u05e0\u0700\0\uff00\u0700\u0500"
+            + "\u0600\0\uff80\u0600\u0580\u0700\132\25\u06a6\u0420\u0700\132\uffe0\u06a6\u03eb"
+            + "\u0780\0\0\u0780\u0480\u0680\0\uff80\u0680\u0500\u0680\0\0\u0680\u0580"
+            + "\u0780\0\0\u0757\u0580\u0300\100\uff00\u02c0\u0600\u0700\0\u0140\u0700\u03c0"
+            + "\u0800\0\uff80\u0800\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0700\0\uff80\u0700\u0580\u0700\0\uff48\u0693\u0580\u0780\0\uff0f\u0780\u05f0"
+            + "\u0700\0\uff80\u0700\u0500\u0600\0\uff80\u0600\u0600\u0600\0\uff00\u0600\u0580"
+            + "\u0380\0\uffad\u0340\u05e0\u0700\0\uff80\u0700\u0580\u0680\0\0\u0620\u0500"
+            + "\u0600\0\uff80\u0600\u0580\u0480\0\uff00\u0480\u0580\u0700\0\0\u0700\u0600"
+            + "\u0600\0\0\u0600\u0500\u0680\0\uff80\u0680\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0680\0\uff80\u0680\u05c0\u0600\0\uff80\u05ff\u0580\u0580\0\0\u0580\u0580"
+            + "\u0580\0\0\u0580\u0580\u0500\0\uff97\u0500\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0680\54\0\u0654\u0500\u0400\137\uff80\u03bf\u0600\u0600\0\uffa7\u0600\u0580"
+            + "\u0680\0\0\u0680\u0580\u0780\0\uff80\u0780\u0580\u0580\0\0\u0580\u0580"
+            + "\u0600\0\0\u0600\u0500\u0700\0\uff83\u0700\u0580\u0700\100\uff00\u06c0\u0600"
+            + "\u0600\2\uff80\u05fe\u057d\u0700\0\uff80\u0700\u0580\u0700\0\uff80\u0700\u0580"
+            + "\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0680\25\uff15\u067e\u0580\u0700\0\0\u0700\u0580"
+            + "\u0580\5\uff80\u057b\u0500\u0700\0\0\u0700\u0600\u0600\0\uff80\u0600\u0580"
+            + "\u0780\0\uff00\u0780\u0600\u0680\20\uff90\u0670\u05f0\u0780\0\0\u0780\u0580"
+            + "\u0680\163\uff80\u060d\u0580\u0700\1\uff80\u0700\u0500\u0700\0\uff00\u0700\u0600"
+            + "\u0580\4\uff84\u057c\u057c\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\0\u0600\u0500\u0700\0\uffc0\u0700\u0540\u0700\17\uff00\u0700\u05f7"
+            + "\u0700\0\uff80\u0700\u0580\u0600\0\uff80\u0600\u0580\u0680\0\0\u0680\u0580"
+            + "\u0680\33\uff9b\u0680\u0600\u0700\100\uff80\u0700\u0500\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0900\0\uffa3\u0900\u055d"
+            + "\u0780\0\0\u0780\u0500\u0400\0\u0140\u0400\u0380\u0400\0\u0100\u0400\u0340"
+            + "\u0280\100\200\u0280\u0480\u0280\0\200\u0240\u0480\u0680\0\uff80\u0680\u0580"
+            + "\u0400\0\uffc0\u0400\u0540\u0400\0\uffc0\u0400\u0200\u0400\0\u0300\u0400\u0540"
+            + "\u0700\0\uff80\u0700\u0500\u0600\0\uffb0\u0600\u056c\u0600\0\uff80\u0600\u0580"
+            + "\u0700\50\uff15\u06eb\u05d8\u0700\0\uff80\u0700\u0500\u0700\0\uff00\u0700\u0500"
+            + "\u0700\0\uff80\u0700\u0500\u0380\1\uff00\u037c\u0580\u0700\0\uff80\u0700\u0580"
+            + "\u0680\0\uff80\u0680\u05c0\u0700\0\uff00\u0700\u0600\u0400\0\uff80\u0400\u0580"
+            + "\u0700\0\uffa0\u0700\u04e0\u0780\0\0\u0780\u0580\u0780\0\0\u0780\u0580"
+            + "\u0580\0\uff80\u0580\u0580\u0580\0\uff80\u0580\u0580\u0700\0\uff80\u0700\u0580"
+            + "\u0700\100\uff00\u06c0\u0600\u0780\0\uff80\u0740\u0500\u0580\0\uff00\u0580\u0600"
+            + "\u0600\0\uff00\u0600\u0600\u0580\0\uff00\u0580\u0600\u0580\0\uff00\u0580\u0600"
+            + "\u0780\100\uff80\u0780\u0580\u0700\0\uff80\u0700\u0580\u0780\0\0\u0780\u0480"
+            + "\u0680\100\0\u0680\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0400\55\115\u03f3\u0433\u0400\15\115\u03d3\u0433\u0480\115\215\u0433\u0453"
+            + "\u0480\115\255\u0433\u0473\u0280\55\115\u0273\u0433\u0280\15\115\u0253\u0433"
+            + "\u0480\115\u010d\u0433\u0353\u0480\115\u012d\u0433\u0373\u0780\0\uff80\u0780\u0600"
+            + "\u0780\0\0\u0780\u0500\u0480\0\0\u0480\u0580\u0300\0\0\u0300\u0500"
+            + "\u0600\0\uff80\u0600\u0580\u0680\0\0\u0680\u0580\u0680\0\0\u0680\u0580"
+            + "\u0700\100\uff40\u06c0\u0600\u0600\0\uff80\u0600\u0580\u0700\0\uff80\u0700\u05c0"
+            + "\u0680\0\uff80\u0680\u0500\u0680\0\0\u0680\u0580\u0780\0\0\u0775\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0780\0\0\u0780\u0400\u0780\0\0\u0780\u0480\u0700\100\uff80\u0700\u0580"
+            + "\u0700\100\uff80\u0700\u0580\u0680\15\0\u0680\u0433\u0780\55\uff93\u0753\u04ed"
+            + "\u0700\0\uff80\u0700\u05bb\u0680\2\uffad\u067e\u05e0\u0580\2\uff80\u0580\u0500"
+            + "\u0680\0\uff00\u0680\u0580\u0400\0\uff80\u0400\u0580\u0680\0\uff80\u0680\u0600"
+            + "\u0400\140\0\u03fc\u0500\u0280\0\0\u0280\u0580\u0280\142\0\u021e\u0580"
+            + "\u0600\5\0\u05fe\u056b\u0600\5\uff00\u0600\u0382\u0780\1\0\u077f\u0500"
+            + "\u0680\0\uffdc\u0680\u0600\u0480\0\uff80\u0480\u0600\u0580\15\uff80\u0573\u0600"
+            + "\u0500\0\uff80\u0500\u0580\u0680\0\uff00\u0680\u0600\u0580\3\uff80\u0580\u05e0"
+            + "\u0680\44\uff20\u0680\u0580\u0700\0\0\u06d1\u0500\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0580\0\uff40\u0580\u0580\u0700\14\uff40\u06f4\u0580\u0700\0\uff10\u0700\u0600"
+            + "\u0480\0\0\u0480\u0600\u0600\0\uff80\u0600\u0580\u0580\0\u0200\u0580\u0380"
+            + "\u0180\0\0\u0180\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0700\66\uff35\u06cb\u05ca\u0600\0\uff80\u0600\u0580\u0580\0\0\u0580\u0580"
+            + "\u0400\3\0\u03fa\u057f\u0400\3\uff80\u03fa\u0500\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0400\0\0\u03f3\u0580\u0400\0\0\u03fc\u0580"
+            + "\u0400\64\uff00\u03d2\u0600\u0382\0\0\u0382\u0580\u0403\4\0\u03ff\u0580"
+            + "\u0500\0\0\u0500\u0580\u0700\0\0\u0700\u0580\u0500\70\uff00\u04e8\u0580"
+            + "\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600\u0680\42\uff00\u067d\u0600"
+            + "\u0680\42\uff00\u067d\u0600\u0700\42\uff00\u0700\u0600\u0700\42\uff00\u0700\u0600"
+            + "\u0600\42\uff00\u05ce\u0600\u0600\42\uff00\u05ce\u0600\u0680\0\uff80\u0640\u0580"
+            + "\u0680\0\uff00\u0640\u0500\u0600\0\uff80\u0600\u0580\u0600\33\uff00\u05e5\u0600"
+            + "\u0580\5\uff80\u057b\u05f6\u0600\0\uff80\u0600\u0580\u0700\0\12\u0700\u04f6"
+            + "\u0700\100\uff80\u06c0\u058a\u0600\13\uff00\u05f5\u0600\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0580\0\uff50\u0581\u05a3"
+            + "\u0600\0\uff80\u0600\u0580\u0400\104\uff80\u0400\u0600\u0600\0\uff80\u0600\u0580"
+            + "\u0300\3\uff40\u02fd\u0600\u0300\3\uff00\u02fd\u05c0\u0700\100\u0103\u0700\u03fd"
+            + "\u0700\0\u0103\u06c0\u03fd\u0580\0\uff80\u0571\u0600\u0680\0\uff00\u0680\u0580"
+            + "\u0600\13\uff00\u05f9\u0600\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0500\54\uff80\u04cb\u0600\u0600\0\uff80\u0600\u0580\u0500\0\uff00\u0500\u05e0"
+            + "\u0400\0\uff00\u0400\u05e0\u0600\0\uff80\u0600\u0580\u0700\54\uff00\u06d4\u05ff"
+            + "\u0600\0\uff80\u05be\u057f\u0700\100\uff80\u06c0\u0580\u0680\40\uffa0\u0660\u05c0"
+            + "\u0780\uffff\1\u077d\u0447\u0700\0\uffaa\u06f7\u054b\u0600\0\uff80\u0600\u0572"
+            + "\u0580\0\uff00\u057a\u0600\u0500\25\uff00\u04eb\u0500\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0680\0\uff00\u065d\u05e0\u0600\0\uff80\u0600\u0580\u0480\0\0\u0480\u0580"
+            + "\u0580\0\0\u0580\u0580\u0880\0\uff80\u0880\u0500\u0680\0\uff80\u0680\u0600"
+            + "\u0600\0\uff80\u0600\u0580\u0700\0\uff00\u0700\u0600\u0700\0\uff80\u0700\u0600"
+            + "\u0800\0\uff00\u0780\u0600\u0900\0\uff80\u0900\u0580\u0600\155\uff80\u0593\u0600"
+            + "\u0600\0\uff80\u05e1\u0580\u0700\0\uff00\u0700\u0600\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0780\0\uffa3\u0780\u055d\u0600\0\uff80\u0600\u0580"
+            + "\u0800\0\32\u0800\u04e6\u0600\0\uff80\u0600\u0580\u07f6\51\uff09\u07cd\u0600"
+            + "\u0600\0\uff12\u0600\u05ee\u0600\0\uff80\u0600\u0580\u0600\0\uff00\u0600\u0600"
+            + "\u0700\0\uff00\u0700\u0600\u0600\0\uff00\u0580\u0600\u0500\100\uff10\u04c0\u0560"
+            + "\u0680\0\uff80\u0680\u0580\u0300\100\uff00\u02c0\u0600\u0700\0\uff00\u0680\u0580"
+            + "\u0900\0\uff00\u0880\u0600\u0800\0\ufffe\u0800\u0502\u0600\0\uff80\u0600\u0580"
+            + "\u0700\0\uff80\u0700\u0580\u0600\0\uff80\u0600\u0580\u0700\20\uff56\u06ef\u05ff"
+            + "\u0800\0\uff40\u0800\u0580\u0800\0\uff00\u0800\u0600\u0600\40\uff00\u05e0\u0600"
+            + "\u0600\0\uff80\u0600\u0580\u0400\0\uff80\u0400\u0600\u0900\0\214\u0900\u0474"
+            + "\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600"
+            + "\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600"
+            + "\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600"
+            + "\u0600\0\uff00\u0600\u0600\u0600\47\uff97\u05d9\u0600\u0700\0\uff00\u0700\u0600"
+            + "\u0800\0\0\u0800\u0578\u0700\0\uff00\u0700\u0600\u0700\40\uff20\u06e0\u05d7"
+            + "\u0700\23\uff00\u06ee\u0600\u0700\0\uff00\u0700\u0600\u0600\0\uff80\u0600\u0580"
+            + "\u0700\104\uff00\u06bc\u0600\u0600\0\uff80\u0600\u0580\u0500\71\uff00\u04c7\u0600"
+            + "\u0700\22\uff00\u06ee\u0600\u0800\0\uff3e\u0800\u05c2\u0700\0\uff00\u06ff\u0600"
+            + "\u0700\0\uff00\u06ff\u05f7\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0700\76\uff80\u06c2\u0580\u0500\30\uff80\u04fe\u0580\u0600\0\uff80\u0600\u0500"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0700\0\uff00\u0700\u0600"
+            + "\u0700\0\uff00\u0700\u0600\u0700\0\0\u0700\u0580\u0700\0\uff00\u0700\u0600"
+            + "\u0700\0\uff00\u0700\u0600\u0700\31\uff0c\u06e7\u0600\u0700\144\uff80\u069c\u0600"
+            + "\u0600\131\uff01\u05aa\u05fd\u0800\0\0\u0800\u0580\u0800\52\15\u07d6\u0580"
+            + "\u0700\0\uff00\u0680\u0600\u0600\11\uff00\u05ef\u0600\u0700\47\uff00\u0700\u0600"
+            + "\u0900\0\uff80\u0900\u0580\u0900\0\uff80\u0900\u0580\u0900\0\uff80\u0900\u0580"
+            + "\u0900\0\uff80\u0900\u0580\u0900\0\uff80\u0900\u0580\u0900\0\uff80\u0900\u0580"
+            + "\u0800\16\uff00\u07f2\u0600\u0800\16\uff00\u07f2\u0600\u0580\0\uff80\u0580\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0700\0\uff00\u0700\u0600"
+            + "\u0700\0\uff00\u06fe\u0600\u0700\0\uff00\u0700\u0600\u0800\0\uff80\u0800\u0580"
+            + "\u0700\0\uff80\u06c0\u0600\u0800\0\uff80\u0800\u0580\u0700\0\0\u0700\u0457"
+            + "\u0600\0\uff80\u0600\u0580\u0800\0\0\u0800\u0500\u0800\0\0\u0800\u0500"
+            + "\u0900\0\0\u0900\u0500\u0600\0\uff00\u0600\u0600\u0800\0\uff88\u0800\u05f8"
+            + "\u0500\13\uff00\u04f5\u0600\u0800\0\uff80\u0800\u0580\u0600\0\0\u0560\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0800\0\uff00\u0800\u0600"
+            + "\u0600\0\uff00\u0580\u0600\u0600\0\uff83\u0600\u057d\u0800\0\uff80\u0800\u04f7"
+            + "\u0800\0\uffa5\u0800\u055b\u0600\0\uff3e\u0600\u0600\u0800\0\uff73\u0800\u058d"
+            + "\u0800\0\50\u0800\u04d9\u0680\0\uff80\u0680\u0500\u0680\0\uff80\u0680\u0500"
+            + "\u0800\0\uff00\u0800\u0580\u0800\23\uff00\u07ed\u0600\u0600\0\uff80\u0580\u0600"
+            + "\u0900\0\0\u08fd\u0500\u0600\0\uff00\u0580\u05e0\u0700\0\uff80\u0700\u0580"
+            + "\u0500\2\uff00\u0480\u05fc\u0600\0\uff80\u0600\u0580\u0500\0\uff00\u0480\u0600"
+            + "\u0600\2\uff00\u0580\u0600\u0700\0\uff00\u0680\u0600\u0700\2\uff00\u06fe\u05fd"
+            + "\u0780\1\uff06\u0780\u0600\u0800\6\uff00\u0800\u0600\u0600\0\uff80\u0600\u0580"
+            + "\u0500\2\uff04\u0480\u0600\u0800\4\0\u0780\u047e\u0500\0\uff00\u0480\u0600"
+            + "\u0500\0\0\u0480\u0480\u0600\0\uff80\u0600\u0580\u0500\0\uff80\u0500\u0600"
+            + "\u0600\0\uff7a\u0600\u0586\u0700\0\0\u0700\u0580\u0800\0\uff80\u0800\u0580"
+            + "\u0800\0\uff80\u07f7\u0580\u0800\0\0\u0800\u0500\u0600\0\uff00\u0600\u0600"
+            + "\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600\u0700\0\uff8a\u0700\u0576"
+            + "\u0600\0\uff80\u0600\u0580\u08f8\124\uff06\u08a4\u05ff\u0900\0\uff43\u0901\u05bd"
+            + "\u0700\0\uff00\u0700\u0600\u0900\0\0\u0900\u0500\u0900\0\0\u0900\u0500"
+            + "\u0900\0\0\u0900\u0500\u0900\0\0\u0900\u0500\u0900\0\0\u0900\u0500"
+            + "\u0500\0\uff05\u047b\u0600\u0400\0\uff00\u0380\u0600\u0800\0\uff00\u0800\u0600"
+            + "\u0900\0\uff00\u0900\u0600\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0900\0\uff80\u0900\u0580\u0900\0\uff80\u0900\u0580\u0700\0\uff00\u0700\u0600"
+            + "\u0900\0\uff00\u0880\u0600\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600"
+            + "\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600\u0600\0\uff00\u0600\u0600"
+            + "\u0600\0\uff80\u0600\u0500\u0700\0\uff00\u0660\u0600\u0700\0\uff80\u0700\u0580"
+            + "\u0800\0\uff00\u0800\u0600\u0800\0\uff00\u0780\u0600\u0700\0\uff00\u0680\u0600"
+            + "\u0600\0\uff00\u0600\u0600\u07b5\0\0\u07b4\u0400\u0700\0\uff00\u0700\u0600"
+            + "\u0700\0\uff00\u0700\u0600\u0800\100\uffe0\u07c0\u0520\u0700\0\uff00\u0700\u0600"
+            + "\u0900\0\uffdc\u0900\u0524\u0500\146\uff00\u049a\u0600\u0600\0\uff80\u0600\u0580"
+            + "\u06b8\0\uff80\u06b8\u0580\u0900\0\uff98\u0900\u0567\u0700\0\uff00\u0700\u0600"
+            + "\u0700\0\uff01\u0700\u0600\u0700\2\uff00\u0700\u05c9\u0700\0\uff00\u0700\u0600"
+            + "\u0700\0\uff10\u0700\u05f0\u0800\0\uff80\u0780\u0580\u0700\26\uff80\u06ea\u0580"
+            + "\u0600\16\uff00\u0579\u0600\u0700\35\uff00\u06e1\u0600\u0700\0\uff00\u0680\u0600"
+            + "\u0700\0\uff00\u0680\u0600\u0700\0\uff00\u0680\u0600\u0700\0\uff00\u0680\u0600"
+            + "\u0700\0\uff00\u0700\u0600\u0400\0\uff00\u0400\u0600\u0700\45\uff00\u06db\u0600"
+            + "\u0800\0\uff00\u0800\u05fb\u0700\0\uff00\u0700\u0600\u0700\0\uff20\u0700\u0500"
+            + "\u0700\0\uff00\u0700\u0500\u0400\0\uff09\u0400\u05f7\u0700\122\uffc0\u06ad\u0540"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0700\0\uff64\u0700\u0600"
+            + "\u0700\105\uff02\u06bb\u0600\u0900\0\uff80\u0900\u0580\u0700\0\uff00\u06bb\u0600"
+            + "\u0700\40\uff00\u06e0\u0600\u0700\0\uff00\u0680\u05f0\u0900\0\0\u0900\u0580"
+            + "\u0700\0\uff00\u0700\u0600\u0900\0\uffd9\u0900\u0527\u0600\44\uff00\u05dc\u0600"
+            + "\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0700\0\uff00\u0700\u0600\u0800\0\uff00\u0800\u0600"
+            + "\u0700\41\uff80\u06df\u0580\u0600\153\uff00\u0595\u0600\u0400\50\uff00\u03d8\u0600"
+            + "\u0600\0\uff80\u0600\u0580\u0700\3\uff47\u06fd\u05b9\u0700\0\uff20\u0700\u05e0"
+            + "\u0600\0\uff80\u0600\u0580\u0700\0\uff00\u0700\u0600\u0700\0\uff00\u0700\u0600"
+            + "\u0600\104\uff00\u05bb\u0600\u0600\0\uff80\u0600\u0580\u0580\47\uff03\u0559\u0600"
+            + "\u0900\3\343\u0900\u041c\u0580\0\uff00\u0580\u05f2\u0880\0\0\u0880\u0580"
+            + "\u0700\0\uff00\u06fc\u0600\u0900\3\uff00\u08fd\u0600\u0700\0\uff00\u0700\u0600"
+            + "\u0600\0\uff80\u0600\u0580\u05ff\45\uff00\u05da\u05ff\u0680\1\uff00\u067f\u05fb"
+            + "\u0700\0\uff1e\u0700\u0562\u0500\0\uff97\u04fe\u0569\u0600\0\uff80\u0600\u0580"
+            + "\u0600\0\uff80\u0600\u0580\u0680\17\uff80\u0671\u0580\u0600\0\uff80\u0600\u0580"
+            + "\u0900\0\uff80\u0900\u0600\u0600\0\uff00\u0600\u0600\u0680\0\uff00\u0680\u0600"
+            + "\u0700\0\uff00\u0700\u0600\u0600\0\uff80\u0600\u0580\u0600\45\uff00\u0600\u0600"
+            + "\u0900\0\uff51\u0900\u0500\u0700\0\uff00\u0700\u0600\u0700\0\uff00\u0700\u0600"
+            + "\u0600\25\uff00\u05eb\u0600\u0680\0\uff00\u0680\u0600\u0680\0\uff00\u0680\u0600"
+            + "\u0800\0\uff80\u0800\u0580\u0800\0\uff80\u0800\u0580\u0700\0\uff00\u0700\u0600"
+            + "\u0700\0\uff00\u0700\u0600\u0600\0\uff00\u0600\u0600\u0500\0\uff00\u0500\u0600"
+            + "\u0800\0\uff80\u0800\u0580\u0800\0\uff80\u0800\u0580\u0700\35\uff00\u06e2\u0600"
+            + "\u0900\0\uff65\u0900\u059b\u0700\0\uff00\u0700\u0600\u0400\0\uff00\u0400\u0600"
+            + "\u0400\0\uff00\u0400\u0600\u0400\0\uff00\u0400\u0600\u0400\0\uff00\u0400\u0600"
+            + "\u0400\0\uff00\u0400\u0600\u0780\0\uff00\u0780\u0600\u0700\0\uff00\u0700\u0600"
+            + "\u0600\1\uff00\u0600\u05fe\u0700\0\uff80\u0700\u0580\u0700\0\uff80\u0700\u0180"
+            + "\u0800\0\uff00\u0800\u0600\u0700\0\uff80\u0700\u0580\u0700\0\uff80\u0700\u0580"
+            + "\u0700\0\uff00\u0700\u0600\u0702\0\uff00\u0702\u0600\u0600\0\uff00\u0600\u0600"
+            + "\u0600\0\uff80\u0600\u0580\u0880\60\uff02\u084b\u05f8\u0700\45\uff0c\u06d8\u05f4"
+            + "\u0600\0\uff80\u0600\u0600\u0680\57\uff00\u0651\u0600\u0700\0\uff00\u0700\u0600"
+            + "\u0700\0\uff00\u0700\u0600\u0780\46\uff01\u075a\u05ff");
+}
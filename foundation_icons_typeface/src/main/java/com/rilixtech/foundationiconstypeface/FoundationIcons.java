@@ -2,12 +2,13 @@ package com.rilixtech.foundationiconstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the FoundationIcons font. It hosts a variety of icons that can be used by
@@ -24,7 +25,6 @@ public class FoundationIcons implements MfbTypeface {
     public static final String FOUNDATION_ICONS_LICENSE = "MIT Open Source License";
     public static final String FOUNDATION_ICONS_LICENSE_URL = "https://github.com/zurb/foundation-icons/blob/master/MIT-LICENSE.txt";
 
-    private static Font foundationIconsTypeface = null;
     private static HashMap<String, Character> foundationIconsCharMap;
 
     /**
@@ -33,7 +33,21 @@ public class FoundationIcons implements MfbTypeface {
      * @param key Key for which FoundationIcons MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No FoundationIcons icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * FoundationIcons MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which FoundationIcons MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -43,15 +57,29 @@ public class FoundationIcons implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (foundationIconsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.foundationIconsCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return foundationIconsCharMap;
     }
 
+    /**
+     * Get the compact table of all the FoundationIcons icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all FoundationIcons icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the FoundationIcons icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all FoundationIcons icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return FoundationIconsMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the FoundationIcons Characters into a HashMap.
      */
@@ -77,15 +105,11 @@ public class FoundationIcons implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return foundationIconsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> foundationIconsKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            foundationIconsKeyList.add(value.name());
-        }
-        return foundationIconsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -110,18 +134,7 @@ public class FoundationIcons implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (foundationIconsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return foundationIconsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        foundationIconsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -429,6 +442,9 @@ public class FoundationIcons implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface foundationIconsTypeface;
 
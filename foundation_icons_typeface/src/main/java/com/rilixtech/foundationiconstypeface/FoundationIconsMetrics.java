@@ -0,0 +1,108 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.foundationiconstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of foundation-icons-font-v3.0.0.1.ttf for the FoundationIcons icons, in ordinal order.
+ */
+final class FoundationIconsMetrics {
+
+    private FoundationIconsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(512, 448, -64, ""
+            + "\u0154\0\26\u0154\u016a\u01a9\0\6\u01a9\u017a\u0163\0\16\u0163\u0172"
+            + "\u0163\0\17\u0163\u0171\u0163\0\16\u0163\u0172\u0163\0\16\u0163\u0172"
+            + "\u0189\0\ufffb\u0189\u0185\u0184\0\ufffd\u0184\u0183\u0191\0\13\u0191\u0175"
+            + "\u0124\1\ufffc\u0122\u0184\u0189\0\60\u0189\u0150\u0189\0\60\u0189\u0150"
+            + "\u0124\1\ufffc\u0122\u0184\u0200\3\uffc3\u01fd\u01bd\u0200\0\uffc0\u0200\u01c0"
+            + "\u0200\2\uffc2\u01fe\u01be\u0200\0\uffc0\u0200\u01c0\u01b8\1\10\u01b7\u0178"
+            + "\u0157\1\14\u0156\u0174\u0180\0\0\u0180\u0180\u0171\0\10\u0171\u0178"
+            + "\u01e4\0\64\u01e4\u014c\u01e4\0\64\u01e4\u014c\u01e4\0\64\u01e4\u014c"
+            + "\u0180\6\6\u017a\u017a\u0104\0\20\u0104\u0170\u0156\0\1\u0156\u017f"
+            + "\357\0\uffeb\357\u0195\362\0\57\362\u0151\u0148\0\uffff\u0148\u0181"
+            + "\u0148\0\uffff\u0148\u0181\332\0\3\332\u017d\u0109\0\27\u0109\u0169"
+            + "\u018b\0\ufffc\u018b\u0184\u018b\0\ufffc\u018b\u0184\u018b\0\ufffc\u018b\u0184"
+            + "\u0146\0\10\u0146\u0178\u019f\0\32\u019f\u0166\u018d\0\25\u0189\u016b"
+            + "\u017d\0\16\u017b\u0172\u013b\0\uffe3\u013b\u019d\u0188\0\uffe3\u0188\u019d"
+            + "\u013b\0\uffe3\u013b\u019d\u0180\0\0\u0180\u0180\u0156\0\64\u0156\u014c"
+            + "\u01d9\0\101\u01d9\u013f\u01d6\0\7\u01d6\u0179\u018a\0\7\u018a\u0179"
+            + "\u018a\0\7\u018a\u0179\u018a\0\7\u018a\u0179\u01cd\0\20\u01cd\u0170"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u017a\0\71\u017a\u0147"
+            + "\u01a3\0\uffef\u01a3\u0191\u015c\0\3\u015c\u017d\u0145\0\11\u0145\u0177"
+            + "\u01a6\0\47\u01a6\u0159\u015c\0\22\u015c\u016e\u015c\0\22\u015c\u016e"
+            + "\u015c\0\22\u015c\u016e\u015c\0\22\u015c\u016e\u015c\0\22\u015c\u016e"
+            + "\u015c\0\22\u015c\u016e\u014d\0\41\u014d\u015f\u01bf\0\106\u01bf\u013a"
+            + "\321\0\35\321\u0163\u0194\0\0\u0194\u0180\u017e\0\47\u017e\u0159"
+            + "\u01ed\0\ufff7\u01ed\u0189\u011b\0\62\u011a\u014e\u016d\0\73\u016d\u0145"
+            + "\u0174\0\107\u0174\u0139\u010c\0\ufff8\u010c\u0188\343\0\ufffd\343\u0183"
+            + "\u019a\0\21\u019a\u016f\u019b\0\22\u019b\u016e\u0174\0\ufffd\u0174\u0183"
+            + "\u01a9\0\25\u01a9\u016b\u01a9\0\25\u01a9\u016b\u01a9\0\25\u01a9\u016b"
+            + "\u0108\0\uffe3\u0108\u019d\u0164\0\35\u0164\u0162\u01ab\0\14\u01ab\u0174"
+            + "\u0183\0\33\u0183\u0165\u017c\0\2\u017c\u017e\u019a\0\45\u019a\u015b"
+            + "\u018f\0\51\u018f\u0157\u0141\0\5\u0141\u017b\u0199\0\5\u0199\u017b"
+            + "\u0161\0\ufffe\u0161\u017f\u012c\0\26\u012c\u016a\u0163\0\16\u0163\u0172"
+            + "\u0163\0\16\u0163\u0172\u0180\0\0\u0180\u0180\154\0\57\154\u0151"
+            + "\u01bd\0\104\u01bd\u013c\u01e8\0\6\u01e8\u017a\u017d\0\20\u017d\u0170"
+            + "\u01aa\0\uffd4\u01aa\u01ac\u014d\0\41\u014d\u015f\u0161\0\17\u0161\u0171"
+            + "\u01af\0\47\u01af\u0159\u01a7\0\44\u01a7\u015c\u014c\0\32\u014c\u0166"
+            + "\u014c\0\32\u014c\u0166\u0164\0\ufffd\u0164\u0183\u015a\0\25\u015a\u016b"
+            + "\u018d\0\ufff5\u018d\u018b\u018a\0\47\u018a\u0159\u01d2\0\ufffb\u01d2\u0185"
+            + "\u0156\0\26\u0156\u016a\276\0\ufffc\276\u0184\u01ae\0\uffdb\u01ae\u01a5"
+            + "\u0121\0\ufff5\u0121\u018b\u0181\0\7\u0181\u017a\u0105\0\1\u0105\u017f"
+            + "\u0180\0\0\u0180\u0180\u019e\0\205\u019e\373\340\0\uffda\340\u01a6"
+            + "\340\0\32\340\u0166\u01d7\0\3\u01d7\u017d\u01d3\0\34\u01d3\u0164"
+            + "\u017e\0\6\u017e\u017a\u018d\0\46\u018d\u015a\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0168\0\uffe3\u0168\u019d\u0169\0\uffc9\u0169\u01b7"
+            + "\u0136\0\uffe3\u0136\u019d\u0169\0\uffe3\u0166\u019d\u0136\0\uffe3\u0136\u019d"
+            + "\u01ac\0\uffe3\u01a9\u019d\u01ca\0\uffe3\u01ca\u019d\u01ca\0\uffe3\u01ca\u019d"
+            + "\u01ca\0\uffe3\u01ca\u019d\u01ca\0\uffe3\u01ca\u019d\u0136\0\uffe3\u0136\u019d"
+            + "\u0185\0\uffd1\u0185\u01af\u0136\0\uffe3\u0136\u019d\u0168\0\uffe3\u0168\u019d"
+            + "\u0193\0\uffe3\u0193\u019d\u0136\0\uffe3\u0136\u019d\u01b7\4\uffee\u01b7\u0196"
+            + "\u0164\1\ufffb\u0161\u0184\344\0\46\344\u015a\u016b\0\20\u016b\u0170"
+            + "\u013b\0\40\u013b\u0160\u0195\1\ufff7\u0191\u0187\u01bb\0\5\u01bb\u017b"
+            + "\u0180\0\0\u0180\u0180\u019f\0\43\u019f\u015d\u0114\0\42\u0114\u015e"
+            + "\u0173\0\6\u0173\u017a\335\0\62\335\u014e\u0180\0\5\u0180\u017b"
+            + "\u018d\0\46\u018d\u015a\u0145\0\uffff\u0144\u0182\u018b\0\ufff5\u0189\u018b"
+            + "\u019e\0\ufff3\u019e\u018d\u0180\0\0\u0180\u0180\u0187\0\13\u0187\u0175"
+            + "\u0125\0\ufff8\u0125\u0188\u01b3\0\130\u01b3\u0128\u017c\0\2\u017c\u017e"
+            + "\u0163\0\13\u0163\u0175\u01d7\0\66\u01d7\u014a\u01af\0\47\u01af\u0159"
+            + "\u0196\0\13\u0196\u0175\u0174\0\107\u0174\u0139\u0153\0\27\u0153\u0169"
+            + "\u01e2\0\16\u01e2\u0172\u017b\0\4\u017b\u017c\u0166\0\uffed\u0166\u0193"
+            + "\u0180\0\ufff5\u0180\u018b\u0158\0\ufff5\u0158\u018b\u01b9\0\16\u01b9\u0172"
+            + "\u01a9\0\3\u01a9\u017d\u01ce\0\31\u01ce\u0167\u018f\0\ufff8\u0190\u0188"
+            + "\u0171\0\10\u0171\u0178\u0171\0\35\u0171\u0163\u0179\2\16\u0178\u0166"
+            + "\u0160\1\ufff3\u0160\u018d\u016d\0\10\u016d\u0178\u0184\0\40\u0183\u0160"
+            + "\u0171\0\10\u0171\u0178\u015c\0\22\u015c\u016e\u0171\0\10\u0171\u0178"
+            + "\u0171\0\10\u0171\u0178\u01b4\0\112\u01b4\u0136\u0173\0\6\u0173\u017a"
+            + "\u0180\0\32\u0180\u0166\u018c\0\10\u018c\u0178\u014f\0\ufff8\u014e\u0188"
+            + "\u0171\0\10\u0171\u0178\u0171\0\10\u0171\u0178\u015e\0\uffee\u015e\u0192"
+            + "\u019f\0\ufff1\u019d\u018f\u0171\0\10\u0171\u0178\u018f\0\ufffe\u018f\u0183"
+            + "\u0171\0\11\u0171\u0177\u0171\0\10\u0171\u0178\u01dc\0\120\u01db\u0130"
+            + "\u0171\0\5\u0171\u017b\u0165\0\16\u0166\u0172\u01a1\0\114\u01a1\u0134"
+            + "\u0171\0\10\u0171\u0178\u0171\0\10\u0171\u0178\u01c6\0\65\u01c6\u014b"
+            + "\u0171\0\10\u0171\u0178\u015c\0\5\u015c\u017b\u018f\0\ufff9\u018f\u0187"
+            + "\u018f\0\ufff8\u018f\u0188\u01b3\0\15\u01b1\u0173\u01ca\0\uffff\u01ca\u0181"
+            + "\u0186\1\ufffb\u0184\u0185\u018a\0\ufff8\u018a\u0188\u0186\1\ufffe\u0186\u0182"
+            + "\u017b\0\14\u017b\u016f\u018f\0\ufff8\u018f\u0188\u01a9\0\uffde\u01a4\u01a3"
+            + "\u0151\0\uffe9\u0151\u0197\u01f1\0\116\u01f1\u0132\u018f\0\ufff8\u018f\u0188"
+            + "\u018a\0\ufff0\u018a\u0191\u0171\0\10\u0171\u0178\u018a\0\40\u018a\u0160"
+            + "\u0171\0\10\u0171\u0178\u0170\0\3\u0170\u017d\u018f\0\ufff8\u018f\u0188"
+            + "\u0200\0\55\u0200\u0153\u0158\0\uffec\u0158\u0193\u0171\0\10\u0171\u0178"
+            + "\u0119\0\5\u0117\u017a\u0171\0\10\u0171\u0178\u018a\0\42\u018a\u015e"
+            + "\u01aa\1\ufff3\u01aa\u018d\u0134\0\46\u0134\u015a\u0138\0\52\u0138\u0156"
+            + "\u013b\4\42\u013b\u0127\u013b\4\130\u013b\u015e\u01b4\0\42\u01b4\u015e"
+            + "\u013d\0\uffe6\u013d\u019a\u01e6\0\uffcd\u01e6\u01b3\u0180\0\0\u0180\u0180"
+            + "\u014d\0\ufffb\u014d\u0185\u0166\0\15\u0166\u0173\u017b\0\16\u017b\u0172"
+            + "\u014c\0\32\u014c\u0166\u0200\3\uffc3\u01fd\u01bd\u014c\0\5\u014c\u017b"
+            + "\u014c\0\5\u014c\u017b\u014c\0\5\u014c\u017b\u01e8\0\27\u01e8\u0169"
+            + "\u01e9\0\30\u01e9\u0168\u01ba\0\5\u01ba\u017b\u01a4\0\15\u01a4\u0173"
+            + "\u01a4\0\15\u01a4\u0173\u0141\0\ufffd\u0141\u0183\u01af\0\ufffe\u01af\u0182"
+            + "\u014b\0\ufffd\u014b\u0183\u0138\0\36\u0138\u0162\u0180\0\0\u0180\u0180"
+            + "\u01cf\0\uffd8\u01cf\u01a8\u0164\0\ufffd\u0164\u0183\u01d9\0\14\u01d9\u0174"
+            + "\u01a4\0\0\u01a4\u0180\226\0\22\226\u016e\u019a\0\71\u019a\u0147"
+            + "\363\0\56\363\u0152\u01b4\0\10\u01b2\u0178\u01b4\0\15\u01b4\u0173"
+            + "\u0180\0\0\u0180\u0180\u011d\0\10\u011d\u0178\u019f\0\ufff1\u019f\u018f"
+            + "\u0191\0\ufff7\u0191\u0189\u0180\0\0\u0180\u0180\u0169\0\13\u0166\u0172"
+            + "\u010e\0\62\u010e\u014e\u018d\0\ufff5\u018d\u018b\u018d\0\ufff5\u018d\u018b");
+}
@@ -2,12 +2,13 @@ package com.rilixtech.glyphiconshalflingstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the GlyphiconsHalflings font. It hosts a variety of icons that can be used by
@@ -25,7 +26,6 @@ public class GlyphiconsHalflings implements MfbTypeface {
     public static final String GLYPHICONS_HALFLINGS_LICENSE = "MIT License";
     public static final String GLYPHICONS_HALFLINGS_LICENSE_URL = "https://opensource.org/licenses/MIT";
 
-    private static Font glyphiconsHalflingsTypeface = null;
     private static HashMap<String, Character> glyphiconsHalflingsCharMap;
 
     /**
@@ -34,7 +34,21 @@ public class GlyphiconsHalflings implements MfbTypeface {
      * @param key Key for which GlyphiconsHalflings MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No GlyphiconsHalflings icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * GlyphiconsHalflings MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which GlyphiconsHalflings MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -44,16 +58,29 @@ public class GlyphiconsHalflings implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (glyphiconsHalflingsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.glyphiconsHalflingsCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
-
         return glyphiconsHalflingsCharMap;
     }
 
+    /**
+     * Get the compact table of all the GlyphiconsHalflings icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all GlyphiconsHalflings icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the GlyphiconsHalflings icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all GlyphiconsHalflings icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return GlyphiconsHalflingsMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the GlyphiconsHalflings Characters into a HashMap.
      */
@@ -79,17 +106,11 @@ public class GlyphiconsHalflings implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return glyphiconsHalflingsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> glyphiconsHalflingsKeyList = new LinkedList<>();
-
-        for (Icon value : Icon.values()) {
-            glyphiconsHalflingsKeyList.add(value.name());
-        }
-
-        return glyphiconsHalflingsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -114,18 +135,7 @@ public class GlyphiconsHalflings implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (glyphiconsHalflingsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return glyphiconsHalflingsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        glyphiconsHalflingsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -413,6 +423,9 @@ public class GlyphiconsHalflings implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface glyphiconsHalflingsTypeface;
 
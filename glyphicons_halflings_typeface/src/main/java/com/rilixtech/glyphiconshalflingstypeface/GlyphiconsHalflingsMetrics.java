@@ -0,0 +1,102 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.glyphiconshalflingstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of glyphicons-halflings-regular.ttf for the GlyphiconsHalflings icons, in ordinal order.
+ */
+final class GlyphiconsHalflingsMetrics {
+
+    private GlyphiconsHalflingsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1200, 1300, -123, ""
+            + "\u04b0\144\144\u044c\u044c\u04b0\0\0\u044c\u044c\u04b0\144\5\u048c\u04ae"
+            + "\u04b0\310\u0190\u044c\u02bc\u04b0\ufff2\u012c\u04c2\u0441\u04b0\0\144\u04b0\u044c"
+            + "\u04b0\ufff0\ufff0\u04ba\u04ba\u04b0\0\0\u04b0\u04b0\u04b0\16\10\u044c\u049c"
+            + "\u04b0\11\ufff8\u04bb\u04a7\u04b0\144\130\u04af\u0444\u04b0\uffd3\136\u047b\u0494"
+            + "\u04b0\uffd3\136\u047b\u0494\u04b0\0\0\u04b0\u04b0\u04b0\0\0\u04b0\u044c"
+            + "\u04b0\0\0\u044c\u044c\u04b0\0\0\u044c\u044c\u04b0\0\0\u04b0\u044c"
+            + "\u04b0\46\54\u04e8\u0420\u04b0\156\156\u0442\u0442\u04b0\27\uffeb\u04c5\u0499"
+            + "\u04b0\27\uffeb\u04c5\u0499\u04b0\27\27\u0499\u04b0\u04b0\144\0\u04b0\u04b0"
+            + "\u04b0\32\33\u0496\u0496\u04b0\144\0\u04b0\u0514\u04b0\14\0\u0508\u04d1"
+            + "\u04b0\144\0\u03e8\u04b0\u04b0\27\27\u0499\u0499\u04b0\uff9c\0\u0514\u04b0"
+            + "\u04b0\144\0\u04b0\u04b0\u04b0\27\27\u0499\u0499\u04b0\27\27\u0499\u0499"
+            + "\u04b0\0\0\u04b0\u04b0\u04b0\27\27\u0499\u0499\u04b0\27\27\u0499\u04b0"
+            + "\u04b0\27\1\u0499\u04b0\u04b0\144\0\u04b0\u04b0\u04b0\0\0\u044c\u04b0"
+            + "\u04b0\144\0\u044c\u044c\u04b0\0\0\u04b0\u0497\u04b0\0\323\u0447\u03dd"
+            + "\u04b0\0\323\u0372\u03dd\u04b0\0\304\u0462\u03ec\u04b0\0\0\u04b0\u04b0"
+            + "\u04b0\0\0\u04b0\u04b0\u04b0\0\12\u04a6\u04b0\u04b0\0\12\u05d2\u04b0"
+            + "\u04b0\144\0\u04b0\u04b0\u04b0\310\uffff\u044c\u04b0\u04b0\0\0\u04b0\u04b0"
+            + "\u04b0\0\144\u04b0\u044c\u04b0\65\0\u04b0\u04af\u04b0\144\0\u03f0\u04b0"
+            + "\u04b0\310\0\u036f\u04b0\u04b0\uffb5\0\u0514\u04b0\u04b0\41\uffb5\u048f\u04b0"
+            + "\u04b0\0\0\u04b0\u044c\u04b0\0\0\u04b0\u044c\u04b0\0\0\u04b0\u044c"
+            + "\u04b0\0\0\u04b0\u044c\u04b0\0\0\u04b0\u044c\u04b0\uff9c\0\u04b0\u044c"
+            + "\u04b0\0\0\u0514\u044c\u04b0\0\310\u04b0\u03e8\u04b0\0\0\u04b0\u044c"
+            + "\u04b0\333\5\u0436\u0491\u04b0\27\27\u0499\u0499\u04b0\165\3\u03df\u050f"
+            + "\u04b0\0\0\u04cb\u046c\u04b0\0\0\u0493\u044c\u04b0\0\0\u049d\u044c"
+            + "\u04b0\12\12\u04a6\u04a6\u04b0\310\0\u0384\u044c\u04b0\0\0\u04b0\u044c"
+            + "\u04b0\235\31\u04b0\u0433\u04b0\310\26\u0433\u0436\u04b0\310\144\u0384\u03e8"
+            + "\u04b0\310\144\u044c\u03e8\u04b0\0\31\u0413\u0433\u04b0\ufffe\2\u04b3\u044f"
+            + "\u04b0\u012c\0\u03e8\u044c\u04b0\144\310\u04b0\u0448\u04b0\210\ufffc\u0375\u044a"
+            + "\u04b0\u013b\ufffc\u0428\u044a\u04b0\27\27\u0499\u0499\u04b0\27\27\u0499\u0499"
+            + "\u04b0\27\27\u0499\u0499\u04b0\27\27\u0499\u0499\u04b0\27\27\u0499\u0499"
+            + "\u04b0\27\27\u0499\u0499\u04b0\0\0\u04b0\u04b0\u04b0\27\27\u0499\u0499"
+            + "\u04b0\27\27\u0499\u0499\u04b0\27\27\u0499\u0499\u04b0\27\123\u04b0\u03f9"
+            + "\u04b0\0\123\u0499\u03f9\u04b0\267\0\u045d\u0499\u04b0\267\27\u045d\u04b0"
+            + "\u04b0\0\267\u0499\u045d\u04b0\0\0\u04b0\u04b0\u04b0\111\111\u0467\u0467"
+            + "\u04b0\27\27\u0499\u0499\u04b0\0\0\u04b0\u04b0\u04b0\0\14\u04af\u04a6"
+            + "\u04b0\135\36\u0472\u04cf\u04b0\uffdc\152\u04d4\u0446\u04b0\uffdc\0\u04d4\u04b0"
+            + "\u04b0\uff9e\0\u0512\u04ab\u04b0\144\25\u04b0\u04b0\u04b0\0\0\u044c\u04b0"
+            + "\u04b0\0\31\u0577\u0497\u04b0\0\0\u04b0\u044c\u04b0\144\0\u044c\u04b0"
+            + "\u04b0\uffff\324\u044c\u03c2\u04b0\0\356\u044d\u03dc\u04b0\uff51\144\u055f\u03e8"
+            + "\u04b0\6\0\u049e\u04b0\u04b0\0\0\u04b0\u044c\u04b0\0\0\u05dc\u044c"
+            + "\u04b0\u0145\0\u036b\u04af\u04b0\1\u0144\u04af\u036b\u04b0\0\0\u04b0\u04b0"
+            + "\u04b0\uff9c\144\u04b0\u044c\u04b0\112\0\u0466\u04b0\u04b0\24\24\u049c\u049c"
+            + "\u04b0\0\144\u04b0\u04b0\u04b0\0\0\u04b0\u044c\u04b0\0\144\u050e\u044f"
+            + "\u04b0\uff9c\144\u04b0\u044f\u04b0\141\0\u044c\u050e\u04b0\ufffd\6\u03e8\u0514"
+            + "\u04b0\26\26\u049a\u049a\u04b0\26\26\u049a\u049a\u04b0\26\26\u049a\u049a"
+            + "\u04b0\26\26\u049a\u049a\u04b0\30\30\u0498\u0498\u04b0\0\2\u04af\u0485"
+            + "\u04c4\0\140\u04b0\u04ac\u04b0\144\0\u044c\u04b0\u04b0\0\144\u04b0\u04b0"
+            + "\u04b0\0\0\u04b0\u04b0\u04b0\0\0\u04a8\u04a8\u04b0\uffd8\132\u04b9\u04bc"
+            + "\u04b0\144\130\u04af\u0444\u04b0\71\ufff2\u0477\u04be\u04b0\310\0\u03e8\u04b0"
+            + "\u04b0\0\0\u04b0\u04b0\u04b0\u0127\21\u0409\u04e0\u04b0\144\146\u0394\u04ad"
+            + "\u04b0\31\uffff\u0497\u04b0\u04b0\31\uffff\u03e8\u04b0\u04b0\31\uffff\u03e8\u04b0"
+            + "\u04b0\31\uffff\u044c\u04b0\u04b0\31\uffff\u044c\u04b0\u04b0\31\uffff\u04b0\u04b0"
+            + "\u04b0\31\uffff\u04b0\u04b0\u04b0\0\0\u044c\u044c\u04b0\0\0\u044c\u044c"
+            + "\u04b0\0\0\u044c\u044c\u04b0\0\0\u044c\u044c\u04b0\0\0\u0514\u044c"
+            + "\u04b0\331\2\u03d7\u049e\u04b0\0\0\u04fe\u044c\u04b0\0\0\u04b0\u04b0"
+            + "\u04b0\16\16\u04a2\u04a2\u04b0\0\0\u044c\u04b0\u04b0\0\0\u044c\u04ac"
+            + "\u04b0\0\0\u044c\u044b\u04b0\0\0\u044c\u049b\u04b0\0\0\u044c\u04b0"
+            + "\u04b0\4\uffec\u04b0\u04af\u04b0\0\144\u044c\u04b0\u04b0\0\105\u04dd\u04b0"
+            + "\u04b0\0\15\u0507\u04b0\u04b0\0\25\u0497\u04b0\u04b0\0\0\u0497\u04b0"
+            + "\u04b0\0\310\u04b0\u044c\u04b0\3\175\u04ad\u0497\u04b0\144\0\u04b0\u04b0"
+            + "\u04b0\144\0\u04b0\u044c\u04b0\0\0\u044c\u044c\u04b0\20\20\u049f\u049f"
+            + "\u04b0\0\0\u04b0\u044c\u04b0\0\0\u04b0\u04b0\u04b0\144\0\u04b0\u044c"
+            + "\u04b0\uff9c\0\u04b0\u044c\u04b0\uff9c\0\u04b0\u044c\u04b0\uff9c\0\u04b0\u044c"
+            + "\u04b0\uff9c\0\u04b0\u044c\u04b0\uff9c\0\u04b0\u044c\u04b0\uff9c\0\u04b0\u044c"
+            + "\u04b0\uff9c\0\u04b0\u044c\u04b0\uff9c\0\u04b0\u044c\u04b0\11\11\u04a7\u04a7"
+            + "\u04b0\11\11\u04a7\u04a7\u04b0\ufff2\uff9d\u04c2\u0441\u04b0\ufff2\uff9c\u04c3\u0441"
+            + "\u04b0\144\0\u044c\u046d\u04b0\171\0\u0437\u049b\u04b0\47\24\u0489\u049c"
+            + "\u04b0\144\0\u03e8\u04b0\u04b0\144\0\u03e8\u04b0\u04b0\0\0\u04b0\u03f4"
+            + "\u04b0\0\0\u044c\u044c\u04b0\144\0\u04bc\u044c\u04b0\uffa2\0\u0516\u04d4"
+            + "\u04b0\0\0\u044c\u044c\u04b0\0\0\u04b0\u0514\u04b0\0\0\u04b0\u0514"
+            + "\u04b0\0\0\u04b0\u049d\u04b0\0\0\u04b0\u0514\u04b0\0\0\u04b0\u0512"
+            + "\u04b0\310\0\u03e8\u0514\u04b0\0\144\u04b0\u04af\u04b0\144\uffff\u044c\u044c"
+            + "\u04b0\0\0\u04b0\u044c\u04b0\331\ufff9\u043d\u04b0\u04b0\1\0\u04a9\u04ac"
+            + "\u04b0\310\0\u03e8\u04b0\u04b0\217\0\u0421\u04b0\u04b0\0\0\u04b0\u04b0"
+            + "\u04b0\uff9c\144\u0514\u0447\u04b0\uff9c\uffe6\u0514\u047e\u04b0\144\0\u0439\u04b0"
+            + "\u04b0\144\0\u0439\u04b0\u04b0\144\0\u0439\u04b0\u04b0\160\0\u0440\u044c"
+            + "\u04b0\160\0\u0440\u044c\u04b0\173\0\u044c\u04b0\u04b0\173\0\u044c\u04b0"
+            + "\u04b0\4\2\u04b0\u04ae\u04b0\310\0\u0384\u0514\u04b0\310\0\u0384\u0514"
+            + "\u04b0\0\24\u050e\u041a\u04b0\144\u01f4\u04b0\u0320\u04b0\u0190\0\u02bc\u044c"
+            + "\u04b0\144\144\u044c\u044c\u04b0\0\0\u04b0\u04b0\u04b0\144\144\u04b0\u044c"
+            + "\u04b0\u012c\5\u03e8\u04a3\u04b0\uffb5\310\u0494\u0381\u04b0\0\0\u04b0\u04b0"
+            + "\u04b0\0\0\u044c\u04ae\u04b0\0\0\u04b0\u04b0\u04b0\0\0\u04b0\u04b0"
+            + "\u04b0\0\0\u04b0\u04b0\u04b0\0\144\u04b0\u03e8\u04b0\0\0\u04b0\u04b0"
+            + "\u04b0\144\0\u044c\u04b0\u04b0\0\0\u04b0\u04b0\u04b0\u012c\60\u036f\u0480"
+            + "\u04b0\u0141\62\u0384\u047e\u04b0\62\u0141\u047e\u0384\u04b0\62\u012c\u047e\u036f"
+            + "\u04b0\10\0\u04b0\u0428\u04b0\0\144\u04b0\u04b0\u04b0\0\0\u044c\u03e8"
+            + "\u04b0\310\146\u0372\u044a\u04b0\u013e\146\u03e8\u044a\u04b0\146\310\u044a\u0372"
+            + "\u04b0\146\u013e\u044a\u03e8");
+}
@@ -2,12 +2,13 @@ package com.rilixtech.googlematerialtypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the GoogleMaterial font. It hosts a variety of icons that can be used by
@@ -25,7 +26,6 @@ public class GoogleMaterial implements MfbTypeface {
     public static final String GOOGLE_MATERIAL_LICENSE = "CC-BY 4.0";
     public static final String GOOGLE_MATERIAL_LICENSE_URL = "http://creativecommons.org/licenses/by/4.0/";
 
-    private static Font googleMaterialTypeface = null;
     private static HashMap<String, Character> googleMaterialCharMap;
 
 
@@ -35,7 +35,21 @@ public class GoogleMaterial implements MfbTypeface {
      * @param key Key for which GoogleMaterial MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No GoogleMaterial icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * GoogleMaterial MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which GoogleMaterial MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -45,15 +59,29 @@ public class GoogleMaterial implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (googleMaterialCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.googleMaterialCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return googleMaterialCharMap;
     }
 
+    /**
+     * Get the compact table of all the GoogleMaterial icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all GoogleMaterial icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the GoogleMaterial icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all GoogleMaterial icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return GoogleMaterialMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the GoogleMaterial Characters into a HashMap.
      */
@@ -79,15 +107,11 @@ public class GoogleMaterial implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return googleMaterialCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> googleMaterialKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            googleMaterialKeyList.add(value.name());
-        }
-        return googleMaterialKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -112,18 +136,7 @@ public class GoogleMaterial implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (googleMaterialTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return googleMaterialTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        googleMaterialTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -1078,6 +1091,9 @@ public class GoogleMaterial implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface googleMaterialTypeface;
 
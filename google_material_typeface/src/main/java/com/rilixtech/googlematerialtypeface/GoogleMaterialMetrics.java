@@ -0,0 +1,324 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.googlematerialtypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of googlematerial.ttf for the GoogleMaterial icons, in ordinal order.
+ */
+final class GoogleMaterialMetrics {
+
+    private GoogleMaterialMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(512, 512, 0, ""
+            + "\u0200\1\0\u01ff\u0200\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d8"
+            + "\u0200\53\53\u01d5\u01da\u0200\53\53\u01d5\u01d5\u0200\100\53\u01c0\u01d5"
+            + "\u0200\153\53\u0195\u01d5\u0200\53\53\u01c0\u01eb\u0200\100\100\u01d5\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\53\u01d5\u01d5\u0200\153\25\u0195\u01e1"
+            + "\u0200\153\153\u0195\u0195\u0200\0\53\u01eb\u01eb\u0200\53\53\u01d5\u01d8"
+            + "\u0200\100\25\u01c0\u01d5\u0200\100\100\u01c0\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\153\53\u0195\u01d5\u0200\25\53\u01c3\u01eb"
+            + "\u0200\53\53\u01d5\u01d5\u0200\25\100\u01eb\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\52\200\u01d5\u016b\u0200\40\153\u01e7\u01a5\u0200\25\225\u01eb\u016b"
+            + "\u0200\53\100\u01ee\u01c0\u0200\100\100\u01d5\u01c0\u0200\100\100\u01ad\u01c0"
+            + "\u0200\53\100\u01d5\u01d8\u0200\125\65\u01ab\u01d6\u0200\53\53\u01c0\u01d5"
+            + "\u0200\53\53\u01c0\u01d5\u0200\25\53\u01eb\u01c0\u0200\25\153\u01eb\u0195"
+            + "\u0200\53\53\u01d5\u01d8\u0200\53\53\u01d5\u01d8\u0200\43\53\u01d5\u01d8"
+            + "\u0200\53\53\u01d5\u01d8\u0200\53\53\u01d5\u01d5\u0200\0\215\u0200\u0173"
+            + "\u0200\132\122\u01af\u01a7\u0200\53\53\u01d5\u01d5\u0200\125\125\u01ab\u01ab"
+            + "\u0200\100\100\u01c0\u01c0\u0200\125\125\u01ab\u01ab\u0200\125\125\u01ab\u01ab"
+            + "\u0200\225\300\u016b\u012b\u0200\53\53\u01d5\u01d5\u0200\225\325\u016b\u0140"
+            + "\u0200\125\125\u01ab\u01ab\u0200\125\125\u01ab\u01ab\u0200\53\225\u01d5\u016b"
+            + "\u0200\25\100\u01eb\u01c0\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01eb"
+            + "\u0200\100\100\u01c0\u01eb\u0200\100\100\u01c0\u01eb\u0200\100\100\u01c0\u01eb"
+            + "\u0200\100\100\u01c0\u01eb\u0200\100\100\u01c0\u01eb\u0200\100\25\u01c0\u01d5"
+            + "\u0200\153\100\u01ab\u01ab\u0200\225\25\u0180\u01eb\u0200\207\100\u0160\u01c0"
+            + "\u0200\53\200\u01d5\u016b\u0200\200\100\u0195\u01c0\u0200\125\25\u01ab\u01eb"
+            + "\u0200\100\100\u01c0\u01c0\u0200\0\100\u0200\u01c0\u0200\0\125\u0200\u01ab"
+            + "\u0200\225\53\u016b\u01d5\u0200\225\53\u016b\u01d5\u0200\225\53\u016b\u01d5"
+            + "\u0200\225\53\u016b\u01d5\u0200\225\53\u016b\u01d5\u0200\100\100\u01c0\u01c7"
+            + "\u0200\100\25\u01c0\u01eb\u0200\53\53\u01d5\u01d5\u0200\153\53\u017a\u01d5"
+            + "\u0200\100\53\u01c0\u01d5\u0200\100\53\u01c0\u01d5\u0200\125\53\u01ab\u01d5"
+            + "\u0200\100\53\u01c0\u01d5\u0200\53\53\u01d5\u01d5\u0200\100\100\u01c0\u01c0"
+            + "\u0200\65\65\u01cb\u01cb\u0200\65\65\u01cb\u01cb\u0200\125\53\u01ab\u01d5"
+            + "\u0200\153\100\u0195\u01c0\u0200\153\100\u0195\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\0\0\u0200\u0200"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\25\100\u01eb\u01c0"
+            + "\u0200\53\53\u01d5\u01d5\u0200\153\53\u01ab\u01d5\u0200\200\53\u0195\u01d5"
+            + "\u0200\17\17\u01f1\u01f1\u0200\17\17\u01f1\u01f1\u0200\17\17\u01f1\u01f1"
+            + "\u0200\17\17\u01f1\u01f1\u0200\17\17\u01f1\u01f1\u0200\17\17\u01f1\u01f1"
+            + "\u0200\17\17\u01f1\u01f1\u0200\17\17\u01f1\u01f1\u0200\100\100\u01c0\u01c0"
+            + "\u0200\53\100\u01c0\u01c0\u0200\125\125\u01ab\u01ab\u0200\125\100\u01ab\u01c0"
+            + "\u0200\16\15\u01eb\u01ee\u0200\25\153\u01eb\u0195\u0200\53\100\u01d5\u01c0"
+            + "\u0200\53\100\u01d5\u01c0\u0200\25\125\u01eb\u01ab\u0200\100\53\u01c0\u0200"
+            + "\u0200\100\100\u01c0\u01c0\u0200\0\256\u0200\u016b\u0200\125\125\u0195\u0195"
+            + "\u0200\167\115\u0189\u01b5\u0200\100\215\u01c0\u016b\u0200\100\215\u01c0\u016b"
+            + "\u0200\153\153\u01ab\u01ab\u0200\125\125\u01ab\u01ab\u0200\25\100\u01eb\u01c0"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\125\u01d5\u01d5\u0200\53\100\u01d5\u01c0"
+            + "\u0200\153\0\u0195\u0200\u0200\153\0\u0195\u0200\u0200\53\53\u01d5\u01eb"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\100\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\100\u01d5\u01d5\u0200\100\100\u01c0\u01c0\u0200\25\100\u01eb\u01c0"
+            + "\u0200\25\100\u01eb\u01c0\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\53\125\u01d5\u01ab\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\111\153\u01c0\u0189\u0200\100\100\u01c0\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\53\u01d5\u01d5\u0200\253\200\u0149\u0180"
+            + "\u0200\267\200\u0155\u0180\u0200\25\100\u01eb\u01c0\u0200\53\53\u01c0\u01d5"
+            + "\u0200\25\100\u01eb\u01ab\u0200\125\53\u01ab\u01d5\u0200\153\153\u0195\u0195"
+            + "\u0200\100\225\u01c0\u016b\u0200\153\153\u0195\u0195\u0200\100\125\u01c0\u01ab"
+            + "\u0200\0\125\u0200\u01ab\u0200\53\53\u01d5\u01d5\u0200\0\125\u0200\u01ab"
+            + "\u0200\0\125\u0200\u01ab\u0200\0\53\u0200\u01ab\u0200\0\125\u0200\u01ab"
+            + "\u0200\0\125\u0200\u01ab\u0200\53\200\u01d5\u0180\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c9\u01c0"
+            + "\u0200\53\53\u01d5\u01d5\u0200\100\25\u01c0\u01eb\u0200\53\153\u01d5\u0195"
+            + "\u0200\0\125\u0200\u01ab\u0200\53\125\u01d5\u01ab\u0200\0\100\u0200\u01c0"
+            + "\u0200\0\100\u0200\u01c0\u0200\53\0\u01d5\u0200\u0200\53\25\u01c0\u01eb"
+            + "\u0200\53\53\u01d5\u01d5\u0200\100\53\u01c0\u0200\u0200\53\53\u01d5\u01d5"
+            + "\u0200\0\100\u0200\u01c0\u0200\53\53\u01d5\u01d5\u0200\100\100\u01c0\u01c0"
+            + "\u0200\53\125\u01d5\u01ab\u0200\53\125\u01d5\u01ab\u0200\25\25\u01eb\u01eb"
+            + "\u0200\100\200\u01c0\u0180\u0200\100\125\u01c0\u01ab\u0200\100\153\u01c0\u0195"
+            + "\u0200\100\225\u01c0\u016b\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\100\153\u01c0\u0195\u0200\100\100\u01c0\u01c0\u0200\153\100\u0195\u01c0"
+            + "\u0200\0\0\u0200\u0200\u0200\125\125\u01ab\u01ab\u0200\100\100\u01c0\u01c0"
+            + "\u0200\53\53\u01d5\u01d4\u0200\100\53\u01c0\u01d5\u0200\53\213\u01d5\u018b"
+            + "\u0200\153\100\u0195\u01c0\u0200\153\100\u0195\u01c0\u0200\53\125\u01d5\u01ab"
+            + "\u0200\125\53\u01ab\u01d5\u0200\25\53\u01eb\u01d5\u0200\25\53\u01eb\u01d5"
+            + "\u0200\100\125\u01c0\u01ab\u0200\53\100\u01d5\u01c0\u0200\125\25\u01ab\u01eb"
+            + "\u0200\100\100\u01c0\u01c0\u0200\0\125\u0200\u01ab\u0200\25\125\u01eb\u01ab"
+            + "\u0200\100\100\u01c0\u01c0\u0200\125\25\u01ab\u01eb\u0200\53\53\u01dd\u01d5"
+            + "\u0200\0\53\u0200\u01e0\u0200\45\ufffe\u01db\u01eb\u0200\125\100\u01ab\u01d5"
+            + "\u0200\100\100\u01c0\u0195\u0200\125\100\u01ab\u01eb\u0200\76\26\u0195\u01e0"
+            + "\u0200\125\100\u01ab\u01d5\u0200\125\100\u01ab\u01d5\u0200\200\25\u0195\u01e0"
+            + "\u0200\53\125\u01d5\u01ab\u0200\100\100\u01c0\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\25\25\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\200\25\u0180\u01eb\u0200\53\100\u01d5\u01c0\u0200\111\153\u01c0\u0189"
+            + "\u0200\11\153\u01f9\u0189\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\125\u01d5\u01eb\u0200\125\300\u01ab\u0140\u0200\100\125\u01c0\u01ab"
+            + "\u0200\25\100\u01eb\u01c0\u0200\100\100\u01c0\u01c0\u0200\153\53\u0195\u01d5"
+            + "\u0200\153\153\u0195\u0195\u0200\53\125\u01d5\u01ab\u0200\125\53\u01ab\u01eb"
+            + "\u0200\125\125\u01ab\u01ab\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\100\100\u01c0\u01c0\u0200\125\100\u01b5\u01c0\u0200\100\100\u01c0\u01eb"
+            + "\u0200\100\100\u01c0\u01eb\u0200\100\100\u01c0\u01eb\u0200\100\100\u01c0\u01eb"
+            + "\u0200\53\100\u01d5\u01c0\u0200\100\100\u01c0\u01c0\u0200\200\267\u0180\u0155"
+            + "\u0200\200\253\u0180\u0149\u0200\100\100\u01c0\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\125\200\u0195\u0195\u0200\53\200\u01c0\u0195"
+            + "\u0200\125\200\u01ab\u0195\u0200\53\200\u01d5\u0195\u0200\250\200\u0159\u0195"
+            + "\u0200\53\53\u01eb\u01eb\u0200\53\53\u01d5\u01d5\u0200\125\200\u01cb\u0180"
+            + "\u0200\65\200\u01ab\u0180\u0200\53\71\u01d5\u01c0\u0200\53\71\u01d5\u01c0"
+            + "\u0200\25\100\u01eb\u01c0\u0200\25\100\u01eb\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\25\100\u01eb\u01c0\u0200\125\125\u01ab\u01ab\u0200\53\125\u01d5\u01ab"
+            + "\u0200\53\125\u01d5\u01ab\u0200\25\125\u01eb\u01ab\u0200\153\125\u0195\u01c0"
+            + "\u0200\153\125\u0195\u01c0\u0200\25\25\u01eb\u01eb\u0200\25\25\u01eb\u01eb"
+            + "\u0200\25\25\u01eb\u01eb\u0200\25\25\u01eb\u01eb\u0200\25\25\u01eb\u01eb"
+            + "\u0200\25\25\u01eb\u01eb\u0200\25\25\u01eb\u01eb\u0200\25\25\u01eb\u01eb"
+            + "\u0200\25\25\u01eb\u01eb\u0200\25\25\u01eb\u01eb\u0200\25\25\u01eb\u01eb"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\0\125\u0200\u01ab"
+            + "\u0200\53\53\u01d5\u0200\u0200\25\200\u01eb\u0180\u0200\100\200\u01c0\u0180"
+            + "\u0200\25\25\u01eb\u01eb\u0200\54\54\u01d4\u01d4\u0200\61\21\u01cf\u01ef"
+            + "\u0200\125\53\u01ab\u01d5\u0200\125\66\u01ca\u01ab\u0200\76\53\u01c4\u01d5"
+            + "\u0200\200\200\u0189\u0180\u0200\53\53\u01d5\u01d5\u0200\153\100\u01ab\u01ab"
+            + "\u0200\25\25\u01eb\u01eb\u0200\100\25\u01da\u01d5\u0200\53\53\u0195\u01d5"
+            + "\u0200\225\53\u016b\u01d5\u0200\53\53\u01c0\u01d5\u0200\65\100\u01cb\u01d5"
+            + "\u0200\47\100\u01da\u01b4\u0200\100\25\u01c0\u01eb\u0200\100\100\u01c0\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\125\u01d5\u01ab\u0200\53\125\u01d5\u01ab"
+            + "\u0200\53\125\u01d5\u01ab\u0200\53\125\u01d5\u01ab\u0200\53\53\u01d5\u01d5"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\225\200\u017b\u01ab\u0200\53\100\u01ab\u0195"
+            + "\u0200\0\0\u0200\u0200\u0200\125\75\u01a8\u01bc\u0200\0\0\u0200\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\200\200\u0180\u01ab"
+            + "\u0200\40\113\u01d5\u01b5\u0200\65\140\u01c0\u01a0\u0200\53\125\u01c0\u01ab"
+            + "\u0200\125\53\u01c0\u01d5\u0200\153\225\u0195\u016b\u0200\25\25\u01eb\u01eb"
+            + "\u0200\100\153\u01d5\u01ab\u0200\100\153\u01c0\u01ab\u0200\153\53\u01c0\u01d5"
+            + "\u0200\125\53\u01ab\u01d5\u0200\153\100\u0195\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\125\125\u01ab\u01ab\u0200\125\100\u01ab\u01eb\u0200\125\100\u01ab\u01eb"
+            + "\u0200\125\100\u01ab\u01eb\u0200\125\100\u01d5\u01c0\u0200\153\153\u0195\u0195"
+            + "\u0200\153\153\u0195\u0195\u0200\200\125\u0180\u01ab\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5\u0200\25\25\u01da\u01eb"
+            + "\u0200\75\100\u01c0\u01c0\u0200\153\125\u0195\u01c0\u0200\153\300\u0195\u0140"
+            + "\u0200\125\53\u01c0\u01d5\u0200\25\25\u01eb\u01eb\u0200\25\25\u01eb\u01eb"
+            + "\u0200\25\25\u01eb\u01eb\u0200\53\100\u01d5\u01d5\u0200\100\100\u01c0\u01c0"
+            + "\u0200\125\125\u01ab\u01ab\u0200\100\53\u01c0\u01d5\u0200\0\0\u01e5\u01e5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\25\153\u01eb\u0195\u0200\0\200\u0200\u0195"
+            + "\u0200\53\53\u01d5\u01d5\u0200\100\100\u01c0\u01c0\u0200\36\36\u01cd\u01cb"
+            + "\u0200\100\300\u01c0\u0140\u0200\25\200\u01eb\u0180\u0200\25\200\u01eb\u0180"
+            + "\u0200\100\125\u01c0\u01eb\u0200\100\25\u01c0\u01eb\u0200\52\52\u01d5\u01d5"
+            + "\u0200\100\53\u01c0\u01e6\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\100\125\u01c0\u01ab\u0200\113\53\u01b5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\25\100\u01d5\u01c0\u0200\53\125\u01d5\u01c0\u0200\53\53\u01d5\u01c0"
+            + "\u0200\25\125\u01eb\u0195\u0200\200\53\u0180\u01d5\u0200\200\53\u0180\u01d5"
+            + "\u0200\25\300\u01eb\u0140\u0200\125\53\u01ab\u01eb\u0200\100\100\u01c0\u01c0"
+            + "\u0200\53\125\u01d5\u01ab\u0200\25\65\u01eb\u01a0\u0200\153\100\u0195\u01c0"
+            + "\u0200\0\53\u0200\u01d5\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5\u0200\25\100\u01eb\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\53\u01d5\u01d5\u0200\125\53\u01ab\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\100\100\u01c0\u01eb\u0200\53\225\u01d5\u016b"
+            + "\u0200\100\100\u01c0\u01c0\u0200\125\64\u01ab\u01d0\u0200\100\40\u01c0\u01d0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\153\u01d5\u0195\u0200\200\273\u0180\u0159"
+            + "\u0200\253\213\u0149\u018b\u0200\267\205\u0155\u0185\u0200\200\267\u0180\u0155"
+            + "\u0200\100\200\u01c0\u0180\u0200\200\200\u0180\u0189\u0200\53\25\u01d5\u01c0"
+            + "\u0200\53\200\u01c0\u0180\u0200\25\200\u01d5\u0180\u0200\153\53\u0195\u01c0"
+            + "\u0200\125\53\u01ab\u01d5\u0200\100\153\u01d5\u0195\u0200\100\153\u01d5\u0195"
+            + "\u0200\25\200\u01eb\u0180\u0200\53\53\u01d5\u01d5\u0200\0\125\u0200\u01ab"
+            + "\u0200\0\125\u0200\u01c0\u0200\0\125\u0200\u01c0\u0200\0\125\u0200\u01c0"
+            + "\u0200\167\200\u0180\u0180\u0200\100\100\u01c0\u01c0\u0200\100\77\u01c0\u01d5"
+            + "\u0200\53\77\u01d5\u01eb\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\153\53\u0195\u01d5\u0200\100\125\u01c0\u01ab"
+            + "\u0200\100\125\u01c0\u01ab\u0200\53\313\u01d5\u0135\u0200\53\225\u01d5\u016b"
+            + "\u0200\53\53\u01d5\u01d5\u0200\100\225\u01c0\u016b\u0200\100\25\u01c0\u01d5"
+            + "\u0200\25\53\u01eb\u01d5\u0200\53\125\u01d5\u01ab\u0200\53\53\u01c0\u01d5"
+            + "\u0200\53\125\u01d5\u01ab\u0200\100\100\u01c0\u01c0\u0200\53\100\u01d5\u01c0"
+            + "\u0200\100\25\u01c0\u01ef\u0200\53\125\u01d5\u01ab\u0200\72\72\u01d6\u01c1"
+            + "\u0200\100\53\u01c0\u01d5\u0200\100\53\u01c0\u01eb\u0200\125\100\u01b5\u01c0"
+            + "\u0200\25\53\u01c0\u01d5\u0200\100\100\u01c0\u01c0\u0200\25\125\u01eb\u0195"
+            + "\u0200\125\53\u01ab\u01d5\u0200\100\37\u01c0\u01d5\u0200\100\53\u01c0\u01eb"
+            + "\u0200\125\100\u01ab\u01c0\u0200\53\53\u01d5\u01d5\u0200\200\100\u0195\u01c0"
+            + "\u0200\100\100\u01c0\u01eb\u0200\100\100\u01c0\u01c0\u0200\100\53\u01c0\u01d5"
+            + "\u0200\53\125\u01d5\u01ab\u0200\53\125\u01d5\u01ab\u0200\53\100\u01d5\u01c0"
+            + "\u0200\53\125\u01d5\u01d5\u0200\25\125\u01eb\u01ab\u0200\100\100\u01c0\u01c0"
+            + "\u0200\100\100\u01c0\u01d5\u0200\25\25\u01eb\u01eb\u0200\53\53\u01ab\u01d5"
+            + "\u0200\153\53\u0195\u01d5\u0200\25\25\u01eb\u01eb\u0200\125\53\u01ab\u01eb"
+            + "\u0200\125\53\u01ab\u01eb\u0200\125\53\u01ab\u01eb\u0200\25\225\u01eb\u0180"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\125\25\u01ab\u01eb\u0200\53\53\u01d5\u01d5\u0200\53\125\u01d5\u0195"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\125\u01d5\u01ab\u0200\53\125\u01d5\u01ab"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\125\u01d5\u01ab\u0200\53\53\u01d5\u0200"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\200\u01c0\u0180\u0200\167\115\u0189\u01b5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\153\100\u0195\u01d5\u0200\153\100\u0195\u01d5"
+            + "\u0200\100\100\u01c0\u01d5\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\53\u01d5\u01d5\u0200\127\100\u01a9\u01c0"
+            + "\u0200\53\100\u01d5\u01c0\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\0\100\u0200\u01c0\u0200\125\325\u01ab\u012b\u0200\325\125\u012b\u01ab"
+            + "\u0200\0\153\u0200\u0195\u0200\125\25\u01ab\u01e9\u0200\100\100\u01c0\u01c0"
+            + "\u0200\53\125\u01d5\u01ab\u0200\53\125\u01d5\u01ab\u0200\53\125\u01d5\u01ab"
+            + "\u0200\53\166\u01d5\u0195\u0200\200\100\u0180\u01c0\u0200\25\100\u01eb\u01c0"
+            + "\u0200\25\25\u01eb\u01eb\u0200\153\53\u0199\u01d2\u0200\53\53\u01d9\u01d2"
+            + "\u0200\253\200\u0149\u0180\u0200\267\200\u0155\u0180\u0200\140\100\u01a0\u01d5"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\53\u01d5\u01d5\u0200\25\125\u01eb\u01aa"
+            + "\u0200\25\53\u01eb\u01eb\u0200\10\66\u01f8\u01c0\u0200\25\41\u01eb\u01df"
+            + "\u0200\53\53\u01d5\u01c0\u0200\53\53\u01d5\u01d5\u0200\100\25\u01c0\u01eb"
+            + "\u0200\63\35\u01c3\u01c0\u0200\53\53\u01d5\u01d5\u0200\53\125\u01d5\u01ab"
+            + "\u0200\125\53\u01ab\u01d5\u0200\125\53\u01ab\u01cb\u0200\53\53\u01d5\u01cb"
+            + "\u0200\125\53\u01ab\u01cb\u0200\125\53\u01c0\u01cb\u0200\125\53\u01ab\u01cb"
+            + "\u0200\53\53\u01d5\u01d5\u0200\25\100\u01eb\u01c0\u0200\125\62\u01ab\u01ce"
+            + "\u0200\100\125\u01c0\u01ab\u0200\100\100\u01c0\u01c0\u0200\25\25\u01eb\u01eb"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\125\u01d5\u01ab\u0200\100\100\u01c0\u01c0"
+            + "\u0200\25\0\u01eb\u0200\u0200\25\125\u01eb\u01ab\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\125\u01d5\u01ab\u0200\125\53\u01ab\u01d5\u0200\53\125\u01d5\u01ab"
+            + "\u0200\53\125\u01d5\u01d5\u0200\200\153\u0180\u0195\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\125\u01d5\u01ab\u0200\25\153\u01eb\u0195"
+            + "\u0200\25\153\u01eb\u0195\u0200\53\100\u01d5\u01c0\u0200\100\100\u01c0\u01eb"
+            + "\u0200\0\0\u01fe\u0200\u0200\153\25\u0195\u01eb\u0200\125\125\u01ab\u01ab"
+            + "\u0200\0\53\u0200\u01d5\u0200\100\100\u01c0\u01c0\u0200\0\53\u0200\u01c0"
+            + "\u0200\125\125\u01ab\u01ab\u0200\25\125\u01eb\u01ab\u0200\125\125\u01ab\u01ab"
+            + "\u0200\100\25\u01c0\u01d5\u0200\153\53\u0195\u01d5\u0200\25\100\u01eb\u01c0"
+            + "\u0200\53\52\u01d5\u01c0\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01eb"
+            + "\u0200\100\100\u01eb\u01eb\u0200\100\100\u01c0\u01c0\u0200\153\25\u0180\u01eb"
+            + "\u0200\100\100\u01c0\u01eb\u0200\0\103\u0200\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\0\125\u0200\u01ab\u0200\100\25\u01c0\u01eb\u0200\125\25\u01c0\u01eb"
+            + "\u0200\0\43\u0200\u01dd\u0200\53\25\u01d5\u01eb\u0200\76\25\u01c0\u01eb"
+            + "\u0200\100\100\u01c0\u01c0\u0200\125\53\u01ab\u01d5\u0200\53\125\u01d5\u01d5"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\53\u01d5\u01d5\u0200\25\100\u01eb\u01c0"
+            + "\u0200\25\100\u01eb\u01c0\u0200\25\100\u01eb\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\25\100\u01eb\u01c0\u0200\25\100\u01eb\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\153\53\u0195\u01d5\u0200\153\53\u0195\u01d5"
+            + "\u0200\253\153\u0195\u0195\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\200\125\u0180\u0195\u0200\53\125\u01d5\u0180\u0200\53\125\u01eb\u0180"
+            + "\u0200\53\153\u01d5\u0195\u0200\125\200\u0195\u0195\u0200\100\100\u01c0\u01c0"
+            + "\u0200\13\125\u01f5\u01ab\u0200\53\100\u01d5\u01c0\u0200\53\65\u01d5\u01d5"
+            + "\u0200\100\100\u01c0\u01c0\u0200\200\100\u0180\u01c0\u0200\53\300\u01c0\u0140"
+            + "\u0200\100\100\u01c0\u01c0\u0200\253\53\u0155\u01d5\u0200\25\100\u01eb\u01c0"
+            + "\u0200\53\100\u01d5\u01c0\u0200\325\100\u012b\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\153\125\u0195\u01ab\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\100\125\u01d5\u0180\u0200\25\40\u0200\u01c0"
+            + "\u0200\53\53\u01d5\u01eb\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\100\53\u01c0\u01d5\u0200\25\153\u01eb\u0195"
+            + "\u0200\25\100\u01ea\u01d5\u0200\53\100\u01d5\u01d5\u0200\41\253\u01d5\u016b"
+            + "\u0200\126\125\u01ab\u01ab\u0200\153\353\u0195\u0115\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\25\100\u01eb\u01c0\u0200\25\140\u01eb\u01a0"
+            + "\u0200\0\0\u01e5\u01e5\u0200\100\153\u01c0\u0195\u0200\100\53\u01c0\u01d5"
+            + "\u0200\100\53\u01c0\u01d5\u0200\125\100\u01ab\u01eb\u0200\125\100\u01ab\u01eb"
+            + "\u0200\125\100\u01ab\u01eb\u0200\125\100\u01ab\u01eb\u0200\100\125\u01c0\u0195"
+            + "\u0200\0\125\u0200\u0195\u0200\100\100\u01c0\u01c0\u0200\25\100\u01eb\u01d5"
+            + "\u0200\100\53\u01c0\u01d5\u0200\72\72\u01d6\u01c1\u0200\25\100\u01d5\u01c0"
+            + "\u0200\125\53\u01ab\u01d5\u0200\0\103\u0200\u01d5\u0200\153\53\u0195\u01d5"
+            + "\u0200\53\153\u01d5\u0195\u0200\22\53\u01d5\u01f0\u0200\127\127\u01ab\u01eb"
+            + "\u0200\125\127\u01a9\u01eb\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0"
+            + "\u0200\125\0\u01c0\u01eb\u0200\125\125\u01a1\u01a1\u0200\125\53\u01d5\u01d5"
+            + "\u0200\100\100\u01c0\u01c0\u0200\100\100\u01c0\u01c0\u0200\100\125\u01c0\u0195"
+            + "\u0200\53\53\u01d5\u01d5\u0200\25\100\u01eb\u01c0\u0200\25\153\u01eb\u0195"
+            + "\u0200\153\25\u0195\u01eb\u0200\25\25\u01fa\u0200\u0200\1\0\u01ff\u0200"
+            + "\u0200\0\125\u0200\u01ab\u0200\125\53\u01ab\u01d5\u0200\125\53\u01ab\u01d5"
+            + "\u0200\100\113\u01b5\u01c0\u0200\100\25\u01c0\u01eb\u0200\100\100\u01c0\u01c0"
+            + "\u0200\53\100\u01eb\u01c0\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\55\53\u01d3\u01d5\u0200\100\100\u01c0\u01c0\u0200\0\100\u01c0\u01c0"
+            + "\u0200\153\0\u017a\u0200\u0200\25\100\u01eb\u01c0\u0200\200\0\u0180\u0200"
+            + "\u0200\21\165\u01ef\u018b\u0200\25\42\u01eb\u01eb\u0200\25\25\u01eb\u01eb"
+            + "\u0200\25\25\u01eb\u01eb\u0200\153\53\u0195\u01d5\u0200\25\25\u01eb\u01eb"
+            + "\u0200\25\100\u01eb\u01c0\u0200\100\100\u01c0\u01c0\u0200\125\0\u01ab\u01d5"
+            + "\u0200\132\25\u01a6\u0200\u0200\25\100\u01eb\u01c0\u0200\153\0\u0195\u01eb"
+            + "\u0200\100\54\u01c0\u01d5\u0200\53\100\u01d5\u01d5\u0200\25\53\u01eb\u01eb"
+            + "\u0200\25\100\u01eb\u01d5\u0200\25\53\u01c0\u01d5\u0200\125\300\u01ab\u0140"
+            + "\u0200\53\166\u01d5\u018a\u0200\125\125\u01ab\u01ab\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d5\u0200\63\35\u01c3\u01c0\u0200\53\53\u01d5\u01d5"
+            + "\u0200\25\25\u01d5\u01eb\u0200\10\66\u01f8\u01c0\u0200\11\53\u0200\u01c0"
+            + "\u0200\10\66\u01f8\u01e1\u0200\125\53\u01ab\u01d5\u0200\125\53\u01ab\u01d5"
+            + "\u0200\200\200\u0180\u0180\u0200\200\200\u0180\u0180\u0200\100\100\u01c0\u01c0"
+            + "\u0200\54\54\u01d5\u01d4\u0200\153\25\u0195\u01eb\u0200\53\25\u01d5\u01d5"
+            + "\u0200\53\153\u01d5\u01d5\u0200\53\53\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\53\53\u01d5\u01d8\u0200\100\200\u01c0\u0180\u0200\42\61\u01d2\u01cf"
+            + "\u0200\53\53\u01d5\u01d5\u0200\125\300\u01ab\u0140\u0200\153\53\u0195\u01d5"
+            + "\u0200\125\25\u01ab\u01eb\u0200\53\53\u01d5\u01d5\u0200\0\6\u01d5\u01db"
+            + "\u0200\133\53\u01a5\u01eb\u0200\64\40\u01eb\u01c0\u0200\53\100\u01d5\u01d5"
+            + "\u0200\53\100\u01d5\u01d5\u0200\53\100\u01d5\u01d5\u0200\53\53\u01d5\u01d5"
+            + "\u0200\25\153\u01eb\u0195\u0200\153\25\u0195\u01eb\u0200\25\153\u01eb\u0195"
+            + "\u0200\153\25\u0195\u01eb\u0200\200\200\u0180\u0180\u0200\0\33\u0200\u01db"
+            + "\u0200\53\125\u01d5\u01ab\u0200\100\125\u01c0\u01ab\u0200\100\125\u01c0\u01ab"
+            + "\u0200\25\200\u01eb\u0180\u0200\100\100\u01eb\u01eb\u0200\100\200\u01c0\u01c0"
+            + "\u0200\30\60\u01dd\u01c5\u0200\153\100\u01ab\u01ab\u0200\125\100\u0195\u01ab"
+            + "\u0200\125\153\u01ab\u0195\u0200\53\53\u01d5\u01d5\u0200\53\125\u01d5\u01ab"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\153\u01d5\u0195\u0200\53\125\u01d5\u01ab"
+            + "\u0200\53\153\u01d5\u01ab\u0200\100\153\u01c0\u0195\u0200\153\100\u0195\u01c0"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\125\u01d5\u01d5\u0200\53\153\u01d5\u0195"
+            + "\u0200\125\25\u01ab\u01eb\u0200\75\75\u01ab\u01ab\u0200\100\125\u01c0\u01ab"
+            + "\u0200\153\25\u0195\u01eb\u0200\25\65\u01eb\u01b5\u0200\25\100\u01eb\u01c0"
+            + "\u0200\25\100\u01eb\u01c0\u0200\25\125\u01eb\u01ab\u0200\53\0\u01c0\u0200"
+            + "\u0200\53\53\u01d5\u01d5\u0200\53\25\u0195\u01eb\u0200\25\200\u01eb\u0180"
+            + "\u0200\65\153\u01cb\u01ab\u0200\153\153\u0195\u01ab\u0200\53\53\u01d5\u01d5"
+            + "\u0200\100\100\u01c0\u01c0\u0200\125\100\u01ab\u01c0\u0200\25\25\u01eb\u01c0"
+            + "\u0200\25\100\u01eb\u01eb\u0200\0\0\u0200\u0200\u0200\100\125\u01c0\u01ab"
+            + "\u0200\53\53\u01d5\u01d5\u0200\25\200\u01eb\u0180\u0200\100\53\u01c0\u01eb"
+            + "\u0200\0\176\u0200\u0182\u0200\131\176\u01c2\u0182\u0200\45\25\u01c0\u01eb"
+            + "\u0200\153\153\u0195\u01ab\u0200\100\225\u01c0\u016b\u0200\100\100\u01c0\u01eb"
+            + "\u0200\25\125\u01eb\u01ab\u0200\53\53\u01d5\u01d5\u0200\145\0\u01a5\u01c0"
+            + "\u0200\25\25\u01eb\u01eb\u0200\53\53\u01d5\u01d5\u0200\125\100\u01ab\u01c0"
+            + "\u0200\125\100\u01ab\u01d5\u0200\153\53\u0195\u01d5\u0200\53\25\u01d5\u01e0"
+            + "\u0200\53\25\u01d5\u01eb\u0200\25\53\u01eb\u01d5\u0200\53\200\u01d5\u0180"
+            + "\u0200\100\253\u01d5\u0155\u0200\53\200\u01d5\u0180\u0200\100\100\u01c0\u01c0"
+            + "\u0200\153\100\u0195\u01c0\u0200\153\100\u0195\u01c0\u0200\25\100\u01eb\u01c0"
+            + "\u0200\100\100\u01c0\u01c0\u0200\53\253\u01df\u016b\u0200\236\125\u0162\u01ab"
+            + "\u0200\236\100\u0162\u01c0\u0200\100\100\u01c0\u01c0\u0200\146\46\u0195\u01eb"
+            + "\u0200\100\25\u01c0\u01eb\u0200\125\100\u01ab\u01c0\u0200\125\25\u01ab\u01eb"
+            + "\u0200\125\100\u01ab\u01c0\u0200\0\100\u0200\u01c0\u0200\100\200\u01c0\u0180"
+            + "\u0200\25\100\u01eb\u01c0\u0200\53\53\u01d5\u01d5\u0200\100\200\u01c0\u0180"
+            + "\u0200\53\100\u01c0\u01d5\u0200\25\200\u01eb\u0180\u0200\53\100\u01c0\u01c0"
+            + "\u0200\125\200\u01c0\u0195\u0200\53\153\u01d5\u01ab\u0200\125\200\u01c0\u0195"
+            + "\u0200\100\153\u01d5\u0195\u0200\100\153\u01d5\u0195\u0200\53\100\u01c0\u01c0"
+            + "\u0200\125\153\u01ab\u0195\u0200\125\153\u01c0\u0195\u0200\125\200\u01c0\u0195"
+            + "\u0200\125\200\u01c0\u0195\u0200\125\200\u01c0\u0195\u0200\53\153\u01c0\u0195"
+            + "\u0200\25\100\u01eb\u01c0\u0200\25\140\u01eb\u01a0\u0200\25\53\u01ea\u01c0"
+            + "\u0200\53\53\u01d5\u01d5\u0200\0\225\u0200\u0180\u0200\153\125\u018b\u01ab"
+            + "\u0200\225\125\u0155\u01ab\u0200\100\100\u01c0\u01c0\u0200\100\105\u01c0\u01bb"
+            + "\u0200\25\200\u01eb\u0180\u0200\25\25\u01eb\u01eb\u0200\53\53\u01d5\u01d5"
+            + "\u0200\25\100\u01eb\u01d5\u0200\125\0\u01ab\u0200\u0200\53\53\u01d5\u01d5"
+            + "\u0200\0\125\u01fc\u01ab\u0200\0\125\u0200\u01ab\u0200\25\41\u01eb\u01e0"
+            + "\u0200\114\41\u01b4\u01f4\u0200\25\41\u01eb\u01f4\u0200\125\53\u01c0\u01d5"
+            + "\u0200\53\125\u01d5\u01ab\u0200\100\125\u01c0\u01ab\u0200\25\153\u01eb\u0195"
+            + "\u0200\125\53\u01ab\u01f2\u0200\100\100\u01dc\u01dc\u0200\25\125\u01eb\u01a1"
+            + "\u0200\0\53\u0200\u01d5\u0200\53\62\u01d5\u01c0\u0200\53\100\u01d5\u01d5"
+            + "\u0200\125\100\u01c0\u0195\u0200\53\113\u01d5\u01c0\u0200\100\113\u01b5\u01c0"
+            + "\u0200\100\113\u01b5\u01c0\u0200\100\100\u01c0\u01c0");
+}
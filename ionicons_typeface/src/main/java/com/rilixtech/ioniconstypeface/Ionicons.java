@@ -2,12 +2,13 @@ package com.rilixtech.ioniconstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Ionicons font. It hosts a variety of icons that can be used by
@@ -24,7 +25,6 @@ public class Ionicons implements MfbTypeface {
     public static final String IONICONS_LICENSE = "MIT Licensed";
     public static final String IONICONS_LICENSE_URL = "https://github.com/driftyco/ionicons/blob/master/LICENSE";
 
-    private static Font ioniconsTypeface = null;
     private static HashMap<String, Character> ioniconsCharMap;
 
     /**
@@ -33,7 +33,21 @@ public class Ionicons implements MfbTypeface {
      * @param key Key for which Ionicons MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No Ionicons icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * Ionicons MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which Ionicons MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -43,15 +57,29 @@ public class Ionicons implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (ioniconsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                setChars(characterHashMap, v);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return ioniconsCharMap;
     }
 
+    /**
+     * Get the compact table of all the Ionicons icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all Ionicons icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the Ionicons icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all Ionicons icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return IoniconsMetrics.GLYPH_METRICS;
+    }
+
     private static void setChars(HashMap<String, Character> characterHashMap) {
         ioniconsCharMap = characterHashMap;
     }
@@ -81,15 +109,11 @@ public class Ionicons implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return ioniconsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> ioniconsKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            ioniconsKeyList.add(value.name());
-        }
-        return ioniconsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -114,18 +138,7 @@ public class Ionicons implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (ioniconsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return ioniconsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        ioniconsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -754,6 +767,9 @@ public class Ionicons implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface ioniconsTypeface;
 
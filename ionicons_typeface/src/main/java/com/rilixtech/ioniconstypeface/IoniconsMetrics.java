@@ -0,0 +1,215 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.ioniconstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of ionicons.ttf for the Ionicons icons, in ordinal order.
+ */
+final class IoniconsMetrics {
+
+    private IoniconsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(512, 448, -64, ""
+            + "\200\0\uffe0\200\u01a0\u01c0\1\0\u01bf\u0180\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\40\u01c0\u0160\u0180\0\0\u0180\u0180\u0140\0\140\u0140\u0120"
+            + "\u0112\0\20\u0112\u0170\u0140\0\40\u0140\u0160\u01c0\0\100\u01c0\u0140"
+            + "\u01c0\0\100\u01c0\u0140\u01c0\0\100\u01c0\u0140\u01c0\0\100\u01c0\u0140"
+            + "\u0180\0\0\u0180\u0180\300\0\40\300\u0160\u0160\0\67\u0160\u0149"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u0140\0\40\u0140\u0160\u0180\0\40\u0180\u0160"
+            + "\u0180\0\40\u0180\u0160\u0180\0\0\u0180\u0180\300\0\40\300\u0160"
+            + "\u0160\0\67\u0160\u0149\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0140\0\140\u0140\u0120\u0112\0\20\u0112\u0170"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u0200\0\20\u0200\u0170"
+            + "\u0200\0\20\u0200\u0170\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\100\u01c0\u0140"
+            + "\u01c0\0\100\u01c0\u0140\u01c0\0\100\u01c0\u0140\u01c0\0\100\u01c0\u0140"
+            + "\u01c0\0\100\u01c0\u0140\u0180\0\uffe0\u0180\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u0100\1\uffe0\375\u01a0\u0180\0\uffe0\u0180\u01a0\300\0\0\300\u0180"
+            + "\u01c0\0\60\u01c0\u0150\u01c0\0\0\u01c0\u0180\u01c0\0\0\u01c0\u0180"
+            + "\u0140\0\uffe0\u0140\u01a0\u01c0\0\uffe0\u01c0\u01a0\u01a0\0\40\u01a0\u0160"
+            + "\u01c0\0\40\u01c0\u0160\u0200\0\40\u0200\u0160\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190\u01a0\0\0\u01a0\u0180"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01a0\0\1\u01a0\u017f\u01c0\3\100\u01bd\u013d"
+            + "\u0100\0\uffe3\375\u019d\u0100\3\uffe3\u0100\u019d\u01c0\3\103\u01bd\u0140"
+            + "\u0160\0\uffe0\u0160\u01a0\u01c0\0\uffe0\u01c0\u01a0\u0180\0\0\u0180\u0180"
+            + "\u01c0\0\uffdf\u01c0\u019f\u0180\0\0\u0180\u0180\u0200\0\0\u0200\u0180"
+            + "\u01c0\0\60\u01c0\u0150\u01c0\0\70\u01c0\u0148\u01c0\0\70\u01c0\u0148"
+            + "\u01c0\0\70\u01c0\u0148\u0180\0\0\u0180\u0180\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u0180\0\0\u017b\u017b\u0160\0\40\u0160\u0160\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u0120\0\0\u0120\u0180\u0120\0\0\u0120\u0180\u0200\0\120\u0200\u0130"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c1\u01a1"
+            + "\u0140\0\uffe0\u0140\u01a0\u0140\0\40\u0140\u0160\u01a0\0\100\u01a0\u0140"
+            + "\u01e0\0\40\u01e0\u0160\u0180\0\uffe0\u0180\u01a0\u0180\2\0\u017e\u0180"
+            + "\u01c0\0\100\u01c0\u0140\u01c0\0\0\u01c0\u0180\u0100\0\uffe0\u0100\u01a0"
+            + "\u0180\1\40\u017f\u0160\u01a0\0\0\u01a0\u0180\u0140\0\uffe0\u0140\u01a0"
+            + "\u0180\0\uffe0\u0180\u01a0\u0100\1\uffe0\u0100\u01a0\u0140\0\uffe0\u0140\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u0180\0\40\u0180\u0160\200\0\uffe0\200\u01a0"
+            + "\u0140\0\uffe0\u0140\u01a0\u0180\0\60\u0180\u0150\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0140\0\40\u0140\u0160"
+            + "\u0140\0\uffe0\u0140\u01a0\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u0180\1\uffe0\u017f\u01a0\u01a0\0\0\u01a0\u0180\u01a0\0\0\u01a0\u0180"
+            + "\u0100\0\ufff1\u0100\u018f\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u0180\0\0\u0180\u0180\u0140\0\uffe0\u0140\u01a0\u01c0\0\0\u01c0\u0180"
+            + "\u01c0\0\0\u01c0\u0180\200\0\ufff0\200\u0190\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01a0\0\ufff0\u01a0\u0190\u0194\0\ufffa\u0194\u0186\u0194\0\ufffa\u0194\u0186"
+            + "\u01c0\0\0\u01c0\u0180\u01c0\0\0\u01c0\u0180\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01a0\0\ufff0\u01a0\u0190\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\300\0\40\300\u0160\u0140\0\140\u0140\u0120\300\0\40\300\u0160"
+            + "\300\0\40\300\u0160\300\0\40\300\u0160\300\2\40\300\u0160"
+            + "\u0140\0\140\u0140\u011e\u0140\0\140\u0140\u011e\300\2\40\300\u0160"
+            + "\u0140\0\140\u0140\u0120\u0100\0\71\u0100\u0147\377\0\71\377\u0147"
+            + "\u01a0\0\100\u01a0\u0140\u01a0\0\100\u01a0\u0140\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\uffe0\u0180\u01a0"
+            + "\u0180\0\uffe0\u0180\u01a0\342\0\0\342\u0180\342\0\0\342\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u01a2\0\0\u01a2\u0180"
+            + "\u01a2\0\0\u01a2\u0180\u0140\0\60\u0140\u0150\u0140\0\60\u0140\u0150"
+            + "\u01a0\0\0\u01a0\u0180\u01a0\0\0\u01a0\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0120\0\0\u0120\u0180\u0120\0\0\u0120\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\60\u0180\u0150"
+            + "\u0180\0\60\u0180\u0150\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190\u0180\0\40\u0180\u0160"
+            + "\u0180\0\40\u0180\u0160\u01a0\0\ufff0\u01a0\u0190\317\0\162\317\u010f"
+            + "\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190"
+            + "\300\0\140\300\u0120\u01a0\0\ufff0\u01a0\u0190\u01c0\0\60\u01c0\u0150"
+            + "\u01c0\0\uffee\u01c0\u0192\u01c0\0\uffee\u01c0\u0192\u01c0\0\60\u01c0\u0150"
+            + "\u01c0\0\0\u01c0\u0180\u01c0\0\0\u01c0\u0180\u0112\0\140\u0112\u0120"
+            + "\u0180\0\57\u0180\u0150\u0180\0\60\u0180\u0150\u0112\0\140\u0112\u0120"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\20\u0180\u0170"
+            + "\u0180\0\20\u0180\u0170\u018c\0\ufffe\u018c\u0182\u0180\0\10\u0180\u0180"
+            + "\u0180\0\20\u0180\u0180\u0180\0\20\u0180\u0180\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01a0\0\ufff0\u01a0\u0190\u0120\0\0\u0120\u0180\u0120\0\0\u0120\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0140\0\0\u0140\u0180"
+            + "\u0140\0\0\u0140\u0180\u0160\0\200\u0160\u0100\u0180\0\100\u0180\u0140"
+            + "\u0180\0\100\u0180\u0140\u0180\0\120\u0180\u0130\u0180\0\120\u0180\u0130"
+            + "\u01c0\0\100\u01c0\u0140\u01c0\0\100\u01c0\u0140\u0160\0\100\u0160\u0140"
+            + "\u0160\0\100\u0160\u0140\u0190\0\30\u0190\u0168\u0190\0\30\u0190\u0168"
+            + "\u0100\0\40\u0100\u0160\u0100\0\40\u0100\u0160\u0100\0\uffe0\377\u01a0"
+            + "\u0100\0\uffe0\377\u01a0\u0180\0\uffe0\u0180\u01a0\u0180\0\uffe0\u0180\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\0\u01c0\u0180"
+            + "\u01c0\0\0\u01c0\u0180\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01c0\0\122\u01c0\u012e\u01c0\0\122\u01c0\u012e\u01c0\0\40\u01c0\u0160"
+            + "\u01c0\0\40\u01c0\u0160\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u01c0\0\144\u01c0\u011c\u01c0\0\144\u01c0\u011c\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u01c0\0\20\u01c0\u0170\u01c0\0\20\u01c0\u0170"
+            + "\u01a0\0\ufff0\u01a0\u0190\200\0\122\200\u012e\u01a0\0\ufff0\u01a0\u0190"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u01d0\0\130\u01d0\u0128"
+            + "\u01c0\0\140\u01c0\u0120\u01a0\0\ufff0\u01a0\u0190\100\0\140\100\u0128"
+            + "\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0120\0\uffe0\u0120\u01a0\u0120\0\uffe0\u0120\u01a0"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0120\0\uffe0\u0120\u01a0"
+            + "\u0120\0\uffe0\u0120\u01a0\u0140\0\ufff0\u0140\u0190\u0140\0\ufff0\u0140\u0190"
+            + "\u01e9\0\ufff4\u01e9\u018c\u0200\0\ufff0\u0200\u0190\u016c\0\0\u016c\u0180"
+            + "\u016c\0\0\u016c\u0180\u01a0\0\0\u01a0\u0180\u01a0\0\0\u01a0\u0180"
+            + "\u0100\0\uffe0\u0100\u01a0\u0118\0\uffe0\u0118\u01a0\u0100\0\uffe0\u0100\u01a0"
+            + "\u01a0\0\ufff0\u01a0\u0190\u0100\0\267\u0100\310\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01e0\0\40\u01e0\u0160\u01e0\0\40\u01e0\u0160\330\0\115\330\u0133"
+            + "\330\0\115\330\u0133\u0140\0\240\u0140\340\u0140\0\240\u0140\340"
+            + "\300\0\16\300\u0172\u0140\0\16\u0140\u0172\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01a0\0\ufff0\u01a0\u0190\u0180\0\ufff0\u0180\u0190\u0180\0\ufff0\u0180\u0190"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0140\0\40\u0140\u0160"
+            + "\u0140\0\40\u0140\u0160\u0180\0\40\u0180\u0160\u0180\0\40\u0180\u0160"
+            + "\u0100\0\40\u0100\u0160\u0100\0\40\u0100\u0160\u0180\4\0\u017c\u0180"
+            + "\u0180\4\0\u017c\u0180\u01c0\0\60\u01c0\u0150\u01c0\0\60\u01c0\u0150"
+            + "\u0140\0\40\u0140\u0160\u0140\0\40\u0140\u0160\u0140\0\40\u0140\u0160"
+            + "\u0140\0\40\u0140\u0160\u01c0\0\0\u01c0\u0180\u01c0\0\0\u01c0\u0180"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\340\0\uffe0\340\u01a0"
+            + "\340\0\uffe0\340\u01a0\u0100\0\40\u0100\u0160\u0100\0\40\u0100\u0160"
+            + "\u01a0\0\ufff0\u01a0\u0190\u0100\0\100\u0100\u0140\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01a0\0\uffe0\u01a0\u01a0\u01a0\0\uffe0\u01a0\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01a0\0\0\u01a0\u0180\u01a0\0\0\u01a0\u0180"
+            + "\u01c0\0\ufff8\u01c0\u0188\u01e0\0\ufff0\u01e0\u0190\u0120\0\60\u0120\u0150"
+            + "\u0120\0\60\u0120\u0150\u01e0\0\120\u01e0\u0130\u01e0\0\120\u01e0\u0130"
+            + "\u0180\0\60\u0180\u0160\u0180\0\60\u0180\u0160\u01a0\0\ufff0\u01a0\u0190"
+            + "\u0100\0\100\u0100\u016c\u01a0\0\ufff0\u01a0\u0190\u01c0\0\0\u01c0\u0180"
+            + "\u0180\0\60\u0180\u0150\u0180\0\60\u0180\u0150\u01c0\0\100\u01c0\u0140"
+            + "\u01c0\0\100\u01c0\u0140\u0140\0\uffe0\u0140\u01a0\u0140\0\uffe0\u0140\u01a0"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u01c0\0\30\u01c0\u0168"
+            + "\u01c0\0\20\u01c0\u0170\u0180\0\0\u0180\u0180\u0180\0\ufff4\u0180\u018c"
+            + "\u0140\0\40\u0140\u0160\u0140\0\40\u0140\u0160\u0140\0\40\u0140\u0160"
+            + "\u0140\0\40\u0140\u0160\u0100\1\60\377\u0150\u01c0\0\0\u01c0\u0180"
+            + "\u01c0\0\0\u01c0\u0180\u01c0\0\ufff0\u01c0\u0190\u01c0\0\ufff0\u01c0\u0190"
+            + "\u01c0\0\ufff0\u01c0\u0190\u0180\0\ufff0\u0180\u0190\u0180\0\ufff0\u0180\u0190"
+            + "\u0140\0\40\u0140\u0160\u0140\0\40\u0140\u0160\u0160\4\20\u0150\u0170"
+            + "\u0160\4\20\u0150\u0170\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190"
+            + "\u0112\0\60\u0112\u0150\u0112\0\60\u0112\u0150\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01c0\0\ufff0\u01c0\u0190\u01c0\0\ufff0\u01c0\u0190\u0120\0\0\u0120\u0180"
+            + "\u0120\0\0\u0120\u0180\u0180\0\60\u0180\u0160\u0180\0\60\u0180\u0160"
+            + "\u0140\0\ufff0\u0140\u0190\u0140\0\ufff0\u0140\u0190\u0140\0\0\u0140\u01a0"
+            + "\u0140\0\0\u0140\u01a0\u01a2\0\100\u01a2\u0140\u01a2\0\100\u01a2\u0140"
+            + "\u0140\0\100\u0140\u0140\200\0\140\200\u0120\300\0\uffe0\300\u01a0"
+            + "\300\0\uffe0\300\u01a0\u01a0\0\ufff0\u01a0\u0190\u01a0\0\ufff0\u01a0\u0190"
+            + "\u0120\0\0\u0120\u0180\300\0\0\300\u0180\340\0\0\340\u0180"
+            + "\u0146\0\uffc0\u0146\u01c0\300\0\uffe0\300\u01a0\100\0\uffe0\100\u01a0"
+            + "\u0200\0\40\u0200\u0160\u01a6\3\0\u01a6\u017f\u015e\0\0\u015e\u0180"
+            + "\u0100\0\uffe0\u0100\u01a0\u0180\0\140\u0180\u0120\u0180\0\0\u0180\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u0180\0\0\u0180\u0180"
+            + "\357\0\0\357\u0180\u0180\0\uffc0\u0180\u01c0\u0180\0\uffe0\u0180\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u014e\0\uffe0\u014e\u01a0"
+            + "\u0180\0\uffe0\u0180\u01a0\u01c0\0\uffe0\u01c0\u01a0\250\0\uffe2\250\u01a0"
+            + "\u01c0\0\0\u01c0\u017e\u01c0\0\0\u01c0\u0180\u0180\0\uffe0\u0180\u01a0"
+            + "\u0120\0\uffe0\u0120\u01a0\240\2\uffe0\236\u01a0\u0100\0\uffe0\u0100\u01a0"
+            + "\u0180\0\240\u0180\340\u01c0\0\uffe0\u01c0\u01a0\u0180\0\240\u0180\340"
+            + "\u0200\0\20\u0200\u0170\u01c0\0\0\u01c0\u0180\u0180\0\220\u0180\360"
+            + "\u0100\0\uffe0\u0100\u01a0\u0180\0\uffe0\u0180\u01a0\u0140\0\117\u0140\u012f"
+            + "\u0180\0\40\u0180\u0160\u01c0\0\uffe0\u01c0\u01a0\u0180\0\uffe0\u0180\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\ufff0\u01c0\u0190\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\ufff2\u01b9\u0189\u01e0\0\uffe0\u01e0\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\240\0\0\240\u0178\u0100\0\0\u0100\u0180\u0180\0\0\u0180\u0180"
+            + "\u01c0\0\0\u01c0\u0180\u01c0\0\0\u01c0\u0180\u01c0\0\uffe0\u01c0\u01a0"
+            + "\340\0\uffe0\340\u01a0\u01c0\0\uffe0\u01c0\u01a0\u0160\0\uffe0\u0160\u01a0"
+            + "\u01c0\0\uffd0\u01c0\u01b0\u0200\1\40\u01ff\u0160\u0140\0\0\u0140\u0180"
+            + "\u0200\1\0\u0200\u0180\u0180\0\0\u0180\u0180\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u0180\0\0\u0180\u0180\u01c0\0\0\u01c0\u0120\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe7\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u0180\u0180\0\uffe0\u0180\u01a0\u01a0\0\0\u01a0\u0180"
+            + "\u0180\0\0\u0180\u0180\u01c0\0\40\u01c0\u0160\u01a0\0\ufff0\u01a0\u0190"
+            + "\u01c0\0\0\u01c0\u0180\u0180\0\60\u0180\u0150\u01a0\0\60\u01a0\u0150"
+            + "\u0160\0\uffe0\u0160\u01a0\u0180\0\uffe0\u0180\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u0180\0\uffe0\u0180\u01a0\u0180\0\0\u017d\u0180"
+            + "\u01a0\1\0\u01a0\u017f\u0180\0\40\u0180\u0160\u01c0\0\0\u01c0\u0180"
+            + "\u0180\0\40\u0180\u0160\u0180\0\40\u0180\u0160\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u0140\1\0\u0140\u0180\u0140\1\0\u0140\u0180"
+            + "\u0140\0\uffe0\u0140\u01a0\u0140\0\uffe0\u0140\u01a0\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u0180\0\uffe0\u0180\u01a0"
+            + "\u0180\0\uffe0\u0180\u01a0\u01c0\0\40\u01c0\u0160\u01c0\0\40\u01c0\u0160"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\15\u0180\u0173"
+            + "\u0180\0\15\u0180\u0173\u0140\0\ufff0\u0140\u0190\u0140\0\ufff0\u0140\u0190"
+            + "\300\0\0\300\u0180\300\0\0\300\u0180\u0140\0\uffe2\u013e\u01a0"
+            + "\u0140\0\uffe2\u013e\u01a0\u0200\0\uffe0\u01ff\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u0120\0\0\u0120\u0180\u0100\0\0\u0100\u0180"
+            + "\u01c0\0\0\u01c0\u0180\u01c0\0\0\u01c0\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\uffe0\u0180\u01a0\u0180\0\uffe0\u0180\u01a0"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u01c0\0\20\u01c0\u0170"
+            + "\u01c0\0\20\u01c0\u0170\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u01c0\0\40\u01c0\u0160\u0180\0\uffe0\u0180\u019c\u01c0\0\0\u01c0\u0180"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u0180\0\7\u0180\u0180"
+            + "\u01c1\0\0\u01c1\u0180\u01c1\0\0\u01c1\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0200\4\21\u0200\u016e\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u01e0\0\uffe0\u01e0\u01a0\u01e0\0\uffe0\u01e0\u01a0"
+            + "\u0100\0\ufff0\u0100\u0190\u0100\0\ufff0\u0100\u0190\u017f\0\uffe1\u017e\u01a0"
+            + "\u01a0\0\uffe0\u01a0\u01a0\u01a0\0\uffe0\u01a0\u01a0\u01d8\0\0\u01d8\u0180"
+            + "\u01d8\0\0\u01d8\u0180\u0140\0\uffe0\u0140\u01a0\u0140\0\uffe0\u0140\u01a0"
+            + "\u01c0\0\5\u01bd\u017f\u01c0\0\0\u01bd\u0180\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0140\0\0\u0140\u0180"
+            + "\u0140\0\0\u0140\u0180\u0180\0\uffe0\u0180\u01a0\u0180\0\uffe0\u0180\u01a0"
+            + "\u0200\0\0\u0200\u0180\u0200\0\0\u0200\u0180\u0140\0\uffd0\u0140\u01b0"
+            + "\u0140\0\uffd0\u0140\u01b0\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\40\u01c0\u0160"
+            + "\200\0\uffe0\200\u01a0\u01c0\0\uffe0\u01c0\u01a0\u0160\0\40\u0160\u0160"
+            + "\u0200\0\113\u0200\u0135\u0180\0\0\u0180\u0180\240\0\uffe0\240\u01a0"
+            + "\u0180\0\4\u0180\u0180\u0180\0\0\u0180\u017c\u01c0\0\100\u01c0\u0140"
+            + "\u01c0\0\100\u01c0\u0140\u0200\0\uffc0\u0200\u01c0\u0160\0\0\u0160\u0180"
+            + "\u0140\0\0\u013e\u0180\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\ufff0\u01c0\u0190"
+            + "\u01c0\0\uffef\u01c0\u0190\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\0\u01c0\u0180"
+            + "\u0180\0\uffe0\u0180\u01a0\u01c0\0\60\u01c0\u0150\u0100\0\uffe0\u0100\u01a0"
+            + "\u01c0\0\20\u01c0\u0170\u01c0\0\0\u01c0\u0180\u0120\0\50\u0120\u0158"
+            + "\u0172\0\50\u0172\u0158\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0"
+            + "\u0140\0\uffe0\u0140\u01a0\u01c0\0\40\u01c0\u0160\u0100\0\uffe0\u0100\u01a0"
+            + "\300\1\uffe1\277\u01a0\u01c0\0\uffe0\u01c0\u01a0\u01c0\0\uffe0\u01c0\u01a0");
+}
@@ -2,12 +2,13 @@ package com.rilixtech.materialdesigniconictypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the MaterialDesignIconic font. It hosts a variety of icons that can be used by
@@ -25,7 +26,6 @@ public class MaterialDesignIconic implements MfbTypeface {
     public static final String MATERIAL_DESIGN_ICONIC_LICENSE = "SIL OFL 1.1";
     public static final String MATERIAL_DESIGN_ICONIC_LICENSE_URL = "http://scripts.sil.org/OFL";
 
-    private static Font materialDesignIconicTypeface = null;
 
     private static HashMap<String, Character> materialDesignIconicCharMap;
 
@@ -35,7 +35,21 @@ public class MaterialDesignIconic implements MfbTypeface {
      * @param key Key for which MaterialDesignIconic MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No MaterialDesignIconic icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * MaterialDesignIconic MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which MaterialDesignIconic MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -45,16 +59,29 @@ public class MaterialDesignIconic implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (materialDesignIconicCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.materialDesignIconicCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
-
         return materialDesignIconicCharMap;
     }
 
+    /**
+     * Get the compact table of all the MaterialDesignIconic icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all MaterialDesignIconic icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the MaterialDesignIconic icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all MaterialDesignIconic icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return MaterialDesignIconicMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the MaterialDesignIconic Characters into a HashMap.
      */
@@ -80,17 +107,11 @@ public class MaterialDesignIconic implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return materialDesignIconicCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> materialDesignIconicKeyList = new LinkedList<>();
-
-        for (Icon value : Icon.values()) {
-            materialDesignIconicKeyList.add(value.name());
-        }
-
-        return materialDesignIconicKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -115,18 +136,7 @@ public class MaterialDesignIconic implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (materialDesignIconicTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return materialDesignIconicTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        materialDesignIconicTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -1033,6 +1043,9 @@ public class MaterialDesignIconic implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface materialDesignIconicTypeface;
 
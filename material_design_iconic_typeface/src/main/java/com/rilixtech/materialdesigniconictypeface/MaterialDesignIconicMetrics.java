@@ -0,0 +1,308 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.materialdesigniconictypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of material-design-iconic-font-v2.2.0.ttf for the MaterialDesignIconic icons, in ordinal order.
+ */
+final class MaterialDesignIconicMetrics {
+
+    private MaterialDesignIconicMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(512, 449, -64, ""
+            + "\u01fe\0\uffc0\u01fe\u01c0\u0195\0\uffea\u0196\u0196\u0195\0\uffea\u0196\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u01ab"
+            + "\u0180\0\0\u0180\u01ab\u0180\0\0\u0180\u01ab\u0180\0\uffea\u0180\u01c0"
+            + "\u0180\0\0\u0180\u01ab\u0180\0\0\u0180\u01ab\u0180\0\uffea\u0180\u0196"
+            + "\353\0\uffd5\353\u01ab\u01ab\0\112\u01ab\u0136\u0115\0\0\u0116\u0180"
+            + "\u0180\0\uffd5\u0180\u01ab\u0195\0\0\u0196\u0180\u0195\0\uffea\u0196\u01ab"
+            + "\325\0\uffea\326\u0196\325\0\uffea\326\u0196\325\0\uffea\326\u0196"
+            + "\325\0\uffea\326\u0196\u0200\0\uffea\u0200\u01a0\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffd5\u01ab\u01ab\u0155\0\uffea\u0156\u0196"
+            + "\u0155\0\uffea\u0156\u0196\u012b\0\0\u012b\u0180\u012b\0\0\u012b\u0180"
+            + "\u0195\0\0\u0196\u0181\u0155\0\0\u0156\u0180\u0155\0\0\u0156\u0196"
+            + "\u0180\0\uffea\u0180\u01c0\u0180\0\0\u0180\u0180\u0180\0\uffd5\u0180\u01af"
+            + "\u0180\0\0\u0180\u0156\u01ab\0\0\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\0\u01ab\u0196\u01ab\0\25\u01ab\u016b\u01ab\0\ufff5\u01ab\u018b"
+            + "\u01ab\0\ufff5\u01ab\u018b\u01ab\0\0\u01ab\u0196\u01ab\0\0\u01ab\u0196"
+            + "\u01d5\0\0\u01d6\u0180\u01d5\0\0\u01d6\u0180\u01ab\0\uffea\u01ab\u0195"
+            + "\u0180\0\0\u0180\u0180\u01ab\0\0\u01ab\u0180\u0180\0\0\u0180\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u012b\0\52\u012b\u0156"
+            + "\u0180\0\0\u0180\u0180\u01dd\0\64\u01de\u014c\u0155\0\uffd5\u0156\u01ab"
+            + "\u01ab\0\100\u01ab\u0140\u01ab\0\0\u01ab\u0180\u01ab\0\uffea\u01ab\u0196"
+            + "\u01d5\0\uffea\u01d6\u01ab\u0200\0\uffea\u0200\u0196\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u01ab\0\uffea\u01ab\u0196\u01d5\0\uffd5\u01d6\u01ab\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u01d5\0\uffd5\u01d6\u01ab\u01d5\0\uffd5\u01d6\u01ab\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u01d5\0\uffd5\u01d6\u01ab\u01d5\0\uffd5\u01d6\u01ab\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u01d5\0\uffd5\u01d6\u01ab\u01d5\0\uffd5\u01d6\u01ab\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u0155\0\uffd5\u0156\u01ab\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u0198\uffff\ufff9\u0198\u017d\u012b\0\0\u012b\u0180"
+            + "\u0155\0\uffd5\u0156\u01ab\u0180\0\0\u0180\u0180\u0180\0\uffea\u0180\u0196"
+            + "\u0180\0\0\u0181\u0181\u01ab\0\25\u01ab\u01ab\u01ab\0\25\u01ab\u016b"
+            + "\u01d5\0\uffea\u01d6\u0180\u01d5\0\40\u01d6\u0160\u0180\0\0\u0181\u0181"
+            + "\u01ab\0\ufff8\u01ab\u0180\u01ab\0\ufff8\u01ab\u0180\u0180\0\100\u0180\u0140"
+            + "\u0155\0\uffea\u0156\u01b2\u0140\0\0\u0140\u016b\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u019a\0\uffd5\u019a\u0196\u016b\0\uffea\u016b\u0196\325\0\uffea\326\u0196"
+            + "\u0180\0\uffd5\u0180\u01ab\u0180\0\uffea\u0180\u01ab\u019e\0\uffd1\u019e\u01af"
+            + "\u01ab\0\uffea\u01ab\u0196\u01d5\0\0\u01d6\u0180\u012b\0\52\u012b\u0156"
+            + "\u012b\0\52\u012b\u0156\u0100\0\25\u0100\u016b\u0160\0\0\u0160\u0180"
+            + "\u0183\0\0\u0184\u0180\u01ab\0\uffea\u01ab\u0196\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u01ab\0\uffea\u01ab\u0196\u01d5\0\0\u01d6\u0180\u01ab\0\25\u01ab\u0180"
+            + "\u0180\0\0\u0180\u01ab\u0180\0\0\u0180\u0180\u01d5\0\25\u01d6\u0156"
+            + "\u0100\0\uffea\u0100\u0196\u0100\0\uffea\u0100\u0196\u0100\0\uffea\u0100\u0196"
+            + "\u01d5\0\200\u01d6\u0100\u01d5\0\25\u01d6\u016b\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\uffe0\u0180\u0190"
+            + "\u0155\0\ufff3\u0156\u0190\u01d5\0\100\u01d6\u0140\u0195\0\52\u0196\u0156"
+            + "\u0195\0\52\u0196\u0156\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01be\3\ufff0\u01bb\u0186\u01d5\0\uffe1\u01d6\u01a0\u01d5\0\100\u01d6\u0140"
+            + "\u01ab\0\ufffe\u01ab\u01ab\u0180\0\ufffe\u0180\u0196\u0180\0\uffde\u0180\u0196"
+            + "\u01ab\0\125\u01ab\u012b\u0155\0\uffea\u0156\u01ab\u0155\0\uffea\u0156\u01ab"
+            + "\u0155\0\uffea\u0156\u01ab\u0200\0\25\u0200\u0156\u0180\0\25\u0180\u0156"
+            + "\u01c0\0\0\u01c0\u0180\u0180\0\uffea\u0180\u01ab\u0180\0\0\u0180\u0180"
+            + "\u01b0\0\60\u01b0\u0150\u01ab\0\25\u01ab\u016b\u0153\0\0\u0153\u0180"
+            + "\331\0\0\332\u0180\125\0\25\126\u016b\u0155\0\225\u0156\353"
+            + "\u0155\0\0\u0156\u0180\u01ab\0\25\u01ab\u016b\u01ae\0\uffea\u01af\u0192"
+            + "\u012e\0\uffea\u012f\u0192\u0140\0\0\u0140\u0196\u0180\0\25\u0180\u016b"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0115\0\0\u0116\u0180"
+            + "\u0180\0\uffd5\u0180\u0196\u0180\0\uffd5\u0180\u0196\u012b\0\uffea\u012b\u0196"
+            + "\u0180\0\uffd5\u0180\u0196\u0180\0\uffea\u0180\u0196\u012b\0\uffea\u012b\u0196"
+            + "\u0180\0\uffea\u0180\u0196\u01ac\0\uffe9\u01ac\u0196\u0155\0\uffc0\u0156\u0196"
+            + "\u0180\0\0\u0180\u0180\u01ab\0\0\u01ab\u0180\u01c0\0\uffea\u01c0\u01ab"
+            + "\u012b\0\125\u012b\u012b\u0155\0\0\u0156\u01ab\u0180\0\uffea\u0180\u0196"
+            + "\u01d5\0\25\u01d6\u016b\u0180\0\25\u0180\u016b\u016e\0\ufffd\u016e\u016b"
+            + "\u0155\0\uffd5\u0156\u01ab\u0155\0\uffd5\u0156\u01ab\u016b\0\uffea\u016b\u0196"
+            + "\u01d5\0\100\u01d6\u0140\u01ab\0\uffea\u01ab\u0196\u01e4\0\uffd5\u01e5\u01c0"
+            + "\u01fe\0\uffc0\u01fe\u01c0\u01ab\0\13\u01ab\u0180\u0155\0\uffea\u0156\u0196"
+            + "\u01ab\0\25\u01ab\u016b\u0175\0\ufff5\u0176\u016b\u0175\0\12\u0176\u0180"
+            + "\u01ab\0\0\u01ab\u0180\u0180\0\0\u0180\u0180\u019f\1\uffea\u019e\u0196"
+            + "\u0180\0\uffd5\u0180\u01ab\u0180\0\uffd5\u0180\u01ab\u01d5\0\0\u01d6\u0195"
+            + "\u01ae\0\uffea\u01af\u01ab\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u0180"
+            + "\u0180\0\100\u0180\u0140\u0180\0\100\u0180\u0140\u01a1\0\uffca\u01a2\u01b6"
+            + "\u01a1\0\uffca\u01a2\u01b6\u01b6\0\uffe0\u01b7\u0180\u01ab\0\25\u01ab\u016b"
+            + "\u01ab\0\25\u01ab\u016b\u0180\0\25\u0180\u016b\u0155\0\0\u0156\u0196"
+            + "\u01d5\0\uffe1\u01d6\u01b5\u01d5\0\0\u01d6\u0180\u01d5\0\0\u01d6\u0180"
+            + "\u0200\0\0\u0200\u0180\u0200\0\0\u0200\u0180\u0200\0\0\u0200\u0180"
+            + "\u01d5\0\uffd5\u01d6\u0180\u0200\0\uffc0\u0200\u01c0\u01d5\0\0\u01d6\u01ab"
+            + "\u01ab\0\25\u01ab\u016b\u01d5\0\25\u01d6\u016b\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u0155\0\0\u0156\u0180\u01d5\0\uffea\u01d6\u0196\u01ab\0\ufffd\u01ab\u0154"
+            + "\u01ab\0\25\u01ab\u016b\u01d5\0\25\u01d6\u016b\u01ab\uffff\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u0155\0\uffea\u0156\u0196\u0155\0\25\u0156\u016b"
+            + "\u0155\0\25\u0156\153\u0155\0\25\u0156\u016b\u01d6\2\uffd5\u01d7\u01a7"
+            + "\u0175\0\12\u0176\u0180\u0175\0\12\u0176\u0180\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u0180\u01d5\0\uffe0\u01d6\u01a0"
+            + "\u01d5\0\0\u01d6\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01bf\0\uffea\u01bf\u0196"
+            + "\u0180\0\uffd5\u0180\u0196\u016b\0\uffea\u016b\u0196\u0180\0\uffea\u0180\u0196"
+            + "\u016b\0\uffea\u016b\u0196\u016b\0\uffea\u016b\u0196\u01d5\0\25\u01d6\u016b"
+            + "\u0200\0\0\u0200\u0180\u0180\0\0\u0180\u0180\u0200\0\0\u0200\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u01ab\u01ab\0\uffea\u01ab\u0196"
+            + "\u0155\0\25\u0156\u016b\u0155\0\25\u0156\u016b\u0200\0\100\u0200\u0156"
+            + "\u01ab\0\52\u01ab\u0156\u01ab\0\uffc0\u01ab\u01c0\u01d5\0\52\u01d6\u0156"
+            + "\u01d5\0\52\u01d6\u0156\u01d5\0\52\u01d6\u0156\u01ab\0\uffea\u01ab\u0196"
+            + "\300\0\uffea\300\u0196\225\0\uffea\226\u0196\u016b\0\uffea\u016b\u0196"
+            + "\u0180\0\uffea\u0180\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u0157\0\uffd5\u0158\u01a1\u0115\0\uffd5\u0116\u01a0\u01d5\0\0\u01d6\u0180"
+            + "\u01ab\0\uffea\u01ab\u0196\u0200\0\25\u0200\u016b\u0200\0\25\u0200\u016b"
+            + "\u0200\0\uffea\u0200\u016b\u0200\0\25\u0200\u016b\u0200\0\25\u0200\u016b"
+            + "\u0200\0\25\u0200\u016b\u0200\0\25\u0200\u016b\u012b\0\25\u012b\u0180"
+            + "\u0155\0\uffea\u0156\u0196\u0155\0\uffea\u0156\u0196\u0155\0\uffea\u0156\u0196"
+            + "\u01ab\0\25\u01ab\u016b\u01ab\0\25\u01ab\u016b\u01ab\0\25\u01ab\u016b"
+            + "\u01ab\0\25\u01ab\u016b\u01ab\0\25\u01ab\u016b\u012b\0\200\u012b\u0100"
+            + "\u012b\0\25\u012b\u016b\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0200\0\uffc0\u0200\u01c1\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0195\0\uffd5\u0196\u01ab\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\345\0\100\346\u016b\u0180\0\125\u0180\u012b"
+            + "\u0180\0\0\u0180\u0156\u0200\0\uffc0\u0200\u01c0\u0152\0\ufffd\u0153\u017c"
+            + "\u0200\0\uffc0\u0200\u0180\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u0100\0\100\u0100\u016b\u01b5\0\12\u01b6\u0176\u018b\0\43\u018b\u0160"
+            + "\u0195\0\25\u0196\u016b\u0155\0\uffea\u0156\u0196\u0155\0\uffea\u0156\u0196"
+            + "\u0195\0\52\u0196\u016b\u01d5\0\uffe8\u01d6\u0196\u0180\0\52\u0180\u016b"
+            + "\u0155\0\52\u0156\u0156\u012b\0\0\u012b\u0180\u0155\0\0\u0156\u0180"
+            + "\u0155\0\uffd5\u0156\u01ab\u0155\0\0\u0156\u0180\u01b4\0\152\u01b5\u012b"
+            + "\u0180\0\0\u0180\u0180\u0155\0\200\u0156\u0100\u012b\0\52\u012b\u016b"
+            + "\u01ab\0\uffd5\u01ab\u01ab\u01b5\0\152\u01b5\u012b\u016b\0\0\u016b\u0156"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u01f0\0\52\u01f0\u0149\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u0180\u0177\0\52\u0178\u0149"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u0180\0\0\u0180\u0180\u012b\0\252\u012b\326\u0200\0\0\u0200\u0180"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u0180"
+            + "\u012b\0\52\u012b\u0156\u0180\0\0\u0180\u0180\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\ufff5\u01ab\u018b\u01ab\0\0\u01ab\u0196\u01ab\0\0\u01ab\u0196"
+            + "\u0180\0\uffea\u0180\u0196\u0155\0\uffea\u0156\u0196\u0180\0\uffea\u0181\u0196"
+            + "\u010f\0\uffc0\u0110\u01c0\u010f\0\uffea\u0110\u0196\u01ab\0\0\u01ab\u0180"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\0\u01ab\u0180\u012b\0\uffc0\u012b\u01c0"
+            + "\u01ab\0\0\u01ab\u0180\u01ab\0\25\u01ab\u0196\u012b\0\uffc0\u012b\u01c0"
+            + "\u01ab\0\uffea\u01ab\u01ab\u01ab\0\25\u01ab\u0196\u01ab\0\25\u01ab\u0196"
+            + "\u0155\0\uffea\u0156\u0196\u0190\0\uffdd\u0190\u0180\u0155\0\uffea\u0156\u0196"
+            + "\u0155\0\uffea\u0156\u0196\u01d5\0\uffea\u01d6\u0196\u01d5\0\uffea\u01d6\u0196"
+            + "\u0180\0\0\u0180\u0180\u0200\0\uffe3\u0200\u019d\u0200\0\25\u0200\u016b"
+            + "\u0100\0\uffd5\u0100\u01ab\u0180\0\0\u0180\u0180\u01ab\0\uffea\u01ab\u0196"
+            + "\u01d5\0\uffd5\u01d6\u01ab\u01d5\0\uffd5\u01d6\u01ab\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u0180\0\uffd5\u0180\u01ab\u0180\0\25\u0180\u01ab\u01d5\0\uffe1\u01d6\u01ab"
+            + "\u01d5\0\uffd5\u01d6\u01ab\u012b\0\uffea\u012b\u0196\u0100\0\0\u0100\u0180"
+            + "\u01d5\0\uffd5\u01d6\u01ab\u01ab\0\uffd5\u01ab\u0180\u01ab\0\52\u01ab\u0156"
+            + "\u0200\0\25\u0200\u0180\u0200\0\25\u0200\u0180\u0200\0\25\u0200\u016b"
+            + "\u0180\0\0\u0180\u0196\u012b\0\ufff5\u012b\u018b\u012b\0\uffc0\u012b\u01ab"
+            + "\u012b\0\0\u012b\u0196\u0155\0\uffd5\u0156\u01aa\u01ab\0\uffea\u01ab\u0196"
+            + "\u01d5\0\uffea\u01d6\u01ab\u01c0\0\uffd5\u01c0\u01ab\u01ab\0\uffea\u01ab\u0196"
+            + "\u01fd\0\uffc0\u01fd\u01c0\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u01ab"
+            + "\u0200\0\155\u0200\u012b\u01ab\0\0\u01ab\u01ab\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u01ab\u0200\0\2\u0201\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0200\0\2\u0200\u0196\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\ufff5\u01ab\u0196\u01ab\0\ufff2\u01ab\u0180\u01ab\0\uffea\u01ab\u01ab"
+            + "\u01d5\0\0\u01d6\u016b\u014b\0\uffea\u014b\u01ab\u014c\0\uffd5\u014c\u01c0"
+            + "\u0180\0\0\u0180\u0181\u0180\0\25\u0180\u0156\u012b\0\uffd5\u012b\u01ab"
+            + "\u0180\0\uffd5\u0180\u01ab\u012b\0\uffd5\u012b\u01ab\u0115\0\uffd5\u0116\u01ab"
+            + "\u01d5\0\52\u01d6\u0156\u01d5\0\52\u01d6\u0156\u016b\0\uffd5\u016b\u01ab"
+            + "\u012b\0\uffd5\u012b\u01ab\u01aa\0\uffd5\u01ab\u01ab\u0100\0\uffc0\u0100\u01c0"
+            + "\u0181\0\uffd5\u0181\u01ab\u012b\0\uffd5\u012b\u01ab\u012b\0\uffea\u012b\u0196"
+            + "\u0195\0\uffc0\u0196\u01c0\u01d5\0\25\u01d6\u016b\u01d5\0\uffea\u01d6\u0196"
+            + "\u01d5\0\0\u01d6\u0180\u01d5\0\0\u01d6\u0180\u01d5\0\0\u01d6\u0180"
+            + "\u012f\0\uffe6\u012f\u01ab\u0195\0\0\u0196\u0196\u01ab\0\52\u01ab\u0156"
+            + "\u0180\0\100\u0180\u0140\u0155\0\uffc0\u0156\u01c0\u01f1\0\ufffa\u01f2\u0186"
+            + "\u01d5\0\25\u01d6\u0157\u0200\0\uffea\u0200\u0180\u01f7\0\uffea\u01f8\u0180"
+            + "\u01f1\0\ufff5\u01f1\u01a2\u01f1\0\ufffa\u01f2\u0186\u01f1\0\ufff5\u01f1\u0180"
+            + "\u0140\0\52\u0140\u016b\u0155\0\25\u0156\u016b\u0111\0\14\u0112\u0176"
+            + "\u0180\0\114\u0180\u012b\u0140\0\25\u0140\u0156\u0155\0\25\u0156\u016b"
+            + "\u0155\0\25\u0156\u016b\u01d5\0\uffd5\u01d6\u01ab\u01ab\0\uffea\u01ab\u0196"
+            + "\325\0\212\326\366\u01ab\0\uffea\u01ab\u0196\153\0\125\153\u012b"
+            + "\u01ab\0\uffea\u01ab\u0196\153\0\125\153\u012b\u01ab\0\uffea\u01ab\u0196"
+            + "\325\0\212\326\366\u0100\0\152\u0100\u0109\236\0\100\237\u0140"
+            + "\236\0\100\237\u0140\u0100\0\167\u0100\u0116\u0155\0\25\u0156\u016b"
+            + "\u0100\0\0\u0100\u0180\u0180\0\100\u0180\u0140\u0195\0\100\u0196\u0140"
+            + "\u0180\0\100\u0180\u0140\u01c0\0\100\u01c0\u0140\u0100\0\0\u0100\u0180"
+            + "\u01c3\0\uffdd\u01c3\u01a3\u01c3\0\uffdd\u01c3\u01a3\u0154\0\26\u0154\u01ab"
+            + "\u0154\0\26\u0154\u01ab\u01d5\0\ufff5\u01d6\u0176\u01d5\0\0\u01d6\u0180"
+            + "\u01ab\0\52\u01ab\u016b\u01ab\0\uffea\u01ab\u0196\u012b\0\0\u012b\u0180"
+            + "\u0180\0\52\u0180\u0156\u01ab\0\100\u01ab\u0140\u0195\0\152\u0196\u0116"
+            + "\u01ab\0\100\u01ab\u0140\304\0\25\304\u016b\304\0\0\304\u0180"
+            + "\u0155\0\25\u0156\u016b\u01e5\0\uffc0\u01e5\u01a5\u01ab\0\uffea\u01ab\u0196"
+            + "\u0195\0\0\u0196\u0180\u016b\0\100\u016b\u0156\u01ab\0\52\u01ab\u016b"
+            + "\u016b\0\100\u016b\u0156\u0195\0\52\u0196\u0156\u0195\0\52\u0196\u0156"
+            + "\u0180\0\0\u0180\u0180\u0195\0\0\u0196\u0180\u0155\0\52\u0156\u0156"
+            + "\u0180\0\125\u0180\u012b\u016b\0\52\u016b\u0156\u016b\0\100\u016b\u0156"
+            + "\u016b\0\100\u016b\u0156\u016b\0\100\u016b\u0156\u01ab\0\25\u01ab\u016b"
+            + "\u0180\0\125\u0180\u012b\u01ab\0\25\u01ab\u016b\u0195\0\52\u0196\u0156"
+            + "\u019c\0\0\u019d\u019c\u01ab\0\uffea\u01ab\u0199\u01b2\0\uffea\u01b3\u0199"
+            + "\u01ab\0\uffea\u01ab\u0199\u01ab\0\uffea\u01ab\u0199\u01ab\0\uffea\u01ab\u0199"
+            + "\u0180\0\0\u0180\u01ab\u0180\0\0\u0180\u01ab\u0180\0\0\u0180\u01ab"
+            + "\u0180\0\0\u0180\u01ab\u0180\0\0\u0180\u01ab\u0180\0\0\u0180\u0180"
+            + "\u01ab\0\uffea\u01ab\u0196\u01c0\0\0\u01c0\u0180\u01c0\0\0\u01c0\u0180"
+            + "\u01ab\0\uffea\u01ab\u0196\u019b\0\uffd5\u019b\u01ab\u0180\0\uffea\u0180\u01ab"
+            + "\u016b\0\uffea\u016b\u0196\u01ab\0\70\u01ab\u0148\u01ab\0\uffea\u01ab\u0193"
+            + "\u01ab\0\uffdd\u01ab\u0189\u01ab\0\ufffa\u01ab\u0186\u016e\1\uffee\u016e\u0193"
+            + "\u01ab\0\uffea\u01ab\u0196\340\0\uffea\340\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\ufff0\u01ab\u0190\u01cf\0\0\u01cf\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01a0\0\uffea\u01a0\u0196\u01c0\0\uffd5\u01c0\u01ab\u0180\0\0\u0180\u0180"
+            + "\u017b\0\uffed\u017b\u0193\u01ab\0\uffea\u01ab\u0196\u01ab\2\73\u01ab\u0141"
+            + "\u01a2\0\uffea\u01a3\u0196\u01ab\0\uffea\u01ab\u0196\u0191\0\ufff7\u0191\u0163"
+            + "\u0165\0\uffd9\u0166\u017a\u0180\0\0\u0180\u0180\u01ca\0\uffde\u01ca\u014a"
+            + "\u01ab\0\uffe0\u01ab\u018b\u01ab\0\110\u01ab\u0138\u01ab\0\uffea\u01ab\u0196"
+            + "\u0173\0\uffea\u0171\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\0\u01ab\u0180"
+            + "\u01eb\0\25\u01eb\u016b\u0180\0\uffec\u0180\u0196\u0150\0\uffea\u0150\u0196"
+            + "\u01b7\0\uffe4\u01b7\u019c\u01ab\0\ufff9\u01ab\u0187\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\22\u01ab\u016e\u0225\0\11\u0224\u0142\u01ab\0\62\u01ab\u014e"
+            + "\u016b\0\uffea\u016b\u0180\u01d5\0\0\u01d6\u0180\u01ab\0\25\u01ab\u016b"
+            + "\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u0180\u0195\0\ufff5\u0196\u018b"
+            + "\u0195\0\ufff5\u0196\u018b\u0140\0\uffea\u0140\u0196\u0115\0\uffea\u0116\u0196"
+            + "\u01e3\0\uffce\u01e3\u01b2\u01e3\0\uffce\u01e3\u01b2\u01e3\0\uffce\u01e3\u01b2"
+            + "\u01e3\0\uffce\u01e3\u01b2\u01e3\0\uffce\u01e3\u01b2\u01d5\0\0\u01d6\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\uffd5\u0180\u01ab\u0180\0\100\u0180\u0140\u0180\0\25\u0180\u016b"
+            + "\u0180\0\52\u0180\u0156\u0180\0\125\u0180\u012b\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\52\u0180\u0156\u012b\0\0\u012b\u0180"
+            + "\u0155\0\25\u0156\u016b\u0180\0\0\u0180\u0180\u01ab\0\uffea\u01ab\u0196"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u01ab\0\uffea\u01ab\u01c0"
+            + "\u01a9\0\uffeb\u01a9\u0195\u0180\0\0\u0180\u0180\u0155\0\25\u0156\u016b"
+            + "\u0180\0\uffea\u0180\u0196\u01af\0\uffdd\u01af\u018b\u01d5\0\100\u01d6\u0140"
+            + "\u01d5\0\100\u01d6\u0140\u0180\0\200\u0180\u0100\u0169\0\uffe1\u0169\u01b5"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u01d5\0\125\u01d6\u0140"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\25\u01ab\u016b\u0156\0\uffea\u0156\u0196"
+            + "\u01ab\0\25\u01ab\u016b\u01d5\0\0\u01d6\u0180\u01d5\0\0\u01d6\u0180"
+            + "\u01d5\0\0\u01d6\u0180\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u01ab\0\uffea\u01ab\u0196\u01d5\0\0\u01d6\u0180\u01fc\0\25\u01fc\u016b"
+            + "\u0100\0\100\u0100\u0149\u012b\0\52\u012b\u012b\u0155\0\25\u0156\u016b"
+            + "\u0175\0\100\u0176\u0140\u0175\0\100\u0176\u0140\u0155\0\0\u0156\u01ab"
+            + "\u0155\0\0\u0156\u01ab\u0155\0\0\u0156\u01ab\u0180\0\uffea\u0180\u01a6"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u0100\0\52\u0100\u0156"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\353\0\52\353\u0156"
+            + "\u0195\0\25\u0196\u0140\u01ab\0\25\u01ab\u0140\u0180\0\uffea\u0180\u0196"
+            + "\u0180\0\uffea\u0180\u0196\u0155\0\uffea\u0156\u0196\u0155\0\uffea\u0156\u0196"
+            + "\u0155\0\uffea\u0156\u0196\u0155\0\0\u0156\u01ab\u0155\0\25\u0156\u016b"
+            + "\u0100\0\100\u0100\u0140\u0100\0\100\u0100\u0140\u0100\0\100\u0100\u0140"
+            + "\u01ab\0\25\u01ab\u016b\u0180\0\0\u0180\u0180\u0120\0\25\u0120\u016b"
+            + "\300\0\25\300\u016b\u0180\0\0\u0180\u0180\u0180\0\4\u0180\u017c"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180\u0180\0\0\u0180\u0180"
+            + "\u0140\0\100\u0140\u0156\u0195\0\100\u0196\u0156\u0155\0\100\u0156\u0156"
+            + "\u01ab\0\100\u01ab\u0156\u0200\0\75\u0201\u0143\u0169\0\76\u0169\u0143"
+            + "\261\0\100\261\u0156\u01c0\0\52\u01bb\u015d\u01ab\0\100\u01ab\u012b"
+            + "\u01d5\0\125\u01d6\u012b\u01c0\0\0\u01bf\u0180\u0195\0\0\u0196\u0180"
+            + "\u016b\0\0\u016b\u0180\u01ab\0\0\u01ab\u0195\u0155\0\ufff5\u0156\u0196"
+            + "\u01d5\0\uffea\u01d6\u0180\u0180\0\25\u0180\u016b\u01ab\0\25\u01ab\u016b"
+            + "\u01ab\0\uffea\u01ab\u0180\u01ab\0\25\u01ab\u016b\u0180\0\0\u0180\u0180"
+            + "\u0195\0\ufff5\u0196\u018b\u01b1\0\6\u01b0\u017a\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u0180"
+            + "\u0180\0\25\u0180\u016b\u01ab\0\uffea\u01ab\u01c0\u0180\0\0\u0180\u0180"
+            + "\u01ab\0\uffea\u01ab\u0196\u0100\0\25\u0100\u0156\u0195\0\200\u0196\u0100"
+            + "\u01d5\0\0\u01d6\u0180\u0180\0\0\u0180\u0180\u016b\0\uffd5\u016b\u01ab"
+            + "\u0200\0\0\u0200\u0180\u0200\0\125\u0200\u0140\u01d5\0\uffd5\u01d6\u01ab"
+            + "\u0155\0\25\u0156\u016b\u01da\0\5\u01db\u0180\u01a7\0\uffe7\u01a8\u0199"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\132\u01a3\u0126\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\26\u01aa\u016b\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\ufff0\u01ab\u0190\u01ab\0\uffea\u01ab\u0196\u01ab\0\137\u01ab\u0120"
+            + "\u0180\0\uffea\u0180\u0196\u010b\0\uffea\u010b\u0196\u01ab\0\uffea\u01ab\u0196"
+            + "\u0100\3\uffea\375\u0196\u01ab\0\uffea\u01ab\u0196\u0164\0\13\u0164\u0175"
+            + "\u0155\0\uffea\u0156\u0196\u01ab\0\40\u01ab\u0160\u01ab\0\14\u01ab\u0173"
+            + "\u01ab\0\uffea\u01ab\u0196\u01a4\1\uffec\u01a3\u0196\u01ab\0\142\u01ab\u011e"
+            + "\u0109\0\uffea\u0109\u0196\u0197\0\uffea\u0198\u0196\u01ab\0\6\u01ab\u017a"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01ab\0\70\u01ab\u0148"
+            + "\u01ab\0\52\u01ab\u0156\u0160\0\uffea\u0160\u0196\u012b\0\0\u012b\u0180"
+            + "\u0195\0\uffea\u0196\u0196\u0195\0\uffea\u0196\u0196\u0195\0\uffea\u0196\u0196"
+            + "\u01ab\0\uffea\u01ab\u0196\u01ab\0\uffea\u01ab\u0196\u01ae\0\uffea\u01af\u01ab"
+            + "\u0155\0\uffea\u0156\u0196\u0200\0\uffea\u0200\u0180\u01ab\0\uffea\u01ab\u0196"
+            + "\u01ab\0\25\u01ab\u0140\u0195\0\25\u0196\u0140\u0180\0\0\u0180\u0180"
+            + "\u0200\0\0\u0200\u0180\u01ab\0\uffea\u01ab\u0199\325\0\uffea\326\u0196"
+            + "\u01d5\0\0\u01d6\u0180\u0155\0\225\u0156\353\u0155\0\uffea\u0156\u0196"
+            + "\u01d5\0\uffe1\u01d6\u01a0\u0169\0\uffe1\u0169\u01b5\u0180\0\0\u0180\u01ab"
+            + "\u016e\0\ufffd\u016e\u016b\u0180\0\25\u0180\u016b\u0180\0\0\u0180\u0180"
+            + "\u0180\0\0\u0180\u0180\u0155\0\uffc0\u0156\u0196\u0180\0\0\u0180\u0180"
+            + "\u01ab\0\0\u01ab\u0196\u01e3\0\uffce\u01e3\u01b2\u01e3\0\uffce\u01e3\u01b2"
+            + "\u01e3\0\uffce\u01e3\u01b2\u012b\0\uffd5\u012b\u01ab\u01d5\0\uffea\u01d6\u0196"
+            + "\u0155\0\uffea\u0156\u0196\u0155\0\uffea\u0156\u0196\u0155\0\25\u0156\u016b"
+            + "\u0155\0\25\u0156\u016b\u0140\0\52\u0140\u016b\u0140\0\25\u0140\u0156"
+            + "\u01c3\0\uffdd\u01c3\u01a3\u012b\0\uffd5\u012b\u01a2\u01f1\0\ufff5\u01f1\u0180"
+            + "\u01d5\0\25\u01d6\u0157\u01f7\0\uffea\u01f8\u0180\u01f1\0\ufff5\u01f1\u01a2"
+            + "\u01f1\0\ufffa\u01f2\u0186\u0200\0\uffea\u0200\u0180\u01ab\0\ufffe\u01ab\u01ab"
+            + "\u0180\0\0\u0181\u0181\u016b\0\uffea\u016b\u0196\u012b\0\125\u012b\u012b"
+            + "\u01ab\0\0\u01ab\u0180\u01a1\0\uffca\u01a2\u01b6\u01ab\0\25\u01ab\u016b"
+            + "\u01ab\0\25\u01ab\u016b\u01ab\0\uffea\u01ab\u0196\u0155\0\52\u0156\u0156"
+            + "\u01b0\0\60\u01b0\u0150\u0180\0\100\u0180\u0140\u0180\0\0\u0180\u0180"
+            + "\u0150\0\uffea\u0150\u0196\u0180\0\0\u0180\u01ab\u0180\0\uffea\u0180\u01c0"
+            + "\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u0180\u0155\0\uffd5\u0156\u01ab"
+            + "\u0200\0\uffea\u0200\u01a0\u01ab\0\uffd5\u01ab\u01ab\u0155\0\0\u0156\u0196"
+            + "\u0180\0\0\u0180\u0156\u0155\0\0\u0156\u01ab\u0157\0\uffd5\u0158\u01a1"
+            + "\u0155\0\0\u0156\u0196\u0115\0\uffd5\u0116\u01a0\u01d5\0\25\u01d6\u0156"
+            + "\u01ab\0\25\u01ab\u016b\u01ab\0\25\u01ab\u016b\u0195\0\uffea\u0196\u0196"
+            + "\u01ab\0\25\u01ab\u016b\u0180\0\0\u0180\u0180\u01ab\0\0\u01ab\u0180"
+            + "\u0180\0\uffd5\u0180\u01af\u01ab\0\25\u01ab\u016b\u0198\uffff\ufff9\u0198\u017d"
+            + "\u0180\0\uffea\u0180\u0196\u0180\0\uffea\u0180\u01ab\u0160\0\0\u0160\u0180"
+            + "\u01ab\0\uffea\u01ab\u0196\u0180\0\0\u0180\u0180\u0155\0\uffea\u0156\u0196"
+            + "\u0180\0\uffde\u0180\u0196\u0180\0\uffea\u0180\u01ab\u0155\0\0\u0156\u0180"
+            + "\u01ab\0\uffea\u01ab\u0196\u0115\0\0\u0116\u0180\u0180\0\0\u0180\u01ab"
+            + "\u0180\0\0\u0180\u0180\u0180\0\uffea\u0180\u0196\u01ab\0\25\u01ab\u016b"
+            + "\u01ab\0\0\u01ab\u0180\u01ab\0\25\u01ab\u0196\u01d5\0\25\u01d6\u016b"
+            + "\u0180\0\25\u0180\u016b\u0180\0\0\u0180\u0180\u016b\0\uffea\u016b\u0196"
+            + "\u01d5\0\uffd5\u01d6\u01ab\u01ab\uffff\uffea\u01ab\u0196");
+}
@@ -1 +1,8 @@
-# config module specific ProGuard rules here.
\ No newline at end of file
+# config module specific ProGuard rules here.
+
+# Without a TypefaceProvider, typefaces are instantiated by class name from the generated TypefaceIndex, so their
+# constructor must be kept. These rules only apply to this module's own release build: applications shrinking their
+# code must add the same rule, or set the TypefaceProvider generated by typeface-provider.gradle.
+-keep class * implements com.rilixtech.materialfancybutton.typeface.MfbTypeface {
+    public <init>();
+}
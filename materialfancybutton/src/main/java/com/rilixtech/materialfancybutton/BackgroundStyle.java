@@ -0,0 +1,220 @@
+package com.rilixtech.materialfancybutton;
+
+import ohos.agp.colors.RgbColor;
+import ohos.agp.components.ComponentState;
+import ohos.agp.components.element.ShapeElement;
+import ohos.agp.components.element.StateElement;
+import ohos.agp.utils.Color;
+import com.rilixtech.materialfancybutton.utils.LruCache;
+
+/**
+ * Immutable key of the background of a {@link MaterialFancyButton}: every attribute its {@link StateElement} is
+ * built from. Buttons sharing the same style share the resolved colors and corner radii of its states through a small
+ * LRU cache, so that lists of identically styled buttons don't resolve them again, and a button only rebuilds its
+ * background when one of these attributes actually changes. Each button still gets its own StateElement and
+ * ShapeElements, which hold the current state and bounds of the button.
+ */
+final class BackgroundStyle {
+
+    /**
+     * Maximum number of distinct background styles kept in the cache.
+     */
+    static final int MAX_CACHED_BACKGROUNDS = 64;
+
+    private static final LruCache<BackgroundStyle, Shapes> shapesCache =
+            new LruCache<>(MAX_CACHED_BACKGROUNDS);
+
+    private final int defaultBackgroundColor;
+    private final int focusBackgroundColor;
+    private final int disabledBackgroundColor;
+    private final int disabledBorderColor;
+    private final int borderColor;
+    private final int borderWidth;
+    private final int radius;
+    private final int radiusTopLeft;
+    private final int radiusTopRight;
+    private final int radiusBottomLeft;
+    private final int radiusBottomRight;
+    private final boolean ghost;
+    private final boolean enabled;
+
+    BackgroundStyle(int defaultBackgroundColor, int focusBackgroundColor, int disabledBackgroundColor,
+                    int disabledBorderColor, int borderColor, int borderWidth, int radius, int radiusTopLeft,
+                    int radiusTopRight, int radiusBottomLeft, int radiusBottomRight, boolean ghost, boolean enabled) {
+        this.defaultBackgroundColor = defaultBackgroundColor;
+        this.focusBackgroundColor = focusBackgroundColor;
+        this.disabledBackgroundColor = disabledBackgroundColor;
+        this.disabledBorderColor = disabledBorderColor;
+        this.borderColor = borderColor;
+        this.borderWidth = borderWidth;
+        this.radius = radius;
+        this.radiusTopLeft = radiusTopLeft;
+        this.radiusTopRight = radiusTopRight;
+        this.radiusBottomLeft = radiusBottomLeft;
+        this.radiusBottomRight = radiusBottomRight;
+        this.ghost = ghost;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns a new background of this style for one button. The ShapeElements of its states are built for the
+     * button too, as they hold its bounds and state, from the colors and radii cached for the style.
+     *
+     * @return The StateElement of the button.
+     */
+    StateElement newBackground() {
+        Shapes shapes = getShapes();
+        StateElement states = new StateElement();
+        if (focusBackgroundColor != 0) {
+            ShapeElement focusDrawable = shapes.focusShape.newShapeElement();
+            states.addState(new int[] { ComponentState.COMPONENT_STATE_PRESSED }, focusDrawable);
+            states.addState(new int[] { ComponentState.COMPONENT_STATE_FOCUSED }, focusDrawable);
+            states.addState(new int[] { ComponentState.COMPONENT_STATE_DISABLED },
+                    shapes.disabledShape.newShapeElement());
+        }
+        states.addState(new int[] {}, shapes.defaultShape.newShapeElement());
+        return states;
+    }
+
+    /**
+     * Returns the inputs of the shapes of the states of this style, shared with the buttons of the same style.
+     *
+     * @return The shared shapes.
+     */
+    Shapes getShapes() {
+        Shapes shapes = shapesCache.get(this);
+        if (shapes == null) {
+            shapes = shapesCache.putIfAbsent(this, buildShapes(), 1);
+        }
+        return shapes;
+    }
+
+    /**
+     * Evicts all the cached shapes.
+     */
+    static void clearCache() {
+        shapesCache.evictAll();
+    }
+
+    private Shapes buildShapes() {
+        float[] cornerRadii = new float[] {
+            radiusTopLeft, radiusTopLeft, radiusTopRight, radiusTopRight,
+            radiusBottomRight, radiusBottomRight, radiusBottomLeft, radiusBottomLeft
+        };
+
+        int defaultColor = ghost ? Color.TRANSPARENT.getValue() : defaultBackgroundColor; // Hollow Background
+        // Handle Border, and disabled border color
+        Integer defaultStrokeColor = !enabled ? Integer.valueOf(disabledBorderColor)
+                : borderColor != 0 ? Integer.valueOf(borderColor) : null;
+        Shape defaultShape = new Shape(radius, cornerRadii, defaultColor, borderWidth, defaultStrokeColor);
+
+        int disabledColor = !enabled && ghost ? Color.TRANSPARENT.getValue() : disabledBackgroundColor;
+        Shape disabledShape = new Shape(radius, null, disabledColor, borderWidth, disabledBorderColor);
+
+        return new Shapes(buildFocusShape(), disabledShape, defaultShape);
+    }
+
+    private Shape buildFocusShape() {
+        int focusColor = ghost ? Color.TRANSPARENT.getValue() : focusBackgroundColor; // No focus color when ghost
+
+        // Handle Button Border
+        Integer focusStrokeColor = null;
+        if (borderColor != 0) {
+            // Border is the main part of a ghost button
+            focusStrokeColor = ghost ? focusBackgroundColor : borderColor;
+        }
+        if (!enabled) {
+            focusStrokeColor = disabledBorderColor;
+        }
+        return new Shape(radius, null, focusColor, borderWidth, focusStrokeColor);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BackgroundStyle)) {
+            return false;
+        }
+        BackgroundStyle other = (BackgroundStyle) obj;
+        return defaultBackgroundColor == other.defaultBackgroundColor
+                && focusBackgroundColor == other.focusBackgroundColor
+                && disabledBackgroundColor == other.disabledBackgroundColor
+                && disabledBorderColor == other.disabledBorderColor
+                && borderColor == other.borderColor
+                && borderWidth == other.borderWidth
+                && radius == other.radius
+                && radiusTopLeft == other.radiusTopLeft
+                && radiusTopRight == other.radiusTopRight
+                && radiusBottomLeft == other.radiusBottomLeft
+                && radiusBottomRight == other.radiusBottomRight
+                && ghost == other.ghost
+                && enabled == other.enabled;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = defaultBackgroundColor;
+        hash = 31 * hash + focusBackgroundColor;
+        hash = 31 * hash + disabledBackgroundColor;
+        hash = 31 * hash + disabledBorderColor;
+        hash = 31 * hash + borderColor;
+        hash = 31 * hash + borderWidth;
+        hash = 31 * hash + radius;
+        hash = 31 * hash + radiusTopLeft;
+        hash = 31 * hash + radiusTopRight;
+        hash = 31 * hash + radiusBottomLeft;
+        hash = 31 * hash + radiusBottomRight;
+        hash = 31 * hash + (ghost ? 1 : 0);
+        return 31 * hash + (enabled ? 1 : 0);
+    }
+
+    /**
+     * The immutable inputs of the shapes of the states of a background.
+     */
+    static final class Shapes {
+        private final Shape focusShape;
+        private final Shape disabledShape;
+        private final Shape defaultShape;
+
+        private Shapes(Shape focusShape, Shape disabledShape, Shape defaultShape) {
+            this.focusShape = focusShape;
+            this.disabledShape = disabledShape;
+            this.defaultShape = defaultShape;
+        }
+    }
+
+    /**
+     * The immutable inputs of the ShapeElement of one state, from which each button builds its own ShapeElement.
+     */
+    static final class Shape {
+        private final int radius;
+        // Shared by the ShapeElements built from this shape, which don't modify it
+        private final float[] cornerRadii;
+        private final int color;
+        private final int strokeWidth;
+        private final Integer strokeColor;
+
+        private Shape(int radius, float[] cornerRadii, int color, int strokeWidth, Integer strokeColor) {
+            this.radius = radius;
+            this.cornerRadii = cornerRadii;
+            this.color = color;
+            this.strokeWidth = strokeWidth;
+            this.strokeColor = strokeColor;
+        }
+
+        ShapeElement newShapeElement() {
+            ShapeElement shapeElement = new ShapeElement();
+            shapeElement.setCornerRadius(radius);
+            if (cornerRadii != null) {
+                shapeElement.setCornerRadiiArray(cornerRadii);
+            }
+            shapeElement.setRgbColor(RgbColor.fromArgbInt(color));
+            if (strokeColor != null) {
+                shapeElement.setStroke(strokeWidth, RgbColor.fromArgbInt(strokeColor));
+            }
+            return shapeElement;
+        }
+    }
+}
@@ -0,0 +1,900 @@
+package com.rilixtech.materialfancybutton;
+
+import ohos.agp.components.AttrSet;
+import ohos.agp.utils.Color;
+import ohos.agp.utils.TextAlignment;
+import ohos.app.Context;
+import com.rilixtech.materialfancybutton.utils.ButtonAttributes;
+import com.rilixtech.materialfancybutton.utils.FontUtil;
+import com.rilixtech.materialfancybutton.utils.LruCache;
+
+/**
+ * Immutable visual style of a {@link MaterialFancyButton} or {@link FlatFancyButton}: its colors, radii, sizes,
+ * paddings and flags, without its text and icon. The most recently used styles are interned, so the buttons of a
+ * homogeneous list usually reference a single instance, which also holds the background and the text colors derived
+ * from it once for all of them. Interning is a cache and not a guarantee: styles must be compared with
+ * {@link #equals(Object)}, as equal styles built after their instance was dropped are distinct instances.
+ * A style is built with a {@link Builder}, or read from the attributes of a layout with
+ * {@link #fromAttrSet(Context, AttrSet)}, and a button changes style with
+ * {@link MaterialFancyButton#setButtonStyle(ButtonStyle)}.
+ *
+ * <pre>
+ * ButtonStyle style = new ButtonStyle.Builder(context)
+ *         .setBackgroundColor(Color.getIntColor("#3b5998"))
+ *         .setRadius(30)
+ *         .build();
+ * </pre>
+ */
+public final class ButtonStyle {
+
+    /**
+     * Maximum number of distinct styles kept interned.
+     */
+    static final int MAX_INTERNED_STYLES = 64;
+
+    private static final LruCache<ButtonStyle, ButtonStyle> internedStyles = new LruCache<>(MAX_INTERNED_STYLES);
+
+    private final int defaultBackgroundColor;
+    private final int focusBackgroundColor;
+    private final int disabledBackgroundColor;
+    private final int disabledTextColor;
+    private final int disabledBorderColor;
+    private final int textColor;
+    private final int iconColor;
+    private final int borderColor;
+    private final int borderWidth;
+    private final int radius;
+    private final int radiusTopLeft;
+    private final int radiusTopRight;
+    private final int radiusBottomLeft;
+    private final int radiusBottomRight;
+    private final int textSize;
+    private final int textGravity;
+    private final int fontIconSize;
+    private final int iconPosition;
+    private final int iconPaddingLeft;
+    private final int iconPaddingTop;
+    private final int iconPaddingRight;
+    private final int iconPaddingBottom;
+    private final boolean ghost;
+    private final boolean enabled;
+    private final boolean textAllCaps;
+    private final int hash;
+
+    // Derived from this style on first use by the buttons referencing it, from the UI thread
+    private BackgroundStyle backgroundStyle;
+    private Color currentTextColor;
+    private Color currentIconColor;
+
+    private ButtonStyle(Builder builder) {
+        defaultBackgroundColor = builder.defaultBackgroundColor;
+        focusBackgroundColor = builder.focusBackgroundColor;
+        disabledBackgroundColor = builder.disabledBackgroundColor;
+        disabledTextColor = builder.disabledTextColor;
+        disabledBorderColor = builder.disabledBorderColor;
+        textColor = builder.textColor;
+        iconColor = builder.iconColor;
+        borderColor = builder.borderColor;
+        borderWidth = builder.borderWidth;
+        radius = builder.radius;
+        radiusTopLeft = builder.radiusTopLeft;
+        radiusTopRight = builder.radiusTopRight;
+        radiusBottomLeft = builder.radiusBottomLeft;
+        radiusBottomRight = builder.radiusBottomRight;
+        textSize = builder.textSize;
+        textGravity = builder.textGravity;
+        fontIconSize = builder.fontIconSize;
+        iconPosition = builder.iconPosition;
+        iconPaddingLeft = builder.iconPaddingLeft;
+        iconPaddingTop = builder.iconPaddingTop;
+        iconPaddingRight = builder.iconPaddingRight;
+        iconPaddingBottom = builder.iconPaddingBottom;
+        ghost = builder.ghost;
+        enabled = builder.enabled;
+        textAllCaps = builder.textAllCaps;
+        hash = computeHashCode();
+    }
+
+    /**
+     * Reads the style of a button from the attributes of a layout, eg. {@code mfb_defaultColor} or
+     * {@code mfb_radius}. The attributes it doesn't declare keep the values of a new {@link Builder}.
+     *
+     * @param context The context of the button.
+     * @param attrSet The set of Attributes of the button.
+     * @return The interned style.
+     */
+    public static ButtonStyle fromAttrSet(Context context, AttrSet attrSet) {
+        return fromAttributes(context, ButtonAttributes.read(attrSet));
+    }
+
+    /**
+     * Builds the style declared by the attributes of a button, already read by the button for its text and icon.
+     */
+    static ButtonStyle fromAttributes(Context context, ButtonAttributes attributes) {
+        Builder builder = new Builder(context);
+        builder.defaultBackgroundColor =
+                attributes.getInt(ButtonAttributes.DEFAULT_COLOR, builder.defaultBackgroundColor);
+        builder.focusBackgroundColor = attributes.getInt(ButtonAttributes.FOCUS_COLOR, builder.focusBackgroundColor);
+        builder.disabledBackgroundColor =
+                attributes.getInt(ButtonAttributes.DISABLED_COLOR, builder.disabledBackgroundColor);
+        builder.disabledTextColor = attributes.getInt(ButtonAttributes.DISABLED_TEXT_COLOR, builder.disabledTextColor);
+        builder.disabledBorderColor =
+                attributes.getInt(ButtonAttributes.DISABLED_BORDER_COLOR, builder.disabledBorderColor);
+        builder.textColor = attributes.getInt(ButtonAttributes.TEXT_COLOR, builder.textColor);
+        // Text color is the default color for the icon
+        builder.iconColor = attributes.getInt(ButtonAttributes.ICON_COLOR, builder.textColor);
+        builder.borderColor = attributes.getInt(ButtonAttributes.BORDER_COLOR, builder.borderColor);
+
+        builder.enabled = attributes.getBoolean(ButtonAttributes.ENABLED, true);
+        builder.textAllCaps = attributes.getBoolean(ButtonAttributes.TEXT_ALL_CAPS, false);
+        builder.ghost = attributes.getBoolean(ButtonAttributes.GHOST, builder.ghost);
+
+        builder.textSize = attributes.getInt(ButtonAttributes.TEXT_SIZE, builder.textSize);
+        builder.textSize = attributes.getInt(ButtonAttributes.OHOS_TEXT_SIZE, builder.textSize);
+        builder.borderWidth = attributes.getInt(ButtonAttributes.BORDER_WIDTH, builder.borderWidth);
+        builder.radius = attributes.getInt(ButtonAttributes.RADIUS, builder.radius);
+        builder.radiusTopLeft = attributes.getInt(ButtonAttributes.RADIUS_TOP_LEFT, builder.radius);
+        builder.radiusTopRight = attributes.getInt(ButtonAttributes.RADIUS_TOP_RIGHT, builder.radius);
+        builder.radiusBottomLeft = attributes.getInt(ButtonAttributes.RADIUS_BOTTOM_LEFT, builder.radius);
+        builder.radiusBottomRight = attributes.getInt(ButtonAttributes.RADIUS_BOTTOM_RIGHT, builder.radius);
+        builder.fontIconSize = attributes.getInt(ButtonAttributes.FONT_ICON_SIZE, builder.fontIconSize);
+        builder.iconPaddingLeft = attributes.getInt(ButtonAttributes.ICON_PADDING_LEFT, builder.iconPaddingLeft);
+        builder.iconPaddingRight = attributes.getInt(ButtonAttributes.ICON_PADDING_RIGHT, builder.iconPaddingRight);
+        builder.iconPaddingTop = attributes.getInt(ButtonAttributes.ICON_PADDING_TOP, builder.iconPaddingTop);
+        builder.iconPaddingBottom = attributes.getInt(ButtonAttributes.ICON_PADDING_BOTTOM, builder.iconPaddingBottom);
+
+        builder.textGravity = attributes.getInt(ButtonAttributes.TEXT_GRAVITY, TextAlignment.CENTER);
+        builder.iconPosition = attributes.getInt(ButtonAttributes.ICON_POSITION, builder.iconPosition);
+        return builder.build();
+    }
+
+    /**
+     * Evicts all the interned styles. The buttons keep the styles they reference.
+     */
+    static void clearCache() {
+        internedStyles.evictAll();
+    }
+
+    /**
+     * Creates a builder initialized with this style, to derive another style from it.
+     *
+     * @return The new Builder.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Returns the background of this style, shared with the buttons of the same style and with the styles differing
+     * only by their text or icon.
+     */
+    BackgroundStyle getBackgroundStyle() {
+        if (backgroundStyle == null) {
+            backgroundStyle = new BackgroundStyle(defaultBackgroundColor, focusBackgroundColor,
+                    disabledBackgroundColor, disabledBorderColor, borderColor, borderWidth, radius, radiusTopLeft,
+                    radiusTopRight, radiusBottomLeft, radiusBottomRight, ghost, enabled);
+        }
+        return backgroundStyle;
+    }
+
+    /**
+     * Returns the color of the text in the enabled state of this style.
+     */
+    Color getCurrentTextColor() {
+        if (currentTextColor == null) {
+            currentTextColor = new Color(getCurrentTextColorValue());
+        }
+        return currentTextColor;
+    }
+
+    /**
+     * Returns the color of the icon-font in the enabled state of this style.
+     */
+    Color getCurrentIconColor() {
+        if (currentIconColor == null) {
+            currentIconColor = new Color(getCurrentIconColorValue());
+        }
+        return currentIconColor;
+    }
+
+    private int getCurrentTextColorValue() {
+        return enabled ? textColor : disabledTextColor;
+    }
+
+    private int getCurrentIconColorValue() {
+        return enabled ? iconColor : disabledTextColor;
+    }
+
+    /**
+     * Checks whether the background built from another style is the same as the background of this style.
+     */
+    boolean hasSameBackground(ButtonStyle other) {
+        return defaultBackgroundColor == other.defaultBackgroundColor
+                && focusBackgroundColor == other.focusBackgroundColor
+                && disabledBackgroundColor == other.disabledBackgroundColor
+                && disabledBorderColor == other.disabledBorderColor
+                && borderColor == other.borderColor
+                && borderWidth == other.borderWidth
+                && radius == other.radius
+                && radiusTopLeft == other.radiusTopLeft
+                && radiusTopRight == other.radiusTopRight
+                && radiusBottomLeft == other.radiusBottomLeft
+                && radiusBottomRight == other.radiusBottomRight
+                && ghost == other.ghost
+                && enabled == other.enabled;
+    }
+
+    /**
+     * Checks whether the text of a button is styled the same with another style.
+     */
+    boolean hasSameTextStyle(ButtonStyle other) {
+        return getCurrentTextColorValue() == other.getCurrentTextColorValue()
+                && textSize == other.textSize
+                && textGravity == other.textGravity
+                && textAllCaps == other.textAllCaps;
+    }
+
+    /**
+     * Checks whether the icon of a button is styled the same with another style, its position aside.
+     */
+    boolean hasSameIconStyle(ButtonStyle other) {
+        return getCurrentIconColorValue() == other.getCurrentIconColorValue()
+                && fontIconSize == other.fontIconSize
+                && hasSameIconPadding(other);
+    }
+
+    /**
+     * Checks whether the icon of a button is padded the same with another style.
+     */
+    boolean hasSameIconPadding(ButtonStyle other) {
+        return iconPaddingLeft == other.iconPaddingLeft
+                && iconPaddingTop == other.iconPaddingTop
+                && iconPaddingRight == other.iconPaddingRight
+                && iconPaddingBottom == other.iconPaddingBottom;
+    }
+
+    /**
+     * Get the Background color of the button.
+     *
+     * @return The integer value of the color.
+     */
+    public int getBackgroundColor() {
+        return defaultBackgroundColor;
+    }
+
+    /**
+     * Get the Focus color of the button.
+     *
+     * @return The integer value of the color.
+     */
+    public int getFocusBackgroundColor() {
+        return focusBackgroundColor;
+    }
+
+    /**
+     * Get the Disabled state color of the button.
+     *
+     * @return The integer value of the color.
+     */
+    public int getDisableBackgroundColor() {
+        return disabledBackgroundColor;
+    }
+
+    /**
+     * Get the Disabled state color of the button text and icon.
+     *
+     * @return The integer value of the color.
+     */
+    public int getDisableTextColor() {
+        return disabledTextColor;
+    }
+
+    /**
+     * Get the Disabled state color of the button border.
+     *
+     * @return The integer value of the color.
+     */
+    public int getDisableBorderColor() {
+        return disabledBorderColor;
+    }
+
+    /**
+     * Get the color of text.
+     *
+     * @return The integer value of the color.
+     */
+    public int getTextColor() {
+        return textColor;
+    }
+
+    /**
+     * Get the Color of the icon-font.
+     *
+     * @return The integer value of the color.
+     */
+    public int getIconColor() {
+        return iconColor;
+    }
+
+    /**
+     * Get color of the button border.
+     *
+     * @return The integer value of the color.
+     */
+    public int getBorderColor() {
+        return borderColor;
+    }
+
+    /**
+     * Get Width of the button border.
+     *
+     * @return Border Width in px
+     */
+    public int getBorderWidth() {
+        return borderWidth;
+    }
+
+    /**
+     * Get the border radius of the button, used by the corners without their own radius.
+     *
+     * @return Radius in px
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Get border radius top left of the button.
+     *
+     * @return radius top left of the button
+     */
+    public int getRadiusTopLeft() {
+        return radiusTopLeft;
+    }
+
+    /**
+     * Get border radius top right of the button.
+     *
+     * @return radius top right of the button
+     */
+    public int getRadiusTopRight() {
+        return radiusTopRight;
+    }
+
+    /**
+     * Get border radius bottom left of the button.
+     *
+     * @return radius bottom left of the button
+     */
+    public int getRadiusBottomLeft() {
+        return radiusBottomLeft;
+    }
+
+    /**
+     * Get border radius bottom right of the button.
+     *
+     * @return radius bottom right of the button
+     */
+    public int getRadiusBottomRight() {
+        return radiusBottomRight;
+    }
+
+    /**
+     * Get the the size of Text in px.
+     *
+     * @return Text Size
+     */
+    public int getTextSize() {
+        return textSize;
+    }
+
+    /**
+     * Get the alignment of the Text.
+     *
+     * @return {@link TextAlignment} integer value
+     */
+    public int getTextGravity() {
+        return textGravity;
+    }
+
+    /**
+     * Get Icon size of the button (for only icon-fonts) in px.
+     *
+     * @return Icon size of the icon-font
+     */
+    public int getFontIconSize() {
+        return fontIconSize;
+    }
+
+    /**
+     * Get Icon Position, one of the POSITION_* constants of {@link MaterialFancyButton}.
+     *
+     * @return Icon Position.
+     */
+    public int getIconPosition() {
+        return iconPosition;
+    }
+
+    /**
+     * Gets the left padding of the icon.
+     *
+     * @return The left padding of the icon.
+     */
+    public int getIconPaddingLeft() {
+        return iconPaddingLeft;
+    }
+
+    /**
+     * Gets the top padding of the icon.
+     *
+     * @return The top padding of the icon.
+     */
+    public int getIconPaddingTop() {
+        return iconPaddingTop;
+    }
+
+    /**
+     * Gets the right padding of the icon.
+     *
+     * @return The right padding of the icon.
+     */
+    public int getIconPaddingRight() {
+        return iconPaddingRight;
+    }
+
+    /**
+     * Gets the bottom padding of the icon.
+     *
+     * @return The bottom padding of the icon.
+     */
+    public int getIconPaddingBottom() {
+        return iconPaddingBottom;
+    }
+
+    /**
+     * Whether the button is hollow (ghost) or solid.
+     *
+     * @return {@code true} if the button is hollow.
+     */
+    public boolean isGhost() {
+        return ghost;
+    }
+
+    /**
+     * Whether the button is enabled.
+     *
+     * @return {@code true} if the button is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get the capitalization of text.
+     *
+     * @return If text is capitalized or not
+     */
+    public boolean isTextAllCaps() {
+        return textAllCaps;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ButtonStyle)) {
+            return false;
+        }
+        ButtonStyle other = (ButtonStyle) obj;
+        return hash == other.hash
+                && hasSameBackground(other)
+                && disabledTextColor == other.disabledTextColor
+                && textColor == other.textColor
+                && iconColor == other.iconColor
+                && textSize == other.textSize
+                && textGravity == other.textGravity
+                && fontIconSize == other.fontIconSize
+                && iconPosition == other.iconPosition
+                && hasSameIconPadding(other)
+                && textAllCaps == other.textAllCaps;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private int computeHashCode() {
+        int result = defaultBackgroundColor;
+        result = 31 * result + focusBackgroundColor;
+        result = 31 * result + disabledBackgroundColor;
+        result = 31 * result + disabledTextColor;
+        result = 31 * result + disabledBorderColor;
+        result = 31 * result + textColor;
+        result = 31 * result + iconColor;
+        result = 31 * result + borderColor;
+        result = 31 * result + borderWidth;
+        result = 31 * result + radius;
+        result = 31 * result + radiusTopLeft;
+        result = 31 * result + radiusTopRight;
+        result = 31 * result + radiusBottomLeft;
+        result = 31 * result + radiusBottomRight;
+        result = 31 * result + textSize;
+        result = 31 * result + textGravity;
+        result = 31 * result + fontIconSize;
+        result = 31 * result + iconPosition;
+        result = 31 * result + iconPaddingLeft;
+        result = 31 * result + iconPaddingTop;
+        result = 31 * result + iconPaddingRight;
+        result = 31 * result + iconPaddingBottom;
+        result = 31 * result + (ghost ? 1 : 0);
+        result = 31 * result + (enabled ? 1 : 0);
+        return 31 * result + (textAllCaps ? 1 : 0);
+    }
+
+    /**
+     * Builder of {@link ButtonStyle}. A new builder holds the default style of the buttons.
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_TEXT_SIZE_FP = 16;
+
+        private int defaultBackgroundColor = Color.BLACK.getValue();
+        private int focusBackgroundColor = 0;
+        private int disabledBackgroundColor = Color.getIntColor("#f6f7f9");
+        private int disabledTextColor = Color.getIntColor("#bec2c9");
+        private int disabledBorderColor = Color.getIntColor("#dddfe2");
+        private int textColor = Color.WHITE.getValue();
+        private int iconColor = Color.WHITE.getValue();
+        private int borderColor = Color.BLACK.getValue();
+        private int borderWidth = 0;
+        private int radius = 0;
+        private int radiusTopLeft = 0;
+        private int radiusTopRight = 0;
+        private int radiusBottomLeft = 0;
+        private int radiusBottomRight = 0;
+        private int textSize;
+        private int textGravity = 0;
+        private int fontIconSize;
+        private int iconPosition = MaterialFancyButton.POSITION_LEFT;
+        private int iconPaddingLeft = 10;
+        private int iconPaddingTop = 0;
+        private int iconPaddingRight = 10;
+        private int iconPaddingBottom = 0;
+        private boolean ghost = false;
+        private boolean enabled = true;
+        private boolean textAllCaps = false;
+
+        /**
+         * Creates a builder holding the default style of the buttons.
+         *
+         * @param context The context of the buttons, to convert the default text sizes to px.
+         */
+        public Builder(Context context) {
+            textSize = FontUtil.fpToPx(context, DEFAULT_TEXT_SIZE_FP);
+            fontIconSize = textSize;
+        }
+
+        /**
+         * Creates a builder initialized with the given style.
+         *
+         * @param style The style to start from.
+         */
+        public Builder(ButtonStyle style) {
+            defaultBackgroundColor = style.defaultBackgroundColor;
+            focusBackgroundColor = style.focusBackgroundColor;
+            disabledBackgroundColor = style.disabledBackgroundColor;
+            disabledTextColor = style.disabledTextColor;
+            disabledBorderColor = style.disabledBorderColor;
+            textColor = style.textColor;
+            iconColor = style.iconColor;
+            borderColor = style.borderColor;
+            borderWidth = style.borderWidth;
+            radius = style.radius;
+            radiusTopLeft = style.radiusTopLeft;
+            radiusTopRight = style.radiusTopRight;
+            radiusBottomLeft = style.radiusBottomLeft;
+            radiusBottomRight = style.radiusBottomRight;
+            textSize = style.textSize;
+            textGravity = style.textGravity;
+            fontIconSize = style.fontIconSize;
+            iconPosition = style.iconPosition;
+            iconPaddingLeft = style.iconPaddingLeft;
+            iconPaddingTop = style.iconPaddingTop;
+            iconPaddingRight = style.iconPaddingRight;
+            iconPaddingBottom = style.iconPaddingBottom;
+            ghost = style.ghost;
+            enabled = style.enabled;
+            textAllCaps = style.textAllCaps;
+        }
+
+        /**
+         * Set Background color of the button.
+         *
+         * @param color : use Color.getIntColor('#code')
+         * @return This Builder.
+         */
+        public Builder setBackgroundColor(int color) {
+            defaultBackgroundColor = color;
+            return this;
+        }
+
+        /**
+         * Set Focus color of the button.
+         *
+         * @param color : use Color.getIntColor('#code')
+         * @return This Builder.
+         */
+        public Builder setFocusBackgroundColor(int color) {
+            focusBackgroundColor = color;
+            return this;
+        }
+
+        /**
+         * Set Disabled state color of the button.
+         *
+         * @param color : use Color.getIntColor('#code')
+         * @return This Builder.
+         */
+        public Builder setDisableBackgroundColor(int color) {
+            disabledBackgroundColor = color;
+            return this;
+        }
+
+        /**
+         * Set Disabled state color of the button text and icon.
+         *
+         * @param color : use Color.getIntColor('#code')
+         * @return This Builder.
+         */
+        public Builder setDisableTextColor(int color) {
+            disabledTextColor = color;
+            return this;
+        }
+
+        /**
+         * Set Disabled state color of the button border.
+         *
+         * @param color : use Color.getIntColor('#code')
+         * @return This Builder.
+         */
+        public Builder setDisableBorderColor(int color) {
+            disabledBorderColor = color;
+            return this;
+        }
+
+        /**
+         * Set the color of text.
+         *
+         * @param color : Color use Color.getIntColor('#code')
+         * @return This Builder.
+         */
+        public Builder setTextColor(int color) {
+            textColor = color;
+            return this;
+        }
+
+        /**
+         * Setting the icon's color independent of the text color.
+         *
+         * @param color : Color
+         * @return This Builder.
+         */
+        public Builder setIconColor(int color) {
+            iconColor = color;
+            return this;
+        }
+
+        /**
+         * Set color of the button border.
+         *
+         * @param color : use Color.getIntColor('#code')
+         * @return This Builder.
+         */
+        public Builder setBorderColor(int color) {
+            borderColor = color;
+            return this;
+        }
+
+        /**
+         * Set Width of the button border.
+         *
+         * @param width : Width in px.
+         * @return This Builder.
+         */
+        public Builder setBorderWidth(int width) {
+            borderWidth = width;
+            return this;
+        }
+
+        /**
+         * Set Border Radius of the button, for all its corners.
+         *
+         * @param radius : Radius in pixels.
+         * @return This Builder.
+         */
+        public Builder setRadius(int radius) {
+            this.radius = radius;
+            radiusTopLeft = radius;
+            radiusTopRight = radius;
+            radiusBottomLeft = radius;
+            radiusBottomRight = radius;
+            return this;
+        }
+
+        /**
+         * Set Border Radius of each corner of the button in pixels.
+         *
+         * @param radiusTopLeft Top left radius.
+         * @param radiusTopRight Top right radius.
+         * @param radiusBottomLeft Bottom left radius.
+         * @param radiusBottomRight Bottom right radius.
+         * @return This Builder.
+         */
+        public Builder setRadius(int radiusTopLeft, int radiusTopRight, int radiusBottomLeft, int radiusBottomRight) {
+            this.radiusTopLeft = radiusTopLeft;
+            this.radiusTopRight = radiusTopRight;
+            this.radiusBottomLeft = radiusBottomLeft;
+            this.radiusBottomRight = radiusBottomRight;
+            return this;
+        }
+
+        /**
+         * Set border radius top left of the button.
+         *
+         * @param radiusTopLeft radius top left of the button
+         * @return This Builder.
+         */
+        public Builder setRadiusTopLeft(int radiusTopLeft) {
+            this.radiusTopLeft = radiusTopLeft;
+            return this;
+        }
+
+        /**
+         * Set border radius top right of the button.
+         *
+         * @param radiusTopRight radius top right of the button
+         * @return This Builder.
+         */
+        public Builder setRadiusTopRight(int radiusTopRight) {
+            this.radiusTopRight = radiusTopRight;
+            return this;
+        }
+
+        /**
+         * Set border radius bottom left of the button.
+         *
+         * @param radiusBottomLeft radius bottom left of the button
+         * @return This Builder.
+         */
+        public Builder setRadiusBottomLeft(int radiusBottomLeft) {
+            this.radiusBottomLeft = radiusBottomLeft;
+            return this;
+        }
+
+        /**
+         * Set border radius bottom right of the button.
+         *
+         * @param radiusBottomRight radius bottom right of the button
+         * @return This Builder.
+         */
+        public Builder setRadiusBottomRight(int radiusBottomRight) {
+            this.radiusBottomRight = radiusBottomRight;
+            return this;
+        }
+
+        /**
+         * Set the size of Text in px.
+         *
+         * @param textSize : Text Size
+         * @return This Builder.
+         */
+        public Builder setTextSize(int textSize) {
+            this.textSize = textSize;
+            return this;
+        }
+
+        /**
+         * Set the alignment of the Text.
+         *
+         * @param gravity : {@link TextAlignment} integer value
+         * @return This Builder.
+         */
+        public Builder setTextGravity(int gravity) {
+            textGravity = gravity;
+            return this;
+        }
+
+        /**
+         * Set Icon size of the button (for only icon-fonts) in px.
+         *
+         * @param iconSize : Icon Size
+         * @return This Builder.
+         */
+        public Builder setFontIconSize(int iconSize) {
+            fontIconSize = iconSize;
+            return this;
+        }
+
+        /**
+         * Set Icon Position, one of the POSITION_* constants of {@link MaterialFancyButton}. Other values are
+         * replaced by {@link MaterialFancyButton#POSITION_LEFT}.
+         *
+         * @param position : Icon Position.
+         * @return This Builder.
+         */
+        public Builder setIconPosition(int position) {
+            if (position > 0 && position < 5) {
+                iconPosition = position;
+            } else {
+                iconPosition = MaterialFancyButton.POSITION_LEFT;
+            }
+            return this;
+        }
+
+        /**
+         * Set the padding around the icon.
+         *
+         * @param paddingLeft : Padding Left.
+         * @param paddingTop : Padding Top.
+         * @param paddingRight : Padding Right.
+         * @param paddingBottom : Padding Bottom.
+         * @return This Builder.
+         */
+        public Builder setIconPadding(int paddingLeft, int paddingTop, int paddingRight, int paddingBottom) {
+            iconPaddingLeft = paddingLeft;
+            iconPaddingTop = paddingTop;
+            iconPaddingRight = paddingRight;
+            iconPaddingBottom = paddingBottom;
+            return this;
+        }
+
+        /**
+         * Setting the button to have hollow or solid shape.
+         *
+         * @param ghost If the button is to be hollow or not.
+         * @return This Builder.
+         */
+        public Builder setGhost(boolean ghost) {
+            this.ghost = ghost;
+            return this;
+        }
+
+        /**
+         * Set whether the button is enabled.
+         *
+         * @param enabled If the button is enabled or not.
+         * @return This Builder.
+         */
+        public Builder setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Set the capitalization of text.
+         *
+         * @param textAllCaps : is text to be capitalized
+         * @return This Builder.
+         */
+        public Builder setTextAllCaps(boolean textAllCaps) {
+            this.textAllCaps = textAllCaps;
+            return this;
+        }
+
+        /**
+         * Builds the style, returning the instance already interned for an identical style if there is one.
+         *
+         * @return The interned ButtonStyle.
+         */
+        public ButtonStyle build() {
+            ButtonStyle style = new ButtonStyle(this);
+            ButtonStyle internedStyle = internedStyles.get(style);
+            if (internedStyle == null) {
+                internedStyle = internedStyles.putIfAbsent(style, style, 1);
+            }
+            return internedStyle;
+        }
+    }
+}
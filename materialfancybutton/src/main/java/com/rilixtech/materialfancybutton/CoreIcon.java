@@ -1,11 +1,19 @@
 package com.rilixtech.materialfancybutton;
 
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import com.rilixtech.materialfancybutton.typeface.MfbTypefaceProvider;
 import com.rilixtech.materialfancybutton.utils.GenericsUtil;
 import com.rilixtech.materialfancybutton.utils.LogHelper;
+import ohos.app.AbilityContext;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Utility class that encapsulates helper methods used by {@link MaterialFancyButton} class.
@@ -17,35 +25,50 @@ public final class CoreIcon {
     private static final LogHelper logHelper = new LogHelper(DOMAIN, TAG);
     private static boolean loggingEnabled = false;
 
-    private static boolean initDone = false;
-    private static final HashMap<String, MfbTypeface> FONTS = new HashMap<>();
-
-
+    private static volatile boolean initDone = false;
+    // Optionally creates the fonts of the typeface modules without reflection, generated by typeface-provider.gradle
+    private static volatile MfbTypefaceProvider typefaceProvider;
+    // Fonts are resolved lazily per mapping prefix, so the registry only holds the fonts that were actually requested
+    private static final ConcurrentHashMap<String, MfbTypeface> FONTS = new ConcurrentHashMap<>();
+    // Mapping prefixes whose font module is not on the classpath, so they are not looked up again
+    private static final Set<String> MISSING_FONTS = ConcurrentHashMap.newKeySet();
+    // Background font loads started by preload, by mapping prefix
+    private static final ConcurrentHashMap<String, TypefaceLoadTask> TYPEFACE_LOADS = new ConcurrentHashMap<>();
+    // Resolved fonts by packed mapping prefix, replaced as a whole when a font is added so icon lookups don't lock
+    private static volatile PrefixIndex prefixIndex = PrefixIndex.EMPTY;
+    // Icon table of the prefixes indexed as having no font, so that their keys are rejected without resolving a font
+    private static final IconTable NO_ICONS = new IconTable(new MfbIcon[0]);
+    // Most prefixes indexed as having no font, so that random keys can't grow the index without bounds
+    private static final int MAX_MISSING_PREFIXES = 16;
+    // Hashes of the keys recently reported as missing, by the low bits of the hash
+    private static final int[] RECENT_MISSES = new int[64];
+    private static final int MISSING_HASH_ZERO = 0x9E3779B9;
 
     public static final int FONT_MAPPING_PREFIX = 4;
 
+    /**
+     * Value of {@link #packPrefix(CharSequence)} for keys whose mapping prefix can't be packed.
+     */
+    static final int UNPACKED_PREFIX = 0;
+
 
     private CoreIcon() {
         // Prevent instantiation
     }
 
     /**
-     * Loads the FONTS into cache for quick lookup. This also tries to find all fonts automatically via their font file
+     * Loads all the supported FONTS into cache for quick lookup. This is only required to enumerate all fonts, as
+     * {@link #findFont(String)} resolves a single font on demand.
      */
     public static void init() {
         if (!initDone) {
-            String[] fonts = GenericsUtil.getFields();
-            for (String fontsClassPath : fonts) {
-                try {
-                    MfbTypeface typeface =
-                            (MfbTypeface) Class.forName(fontsClassPath).getDeclaredConstructor().newInstance();
-                    validateFont(typeface);
-                    FONTS.put(typeface.getMappingPrefix(), typeface);
-                    logHelper.logDebug("Typeface = %{public}s", typeface.getAuthor());
-                } catch (ClassNotFoundException e) {
-                    logHelper.logDebug("%{public}s not found.", fontsClassPath);
-                } catch (Exception e) {
-                    logHelper.logDebug("Can't init: %{public}s", fontsClassPath);
+            for (String mappingPrefix : GenericsUtil.getMappingPrefixes()) {
+                resolveFont(mappingPrefix);
+            }
+            MfbTypefaceProvider provider = typefaceProvider;
+            if (provider != null) {
+                for (String mappingPrefix : provider.getMappingPrefixes()) {
+                    resolveFont(mappingPrefix);
                 }
             }
             logHelper.logDebug("Total font = %{public}d", FONTS.size());
@@ -53,22 +76,238 @@ public final class CoreIcon {
         }
     }
 
+    /**
+     * Sets the provider creating the fonts of the typeface modules of the application, usually the TypefaceProvider
+     * generated by typeface-provider.gradle. Fonts of the prefixes it knows are created by the provider instead of by
+     * class name, when their prefix is first requested. Prefixes previously found without font are looked up again.
+     *
+     * @param provider The provider, or {@code null} to create the fonts by class name from the typeface index.
+     */
+    public static synchronized void setTypefaceProvider(MfbTypefaceProvider provider) {
+        typefaceProvider = provider;
+        MISSING_FONTS.clear();
+        prefixIndex = prefixIndex.without(NO_ICONS);
+        initDone = false;
+    }
+
+    /**
+     * Returns the provider set with {@link #setTypefaceProvider(MfbTypefaceProvider)}.
+     *
+     * @return The provider, or {@code null} if none was set.
+     */
+    public static MfbTypefaceProvider getTypefaceProvider() {
+        return typefaceProvider;
+    }
+
+    /**
+     * Resolves the font registered for the given mapping prefix, creating it the first time it is requested, with the
+     * typeface provider if it knows the prefix, or else by instantiating the class of the prefix found in the typeface
+     * index. Concurrent first calls may both create the font, but only the first one is published.
+     *
+     * @param mappingPrefix The mapping prefix of the font.
+     * @return The registered font, or {@code null} if no font module is available for the prefix.
+     */
+    private static MfbTypeface resolveFont(String mappingPrefix) {
+        MfbTypeface font = FONTS.get(mappingPrefix);
+        if (font != null || MISSING_FONTS.contains(mappingPrefix)) {
+            return font;
+        }
+        MfbTypefaceProvider provider = typefaceProvider;
+        if (provider != null && Arrays.binarySearch(provider.getMappingPrefixes(), mappingPrefix) >= 0) {
+            return loadFont(mappingPrefix, provider, null);
+        }
+        String fontsClassPath = GenericsUtil.getFontClassName(mappingPrefix);
+        if (fontsClassPath == null) {
+            return null;
+        }
+        return loadFont(mappingPrefix, null, fontsClassPath);
+    }
+
+    /**
+     * Creates the font of a prefix with the given provider, or by class name if no provider is given.
+     */
+    private static MfbTypeface loadFont(String mappingPrefix, MfbTypefaceProvider provider, String fontsClassPath) {
+        try {
+            MfbTypeface typeface = provider != null ? provider.newTypeface(mappingPrefix)
+                    : (MfbTypeface) Class.forName(fontsClassPath).getDeclaredConstructor().newInstance();
+            if (typeface == null) {
+                throw new IllegalArgumentException("No typeface provided.");
+            }
+            validateFont(typeface);
+            MfbTypeface published = FONTS.putIfAbsent(typeface.getMappingPrefix(), typeface);
+            logHelper.logDebug("Typeface = %{public}s", typeface.getAuthor());
+            if (published != null) {
+                return published;
+            }
+            indexFont(typeface);
+            return typeface;
+        } catch (ClassNotFoundException e) {
+            logHelper.logDebug("%{public}s not found.", fontsClassPath);
+        } catch (Exception e) {
+            logHelper.logDebug("Can't init: %{public}s, %{public}s", mappingPrefix, e.getMessage());
+        }
+        MISSING_FONTS.add(mappingPrefix);
+        return null;
+    }
+
     /**
      * Test if the icon exists in the currently loaded fonts.
      *
      * @param icon The icon to verify
      * @return true if the icon is available
      */
-    public static boolean iconExists(String icon) {
-        try {
-            MfbTypeface font = findFont(icon.substring(0, FONT_MAPPING_PREFIX));
-            icon = icon.replace("-", "_");
-            font.getIcon(icon);
-            return true;
-        } catch (Exception ignore) {
-            // Either icon does not exist, or font couldn't be loaded. Return false in this case
+    public static boolean iconExists(CharSequence icon) {
+        return findIcon(icon) != null;
+    }
+
+    /**
+     * Finds an icon by its key in the font matching the mapping prefix of the key. Once the font of the prefix is
+     * loaded, the key is resolved in place through the IconTable of the font, so a lookup doesn't allocate. Prefixes
+     * without a font are remembered too, so keys of unknown fonts are rejected just as fast.
+     *
+     * @param icon The key of the icon, eg. {@code "CMDI_ACCOUNT"} or {@code "CMDI-ACCOUNT"}.
+     * @return The icon, or {@code null} if the icon does not exist or its font couldn't be loaded.
+     */
+    public static MfbIcon findIcon(CharSequence icon) {
+        if (icon == null || icon.length() < FONT_MAPPING_PREFIX) {
+            return null;
+        }
+        int packedPrefix = packPrefix(icon);
+        if (packedPrefix != UNPACKED_PREFIX) {
+            IconTable iconTable = prefixIndex.findIconTable(packedPrefix);
+            if (iconTable != null) {
+                return iconTable.find(icon);
+            }
+        }
+        String mappingPrefix = icon.subSequence(0, FONT_MAPPING_PREFIX).toString();
+        MfbTypeface font = findFont(mappingPrefix);
+        if (font == null) {
+            if (packedPrefix != UNPACKED_PREFIX) {
+                indexMissingFont(mappingPrefix, packedPrefix);
+            }
+            return null;
+        }
+        return font.findIcon(icon.toString().replace('-', '_'));
+    }
+
+    /**
+     * Records a key whose icon couldn't be found, so that a key missed on every lookup, eg. a name sent for a newer
+     * font version, is only reported once. Keys are remembered by hash in a small table, so a key may be reported
+     * again once other missing keys replaced it.
+     *
+     * @param icon The key of the missing icon.
+     * @return true if the key wasn't recently recorded and should be reported.
+     */
+    static boolean recordMissingIcon(CharSequence icon) {
+        int hash = 1;
+        if (icon != null) {
+            for (int index = 0; index < icon.length(); index++) {
+                hash = 31 * hash + icon.charAt(index);
+            }
+        }
+        if (hash == 0) {
+            // the table starts zero filled, so 0 can't be told apart from an empty slot
+            hash = MISSING_HASH_ZERO;
+        }
+        int slot = (hash ^ hash >>> 16) & (RECENT_MISSES.length - 1);
+        if (RECENT_MISSES[slot] == hash) {
+            return false;
+        }
+        RECENT_MISSES[slot] = hash;
+        return true;
+    }
+
+    /**
+     * Packs the mapping prefix of a key into an int, one 8 bit character per byte, so that it can be compared
+     * without being extracted from the key.
+     *
+     * @param key The key of an icon, at least {@link #FONT_MAPPING_PREFIX} characters long.
+     * @return The packed prefix, or {@link #UNPACKED_PREFIX} if a character of the prefix doesn't fit in 8 bits.
+     */
+    static int packPrefix(CharSequence key) {
+        int packedPrefix = 0;
+        for (int position = 0; position < FONT_MAPPING_PREFIX; position++) {
+            char character = key.charAt(position);
+            if (character > 0xFF) {
+                return UNPACKED_PREFIX;
+            }
+            packedPrefix = packedPrefix << 8 | character;
+        }
+        return packedPrefix;
+    }
+
+    /**
+     * Adds a font to the prefix index, replacing the font previously registered for the same prefix.
+     */
+    private static synchronized void indexFont(MfbTypeface font) {
+        int packedPrefix = packPrefix(font.getMappingPrefix());
+        if (packedPrefix != UNPACKED_PREFIX) {
+            prefixIndex = prefixIndex.with(packedPrefix, font.getIconTable());
         }
-        return false;
+    }
+
+    /**
+     * Checks whether a packed mapping prefix is indexed as having no font.
+     *
+     * @param packedPrefix The prefix packed by {@link #packPrefix(CharSequence)}.
+     * @return true if the prefix is known to have no font.
+     */
+    static boolean isMissingPrefix(int packedPrefix) {
+        return prefixIndex.findIconTable(packedPrefix) == NO_ICONS;
+    }
+
+    /**
+     * Returns the icon table of a font, reusing the one indexed when the font was registered, so that callers don't
+     * rebuild the table of fonts relying on the default {@link MfbTypeface#getIconTable()}.
+     *
+     * @param font The font.
+     * @return The IconTable of all the icons of the font.
+     */
+    static IconTable getIconTable(MfbTypeface font) {
+        String mappingPrefix = font.getMappingPrefix();
+        int packedPrefix = packPrefix(mappingPrefix);
+        if (packedPrefix != UNPACKED_PREFIX && FONTS.get(mappingPrefix) == font) {
+            IconTable iconTable = prefixIndex.findIconTable(packedPrefix);
+            if (iconTable != null && iconTable != NO_ICONS) {
+                return iconTable;
+            }
+        }
+        return font.getIconTable();
+    }
+
+    /**
+     * Adds a prefix without font to the prefix index, unless a font was registered for it meanwhile or the index
+     * already holds as many such prefixes as it may.
+     */
+    private static synchronized void indexMissingFont(String mappingPrefix, int packedPrefix) {
+        if (!FONTS.containsKey(mappingPrefix) && prefixIndex.countIconTables(NO_ICONS) < MAX_MISSING_PREFIXES) {
+            prefixIndex = prefixIndex.with(packedPrefix, NO_ICONS);
+        }
+    }
+
+    /**
+     * Finds the icons of many keys at once, grouping the keys by typeface. See {@link IconBatch}.
+     *
+     * @param keys The keys of the icons, eg. {@code "CMDI_ACCOUNT"} or {@code "CMDI-ACCOUNT"}. Can contain
+     *             {@code null} keys.
+     * @return The icon of each key, {@code null} for keys whose icon does not exist or whose font couldn't be loaded.
+     */
+    public static MfbIcon[] resolveAll(List<? extends CharSequence> keys) {
+        return resolveAll(keys, new IconBatch()).toArray();
+    }
+
+    /**
+     * Finds the icons of many keys at once into a reusable batch, which allocates nothing once its buffers are large
+     * enough. See {@link IconBatch}.
+     *
+     * @param keys The keys of the icons, eg. {@code "CMDI_ACCOUNT"} or {@code "CMDI-ACCOUNT"}. Can contain
+     *             {@code null} keys.
+     * @param batch The batch receiving the icons, whose previous content is replaced.
+     * @return The given batch, holding the icon of each key and the misses.
+     */
+    public static IconBatch resolveAll(List<? extends CharSequence> keys, IconBatch batch) {
+        batch.resolve(keys);
+        return batch;
     }
 
     /**
@@ -80,6 +319,7 @@ public final class CoreIcon {
         try {
             validateFont(font);
             FONTS.put(font.getMappingPrefix(), font);
+            indexFont(font);
             return true;
         } catch (IllegalArgumentException ex) {
             logHelper.logError("registerFont : Font named %{public}s could not be registered. Exception: %{public}s",
@@ -115,8 +355,10 @@ public final class CoreIcon {
      * @param key The key of the font to be found.
      */
     public static MfbTypeface findFont(String key) {
-        init();
-        return FONTS.get(key);
+        if (key == null) {
+            return null;
+        }
+        return resolveFont(key);
     }
 
     /**
@@ -128,6 +370,47 @@ public final class CoreIcon {
         return icon.getTypeface();
     }
 
+    /**
+     * Loads the fonts of the given typefaces on a background executor, so that buttons using them don't have to
+     * extract and build the font on the UI thread. A typeface is only loaded once, even if it is preloaded again.
+     *
+     * @param context The AbilityContext of the HAP containing the fonts.
+     * @param prefixes The mapping prefixes of the typefaces to be loaded, eg. {@code "CMDI"}.
+     * @param executor The executor running the loads.
+     * @return One task per known prefix, which can be waited on or listened to for completion.
+     */
+    public static List<TypefaceLoadTask> preload(AbilityContext context, Collection<String> prefixes,
+                                                 Executor executor) {
+        List<TypefaceLoadTask> tasks = new ArrayList<>(prefixes.size());
+        for (String prefix : prefixes) {
+            MfbTypeface typeface = findFont(prefix);
+            if (typeface == null) {
+                logHelper.logDebug("preload : no font found for %{public}s", prefix);
+                continue;
+            }
+            TypefaceLoadTask task = new TypefaceLoadTask(typeface, context);
+            TypefaceLoadTask existingTask = TYPEFACE_LOADS.putIfAbsent(typeface.getMappingPrefix(), task);
+            if (existingTask == null) {
+                executor.execute(task);
+                tasks.add(task);
+            } else {
+                tasks.add(existingTask);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the background load of the font of the given typeface, if it was preloaded.
+     *
+     * @param typeface The typeface.
+     * @return The load task, or {@code null} if the typeface was never preloaded.
+     */
+    public static TypefaceLoadTask getTypefaceLoad(MfbTypeface typeface) {
+        String mappingPrefix = typeface.getMappingPrefix();
+        return mappingPrefix == null ? null : TYPEFACE_LOADS.get(mappingPrefix);
+    }
+
     public static boolean isLoggingEnabled() {
         return loggingEnabled;
     }
@@ -140,4 +423,67 @@ public final class CoreIcon {
     public static boolean isInitDone() {
         return initDone;
     }
+
+    /**
+     * Immutable list of the icon tables of the resolved fonts by packed mapping prefix, scanned linearly as there are
+     * only a few fonts.
+     */
+    private static final class PrefixIndex {
+
+        static final PrefixIndex EMPTY = new PrefixIndex(new int[0], new IconTable[0]);
+
+        private final int[] packedPrefixes;
+        private final IconTable[] iconTables;
+
+        private PrefixIndex(int[] packedPrefixes, IconTable[] iconTables) {
+            this.packedPrefixes = packedPrefixes;
+            this.iconTables = iconTables;
+        }
+
+        IconTable findIconTable(int packedPrefix) {
+            for (int index = 0; index < packedPrefixes.length; index++) {
+                if (packedPrefixes[index] == packedPrefix) {
+                    return iconTables[index];
+                }
+            }
+            return null;
+        }
+
+        PrefixIndex without(IconTable iconTable) {
+            int length = packedPrefixes.length - countIconTables(iconTable);
+            int[] newPackedPrefixes = new int[length];
+            IconTable[] newIconTables = new IconTable[length];
+            int newIndex = 0;
+            for (int index = 0; index < packedPrefixes.length; index++) {
+                if (iconTables[index] != iconTable) {
+                    newPackedPrefixes[newIndex] = packedPrefixes[index];
+                    newIconTables[newIndex++] = iconTables[index];
+                }
+            }
+            return new PrefixIndex(newPackedPrefixes, newIconTables);
+        }
+
+        int countIconTables(IconTable iconTable) {
+            int count = 0;
+            for (IconTable indexedIconTable : iconTables) {
+                if (indexedIconTable == iconTable) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        PrefixIndex with(int packedPrefix, IconTable iconTable) {
+            int index = 0;
+            while (index < packedPrefixes.length && packedPrefixes[index] != packedPrefix) {
+                index++;
+            }
+            int length = Math.max(packedPrefixes.length, index + 1);
+            int[] newPackedPrefixes = Arrays.copyOf(packedPrefixes, length);
+            IconTable[] newIconTables = Arrays.copyOf(iconTables, length);
+            newPackedPrefixes[index] = packedPrefix;
+            newIconTables[index] = iconTable;
+            return new PrefixIndex(newPackedPrefixes, newIconTables);
+        }
+    }
 }
@@ -0,0 +1,661 @@
+package com.rilixtech.materialfancybutton;
+
+import ohos.agp.components.AttrSet;
+import ohos.agp.components.Component;
+import ohos.agp.components.element.StateElement;
+import ohos.agp.render.Canvas;
+import ohos.agp.render.Paint;
+import ohos.agp.text.Font;
+import ohos.agp.utils.Color;
+import ohos.app.AbilityContext;
+import ohos.app.Context;
+import ohos.hiviewdfx.HiLog;
+import ohos.hiviewdfx.HiLogLabel;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.MfbIcon;
+import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import com.rilixtech.materialfancybutton.utils.ButtonAttributes;
+import com.rilixtech.materialfancybutton.utils.FontUtil;
+
+/**
+ * Lightweight variant of {@link MaterialFancyButton} made of a single Component. Instead of hosting child Text and
+ * Image Components, it measures and draws its icon-font glyph and its text itself from a {@link DrawTask}, caching
+ * the text metrics between layout passes. Its background is built like those of identically styled
+ * MaterialFancyButtons, from the same cached colors and radii.
+ * It is meant for dense toolbars and grids, where each button otherwise costs three more Components to measure,
+ * lay out and draw. Icon-font glyphs are drawn from the shared {@link GlyphAtlas}. Drawable-icons, text gravity and
+ * text capitalization are not supported.
+ */
+public class FlatFancyButton extends Component implements Component.DrawTask, Component.EstimateSizeListener {
+
+    private static final String TAG = FlatFancyButton.class.getSimpleName();
+    private static final int DOMAIN = 0xD000100;
+    private static final HiLogLabel LABEL = new HiLogLabel(HiLog.LOG_APP, DOMAIN, TAG);
+
+    // # Style Attributes, shared with the buttons of the same style. Text gravity and capitalization are ignored
+    private ButtonStyle mStyle;
+
+    // # Text Attributes
+    private String mText = "";
+    private Font mTextTypeFace = Font.DEFAULT;
+
+    // # Icon Attributes
+    private String mFontIcon = null;
+    private MfbIcon mMfbIcon = null;
+    // Precomputed metrics of the typeface of mMfbIcon and ordinal of its glyph, null if they aren't available
+    private GlyphMetrics mIconGlyphMetrics = null;
+    private int mIconGlyphOrdinal = -1;
+    private Font mIconTypeFace = Font.DEFAULT;
+    private boolean mUseGlyphAtlas = true;
+
+    private final Paint mTextPaint = new Paint();
+    private final Paint mIconPaint = new Paint();
+    private final Paint mGlyphPaint = new Paint();
+
+    // Cached metrics of the text and of the icon glyph, valid until one of the attributes they depend on changes
+    private boolean mMetricsValid = false;
+    private float mTextWidth;
+    private float mTextAscent;
+    private float mTextHeight;
+    private float mIconWidth;
+    private float mIconAscent;
+    private float mIconHeight;
+
+    private BackgroundStyle mBackgroundStyle = null;
+    private StateElement mBackground = null;
+
+    /**
+     * Used to define a FlatFancyButton Component with the default attributes.
+     *
+     * @param context The context in which this Component is being instantiated.
+     */
+    public FlatFancyButton(Context context) {
+        super(context);
+        mStyle = new ButtonStyle.Builder(context).build();
+        initializeFlatFancyButton();
+    }
+
+    /**
+     * Used to define a FlatFancyButton Component using the AttrSet provided. It supports the same custom attributes
+     * as {@link MaterialFancyButton}, except for the ones this button does not support.
+     *
+     * @param context The context in which this Component is being instantiated.
+     * @param attrs The set of Attributes used to configure this Button.
+     */
+    public FlatFancyButton(Context context, AttrSet attrs) {
+        super(context, attrs);
+        initAttributes(attrs);
+        initializeFlatFancyButton();
+    }
+
+    private void initializeFlatFancyButton() {
+        mTextPaint.setAntiAlias(true);
+        mIconPaint.setAntiAlias(true);
+        if (getPaddingLeft() == 0 && getPaddingRight() == 0 && getPaddingTop() == 0 && getPaddingBottom() == 0) {
+            setPadding(20, 0, 20, 0);
+        }
+        setClickable(true);
+        setFocusable(FOCUS_ENABLE);
+        setupBackground();
+        setEstimateSizeListener(this);
+        addDrawTask(this);
+    }
+
+    private void initAttributes(AttrSet attrSet) {
+        ButtonAttributes attributes = ButtonAttributes.read(attrSet);
+        mStyle = ButtonStyle.fromAttributes(getContext(), attributes);
+        if (attributes.has(ButtonAttributes.RADIUS_TOP_LEFT) || attributes.has(ButtonAttributes.RADIUS_TOP_RIGHT)
+                || attributes.has(ButtonAttributes.RADIUS_BOTTOM_LEFT)
+                || attributes.has(ButtonAttributes.RADIUS_BOTTOM_RIGHT)) {
+            // Per-corner radii are not supported
+            mStyle = mStyle.toBuilder().setRadius(mStyle.getRadius()).build();
+        }
+
+        String text = attributes.getString(ButtonAttributes.TEXT);
+        if (text == null) {
+            text = attributes.getString(ButtonAttributes.OHOS_TEXT);
+        }
+        if (text != null) {
+            mText = text;
+        }
+
+        Context callerContext = getContext();
+        if (callerContext instanceof AbilityContext) {
+            AbilityContext abilityContext = (AbilityContext) callerContext;
+            mTextTypeFace = FontUtil.findFont(abilityContext, attributes.getString(ButtonAttributes.TEXT_FONT), null);
+            mIconTypeFace = FontUtil.findFont(abilityContext, attributes.getString(ButtonAttributes.ICON_FONT), null);
+        }
+        String fontIcon = attributes.getString(ButtonAttributes.FONT_ICON_RESOURCE);
+        if (fontIcon != null) {
+            mFontIcon = fontIcon;
+        }
+        String icon = attributes.getString(ButtonAttributes.ICON);
+        if (icon != null) {
+            setIcon(icon);
+        }
+    }
+
+    private void setupBackground() {
+        BackgroundStyle backgroundStyle = mStyle.getBackgroundStyle();
+        if (backgroundStyle.equals(mBackgroundStyle) && getBackgroundElement() == mBackground) {
+            return;
+        }
+        mBackgroundStyle = backgroundStyle;
+        mBackground = backgroundStyle.newBackground();
+        setBackground(mBackground);
+    }
+
+    /**
+     * Drops the cached metrics after a change of the text or of the icon, and requests a new layout pass.
+     */
+    private void invalidateMetrics() {
+        mMetricsValid = false;
+        postLayout();
+        invalidate();
+    }
+
+    private void measureContent() {
+        if (mMetricsValid) {
+            return;
+        }
+        mTextPaint.setTextSize(mStyle.getTextSize());
+        mTextPaint.setFont(mTextTypeFace);
+        Paint.FontMetrics textMetrics = mTextPaint.getFontMetrics();
+        mTextWidth = hasText() ? mTextPaint.measureText(mText) : 0;
+        mTextAscent = textMetrics.ascent;
+        mTextHeight = hasText() ? textMetrics.descent - textMetrics.ascent : 0;
+
+        int fontIconSize = mStyle.getFontIconSize();
+        mIconPaint.setTextSize(fontIconSize);
+        mIconPaint.setFont(mIconTypeFace);
+        if (mIconGlyphMetrics != null) {
+            // Typeface icons are sized from the metrics of their font, without measuring text
+            mIconWidth = mIconGlyphMetrics.getAdvanceWidth(mIconGlyphOrdinal, fontIconSize);
+            mIconAscent = mIconGlyphMetrics.getAscent(fontIconSize);
+            mIconHeight = mIconGlyphMetrics.getLineHeight(fontIconSize);
+        } else {
+            Paint.FontMetrics iconMetrics = mIconPaint.getFontMetrics();
+            mIconWidth = hasIcon() ? mIconPaint.measureText(mFontIcon) : 0;
+            mIconAscent = iconMetrics.ascent;
+            mIconHeight = hasIcon() ? iconMetrics.descent - iconMetrics.ascent : 0;
+        }
+        mMetricsValid = true;
+    }
+
+    private boolean hasText() {
+        return mText != null && !mText.isEmpty();
+    }
+
+    private boolean hasIcon() {
+        return mFontIcon != null && !mFontIcon.isEmpty();
+    }
+
+    private boolean isVertical() {
+        int iconPosition = mStyle.getIconPosition();
+        return iconPosition == MaterialFancyButton.POSITION_TOP || iconPosition == MaterialFancyButton.POSITION_BOTTOM;
+    }
+
+    private boolean isIconLeading() {
+        int iconPosition = mStyle.getIconPosition();
+        return iconPosition == MaterialFancyButton.POSITION_LEFT || iconPosition == MaterialFancyButton.POSITION_TOP;
+    }
+
+    private float getIconBoxWidth() {
+        return hasIcon() ? mStyle.getIconPaddingLeft() + mIconWidth + mStyle.getIconPaddingRight() : 0;
+    }
+
+    private float getIconBoxHeight() {
+        return hasIcon() ? mStyle.getIconPaddingTop() + mIconHeight + mStyle.getIconPaddingBottom() : 0;
+    }
+
+    private int getContentWidth() {
+        float width = isVertical()
+                ? Math.max(getIconBoxWidth(), mTextWidth) : getIconBoxWidth() + mTextWidth;
+        return (int) Math.ceil(width);
+    }
+
+    private int getContentHeight() {
+        float height = isVertical()
+                ? getIconBoxHeight() + mTextHeight : Math.max(getIconBoxHeight(), mTextHeight);
+        return (int) Math.ceil(height);
+    }
+
+    @Override
+    public boolean onEstimateSize(int widthEstimateConfig, int heightEstimateConfig) {
+        measureContent();
+        int width = resolveSize(getContentWidth() + getPaddingLeft() + getPaddingRight(), widthEstimateConfig);
+        int height = resolveSize(getContentHeight() + getPaddingTop() + getPaddingBottom(), heightEstimateConfig);
+        setEstimatedSize(EstimateSpec.getSizeWithMode(width, EstimateSpec.PRECISE),
+                EstimateSpec.getSizeWithMode(height, EstimateSpec.PRECISE));
+        return true;
+    }
+
+    private static int resolveSize(int size, int estimateConfig) {
+        int specSize = EstimateSpec.getSize(estimateConfig);
+        switch (EstimateSpec.getMode(estimateConfig)) {
+            case EstimateSpec.PRECISE:
+                return specSize;
+            case EstimateSpec.NOT_EXCEED:
+                return Math.min(size, specSize);
+            default:
+                return size;
+        }
+    }
+
+    @Override
+    public void onDraw(Component component, Canvas canvas) {
+        measureContent();
+        int innerWidth = getWidth() - getPaddingLeft() - getPaddingRight();
+        int innerHeight = getHeight() - getPaddingTop() - getPaddingBottom();
+        // The content is centered as a block, each part of it being centered across the orientation
+        float left = getPaddingLeft() + (innerWidth - getContentWidth()) / 2F;
+        float top = getPaddingTop() + (innerHeight - getContentHeight()) / 2F;
+        float iconBoxWidth = getIconBoxWidth();
+        float iconBoxHeight = getIconBoxHeight();
+
+        float iconLeft;
+        float iconTop;
+        float textLeft;
+        float textTop;
+        if (isVertical()) {
+            iconLeft = getPaddingLeft() + (innerWidth - iconBoxWidth) / 2F;
+            textLeft = getPaddingLeft() + (innerWidth - mTextWidth) / 2F;
+            iconTop = isIconLeading() ? top : top + mTextHeight;
+            textTop = isIconLeading() ? top + iconBoxHeight : top;
+        } else {
+            iconTop = getPaddingTop() + (innerHeight - iconBoxHeight) / 2F;
+            textTop = getPaddingTop() + (innerHeight - mTextHeight) / 2F;
+            iconLeft = isIconLeading() ? left : left + mTextWidth;
+            textLeft = isIconLeading() ? left + iconBoxWidth : left;
+        }
+
+        if (hasIcon()) {
+            drawIcon(canvas, iconLeft + mStyle.getIconPaddingLeft(), iconTop + mStyle.getIconPaddingTop());
+        }
+        if (hasText()) {
+            mTextPaint.setColor(mStyle.getCurrentTextColor());
+            canvas.drawText(mTextPaint, mText, textLeft, textTop - mTextAscent);
+        }
+    }
+
+    /**
+     * Draws the icon-font from the shared {@link GlyphAtlas} when it is a single glyph, or as text otherwise.
+     */
+    private void drawIcon(Canvas canvas, float left, float top) {
+        Color iconColor = mStyle.getCurrentIconColor();
+        if (mUseGlyphAtlas && mFontIcon.length() == 1) {
+            GlyphAtlas atlas = GlyphAtlas.getDefault();
+            GlyphAtlas.Glyph glyph = atlas.getGlyph(mIconTypeFace, mFontIcon.charAt(0), mStyle.getFontIconSize(),
+                    iconColor.getValue());
+            // Pages recycled by this lookup may still be drawn by the buttons drawn before this one
+            atlas.postPendingRelease(getContext().getUITaskDispatcher());
+            if (glyph != null) {
+                glyph.draw(canvas, left, top, mGlyphPaint);
+                return;
+            }
+        }
+        mIconPaint.setColor(iconColor);
+        canvas.drawText(mIconPaint, mFontIcon, left, top - mIconAscent);
+    }
+
+    /**
+     * Sets whether the icon-font is drawn from the {@link GlyphAtlas} shared by all the buttons, which is the
+     * default. Glyphs are then rasterized once for all the buttons showing them, at the cost of the atlas memory.
+     *
+     * @param useGlyphAtlas {@code false} to draw the icon-font as text.
+     */
+    public void setUseGlyphAtlas(boolean useGlyphAtlas) {
+        mUseGlyphAtlas = useGlyphAtlas;
+        invalidate();
+    }
+
+    /**
+     * Set Text of the button.
+     *
+     * @param text : Text
+     */
+    public void setText(String text) {
+        mText = text;
+        invalidateMetrics();
+    }
+
+    /**
+     * Return the Text of the button.
+     *
+     * @return The text of the button.
+     */
+    public String getText() {
+        return mText;
+    }
+
+    /**
+     * Set the color of text.
+     *
+     * @param color : Color use Color.getIntColor('#code')
+     */
+    public void setTextColor(int color) {
+        setButtonStyle(mStyle.toBuilder().setTextColor(color).build());
+    }
+
+    /**
+     * Get the color of text.
+     *
+     * @return The integer value of the color.
+     */
+    public int getTextColor() {
+        return mStyle.getTextColor();
+    }
+
+    /**
+     * Set the size of Text in fp.
+     *
+     * @param textSize : Text Size
+     */
+    public void setTextSize(int textSize) {
+        setButtonStyle(mStyle.toBuilder().setTextSize(FontUtil.fpToPx(getContext(), textSize)).build());
+    }
+
+    /**
+     * Set custom font for button Text from a font file.
+     *
+     * @param fontName : Name of the font file. It should be placed in the rawfile directory of the HAP using the font.
+     */
+    public void setCustomTextFont(String fontName) {
+        Context callerContext = getContext();
+        if (callerContext instanceof AbilityContext) {
+            mTextTypeFace = FontUtil.findFont((AbilityContext) callerContext, fontName, null);
+            invalidateMetrics();
+        }
+    }
+
+    /**
+     * Setting the icon's color independent of the text color.
+     *
+     * @param color : Color
+     */
+    public void setIconColor(int color) {
+        setButtonStyle(mStyle.toBuilder().setIconColor(color).build());
+    }
+
+    /**
+     * Get the Color of the icon-font.
+     *
+     * @return The integer value of the color.
+     */
+    public int getIconColor() {
+        return mStyle.getIconColor();
+    }
+
+    /**
+     * Sets the icon-font of the button by finding an icon-font with the given key. A key matching no icon leaves
+     * the icon unchanged, and is only logged the first time it is met.
+     *
+     * @param icon The key of the button icon to be set, eg. {@code "FAWI_GITHUB"}.
+     */
+    public void setIcon(String icon) {
+        MfbIcon mfbIcon = CoreIcon.findIcon(icon);
+        if (mfbIcon == null) {
+            if (CoreIcon.recordMissingIcon(icon)) {
+                HiLog.error(LABEL, "Wrong icon name: %{public}s", icon);
+            }
+            return;
+        }
+        setIcon(mfbIcon);
+    }
+
+    /**
+     * Sets the icon-font of the button to the given {@link MfbIcon}. If its font is still being preloaded, the icon
+     * is drawn once the font is loaded.
+     *
+     * @param icon The {@link MfbIcon} to be used as the icon of the button.
+     */
+    public void setIcon(MfbIcon icon) {
+        MfbTypeface typeface = icon.getTypeface();
+        Context callerContext = getContext();
+        if (callerContext instanceof AbilityContext) {
+            TypefaceLoadTask typefaceLoad = CoreIcon.getTypefaceLoad(typeface);
+            if (typefaceLoad == null || typefaceLoad.isDone()) {
+                mIconTypeFace = typeface.getTypeface((AbilityContext) callerContext);
+            } else {
+                mIconTypeFace = Font.DEFAULT;
+                typefaceLoad.addListener(() -> callerContext.getUITaskDispatcher().asyncDispatch(
+                    () -> onTypefaceLoaded(typefaceLoad)));
+            }
+        }
+        setMfbIcon(icon);
+        mFontIcon = String.valueOf(icon.getCharacter());
+        invalidateMetrics();
+    }
+
+    private void setMfbIcon(MfbIcon icon) {
+        mMfbIcon = icon;
+        mIconGlyphMetrics = null;
+        mIconGlyphOrdinal = -1;
+        if (icon != null) {
+            MfbTypeface typeface = icon.getTypeface();
+            GlyphMetrics glyphMetrics = typeface.getGlyphMetrics();
+            int ordinal = CoreIcon.getIconTable(typeface).indexOfCharacter(icon.getCharacter());
+            if (glyphMetrics != null && ordinal >= 0) {
+                mIconGlyphMetrics = glyphMetrics;
+                mIconGlyphOrdinal = ordinal;
+            }
+        }
+    }
+
+    private void onTypefaceLoaded(TypefaceLoadTask typefaceLoad) {
+        if (mMfbIcon == null || !typefaceLoad.getTypeface().getMappingPrefix()
+                .equals(mMfbIcon.getTypeface().getMappingPrefix())) {
+            return;
+        }
+        Font font = typefaceLoad.getFontIfLoaded();
+        if (font == null) {
+            HiLog.error(LABEL, "Can't preload font: %{public}s", mMfbIcon.getTypeface().getFontName());
+            return;
+        }
+        mIconTypeFace = font;
+        invalidateMetrics();
+    }
+
+    /**
+     * Set a icon-font character to the button, drawn with the current icon Font.
+     *
+     * @param icon : Icon value eg : \uf082
+     */
+    public void setIconResource(String icon) {
+        setMfbIcon(null);
+        mFontIcon = icon;
+        invalidateMetrics();
+    }
+
+    /**
+     * Set Custom font for button icon from a font file.
+     *
+     * @param fontName : Name of the font file. It should be placed in the rawfile directory of the HAP using the font.
+     */
+    public void setIconFont(String fontName) {
+        Context callerContext = getContext();
+        if (callerContext instanceof AbilityContext) {
+            mIconTypeFace = FontUtil.findFont((AbilityContext) callerContext, fontName, null);
+            setMfbIcon(null);
+            invalidateMetrics();
+        }
+    }
+
+    /**
+     * Gets the {@link MfbIcon} being used as the icon-font for this button.
+     *
+     * @return The MfbIcon, or {@code null} if the icon-font was not set from a {@link MfbTypeface}.
+     */
+    public MfbIcon getIcon() {
+        return mMfbIcon;
+    }
+
+    /**
+     * Set Icon size of the button in fp.
+     *
+     * @param iconSize : Icon Size
+     */
+    public void setFontIconSize(int iconSize) {
+        setButtonStyle(mStyle.toBuilder().setFontIconSize(FontUtil.fpToPx(getContext(), iconSize)).build());
+    }
+
+    /**
+     * Set Icon Position, one of the POSITION_* constants of {@link MaterialFancyButton}.
+     *
+     * @param position : Icon Position.
+     */
+    public void setIconPosition(int position) {
+        setButtonStyle(mStyle.toBuilder().setIconPosition(position).build());
+    }
+
+    /**
+     * Get Icon Position.
+     *
+     * @return Icon Position.
+     */
+    public int getIconPosition() {
+        return mStyle.getIconPosition();
+    }
+
+    /**
+     * Set the padding around the icon-font.
+     *
+     * @param paddingLeft : Padding Left.
+     * @param paddingTop : Padding Top.
+     * @param paddingRight : Padding Right.
+     * @param paddingBottom : Padding Bottom.
+     */
+    public void setIconPadding(int paddingLeft, int paddingTop, int paddingRight, int paddingBottom) {
+        setButtonStyle(mStyle.toBuilder().setIconPadding(paddingLeft, paddingTop, paddingRight, paddingBottom).build());
+    }
+
+    /**
+     * Set Background color of the button.
+     *
+     * @param color : use Color.getIntColor('#code')
+     */
+    public void setBackgroundColor(int color) {
+        setButtonStyle(mStyle.toBuilder().setBackgroundColor(color).build());
+    }
+
+    /**
+     * Set Focus color of the button.
+     *
+     * @param color : use Color.getIntColor('#code')
+     */
+    public void setFocusBackgroundColor(int color) {
+        setButtonStyle(mStyle.toBuilder().setFocusBackgroundColor(color).build());
+    }
+
+    /**
+     * Set Disabled state color of the button.
+     *
+     * @param color : use Color.getIntColor('#code')
+     */
+    public void setDisableBackgroundColor(int color) {
+        setButtonStyle(mStyle.toBuilder().setDisableBackgroundColor(color).build());
+    }
+
+    /**
+     * Set Disabled state color of the button text and icon.
+     *
+     * @param color : use Color.getIntColor('#code')
+     */
+    public void setDisableTextColor(int color) {
+        setButtonStyle(mStyle.toBuilder().setDisableTextColor(color).build());
+    }
+
+    /**
+     * Set Disabled state color of the button border.
+     *
+     * @param color : use Color.getIntColor('#code')
+     */
+    public void setDisableBorderColor(int color) {
+        setButtonStyle(mStyle.toBuilder().setDisableBorderColor(color).build());
+    }
+
+    /**
+     * Set color of the button border.
+     *
+     * @param color : use Color.getIntColor('#code')
+     */
+    public void setBorderColor(int color) {
+        setButtonStyle(mStyle.toBuilder().setBorderColor(color).build());
+    }
+
+    /**
+     * Set Width of the button border.
+     *
+     * @param width : Width in px.
+     */
+    public void setBorderWidth(int width) {
+        setButtonStyle(mStyle.toBuilder().setBorderWidth(width).build());
+    }
+
+    /**
+     * Set Border Radius of the button.
+     *
+     * @param radius : Radius in pixels.
+     */
+    public void setRadius(int radius) {
+        setButtonStyle(mStyle.toBuilder().setRadius(radius).build());
+    }
+
+    /**
+     * Setting the button to have hollow or solid shape.
+     *
+     * @param ghost If the button is to be hollow or not.
+     */
+    public void setGhost(boolean ghost) {
+        setButtonStyle(mStyle.toBuilder().setGhost(ghost).build());
+    }
+
+    /**
+     * Sets the style of the button: its colors, radius, sizes and paddings. Its text gravity and capitalization are
+     * ignored by this button.
+     *
+     * @param style The new style of the button.
+     */
+    public void setButtonStyle(ButtonStyle style) {
+        ButtonStyle previousStyle = mStyle;
+        mStyle = style;
+        if (style == previousStyle) {
+            return;
+        }
+        if (style.isEnabled() != previousStyle.isEnabled()) {
+            super.setEnabled(style.isEnabled());
+        }
+        if (!style.hasSameBackground(previousStyle)) {
+            setupBackground();
+        }
+        if (style.getTextSize() != previousStyle.getTextSize()
+                || style.getIconPosition() != previousStyle.getIconPosition()
+                || style.getFontIconSize() != previousStyle.getFontIconSize()
+                || !style.hasSameIconPadding(previousStyle)) {
+            invalidateMetrics();
+        } else {
+            invalidate();
+        }
+    }
+
+    /**
+     * Gets the style of the button, which can be given to other buttons or derived with
+     * {@link ButtonStyle#toBuilder()}.
+     *
+     * @return The style of the button.
+     */
+    public ButtonStyle getButtonStyle() {
+        return mStyle;
+    }
+
+    /**
+     * Override setEnabled and redraw the FlatFancyButton according to the state : enabled or disabled.
+     */
+    @Override public void setEnabled(boolean value) {
+        super.setEnabled(value);
+        // Also called by the Component constructor, before the style of the button is set
+        if (mStyle != null) {
+            setButtonStyle(mStyle.toBuilder().setEnabled(value).build());
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.rilixtech.materialfancybutton;
+
+import ohos.agp.render.Canvas;
+import ohos.agp.render.Paint;
+import ohos.agp.render.PixelMapHolder;
+import ohos.agp.render.Texture;
+import ohos.agp.text.Font;
+import ohos.agp.utils.Color;
+import ohos.agp.utils.RectFloat;
+import ohos.app.dispatcher.TaskDispatcher;
+import ohos.media.image.PixelMap;
+import ohos.media.image.common.PixelFormat;
+import ohos.media.image.common.Size;
+import com.rilixtech.materialfancybutton.utils.LruCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared atlas of rasterized icon-font glyphs. Each combination of Font, character, size and color is drawn once
+ * into a page, a {@link PixelMap} in which glyphs are packed row by row, and is then drawn from that page by every
+ * button showing it, instead of being shaped and rasterized again by each of them. Pages are recycled as a whole,
+ * least recently used first, once the atlas holds its maximum number of pages. As buttons drawn earlier in the same
+ * frame may still use a recycled page, its pixels are only released by {@link #releasePendingPages()}, which
+ * {@link #postPendingRelease(TaskDispatcher)} runs once the current frame is drawn.
+ * The atlas must only be used from the UI thread.
+ */
+public final class GlyphAtlas {
+
+    /**
+     * Default width and height of a page, in px.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 512;
+    /**
+     * Default maximum number of pages held by an atlas.
+     */
+    public static final int DEFAULT_MAX_PAGES = 8;
+
+    // Blank pixels kept around each glyph, so that filtering never samples its neighbours
+    private static final int GLYPH_SPACING = 1;
+
+    private static GlyphAtlas defaultAtlas;
+
+    private final int pageSize;
+    private final Map<GlyphKey, Glyph> glyphs = new HashMap<>();
+    private final LruCache<Integer, Page> pages;
+    private final Paint paint = new Paint();
+    private final GlyphKey lookupKey = new GlyphKey();
+    // Pages recycled since the last release, whose pixels may still be drawn in the current frame
+    private final List<Page> pendingPages = new ArrayList<>();
+    private boolean releasePosted = false;
+    private Page currentPage;
+    private int nextPageId = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Creates an empty atlas.
+     *
+     * @param pageSize The width and height of each page, in px. Glyphs larger than a page are not cached.
+     * @param maxPages The maximum number of pages held by the atlas.
+     */
+    public GlyphAtlas(int pageSize, int maxPages) {
+        this.pageSize = pageSize;
+        this.pages = new LruCache<Integer, Page>(maxPages) {
+            @Override
+            protected void onEvicted(Integer key, Page page) {
+                recyclePage(page);
+            }
+        };
+        paint.setAntiAlias(true);
+    }
+
+    /**
+     * Returns the atlas shared by the buttons of the application, creating it with the default page size and number
+     * of pages on first use.
+     *
+     * @return The shared GlyphAtlas.
+     */
+    public static GlyphAtlas getDefault() {
+        if (defaultAtlas == null) {
+            defaultAtlas = new GlyphAtlas(DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+        }
+        return defaultAtlas;
+    }
+
+    /**
+     * Returns the rasterized glyph of the given character, drawing it into the atlas if it isn't there yet.
+     *
+     * @param font The Font of the glyph.
+     * @param character The character of the glyph in the Font.
+     * @param textSize The size of the glyph, in px.
+     * @param color The integer value of the color of the glyph.
+     * @return The Glyph, or {@code null} if it is too large to fit in a page.
+     */
+    public Glyph getGlyph(Font font, char character, int textSize, int color) {
+        lookupKey.set(font, character, textSize, color);
+        Glyph glyph = glyphs.get(lookupKey);
+        if (glyph != null) {
+            hitCount++;
+            // Mark the page as recently used
+            pages.get(glyph.page.id);
+            return glyph;
+        }
+        missCount++;
+        return rasterize(new GlyphKey().set(font, character, textSize, color));
+    }
+
+    private Glyph rasterize(GlyphKey key) {
+        String text = String.valueOf(key.character);
+        paint.setFont(key.font);
+        paint.setTextSize(key.textSize);
+        paint.setColor(new Color(key.color));
+        Paint.FontMetrics fontMetrics = paint.getFontMetrics();
+        int width = (int) Math.ceil(paint.measureText(text));
+        int height = (int) Math.ceil(fontMetrics.descent - fontMetrics.ascent);
+        if (width + GLYPH_SPACING * 2 > pageSize || height + GLYPH_SPACING * 2 > pageSize) {
+            return null;
+        }
+
+        if (currentPage == null || !currentPage.allocate(width, height)) {
+            currentPage = new Page(nextPageId++, pageSize);
+            pages.put(currentPage.id, currentPage, 1);
+            currentPage.allocate(width, height);
+        }
+        Page page = currentPage;
+        page.canvas.drawText(paint, text, page.allocatedX, page.allocatedY - fontMetrics.ascent);
+        Glyph glyph = new Glyph(page, page.allocatedX, page.allocatedY, width, height);
+        page.keys.add(key);
+        glyphs.put(key, glyph);
+        return glyph;
+    }
+
+    private void recyclePage(Page page) {
+        for (GlyphKey key : page.keys) {
+            glyphs.remove(key);
+        }
+        if (page == currentPage) {
+            currentPage = null;
+        }
+        pendingPages.add(page);
+    }
+
+    /**
+     * Posts the release of the pages recycled during the current frame, unless there are none or it is already
+     * posted. Meant to be called after drawing from the atlas, eg. at the end of onDraw.
+     *
+     * @param uiTaskDispatcher The dispatcher of the UI thread, which runs the release after the current frame.
+     */
+    public void postPendingRelease(TaskDispatcher uiTaskDispatcher) {
+        if (pendingPages.isEmpty() || releasePosted) {
+            return;
+        }
+        releasePosted = true;
+        uiTaskDispatcher.asyncDispatch(this::releasePendingPages);
+    }
+
+    /**
+     * Releases the pixels of the pages recycled since the last call. Glyphs of these pages must not be drawn anymore.
+     */
+    public void releasePendingPages() {
+        releasePosted = false;
+        for (Page page : pendingPages) {
+            page.release();
+        }
+        pendingPages.clear();
+    }
+
+    /**
+     * Releases pages of the atlas, typically when the system runs low on memory.
+     *
+     * @param level {@link LruCache#TRIM_MEMORY_MODERATE} to release the least recently used half of the pages, or
+     *              {@link LruCache#TRIM_MEMORY_COMPLETE} to release all of them.
+     */
+    public void trimMemory(int level) {
+        pages.trimMemory(level);
+        // Memory is trimmed between frames, so the pages are released right away
+        releasePendingPages();
+    }
+
+    /**
+     * Returns the number of pages currently held by the atlas.
+     *
+     * @return The number of pages.
+     */
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Returns the number of recycled pages whose pixels are not released yet.
+     *
+     * @return The number of pending pages.
+     */
+    public int getPendingPageCount() {
+        return pendingPages.size();
+    }
+
+    /**
+     * Returns the number of glyphs currently held by the atlas.
+     *
+     * @return The number of glyphs.
+     */
+    public int getGlyphCount() {
+        return glyphs.size();
+    }
+
+    /**
+     * Returns the number of glyphs that were found in the atlas.
+     *
+     * @return The number of hits since the atlas was created.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of glyphs that had to be rasterized, or were too large to be.
+     *
+     * @return The number of misses since the atlas was created.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Region of a page holding one rasterized glyph. A Glyph must not be kept across frames, as its page may be
+     * recycled and released; it should be looked up again with {@link #getGlyph(Font, char, int, int)} on each draw.
+     */
+    public static final class Glyph {
+        private final Page page;
+        private final RectFloat source;
+        private final RectFloat destination = new RectFloat();
+        private final int width;
+        private final int height;
+
+        private Glyph(Page page, int left, int top, int width, int height) {
+            this.page = page;
+            this.source = new RectFloat(left, top, left + width, top + height);
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Returns the width of the glyph, which is its advance in the Font.
+         *
+         * @return The width in px.
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * Returns the height of the glyph, from the ascent to the descent of the Font.
+         *
+         * @return The height in px.
+         */
+        public int getHeight() {
+            return height;
+        }
+
+        /**
+         * Returns whether the pixels of the page of the glyph were released, after which it can't be drawn.
+         */
+        boolean isReleased() {
+            return page.pixelMap.isReleased();
+        }
+
+        /**
+         * Draws the glyph with its top left corner at the given position.
+         *
+         * @param canvas The Canvas to draw on.
+         * @param left The left position, in px.
+         * @param top The top position, in px. The baseline of the glyph is below it by the ascent of the Font.
+         * @param paint The Paint to draw with, eg. to set its alpha.
+         */
+        public void draw(Canvas canvas, float left, float top, Paint paint) {
+            destination.modify(left, top, left + width, top + height);
+            canvas.drawPixelMapHolderRect(page.holder, source, destination, paint);
+        }
+    }
+
+    /**
+     * A PixelMap in which glyphs are allocated on shelves: rows as high as their highest glyph, filled left to right.
+     */
+    private static final class Page {
+        private final int id;
+        private final int size;
+        private final PixelMap pixelMap;
+        private final PixelMapHolder holder;
+        private final Canvas canvas;
+        private final List<GlyphKey> keys = new ArrayList<>();
+        private int shelfTop = 0;
+        private int shelfHeight = 0;
+        private int shelfRight = 0;
+        private int allocatedX;
+        private int allocatedY;
+
+        private Page(int id, int size) {
+            this.id = id;
+            this.size = size;
+            PixelMap.InitializationOptions options = new PixelMap.InitializationOptions();
+            options.size = new Size(size, size);
+            options.pixelFormat = PixelFormat.ARGB_8888;
+            options.editable = true;
+            this.pixelMap = PixelMap.create(options);
+            pixelMap.writePixels(Color.TRANSPARENT.getValue());
+            this.holder = new PixelMapHolder(pixelMap);
+            this.canvas = new Canvas(new Texture(pixelMap));
+        }
+
+        /**
+         * Finds room for a glyph, setting allocatedX and allocatedY to its top left corner.
+         *
+         * @return {@code false} if the page is full.
+         */
+        private boolean allocate(int width, int height) {
+            int paddedWidth = width + GLYPH_SPACING * 2;
+            int paddedHeight = height + GLYPH_SPACING * 2;
+            if (paddedHeight > shelfHeight || shelfRight + paddedWidth > size) {
+                if (shelfRight != 0) {
+                    // Open a new shelf below the current one
+                    shelfTop += shelfHeight;
+                    shelfRight = 0;
+                }
+                if (shelfTop + paddedHeight > size) {
+                    return false;
+                }
+                shelfHeight = paddedHeight;
+            }
+            allocatedX = shelfRight + GLYPH_SPACING;
+            allocatedY = shelfTop + GLYPH_SPACING;
+            shelfRight += paddedWidth;
+            return true;
+        }
+
+        private void release() {
+            holder.release();
+            pixelMap.release();
+        }
+    }
+
+    /**
+     * Key of a glyph. Fonts are compared by identity, as they are cached by FontUtil.
+     */
+    private static final class GlyphKey {
+        private Font font;
+        private char character;
+        private int textSize;
+        private int color;
+
+        private GlyphKey set(Font font, char character, int textSize, int color) {
+            this.font = font;
+            this.character = character;
+            this.textSize = textSize;
+            this.color = color;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof GlyphKey)) {
+                return false;
+            }
+            GlyphKey other = (GlyphKey) obj;
+            return font == other.font && character == other.character && textSize == other.textSize
+                    && color == other.color;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(font);
+            hash = 31 * hash + character;
+            hash = 31 * hash + textSize;
+            return 31 * hash + color;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.rilixtech.materialfancybutton;
+
+import com.rilixtech.materialfancybutton.typeface.IconTable;
+import com.rilixtech.materialfancybutton.typeface.MfbIcon;
+import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable result buffer of {@link CoreIcon#resolveAll(List, IconBatch)}, resolving many icon keys at once, eg. the
+ * icons of a screen described by a server. Keys are grouped by the typeface of their mapping prefix, which is read
+ * from the first characters of each key without extracting it, and each group is then resolved in one pass over the
+ * IconTable of its typeface. The buffers and the typefaces seen are kept between calls, so resolving batches of a
+ * similar size doesn't allocate.
+ * A batch must not be used from several threads at once.
+ */
+public final class IconBatch {
+
+    private static final int NO_GROUP = -1;
+    // Most groups of prefixes without a typeface per batch, so that keys with junk prefixes can't grow the groups
+    private static final int MAX_UNKNOWN_GROUPS = 16;
+
+    private MfbIcon[] icons = new MfbIcon[0];
+    private long[] missBits = new long[0];
+    private int size = 0;
+    private int missCount = 0;
+
+    // Group of each key, and the keys sorted by group
+    private int[] keyGroups = new int[0];
+    private int[] sortedKeys = new int[0];
+
+    // Mapping prefixes met by this batch, packed as four 8 bit characters, with their typeface and icon table
+    private int[] packedPrefixes = new int[4];
+    private String[] prefixes = new String[4];
+    private MfbTypeface[] typefaces = new MfbTypeface[4];
+    private IconTable[] iconTables = new IconTable[4];
+    // Position of the first key of each group in sortedKeys, and of the next key to be sorted
+    private int[] groupStarts = new int[5];
+    private int[] groupPositions = new int[5];
+    private int groupCount = 0;
+    private int unknownGroupCount = 0;
+
+    /**
+     * Resolves the given keys into this batch, replacing its previous content.
+     */
+    void resolve(List<? extends CharSequence> keys) {
+        size = keys.size();
+        missCount = 0;
+        ensureCapacity(size);
+        Arrays.fill(missBits, 0, (size + 63) >>> 6, 0L);
+        refreshTypefaces();
+
+        Arrays.fill(groupStarts, 0, groupCount + 1, 0);
+        for (int index = 0; index < size; index++) {
+            int group = findGroup(keys.get(index));
+            keyGroups[index] = group;
+            if (group != NO_GROUP) {
+                groupStarts[group + 1]++;
+            }
+        }
+        // Counting sort of the keys by group, the keys without a group being left out
+        for (int group = 0; group < groupCount; group++) {
+            groupStarts[group + 1] += groupStarts[group];
+        }
+        System.arraycopy(groupStarts, 0, groupPositions, 0, groupCount);
+        for (int index = 0; index < size; index++) {
+            int group = keyGroups[index];
+            if (group == NO_GROUP) {
+                setMiss(index);
+            } else {
+                sortedKeys[groupPositions[group]++] = index;
+            }
+        }
+
+        for (int group = 0; group < groupCount; group++) {
+            IconTable iconTable = iconTables[group];
+            for (int position = groupStarts[group]; position < groupStarts[group + 1]; position++) {
+                int index = sortedKeys[position];
+                MfbIcon icon = iconTable == null ? null : iconTable.find(keys.get(index));
+                if (icon == null) {
+                    setMiss(index);
+                } else {
+                    icons[index] = icon;
+                }
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (icons.length < capacity) {
+            int newCapacity = Math.max(capacity, icons.length * 2);
+            icons = new MfbIcon[newCapacity];
+            missBits = new long[(newCapacity + 63) >>> 6];
+            keyGroups = new int[newCapacity];
+            sortedKeys = new int[newCapacity];
+        }
+    }
+
+    /**
+     * Looks the typefaces of the groups up again, in case fonts were registered since the last batch, and drops the
+     * groups of prefixes without a typeface, which are only kept for the batch they were met in.
+     */
+    private void refreshTypefaces() {
+        int keptCount = 0;
+        for (int group = 0; group < groupCount; group++) {
+            MfbTypeface typeface = typefaces[group] == null ? null : CoreIcon.findFont(prefixes[group]);
+            if (typeface == null) {
+                continue;
+            }
+            packedPrefixes[keptCount] = packedPrefixes[group];
+            prefixes[keptCount] = prefixes[group];
+            iconTables[keptCount] = typeface == typefaces[group] ? iconTables[group] : CoreIcon.getIconTable(typeface);
+            typefaces[keptCount] = typeface;
+            keptCount++;
+        }
+        Arrays.fill(prefixes, keptCount, groupCount, null);
+        Arrays.fill(typefaces, keptCount, groupCount, null);
+        Arrays.fill(iconTables, keptCount, groupCount, null);
+        groupCount = keptCount;
+        unknownGroupCount = 0;
+    }
+
+    /**
+     * Finds the group of the mapping prefix of a key, adding a group the first time a prefix is met. Prefixes that
+     * CoreIcon already knows to have no font get no group.
+     */
+    private int findGroup(CharSequence key) {
+        if (key == null || key.length() < CoreIcon.FONT_MAPPING_PREFIX) {
+            return NO_GROUP;
+        }
+        int packedPrefix = CoreIcon.packPrefix(key);
+        if (packedPrefix == CoreIcon.UNPACKED_PREFIX) {
+            return NO_GROUP;
+        }
+        for (int group = 0; group < groupCount; group++) {
+            if (packedPrefixes[group] == packedPrefix) {
+                return group;
+            }
+        }
+        if (CoreIcon.isMissingPrefix(packedPrefix)) {
+            return NO_GROUP;
+        }
+        String prefix = key.subSequence(0, CoreIcon.FONT_MAPPING_PREFIX).toString();
+        MfbTypeface typeface = CoreIcon.findFont(prefix);
+        if (typeface == null) {
+            if (unknownGroupCount == MAX_UNKNOWN_GROUPS) {
+                return NO_GROUP;
+            }
+            unknownGroupCount++;
+        }
+        return addGroup(packedPrefix, prefix, typeface);
+    }
+
+    private int addGroup(int packedPrefix, String prefix, MfbTypeface typeface) {
+        if (groupCount == packedPrefixes.length) {
+            int newLength = groupCount * 2;
+            packedPrefixes = Arrays.copyOf(packedPrefixes, newLength);
+            prefixes = Arrays.copyOf(prefixes, newLength);
+            typefaces = Arrays.copyOf(typefaces, newLength);
+            iconTables = Arrays.copyOf(iconTables, newLength);
+            groupStarts = Arrays.copyOf(groupStarts, newLength + 1);
+            groupPositions = Arrays.copyOf(groupPositions, newLength + 1);
+        }
+        packedPrefixes[groupCount] = packedPrefix;
+        prefixes[groupCount] = prefix;
+        typefaces[groupCount] = typeface;
+        iconTables[groupCount] = typeface == null ? null : CoreIcon.getIconTable(typeface);
+        groupStarts[groupCount + 1] = 0;
+        return groupCount++;
+    }
+
+    /**
+     * Returns the number of prefix groups held by this batch, for tests.
+     */
+    int getGroupCount() {
+        return groupCount;
+    }
+
+    private void setMiss(int index) {
+        icons[index] = null;
+        missBits[index >>> 6] |= 1L << index;
+        missCount++;
+    }
+
+    /**
+     * Returns the number of keys of the last batch.
+     *
+     * @return The number of keys resolved.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the icon of a key of the last batch.
+     *
+     * @param index The index of the key in the list of keys.
+     * @return The icon, or {@code null} if the key was not resolved.
+     */
+    public MfbIcon get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return icons[index];
+    }
+
+    /**
+     * Copies the icons of the last batch into a new array.
+     *
+     * @return The icon of each key, {@code null} for the keys that were not resolved.
+     */
+    public MfbIcon[] toArray() {
+        return Arrays.copyOf(icons, size);
+    }
+
+    /**
+     * Checks whether a key of the last batch was not resolved, because its font isn't available, its font has no
+     * such icon, or the key is {@code null} or too short.
+     *
+     * @param index The index of the key in the list of keys.
+     * @return true if the key has no icon.
+     */
+    public boolean isMiss(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (missBits[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Returns the number of keys of the last batch that were not resolved.
+     *
+     * @return The number of misses.
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Finds the next key of the last batch that was not resolved, to iterate over the misses.
+     *
+     * @param fromIndex The index from which to search, inclusive.
+     * @return The index of the next miss, or {@code -1} if there is none.
+     */
+    public int nextMiss(int fromIndex) {
+        if (fromIndex < 0 || fromIndex >= size) {
+            return -1;
+        }
+        int word = fromIndex >>> 6;
+        long bits = missBits[word] & -1L << fromIndex;
+        while (true) {
+            if (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return index < size ? index : -1;
+            }
+            if (++word >= (size + 63) >>> 6) {
+                return -1;
+            }
+            bits = missBits[word];
+        }
+    }
+}
@@ -1,19 +1,14 @@
 package com.rilixtech.materialfancybutton;
 
 import static ohos.agp.components.ComponentContainer.LayoutConfig.MATCH_CONTENT;
-import ohos.agp.colors.RgbColor;
-import ohos.agp.components.Attr;
 import ohos.agp.components.AttrSet;
 import ohos.agp.components.Component;
-import ohos.agp.components.ComponentState;
 import ohos.agp.components.DirectionalLayout;
 import ohos.agp.components.Image;
 import ohos.agp.components.Text;
 import ohos.agp.components.element.Element;
-import ohos.agp.components.element.ShapeElement;
 import ohos.agp.components.element.StateElement;
 import ohos.agp.text.Font;
-import ohos.agp.utils.Color;
 import ohos.agp.utils.LayoutAlignment;
 import ohos.agp.utils.TextAlignment;
 import ohos.app.AbilityContext;
@@ -22,12 +17,12 @@ import ohos.hiviewdfx.HiLog;
 import ohos.hiviewdfx.HiLogLabel;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
-import com.rilixtech.materialfancybutton.utils.AttrEnumUtil;
+import com.rilixtech.materialfancybutton.utils.ButtonAttributes;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import com.rilixtech.materialfancybutton.utils.TextUtils;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * This class is used to define a Button-type UI Component that may be customized using a variety of attributes.
@@ -41,43 +36,19 @@ public class MaterialFancyButton extends DirectionalLayout {
     private static final int DOMAIN = 0xD000100;
     private static final HiLogLabel LABEL = new HiLogLabel(HiLog.LOG_APP, DOMAIN, TAG);
 
-    // # Background Attributes
-    private int mDefaultBackgroundColor = Color.BLACK.getValue();
-    private int mFocusBackgroundColor = 0;
-    private int mDisabledBackgroundColor = Color.getIntColor("#f6f7f9");
-    private int mDisabledTextColor = Color.getIntColor("#bec2c9");
-    private int mDisabledBorderColor = Color.getIntColor("#dddfe2");
+    // # Style Attributes: colors, radii, sizes and paddings, shared with the buttons of the same style
+    private ButtonStyle mStyle;
 
     // # Text Attributes
-    private int mDefaultTextColor = Color.WHITE.getValue();
-    private int mDefaultIconColor = Color.WHITE.getValue();
-    private int mTextSize = FontUtil.fpToPx(getContext(), 16);
-    private int mTextGravity; // Gravity.CENTER
     private String mText = null;
 
     // # Icon Attributes
     private Element mIconResource = null;
-    private int mFontIconSize = FontUtil.fpToPx(getContext(), 16);
     private String mFontIcon = null;
-    private int mIconPosition = 1;
     private String mIcon = null;
-
-    private int mIconPaddingLeft = 10;
-    private int mIconPaddingRight = 10;
-    private int mIconPaddingTop = 0;
-    private int mIconPaddingBottom = 0;
-
-    private int mBorderColor = Color.BLACK.getValue();
-    private int mBorderWidth = 0;
-
-    private int mRadius = 0;
-    private int mRadiusTopLeft = 0;
-    private int mRadiusTopRight = 0;
-    private int mRadiusBottomLeft = 0;
-    private int mRadiusBottomRight = 0;
-
-    private boolean mEnabled = true;
-    private boolean mTextAllCaps = false;
+    // The icon-font and its typeface, when the icon was set from a MfbTypeface
+    private MfbIcon mMfbIcon = null;
+    private MfbTypeface mMfbTypeface = null;
 
     private Font mTextTypeFace = null;
     private Font mIconTypeFace = null;
@@ -99,17 +70,50 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     public static final int POSITION_BOTTOM = 4;
 
+    /**
+     * Aspect covering the style of the button {@link Text}: text, alignment, color and size.
+     */
+    public static final int ASPECT_TEXT_STYLE = 1;
+    /**
+     * Aspect covering the glyph of the icon-font: character, color, size and layout.
+     */
+    public static final int ASPECT_ICON_GLYPH = 1 << 1;
+    /**
+     * Aspect covering the Font of the icon-font.
+     */
+    public static final int ASPECT_ICON_FONT = 1 << 2;
+    /**
+     * Aspect covering the drawable-icon {@link Image}.
+     */
+    public static final int ASPECT_ICON_IMAGE = 1 << 3;
+    /**
+     * Aspect covering the background of the button.
+     */
+    public static final int ASPECT_BACKGROUND = 1 << 4;
+    /**
+     * Aspect covering the order of the child Components, which depends on whether the icon leads or trails the text.
+     */
+    public static final int ASPECT_CHILD_ORDER = 1 << 5;
+    /**
+     * Aspect covering the orientation of the button, which depends on whether the icon is beside or above the text.
+     */
+    public static final int ASPECT_ORIENTATION = 1 << 6;
+
+    private static final int ASPECT_COUNT = 7;
+    private static final int ALL_ASPECTS = (1 << ASPECT_COUNT) - 1;
+
     private Image mIconView;
     private Text mFontIconView;
     private Text mTextView;
 
-    private boolean mGhost = false; // Default is a solid button !
+    // Style of the background currently set, whose shapes are shared with the other buttons of the same style
+    private BackgroundStyle mBackgroundStyle = null;
+    private StateElement mBackground = null;
 
-    /**
-     * Indicates whether this component needs an update. Used by refreshComponents() to clear all components and re-add
-     * them.
-     */
-    private boolean needsUpdate = true;
+    // Aspects of the button to be updated, once the current edit() transaction is applied if there is one
+    private int mEditDepth = 0;
+    private int mDirtyFlags = 0;
+    private final int[] mRebuildCounts = new int[ASPECT_COUNT];
 
     /**
      * Used to define a MaterialFancyButton Component.
@@ -120,6 +124,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     public MaterialFancyButton(Context context) {
         super(context);
+        mStyle = new ButtonStyle.Builder(context).build();
         initializeMaterialFancyButton();
     }
 
@@ -149,24 +154,18 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     private void initializeMaterialFancyButton() {
         initializeButtonContainer();
-        setupTextView();
-        setupFontIconView();
-        setupIconView();
+        edit();
+        markDirty(ALL_ASPECTS);
         if (mIcon != null) {
             setIcon(mIcon);
         }
-
-        setupBackground();
-        buildComponentContainer();
+        apply();
     }
 
     private void buildComponentContainer() {
-        if (!needsUpdate) {
-            return;
-        }
         List<Component> views = new ArrayList<>();
 
-        if (mIconPosition == POSITION_LEFT || mIconPosition == POSITION_TOP) {
+        if (isLeadingPosition(mStyle.getIconPosition())) {
             addToListIfNotNull(views, mIconView);
             addToListIfNotNull(views, mFontIconView);
             addToListIfNotNull(views, mTextView);
@@ -179,7 +178,6 @@ public class MaterialFancyButton extends DirectionalLayout {
         for (Component view : views) {
             addComponent(view);
         }
-        needsUpdate = false;
     }
 
     private void addToListIfNotNull(List<Component> views, Component component) {
@@ -189,12 +187,26 @@ public class MaterialFancyButton extends DirectionalLayout {
     }
 
     private void refreshComponents() {
-        if (needsUpdate) {
-            removeAllComponents();
-            buildComponentContainer();
+        removeAllComponents();
+        buildComponentContainer();
+    }
+
+    private void setupOrientation() {
+        if (isVerticalPosition(mStyle.getIconPosition())) {
+            setOrientation(VERTICAL);
+        } else {
+            setOrientation(HORIZONTAL);
         }
     }
 
+    private static boolean isLeadingPosition(int position) {
+        return position == POSITION_LEFT || position == POSITION_TOP;
+    }
+
+    private static boolean isVerticalPosition(int position) {
+        return position == POSITION_TOP || position == POSITION_BOTTOM;
+    }
+
     /**
      * Setup Text View.
      *
@@ -205,15 +217,15 @@ public class MaterialFancyButton extends DirectionalLayout {
         }
         if (mTextView == null) {
             mTextView = new Text(getContext());
-            needsUpdate = true;
+            mDirtyFlags |= ASPECT_CHILD_ORDER;
         }
 
         mTextView.setText(mText);
-        mTextView.setTextAlignment(mTextGravity);
-        mTextView.setTextColor(new Color(mEnabled ? mDefaultTextColor : mDisabledTextColor));
-        mTextView.setTextSize(FontUtil.pxToFp(getContext(), mTextSize), Text.TextSizeType.FP);
+        mTextView.setTextAlignment(mStyle.getTextGravity());
+        mTextView.setTextColor(mStyle.getCurrentTextColor());
+        mTextView.setTextSize(FontUtil.pxToFp(getContext(), mStyle.getTextSize()), Text.TextSizeType.FP);
         mTextView.setLayoutConfig(new LayoutConfig(MATCH_CONTENT, MATCH_CONTENT));
-        mTextView.setFont(mTextView.getFont());
+        mTextView.setFont(mTextTypeFace == null ? mTextView.getFont() : mTextTypeFace);
     }
 
     /**
@@ -226,20 +238,21 @@ public class MaterialFancyButton extends DirectionalLayout {
         }
         if (mFontIconView == null) {
             mFontIconView = new Text(getContext());
-            needsUpdate = true;
+            mDirtyFlags |= ASPECT_ICON_FONT | ASPECT_CHILD_ORDER;
         }
-        mFontIconView.setTextColor(new Color(mEnabled ? mDefaultIconColor : mDisabledTextColor));
+        mFontIconView.setTextColor(mStyle.getCurrentIconColor());
+        // The icon is measured as text, as the line height of its font may not contain every glyph
         LayoutConfig params = new LayoutConfig(MATCH_CONTENT, MATCH_CONTENT);
-        params.setMarginRight(mIconPaddingRight);
-        params.setMarginLeft(mIconPaddingLeft);
-        params.setMarginTop(mIconPaddingTop);
-        params.setMarginBottom(mIconPaddingBottom);
+        params.setMarginRight(mStyle.getIconPaddingRight());
+        params.setMarginLeft(mStyle.getIconPaddingLeft());
+        params.setMarginTop(mStyle.getIconPaddingTop());
+        params.setMarginBottom(mStyle.getIconPaddingBottom());
 
         if (mTextView == null) {
             params.alignment = LayoutAlignment.CENTER;
             mFontIconView.setTextAlignment(TextAlignment.VERTICAL_CENTER);
         } else {
-            if (mIconPosition == POSITION_TOP || mIconPosition == POSITION_BOTTOM) {
+            if (isVerticalPosition(mStyle.getIconPosition())) {
                 params.alignment = LayoutAlignment.CENTER;
                 mFontIconView.setTextAlignment(TextAlignment.CENTER);
             } else {
@@ -249,10 +262,19 @@ public class MaterialFancyButton extends DirectionalLayout {
         }
 
         mFontIconView.setLayoutConfig(params);
-        mFontIconView.setTextSize(FontUtil.pxToFp(getContext(), mFontIconSize), Text.TextSizeType.FP);
+        mFontIconView.setTextSize(FontUtil.pxToFp(getContext(), mStyle.getFontIconSize()), Text.TextSizeType.FP);
         mFontIconView.setText(mFontIcon);
+    }
+
+    /**
+     * Setup Font of the Font Icon View.
+     */
+    private void setupFontIconFont() {
+        if (mFontIconView == null) {
+            return;
+        }
         mFontIconView.setFont(mIconTypeFace);
-        HiLog.debug(LABEL, "setupFontIconView mIconTypeFace  =  %{public}s", mIconTypeFace.toString());
+        HiLog.debug(LABEL, "setupFontIconFont mIconTypeFace  =  %{public}s", mIconTypeFace);
     }
 
     /**
@@ -262,14 +284,15 @@ public class MaterialFancyButton extends DirectionalLayout {
     private void setupIconView() {
         if (mIconView == null) {
             mIconView = new Image(getContext());
-            needsUpdate = true;
+            mDirtyFlags |= ASPECT_CHILD_ORDER;
         }
-        mIconView.setPadding(mIconPaddingLeft, mIconPaddingTop, mIconPaddingRight, mIconPaddingBottom);
+        mIconView.setPadding(mStyle.getIconPaddingLeft(), mStyle.getIconPaddingTop(), mStyle.getIconPaddingRight(),
+                mStyle.getIconPaddingBottom());
         LayoutConfig params = new LayoutConfig(MATCH_CONTENT, MATCH_CONTENT);
         if (TextUtils.isEmpty(mText)) {
             params.alignment = LayoutAlignment.VERTICAL_CENTER;
         } else {
-            if (mIconPosition == POSITION_TOP || mIconPosition == POSITION_BOTTOM) {
+            if (isVerticalPosition(mStyle.getIconPosition())) {
                 params.alignment = LayoutAlignment.CENTER;
             } else {
                 params.alignment = LayoutAlignment.START;
@@ -292,71 +315,31 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param attrSet : Attribute set containing the custom and regular attributes of the button.
      */
     private void initAttributes(AttrSet attrSet) {
-        // COLOR ATTRIBUTES
-        mDefaultBackgroundColor = getColorAttribute(attrSet, "mfb_defaultColor", mDefaultBackgroundColor);
-        mFocusBackgroundColor = getColorAttribute(attrSet, "mfb_focusColor", mFocusBackgroundColor);
-        mDisabledBackgroundColor = getColorAttribute(attrSet, "mfb_disabledColor", mDisabledBackgroundColor);
-        mDisabledTextColor = getColorAttribute(attrSet, "mfb_disabledTextColor", mDisabledTextColor);
-        mDisabledBorderColor = getColorAttribute(attrSet, "mfb_disabledBorderColor", mDisabledBorderColor);
-        mDefaultTextColor = getColorAttribute(attrSet, "mfb_textColor", mDefaultTextColor);
-        // Text color is the default color for the icon
-        mDefaultIconColor = getColorAttribute(attrSet, "mfb_iconColor", mDefaultTextColor);
-        mBorderColor = getColorAttribute(attrSet, "mfb_borderColor", mBorderColor);
-
-        // BOOLEAN ATTRIBUTES
-        mEnabled = getBoolAttribute(attrSet, "enabled", true);
-        // // mTextAllCaps
-        mTextAllCaps = getBoolAttribute(attrSet, "mfb_textAllCaps", false);
-        // //
-        mGhost = getBoolAttribute(attrSet, "mfb_ghost", mGhost);
-
-        // DIMENSION ATTRIBUTES
-        // // mTextSize
-        mTextSize = getDimensionAttribute(attrSet, "mfb_textSize", mTextSize);
-        mTextSize = getDimensionAttribute(attrSet, "text_size", mTextSize);
-        // //
-        mBorderWidth = getDimensionAttribute(attrSet, "mfb_borderWidth", mBorderWidth);
-        mRadius = getDimensionAttribute(attrSet, "mfb_radius", mRadius);
-        mRadiusTopLeft = getDimensionAttribute(attrSet, "mfb_radiusTopLeft", mRadius);
-        mRadiusTopRight = getDimensionAttribute(attrSet, "mfb_radiusTopRight", mRadius);
-        mRadiusBottomLeft = getDimensionAttribute(attrSet, "mfb_radiusBottomLeft", mRadius);
-        mRadiusBottomRight = getDimensionAttribute(attrSet, "mfb_radiusBottomRight", mRadius);
-        mFontIconSize = getDimensionAttribute(attrSet, "mfb_fontIconSize", mFontIconSize);
-        mIconPaddingLeft = getDimensionAttribute(attrSet, "mfb_iconPaddingLeft", mIconPaddingLeft);
-        mIconPaddingRight = getDimensionAttribute(attrSet, "mfb_iconPaddingRight", mIconPaddingRight);
-        mIconPaddingTop = getDimensionAttribute(attrSet, "mfb_iconPaddingTop", mIconPaddingTop);
-        mIconPaddingBottom = getDimensionAttribute(attrSet, "mfb_iconPaddingBottom", mIconPaddingBottom);
-
-
-        // ENUM ATTRIBUTES
-        mTextGravity = getEnumAttribute(
-                attrSet, "mfb_textGravity", AttrEnumUtil.MfbTextGravity.class,
-                AttrEnumUtil.MfbTextGravity.CENTER).getValue();
-        mIconPosition = getEnumAttribute(
-                attrSet, "mfb_iconPosition", AttrEnumUtil.MfbIconPosition.class,
-                AttrEnumUtil.MfbIconPosition.labelOfValue(mIconPosition)).value;
+        ButtonAttributes attributes = ButtonAttributes.read(attrSet);
+        // Buttons declared with the same attributes share one style
+        mStyle = ButtonStyle.fromAttributes(getContext(), attributes);
 
         // STRING ATTRIBUTES
         // // mText
-        String text = getStringAttribute(attrSet, "mfb_text");
+        String text = attributes.getString(ButtonAttributes.TEXT);
         if (text == null) {
-            text = getStringAttribute(attrSet, "text");
+            text = attributes.getString(ButtonAttributes.OHOS_TEXT);
         }
         if (text != null) {
-            mText = mTextAllCaps ? text.toUpperCase() : text;
+            mText = mStyle.isTextAllCaps() ? text.toUpperCase() : text;
         }
         // //
         // // String Attribute Temporary Variables
-        final String fontIcon = getStringAttribute(attrSet, "mfb_fontIconResource");
-        String iconFontFamily = getStringAttribute(attrSet, "mfb_iconFont");
-        String textFontFamily = getStringAttribute(attrSet, "mfb_textFont");
+        final String fontIcon = attributes.getString(ButtonAttributes.FONT_ICON_RESOURCE);
+        String iconFontFamily = attributes.getString(ButtonAttributes.ICON_FONT);
         // //
-        mIcon = getStringAttribute(attrSet, "mfb_icon");
+        mIcon = attributes.getString(ButtonAttributes.ICON);
         HiLog.debug(LABEL, "mIcon = %{public}s", mIcon);
 
         // ELEMENT ATTRIBUTE
-        Optional<Attr> iconResourceAttr = attrSet.getAttr("mfb_iconResource");
-        iconResourceAttr.ifPresent(attr -> mIconResource = attr.getElement());
+        if (attributes.has(ButtonAttributes.ICON_RESOURCE)) {
+            mIconResource = attributes.getIconResource();
+        }
 
         // Resolve Temporary Attribute Variables
         if (fontIcon != null) {
@@ -371,188 +354,197 @@ public class MaterialFancyButton extends DirectionalLayout {
             } else {
                 mIconTypeFace = FontUtil.findFont(abilityContext, iconFontFamily, null);
             }
-
-            if (textFontFamily == null) {
-                mTextTypeFace = FontUtil.findFont(abilityContext, null, null);
-            } else {
-                mTextTypeFace = FontUtil.findFont(abilityContext, textFontFamily, null);
-            }
+            // The text keeps its own font unless one is set with setCustomTextFont, so mfb_textFont isn't loaded
         }
 
     }
 
-    private int getColorAttribute(AttrSet attrSet, String attrName, int defaultValue) {
-        Optional<Attr> optionalAttribute = attrSet.getAttr(attrName);
-        if (optionalAttribute.isPresent()) {
-            Color color = optionalAttribute.get().getColorValue();
-            if (color != null) {
-                return color.getValue();
-            } else {
-                return defaultValue;
-            }
-        } else {
-            return defaultValue;
+    private void setupBackground() {
+        BackgroundStyle backgroundStyle = mStyle.getBackgroundStyle();
+        // Setters rebuilding the view often leave the background untouched
+        if (backgroundStyle.equals(mBackgroundStyle) && getBackgroundElement() == mBackground) {
+            return;
         }
+        mBackgroundStyle = backgroundStyle;
+        mBackground = backgroundStyle.newBackground();
+        setBackground(mBackground);
     }
 
-    private boolean getBoolAttribute(AttrSet attrSet, String attrName, boolean defaultValue) {
-        Optional<Attr> optionalAttribute = attrSet.getAttr(attrName);
-        return optionalAttribute.map(Attr::getBoolValue).orElse(defaultValue);
-    }
+    private void initializeButtonContainer() {
+        if (getLayoutConfig() == null) {
+            LayoutConfig params = new LayoutConfig(MATCH_CONTENT, MATCH_CONTENT);
+            setLayoutConfig(params);
+        }
 
-    private int getDimensionAttribute(AttrSet attrSet, String attrName, int defaultValue) {
-        Optional<Attr> optionalAttribute = attrSet.getAttr(attrName);
-        return optionalAttribute.map(Attr::getDimensionValue).orElse(defaultValue);
-    }
+        setAlignment(LayoutAlignment.CENTER);
+        setClickable(true);
+        setFocusable(FOCUS_ENABLE);
+        if (mIconResource == null
+                && mFontIcon == null
+                && getPaddingLeft() == 0
+                && getPaddingRight() == 0
+                && getPaddingTop() == 0
+                && getPaddingBottom() == 0) {
 
-    private String getStringAttribute(AttrSet attrSet, String attrName) {
-        Optional<Attr> optionalAttribute = attrSet.getAttr(attrName);
-        return optionalAttribute.map(Attr::getStringValue).orElse(null);
+            // fix for all version of devices and screens
+            setPadding(20, 0, 20, 0);
+        }
     }
 
-    private <E extends java.lang.Enum<E>> E getEnumAttribute(
-            AttrSet attrSet, String attrName, Class<E> enumType, E defaultValue) {
-        Optional<Attr> optionalAttribute = attrSet.getAttr(attrName);
-        if (optionalAttribute.isPresent()) {
-            String stringValue = optionalAttribute.get().getStringValue();
-            try {
-                return E.valueOf(enumType, stringValue);
-            } catch (IllegalArgumentException e) {
-                return defaultValue;
-            }
-        } else {
-            return defaultValue;
+    /**
+     * Marks parts of the button as changed. They are updated right away, or when the current transaction is applied
+     * if the button is being edited.
+     */
+    private void markDirty(int dirtyFlags) {
+        mDirtyFlags |= dirtyFlags;
+        if (mEditDepth == 0 && mDirtyFlags != 0) {
+            update();
         }
     }
 
-    private void setupBackground() {
-        ShapeElement defaultDrawable = new ShapeElement();
-        defaultDrawable.setCornerRadius(mRadius);
-        defaultDrawable.setCornerRadiiArray(new float[] { mRadiusTopLeft, mRadiusTopLeft,
-            mRadiusTopRight, mRadiusTopRight,
-            mRadiusBottomRight, mRadiusBottomRight,
-            mRadiusBottomLeft, mRadiusBottomLeft
-        });
-
-        if (mGhost) {
-            // Hollow Background
-            defaultDrawable.setRgbColor(RgbColor.fromArgbInt(Color.TRANSPARENT.getValue()));
-
-        } else {
-
-            defaultDrawable.setRgbColor(RgbColor.fromArgbInt(mDefaultBackgroundColor));
+    private void update() {
+        // Creating a sub-component marks the aspects depending on it, so they are taken in dependency order
+        if (takeDirty(ASPECT_TEXT_STYLE)) {
+            setupTextView();
         }
-
-        ShapeElement focusDrawable = new ShapeElement();
-
-        focusDrawable.setCornerRadius(mRadius);
-        focusDrawable.setCornerRadiiArray(new float[] {
-            mRadiusTopLeft, mRadiusTopLeft, mRadiusTopRight, mRadiusTopRight, mRadiusBottomRight, mRadiusBottomRight,
-            mRadiusBottomLeft, mRadiusBottomLeft
-        });
-        focusDrawable.setRgbColor(RgbColor.fromArgbInt(mFocusBackgroundColor));
-
-        ShapeElement disabledDrawable = new ShapeElement();
-        disabledDrawable.setCornerRadius(mRadius);
-        focusDrawable.setCornerRadiiArray(new float[] {
-            mRadiusTopLeft, mRadiusTopLeft, mRadiusTopRight, mRadiusTopRight, mRadiusBottomRight, mRadiusBottomRight,
-            mRadiusBottomLeft, mRadiusBottomLeft
-        });
-        disabledDrawable.setRgbColor(RgbColor.fromArgbInt(mDisabledBackgroundColor));
-        disabledDrawable.setStroke(mBorderWidth, RgbColor.fromArgbInt(mDisabledBorderColor));
-
-        // Handle Border
-        if (mBorderColor != 0) {
-            defaultDrawable.setStroke(mBorderWidth, RgbColor.fromArgbInt(mBorderColor));
+        if (takeDirty(ASPECT_ICON_GLYPH)) {
+            setupFontIconView();
+        }
+        if (takeDirty(ASPECT_ICON_FONT)) {
+            setupFontIconFont();
+        }
+        if (takeDirty(ASPECT_ICON_IMAGE)) {
+            setupIconView();
+        }
+        if (takeDirty(ASPECT_BACKGROUND)) {
+            setupBackground();
         }
+        if (takeDirty(ASPECT_ORIENTATION)) {
+            setupOrientation();
+        }
+        if (takeDirty(ASPECT_CHILD_ORDER)) {
+            refreshComponents();
+        }
+    }
 
-        // Handle disabled border color
-        if (!mEnabled) {
-            defaultDrawable.setStroke(mBorderWidth, RgbColor.fromArgbInt(mDisabledBorderColor));
-            if (mGhost) {
-                disabledDrawable.setRgbColor(RgbColor.fromArgbInt(Color.TRANSPARENT.getValue()));
-            }
+    private boolean takeDirty(int aspect) {
+        if ((mDirtyFlags & aspect) == 0) {
+            return false;
         }
+        mDirtyFlags &= ~aspect;
+        mRebuildCounts[Integer.numberOfTrailingZeros(aspect)]++;
+        return true;
+    }
 
-        setupRippleEffect(defaultDrawable, focusDrawable, disabledDrawable);
+    /**
+     * Returns how many times an aspect of the button was rebuilt since it was created. Meant for debugging and tests,
+     * to check that a change only rebuilds the parts of the button it affects.
+     *
+     * @param aspect One of the ASPECT_* constants, eg. {@link #ASPECT_BACKGROUND}.
+     * @return The number of rebuilds of the aspect.
+     */
+    public int getRebuildCount(int aspect) {
+        return mRebuildCounts[Integer.numberOfTrailingZeros(aspect)];
     }
 
-    private void setupRippleEffect(ShapeElement defaultDrawable, ShapeElement focusDrawable,
-                                   ShapeElement disabledDrawable) {
-        StateElement states = new StateElement();
-        ShapeElement drawable2 = new ShapeElement();
-        drawable2.setCornerRadius(mRadius);
-        focusDrawable.setCornerRadiiArray(new float[] {
-            mRadiusTopLeft, mRadiusTopLeft, mRadiusTopRight, mRadiusTopRight, mRadiusBottomRight, mRadiusBottomRight,
-            mRadiusBottomLeft, mRadiusBottomLeft
-        });
-        if (mGhost) {
-            drawable2.setRgbColor(RgbColor.fromArgbInt(Color.TRANSPARENT.getValue())); // No focus color
-        } else {
-            drawable2.setRgbColor(RgbColor.fromArgbInt(mFocusBackgroundColor));
-        }
+    /**
+     * Starts a transaction, during which the setters of the button only record their changes. The button is then
+     * updated once, when {@link #apply()} is called, which avoids rebuilding it for each setter when configuring it
+     * from code. Transactions can be nested, the button is updated when the outermost one is applied.
+     *
+     * <pre>
+     * button.edit();
+     * button.setRadius(30);
+     * button.setBorderWidth(2);
+     * button.setIconPosition(MaterialFancyButton.POSITION_RIGHT);
+     * button.apply();
+     * </pre>
+     */
+    public void edit() {
+        mEditDepth++;
+    }
 
-        // Handle Button Border
-        if (mBorderColor != 0) {
-            if (mGhost) {
-                // Border is the main part of button now
-                drawable2.setStroke(mBorderWidth, RgbColor.fromArgbInt(mFocusBackgroundColor));
-            } else {
-                drawable2.setStroke(mBorderWidth, RgbColor.fromArgbInt(mBorderColor));
-            }
+    /**
+     * Ends the transaction started by {@link #edit()}, updating the parts of the button changed meanwhile.
+     *
+     * @throws IllegalStateException If no transaction was started.
+     */
+    public void apply() {
+        if (mEditDepth == 0) {
+            throw new IllegalStateException("apply() called without a matching edit()");
         }
-
-        if (!mEnabled) {
-            drawable2.setStroke(mBorderWidth, RgbColor.fromArgbInt(mDisabledBorderColor));
+        mEditDepth--;
+        if (mEditDepth == 0 && mDirtyFlags != 0) {
+            update();
         }
+    }
 
-        if (mFocusBackgroundColor != 0) {
-            states.addState(new int[] { ComponentState.COMPONENT_STATE_PRESSED }, drawable2);
-            states.addState(new int[] { ComponentState.COMPONENT_STATE_FOCUSED }, drawable2);
-            states.addState(new int[] { ComponentState.COMPONENT_STATE_DISABLED }, disabledDrawable);
+    /**
+     * Runs the given changes within a transaction, see {@link #edit()}. The transaction is applied even if the
+     * changes throw.
+     *
+     * @param changes The changes to be applied to this button.
+     */
+    public void edit(Consumer<MaterialFancyButton> changes) {
+        edit();
+        try {
+            changes.accept(this);
+        } finally {
+            apply();
         }
-
-        states.addState(new int[] {}, defaultDrawable);
-        setBackground(states);
     }
 
-    private void initializeButtonContainer() {
-        if (mIconPosition == POSITION_TOP || mIconPosition == POSITION_BOTTOM) {
-            setOrientation(VERTICAL);
-        } else {
-            setOrientation(HORIZONTAL);
+    /**
+     * Sets the style of the button: its colors, radii, sizes and paddings. Only the parts of the button whose style
+     * changed are updated, and buttons given the same style share the colors and radii of its background.
+     *
+     * @param style The new style of the button.
+     */
+    public void setButtonStyle(ButtonStyle style) {
+        ButtonStyle previousStyle = mStyle;
+        mStyle = style;
+        if (style == previousStyle) {
+            return;
         }
-
-        if (getLayoutConfig() == null) {
-            LayoutConfig params = new LayoutConfig(MATCH_CONTENT, MATCH_CONTENT);
-            setLayoutConfig(params);
+        if (style.isEnabled() != previousStyle.isEnabled()) {
+            super.setEnabled(style.isEnabled());
         }
-
-        setAlignment(LayoutAlignment.CENTER);
-        setClickable(true);
-        setFocusable(FOCUS_ENABLE);
-        if (mIconResource == null
-                && mFontIcon == null
-                && getPaddingLeft() == 0
-                && getPaddingRight() == 0
-                && getPaddingTop() == 0
-                && getPaddingBottom() == 0) {
-
-            // fix for all version of devices and screens
-            setPadding(20, 0, 20, 0);
+        if (style.isTextAllCaps() && !previousStyle.isTextAllCaps() && mText != null) {
+            mText = mText.toUpperCase();
         }
+        int dirtyFlags = 0;
+        if (!style.hasSameTextStyle(previousStyle)) {
+            dirtyFlags |= ASPECT_TEXT_STYLE;
+        }
+        if (!style.hasSameIconStyle(previousStyle)) {
+            dirtyFlags |= ASPECT_ICON_GLYPH;
+        }
+        if (!style.hasSameIconPadding(previousStyle)) {
+            dirtyFlags |= ASPECT_ICON_IMAGE;
+        }
+        if (!style.hasSameBackground(previousStyle)) {
+            dirtyFlags |= ASPECT_BACKGROUND;
+        }
+        int previousPosition = previousStyle.getIconPosition();
+        int position = style.getIconPosition();
+        if (isLeadingPosition(previousPosition) != isLeadingPosition(position)) {
+            dirtyFlags |= ASPECT_CHILD_ORDER;
+        }
+        if (isVerticalPosition(previousPosition) != isVerticalPosition(position)) {
+            // The alignment of the icons depends on the orientation as well
+            dirtyFlags |= ASPECT_ORIENTATION | ASPECT_ICON_GLYPH | ASPECT_ICON_IMAGE;
+        }
+        markDirty(dirtyFlags);
     }
 
     /**
-     * Used by the Attribute setter functions to refresh the button Components after changes.
-     * In case a new Component is to be added (eg. Icon-Font Text Component), the Components of this ComponentContainer
-     * are rebuilt.
+     * Gets the style of the button, which can be given to other buttons or derived with
+     * {@link ButtonStyle#toBuilder()}.
+     *
+     * @return The style of the button.
      */
-    private void setupView() {
-        setupFontIconView();
-        setupTextView();
-        setupBackground();
-        refreshComponents();
+    public ButtonStyle getButtonStyle() {
+        return mStyle;
     }
 
     /**
@@ -561,12 +553,8 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param text : Text
      */
     public void setText(String text) {
-        text = mTextAllCaps ? text.toUpperCase() : text;
-        mText = text;
-        if (mTextView == null) {
-            setupView();
-        }
-        mTextView.setText(text);
+        mText = mStyle.isTextAllCaps() ? text.toUpperCase() : text;
+        markDirty(ASPECT_TEXT_STYLE);
     }
 
     /**
@@ -576,13 +564,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setText(int resId) {
-        String text = getContext().getString(resId);
-        text = mTextAllCaps ? text.toUpperCase() : text;
-        mText = text;
-        if (mTextView == null) {
-            setupTextView();
-        }
-        mTextView.setText(text);
+        setText(getContext().getString(resId));
     }
 
     /**
@@ -602,8 +584,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setTextAllCaps(boolean textAllCaps) {
-        mTextAllCaps = textAllCaps;
-        setText(mText);
+        setButtonStyle(mStyle.toBuilder().setTextAllCaps(textAllCaps).build());
     }
 
     /**
@@ -612,7 +593,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return If text is capitalized or not
      */
     public boolean isTextAllCaps() {
-        return mTextAllCaps;
+        return mStyle.isTextAllCaps();
     }
 
     /**
@@ -622,11 +603,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setTextColor(int color) {
-        mDefaultTextColor = color;
-        if (mTextView == null) {
-            setupTextView();
-        }
-        mTextView.setTextColor(new Color(color));
+        setButtonStyle(mStyle.toBuilder().setTextColor(color).build());
     }
 
     /**
@@ -635,7 +612,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The integer value of the color.
      */
     public int getTextColor() {
-        return mDefaultTextColor;
+        return mStyle.getTextColor();
     }
 
     /**
@@ -645,10 +622,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setIconColor(int color) {
-        mDefaultIconColor = color;
-        if (mFontIconView != null) {
-            mFontIconView.setTextColor(new Color(color));
-        }
+        setButtonStyle(mStyle.toBuilder().setIconColor(color).build());
     }
 
     /**
@@ -657,7 +631,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The integer value of the color.
      */
     public int getIconColor() {
-        return mDefaultIconColor;
+        return mStyle.getIconColor();
     }
 
     /**
@@ -666,8 +640,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param color : use Color.getIntColor('#code')
      */
     public void setBackgroundColor(int color) {
-        mDefaultBackgroundColor = color;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setBackgroundColor(color).build());
     }
 
     /**
@@ -676,7 +649,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The integer value of the color.
      */
     public int getBackgroundColor() {
-        return mDefaultBackgroundColor;
+        return mStyle.getBackgroundColor();
     }
 
     /**
@@ -685,8 +658,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param color : use Color.getIntColor('#code')
      */
     public void setFocusBackgroundColor(int color) {
-        mFocusBackgroundColor = color;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setFocusBackgroundColor(color).build());
     }
 
     /**
@@ -695,7 +667,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The integer value of the color.
      */
     public int getFocusBackgroundColor() {
-        return mFocusBackgroundColor;
+        return mStyle.getFocusBackgroundColor();
     }
 
     /**
@@ -705,8 +677,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setDisableBackgroundColor(int color) {
-        mDisabledBackgroundColor = color;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setDisableBackgroundColor(color).build());
     }
 
     /**
@@ -715,7 +686,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The integer value of the color.
      */
     public int getDisableBackgroundColor() {
-        return mDisabledBackgroundColor;
+        return mStyle.getDisableBackgroundColor();
     }
 
     /**
@@ -725,11 +696,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setDisableTextColor(int color) {
-        mDisabledTextColor = color;
-        setupTextView();
-        if (!mEnabled) {
-            mTextView.setTextColor(new Color(color));
-        }
+        setButtonStyle(mStyle.toBuilder().setDisableTextColor(color).build());
     }
 
     /**
@@ -738,7 +705,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The integer value of the color.
      */
     public int getDisableTextColor() {
-        return mDisabledTextColor;
+        return mStyle.getDisableTextColor();
     }
 
     /**
@@ -748,10 +715,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setDisableBorderColor(int color) {
-        mDisabledBorderColor = color;
-        if (mIconView != null || mFontIconView != null || mTextView != null) {
-            setupBackground();
-        }
+        setButtonStyle(mStyle.toBuilder().setDisableBorderColor(color).build());
     }
 
     /**
@@ -760,7 +724,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The integer value of the color.
      */
     public int getDisableBorderColor() {
-        return mDisabledBorderColor;
+        return mStyle.getDisableBorderColor();
     }
 
 
@@ -770,10 +734,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param textSize : Text Size
      */
     public void setTextSize(int textSize) {
-        mTextSize = FontUtil.fpToPx(getContext(), textSize);
-        if (mTextView != null) {
-            mTextView.setTextSize(textSize, Text.TextSizeType.FP);
-        }
+        setButtonStyle(mStyle.toBuilder().setTextSize(FontUtil.fpToPx(getContext(), textSize)).build());
     }
 
     /**
@@ -782,7 +743,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return Text Size
      */
     public int getTextSize() {
-        return mTextSize;
+        return mStyle.getTextSize();
     }
 
     /**
@@ -792,10 +753,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setTextGravity(int gravity) {
-        mTextGravity = gravity;
-        if (mTextView != null) {
-            mTextView.setTextAlignment(gravity);
-        }
+        setButtonStyle(mStyle.toBuilder().setTextGravity(gravity).build());
     }
 
     /**
@@ -804,11 +762,11 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return {@link TextAlignment} integer value
      */
     public int getTextGravity() {
-        return mTextView.getTextAlignment();
+        return mStyle.getTextGravity();
     }
 
     /**
-     * Set Padding for mIconView and mFontIconSize.
+     * Set Padding for mIconView and mFontIconView.
      *
      * @param paddingLeft : Padding Left.
      * @param paddingTop : Padding Top.
@@ -816,19 +774,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param paddingBottom : Padding Bottom.
      */
     public void setIconPadding(int paddingLeft, int paddingTop, int paddingRight, int paddingBottom) {
-
-        this.mIconPaddingLeft = paddingLeft;
-        this.mIconPaddingTop = paddingTop;
-        this.mIconPaddingRight = paddingRight;
-        this.mIconPaddingBottom = paddingBottom;
-
-        if (mIconView != null) {
-            mIconView.setPadding(this.mIconPaddingLeft, this.mIconPaddingTop, this.mIconPaddingRight,
-                    this.mIconPaddingBottom);
-        }
-        if (mFontIconView != null) {
-            mFontIconView.setPadding(mIconPaddingLeft, mIconPaddingTop, mIconPaddingRight, mIconPaddingBottom);
-        }
+        setButtonStyle(mStyle.toBuilder().setIconPadding(paddingLeft, paddingTop, paddingRight, paddingBottom).build());
     }
 
     /**
@@ -837,7 +783,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The left padding of the icon.
      */
     public int getIconPaddingLeft() {
-        return mIconPaddingLeft;
+        return mStyle.getIconPaddingLeft();
     }
 
     /**
@@ -846,7 +792,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The top padding of the icon.
      */
     public int getIconPaddingTop() {
-        return mIconPaddingTop;
+        return mStyle.getIconPaddingTop();
     }
 
     /**
@@ -855,7 +801,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The right padding of the icon.
      */
     public int getIconPaddingRight() {
-        return mIconPaddingRight;
+        return mStyle.getIconPaddingRight();
     }
 
     /**
@@ -864,7 +810,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The bottom padding of the icon.
      */
     public int getIconPaddingBottom() {
-        return mIconPaddingBottom;
+        return mStyle.getIconPaddingBottom();
     }
 
     /**
@@ -875,13 +821,7 @@ public class MaterialFancyButton extends DirectionalLayout {
     @SuppressWarnings("unused")
     public void setIconResource(Element drawable) {
         mIconResource = drawable;
-        if (mIconView == null) {
-            setupIconView();
-        }
-        if (mFontIconView == null) {
-            setupFontIconView();
-        }
-        mIconView.setImageElement(mIconResource);
+        markDirty(ASPECT_ICON_IMAGE);
     }
 
     /**
@@ -890,9 +830,10 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param icon : Icon value eg : \uf082
      */
     public void setIconResource(String icon) {
+        mMfbIcon = null;
         mIcon = icon;
         mFontIcon = icon;
-        setupView();
+        markDirty(ASPECT_ICON_GLYPH);
     }
 
     /**
@@ -915,6 +856,16 @@ public class MaterialFancyButton extends DirectionalLayout {
         return mFontIcon;
     }
 
+    /**
+     * Gets the {@link MfbIcon} being used as the icon-font for this button.
+     *
+     * @return The MfbIcon, or {@code null} if the icon-font was not set from a {@link MfbTypeface}, or its character
+     *         is not an icon of that typeface.
+     */
+    public MfbIcon getIcon() {
+        return mMfbIcon;
+    }
+
     /**
      * Sets the icon-font of the button to the specified Character.
      * Note that the Font of the icon-font remains unchanged.
@@ -922,25 +873,29 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param icon The Character to set the icon to.
      */
     public void setIcon(Character icon) {
+        MfbIcon mfbIcon = mMfbTypeface == null ? null : mMfbTypeface.findIcon(icon.charValue());
+        edit();
         setIconResource(String.valueOf(icon));
+        mMfbIcon = mfbIcon;
+        apply();
     }
 
     /**
-     * Sets the icon-font of the button by finding an icon-font with the given key.
+     * Sets the icon-font of the button by finding an icon-font with the given key. A key matching no icon leaves
+     * the icon unchanged, and is only logged the first time it is met.
      *
      * @param icon The key of the button icon to be set. Must correspond to a {@link MfbIcon} field, and the prefix of
      *             the {@link MfbIcon} should match with the prefix of the icon key.
      */
     public void setIcon(String icon) {
-        String modifiedIconKey;
-        try {
-            MfbTypeface font =
-                    CoreIcon.findFont(icon.substring(0, CoreIcon.FONT_MAPPING_PREFIX));
-            modifiedIconKey = icon.replace("-", "_");
-            setIcon(font.getIcon(modifiedIconKey));
-        } catch (Exception ex) {
-            HiLog.error(LABEL, "Wrong icon name: %{public}s", icon);
+        MfbIcon mfbIcon = CoreIcon.findIcon(icon);
+        if (mfbIcon == null) {
+            if (CoreIcon.recordMissingIcon(icon)) {
+                HiLog.error(LABEL, "Wrong icon name: %{public}s", icon);
+            }
+            return;
         }
+        setIcon(mfbIcon);
     }
 
     /**
@@ -954,9 +909,41 @@ public class MaterialFancyButton extends DirectionalLayout {
 
         Context callerContext = getContext();
         if (callerContext instanceof AbilityContext) {
-            mIconTypeFace = typeface.getTypeface((AbilityContext) callerContext);
+            TypefaceLoadTask typefaceLoad = CoreIcon.getTypefaceLoad(typeface);
+            if (typefaceLoad == null || typefaceLoad.isDone()) {
+                mIconTypeFace = typeface.getTypeface((AbilityContext) callerContext);
+            } else {
+                // The font is still being preloaded, use a placeholder font and swap it in once it is ready
+                mIconTypeFace = Font.DEFAULT;
+                typefaceLoad.addListener(() -> callerContext.getUITaskDispatcher().asyncDispatch(
+                    () -> onTypefaceLoaded(typefaceLoad)));
+            }
         }
+        mMfbTypeface = typeface;
+        edit();
+        markDirty(ASPECT_ICON_FONT);
         setIconResource(String.valueOf(icon.getCharacter()));
+        mMfbIcon = icon;
+        apply();
+    }
+
+    /**
+     * Swaps the placeholder icon font for the preloaded font, unless the icon was changed in the meantime.
+     */
+    private void onTypefaceLoaded(TypefaceLoadTask typefaceLoad) {
+        if (mMfbTypeface == null
+                || !typefaceLoad.getTypeface().getMappingPrefix().equals(mMfbTypeface.getMappingPrefix())) {
+            return;
+        }
+        Font font = typefaceLoad.getFontIfLoaded();
+        if (font == null) {
+            HiLog.error(LABEL, "Can't preload font: %{public}s", mMfbTypeface.getFontName());
+            return;
+        }
+        mIconTypeFace = font;
+        if (mFontIconView != null) {
+            mFontIconView.setFont(font);
+        }
     }
 
     /**
@@ -965,10 +952,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param iconSize : Icon Size
      */
     public void setFontIconSize(int iconSize) {
-        mFontIconSize = FontUtil.fpToPx(getContext(), iconSize);
-        if (mFontIconView != null) {
-            mFontIconView.setTextSize(iconSize, Text.TextSizeType.FP);
-        }
+        setButtonStyle(mStyle.toBuilder().setFontIconSize(FontUtil.fpToPx(getContext(), iconSize)).build());
     }
 
     /**
@@ -977,7 +961,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return Icon size of the icon-font
      */
     public int getFontIconSize() {
-        return mFontIconSize;
+        return mStyle.getFontIconSize();
     }
 
     /**
@@ -993,12 +977,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param position : Icon Position.
      */
     public void setIconPosition(int position) {
-        if (position > 0 && position < 5) {
-            mIconPosition = position;
-        } else {
-            mIconPosition = POSITION_LEFT;
-        }
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setIconPosition(position).build());
     }
 
     /**
@@ -1014,7 +993,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return Icon Position.
      */
     public int getIconPosition() {
-        return mIconPosition;
+        return mStyle.getIconPosition();
     }
 
     /**
@@ -1024,8 +1003,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setBorderColor(int color) {
-        mBorderColor = color;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setBorderColor(color).build());
     }
 
     /**
@@ -1034,7 +1012,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return The integer value of the color.
      */
     public int getBorderColor() {
-        return mBorderColor;
+        return mStyle.getBorderColor();
     }
 
     /**
@@ -1044,8 +1022,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setBorderWidth(int width) {
-        mBorderWidth = width;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setBorderWidth(width).build());
     }
 
     /**
@@ -1054,7 +1031,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return Border Width in px
      */
     public int getBorderWidth() {
-        return mBorderWidth;
+        return mStyle.getBorderWidth();
     }
 
     /**
@@ -1063,13 +1040,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param radius : Radius in pixels.
      */
     public void setRadius(int radius) {
-        mRadius = radius;
-        mRadiusTopLeft = radius;
-        mRadiusTopRight = radius;
-        mRadiusBottomLeft = radius;
-        mRadiusBottomRight = radius;
-
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setRadius(radius).build());
     }
 
     /**
@@ -1081,11 +1052,8 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param radiusBottomRight Bottom right radius.
      */
     public void setRadius(int radiusTopLeft, int radiusTopRight, int radiusBottomLeft, int radiusBottomRight) {
-        mRadiusTopLeft = radiusTopLeft;
-        mRadiusTopRight = radiusTopRight;
-        mRadiusBottomLeft = radiusBottomLeft;
-        mRadiusBottomRight = radiusBottomRight;
-        setupView();
+        setButtonStyle(mStyle.toBuilder()
+                .setRadius(radiusTopLeft, radiusTopRight, radiusBottomLeft, radiusBottomRight).build());
     }
 
     /**
@@ -1094,8 +1062,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param radiusTopLeft radius top left of the button
      */
     public void setRadiusTopLeft(int radiusTopLeft) {
-        mRadiusTopLeft = radiusTopLeft;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setRadiusTopLeft(radiusTopLeft).build());
     }
 
     /**
@@ -1104,7 +1071,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return radius top left of the button
      */
     public int getRadiusTopLeft() {
-        return mRadiusTopLeft;
+        return mStyle.getRadiusTopLeft();
     }
 
     /**
@@ -1113,8 +1080,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param radiusTopRight radius top right of the button
      */
     public void setRadiusTopRight(int radiusTopRight) {
-        mRadiusTopRight = radiusTopRight;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setRadiusTopRight(radiusTopRight).build());
     }
 
     /**
@@ -1123,7 +1089,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return radius top right of the button
      */
     public int getRadiusTopRight() {
-        return mRadiusTopRight;
+        return mStyle.getRadiusTopRight();
     }
 
     /**
@@ -1132,8 +1098,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param radiusBottomLeft radius bottom left of the button
      */
     public void setRadiusBottomLeft(int radiusBottomLeft) {
-        mRadiusBottomLeft = radiusBottomLeft;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setRadiusBottomLeft(radiusBottomLeft).build());
     }
 
     /**
@@ -1142,7 +1107,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return radius bottom left of the button
      */
     public int getRadiusBottomLeft() {
-        return mRadiusBottomLeft;
+        return mStyle.getRadiusBottomLeft();
     }
 
     /**
@@ -1151,8 +1116,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @param radiusBottomRight radius bottom right of the button
      */
     public void setRadiusBottomRight(int radiusBottomRight) {
-        mRadiusBottomRight = radiusBottomRight;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setRadiusBottomRight(radiusBottomRight).build());
     }
 
     /**
@@ -1161,7 +1125,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return radius bottom right of the button
      */
     public int getRadiusBottomRight() {
-        return mRadiusBottomRight;
+        return mStyle.getRadiusBottomRight();
     }
 
     /**
@@ -1174,8 +1138,7 @@ public class MaterialFancyButton extends DirectionalLayout {
         Context callerContext = getContext();
         if (callerContext instanceof AbilityContext) {
             mTextTypeFace = FontUtil.findFont((AbilityContext) callerContext, fontName, null);
-            setupTextView();
-            mTextView.setFont(mTextTypeFace);
+            markDirty(ASPECT_TEXT_STYLE);
         }
     }
 
@@ -1189,13 +1152,9 @@ public class MaterialFancyButton extends DirectionalLayout {
         Context callerContext = getContext();
         if (callerContext instanceof AbilityContext) {
             mIconTypeFace = FontUtil.findFont((AbilityContext) callerContext, fontName, null);
-            setupFontIconView();
-            if (mFontIconView == null) {
-                mFontIconView = new Text(getContext());
-                needsUpdate = true;
-            }
-            mFontIconView.setFont(mIconTypeFace);
-            setupView();
+            mMfbTypeface = null;
+            mMfbIcon = null;
+            markDirty(ASPECT_ICON_GLYPH | ASPECT_ICON_FONT);
         }
     }
 
@@ -1205,8 +1164,10 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @Override public void setEnabled(boolean value) {
         super.setEnabled(value);
-        mEnabled = value;
-        setupView();
+        // Also called by the Component constructor, before the style of the button is set
+        if (mStyle != null) {
+            setButtonStyle(mStyle.toBuilder().setEnabled(value).build());
+        }
     }
 
     /**
@@ -1216,8 +1177,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      */
     @SuppressWarnings("unused")
     public void setGhost(boolean ghost) {
-        mGhost = ghost;
-        setupView();
+        setButtonStyle(mStyle.toBuilder().setGhost(ghost).build());
     }
 
     /**
@@ -1226,7 +1186,7 @@ public class MaterialFancyButton extends DirectionalLayout {
      * @return {@code true} if the button is hollow.
      */
     public boolean isGhost() {
-        return mGhost;
+        return mStyle.isGhost();
     }
 
     /**
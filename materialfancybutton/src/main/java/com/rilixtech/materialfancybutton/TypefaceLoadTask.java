@@ -0,0 +1,81 @@
+package com.rilixtech.materialfancybutton;
+
+import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import ohos.agp.text.Font;
+import ohos.app.AbilityContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Background load of the {@link Font} of a {@link MfbTypeface}, as started by
+ * {@link CoreIcon#preload(AbilityContext, java.util.Collection, java.util.concurrent.Executor)}.
+ * Listeners can be registered to be notified once the load completes, whether it succeeded or not.
+ */
+public final class TypefaceLoadTask extends FutureTask<Font> {
+
+    private final MfbTypeface typeface;
+    private List<Runnable> listeners = new ArrayList<>();
+
+    TypefaceLoadTask(MfbTypeface typeface, AbilityContext context) {
+        super(() -> typeface.getTypeface(context));
+        this.typeface = typeface;
+    }
+
+    /**
+     * Gets the typeface whose font is being loaded.
+     *
+     * @return The MfbTypeface being loaded.
+     */
+    public MfbTypeface getTypeface() {
+        return typeface;
+    }
+
+    /**
+     * Registers a listener that is run once the font is loaded, or immediately if it already is. Listeners run on
+     * the thread that completed the load, so they should dispatch any UI work to the UI thread.
+     *
+     * @param listener The listener to be run.
+     */
+    public void addListener(Runnable listener) {
+        synchronized (this) {
+            if (listeners != null) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    /**
+     * Returns the loaded font without waiting.
+     *
+     * @return The loaded Font, or {@code null} if the load is still running or failed.
+     */
+    public Font getFontIfLoaded() {
+        if (!isDone() || isCancelled()) {
+            return null;
+        }
+        try {
+            return get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void done() {
+        List<Runnable> completedListeners;
+        synchronized (this) {
+            completedListeners = listeners;
+            listeners = null;
+        }
+        for (Runnable listener : completedListeners) {
+            listener.run();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.rilixtech.materialfancybutton.typeface;
+
+/**
+ * Immutable metrics of the glyphs of a {@link MfbTypeface}, indexed by icon ordinal like its {@link IconTable}, so
+ * that icons can be sized at any text size in constant time without measuring text. Each icon takes
+ * {@link #STRIDE} values of a {@code short[]}, in font units: its advance width, then the xMin, yMin, xMax and yMax
+ * of its bounding box with y pointing up. The tables of the bundled typefaces are generated from their font files by
+ * the checkGlyphMetrics task of the benchmark module, which fails the build when they no longer match the fonts.
+ */
+public final class GlyphMetrics {
+
+    /**
+     * Number of values stored per icon.
+     */
+    public static final int STRIDE = 5;
+
+    private static final int ADVANCE_WIDTH = 0;
+    private static final int X_MIN = 1;
+    private static final int Y_MIN = 2;
+    private static final int X_MAX = 3;
+    private static final int Y_MAX = 4;
+
+    private final int unitsPerEm;
+    private final int ascender;
+    private final int descender;
+    private final short[] metrics;
+
+    /**
+     * Creates the metrics of a typeface.
+     *
+     * @param unitsPerEm The units per em of the font.
+     * @param ascender The typographic ascender of the font, in font units.
+     * @param descender The typographic descender of the font, in font units, negative below the baseline.
+     * @param metrics The {@link #STRIDE} values of each icon, in ordinal order. The array is not copied.
+     */
+    public GlyphMetrics(int unitsPerEm, int ascender, int descender, short[] metrics) {
+        if (unitsPerEm <= 0 || metrics.length % STRIDE != 0) {
+            throw new IllegalArgumentException("Invalid units per em or metrics length.");
+        }
+        this.unitsPerEm = unitsPerEm;
+        this.ascender = ascender;
+        this.descender = descender;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Decodes the metrics of a typeface stored as a String constant, one char per value, which keeps large tables
+     * out of the bytecode of class initializers.
+     *
+     * @param unitsPerEm The units per em of the font.
+     * @param ascender The typographic ascender of the font, in font units.
+     * @param descender The typographic descender of the font, in font units.
+     * @param encodedMetrics The {@link #STRIDE} values of each icon, in ordinal order.
+     * @return The decoded GlyphMetrics.
+     */
+    public static GlyphMetrics decode(int unitsPerEm, int ascender, int descender, String encodedMetrics) {
+        short[] metrics = new short[encodedMetrics.length()];
+        for (int index = 0; index < metrics.length; index++) {
+            metrics[index] = (short) encodedMetrics.charAt(index);
+        }
+        return new GlyphMetrics(unitsPerEm, ascender, descender, metrics);
+    }
+
+    /**
+     * Encodes these metrics as a String, one char per value, as read by {@link #decode(int, int, int, String)}.
+     *
+     * @return The encoded {@link #STRIDE} values of each icon, in ordinal order.
+     */
+    public String encode() {
+        char[] encodedMetrics = new char[metrics.length];
+        for (int index = 0; index < metrics.length; index++) {
+            encodedMetrics[index] = (char) metrics[index];
+        }
+        return new String(encodedMetrics);
+    }
+
+    /**
+     * Returns the number of icons of these metrics.
+     *
+     * @return The number of icons.
+     */
+    public int size() {
+        return metrics.length / STRIDE;
+    }
+
+    /**
+     * Returns the number of font units per em square.
+     *
+     * @return The units per em.
+     */
+    public int getUnitsPerEm() {
+        return unitsPerEm;
+    }
+
+    /**
+     * Returns the typographic ascender of the font.
+     *
+     * @return The ascender in font units, positive above the baseline.
+     */
+    public int getAscender() {
+        return ascender;
+    }
+
+    /**
+     * Returns the typographic descender of the font.
+     *
+     * @return The descender in font units, negative below the baseline.
+     */
+    public int getDescender() {
+        return descender;
+    }
+
+    /**
+     * Returns the advance width of the glyph of an icon.
+     *
+     * @param ordinal The ordinal of the icon.
+     * @return The advance width in font units.
+     */
+    public int getAdvanceWidth(int ordinal) {
+        return metrics[ordinal * STRIDE + ADVANCE_WIDTH] & 0xFFFF;
+    }
+
+    /**
+     * Returns the advance width of the glyph of an icon drawn at the given size, which is the width measured for
+     * it as text.
+     *
+     * @param ordinal The ordinal of the icon.
+     * @param textSize The text size, in px.
+     * @return The advance width in px.
+     */
+    public float getAdvanceWidth(int ordinal, float textSize) {
+        return getAdvanceWidth(ordinal) * textSize / unitsPerEm;
+    }
+
+    /**
+     * Returns the distance from the baseline to the top of a line of the font drawn at the given size.
+     *
+     * @param textSize The text size, in px.
+     * @return The ascent in px, negative as the ascent of {@link ohos.agp.render.Paint.FontMetrics}.
+     */
+    public float getAscent(float textSize) {
+        return -ascender * textSize / unitsPerEm;
+    }
+
+    /**
+     * Returns the distance from the baseline to the bottom of a line of the font drawn at the given size.
+     *
+     * @param textSize The text size, in px.
+     * @return The descent in px, positive as the descent of {@link ohos.agp.render.Paint.FontMetrics}.
+     */
+    public float getDescent(float textSize) {
+        return -descender * textSize / unitsPerEm;
+    }
+
+    /**
+     * Returns the height of a line of the font drawn at the given size, from its ascent to its descent.
+     *
+     * @param textSize The text size, in px.
+     * @return The line height in px.
+     */
+    public float getLineHeight(float textSize) {
+        return (ascender - descender) * textSize / unitsPerEm;
+    }
+
+    /**
+     * Returns the width of the ink of the glyph of an icon drawn at the given size.
+     *
+     * @param ordinal The ordinal of the icon.
+     * @param textSize The text size, in px.
+     * @return The width of the bounding box of the glyph in px.
+     */
+    public float getGlyphWidth(int ordinal, float textSize) {
+        int index = ordinal * STRIDE;
+        return (metrics[index + X_MAX] - metrics[index + X_MIN]) * textSize / unitsPerEm;
+    }
+
+    /**
+     * Returns the height of the ink of the glyph of an icon drawn at the given size.
+     *
+     * @param ordinal The ordinal of the icon.
+     * @param textSize The text size, in px.
+     * @return The height of the bounding box of the glyph in px.
+     */
+    public float getGlyphHeight(int ordinal, float textSize) {
+        int index = ordinal * STRIDE;
+        return (metrics[index + Y_MAX] - metrics[index + Y_MIN]) * textSize / unitsPerEm;
+    }
+
+    /**
+     * Returns the top of the ink of the glyph of an icon drawn at the given size, relative to the baseline.
+     *
+     * @param ordinal The ordinal of the icon.
+     * @param textSize The text size, in px.
+     * @return The top of the bounding box of the glyph in px, negative above the baseline.
+     */
+    public float getGlyphTop(int ordinal, float textSize) {
+        return -metrics[ordinal * STRIDE + Y_MAX] * textSize / unitsPerEm;
+    }
+
+    /**
+     * Returns the left of the ink of the glyph of an icon drawn at the given size, relative to the origin.
+     *
+     * @param ordinal The ordinal of the icon.
+     * @param textSize The text size, in px.
+     * @return The left of the bounding box of the glyph in px.
+     */
+    public float getGlyphLeft(int ordinal, float textSize) {
+        return metrics[ordinal * STRIDE + X_MIN] * textSize / unitsPerEm;
+    }
+}
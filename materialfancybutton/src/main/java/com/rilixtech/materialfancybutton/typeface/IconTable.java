@@ -0,0 +1,271 @@
+package com.rilixtech.materialfancybutton.typeface;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Immutable lookup table over the icons of a {@link MfbTypeface}, indexed by the ordinal of each icon.
+ * The glyph of each icon is kept in a primitive {@code char[]}, so the table does not box any character.
+ * Icon names are resolved through an open addressing hash table built once from the icons, so a lookup never
+ * throws nor allocates, and a miss is reported as {@code -1} or {@code null} instead of an exception. Lookups accept
+ * any CharSequence and treat dashes as underscores, hashing and comparing the key in place, so keys such as
+ * {@code "CMDI-ACCOUNT"} don't have to be normalized into a new String first.
+ * Characters are resolved back to their icon through a reverse index, which is a dense array over the range of
+ * characters of the font when they are packed closely, or a sorted array searched by bisection otherwise.
+ */
+public final class IconTable {
+
+    private static final int EMPTY_SLOT = 0;
+    // A dense reverse index is used as long as it is at most this many times larger than the number of icons
+    private static final int MAX_DENSE_INDEX_RATIO = 4;
+
+    private final MfbIcon[] icons;
+    private final String[] names;
+    private final char[] characters;
+    private final int[] nameHashes;
+    // Ordinal + 1 of the icon stored in each slot, EMPTY_SLOT if the slot is free
+    private final int[] slots;
+    private final int slotMask;
+
+    private final char minCharacter;
+    // Ordinal + 1 of the icon of each character from minCharacter, null if the characters are too sparse
+    private final char[] denseOrdinals;
+    // Otherwise, the characters of all icons in ascending order, and the ordinal of the icon of each of them
+    private final char[] sortedCharacters;
+    private final char[] sortedOrdinals;
+
+    /**
+     * Builds the table for the given icons, usually the {@code values()} of a typeface {@code Icon} enum.
+     *
+     * @param icons The icons of the typeface, in ordinal order. Icon names must be unique.
+     */
+    public IconTable(MfbIcon[] icons) {
+        this.icons = icons;
+        this.names = new String[icons.length];
+        this.characters = new char[icons.length];
+        this.nameHashes = new int[icons.length];
+        // Keep the load factor at or below 0.5 so that probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(1, icons.length) * 2 - 1) << 1;
+        this.slots = new int[capacity];
+        this.slotMask = capacity - 1;
+        for (int ordinal = 0; ordinal < icons.length; ordinal++) {
+            names[ordinal] = icons[ordinal].getName();
+            characters[ordinal] = icons[ordinal].getCharacter();
+            int hash = mix(names[ordinal].hashCode());
+            nameHashes[ordinal] = hash;
+            int slot = hash & slotMask;
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & slotMask;
+            }
+            slots[slot] = ordinal + 1;
+        }
+
+        char min = Character.MAX_VALUE;
+        char max = Character.MIN_VALUE;
+        for (char character : characters) {
+            min = (char) Math.min(min, character);
+            max = (char) Math.max(max, character);
+        }
+        this.minCharacter = min;
+        int span = icons.length == 0 ? 0 : max - min + 1;
+        if (span <= icons.length * MAX_DENSE_INDEX_RATIO) {
+            this.denseOrdinals = new char[span];
+            // Iterate backwards so that the first icon wins when several icons share a character
+            for (int ordinal = icons.length - 1; ordinal >= 0; ordinal--) {
+                denseOrdinals[characters[ordinal] - min] = (char) (ordinal + 1);
+            }
+            this.sortedCharacters = null;
+            this.sortedOrdinals = null;
+        } else {
+            this.denseOrdinals = null;
+            this.sortedCharacters = new char[icons.length];
+            this.sortedOrdinals = new char[icons.length];
+            sortByCharacter();
+        }
+    }
+
+    /**
+     * Fills the sorted reverse index, using an insertion sort over a copy of the characters as most fonts
+     * enumerate their icons mostly in character order already.
+     */
+    private void sortByCharacter() {
+        for (int ordinal = 0; ordinal < characters.length; ordinal++) {
+            char character = characters[ordinal];
+            int position = ordinal;
+            while (position > 0 && sortedCharacters[position - 1] > character) {
+                sortedCharacters[position] = sortedCharacters[position - 1];
+                sortedOrdinals[position] = sortedOrdinals[position - 1];
+                position--;
+            }
+            sortedCharacters[position] = character;
+            sortedOrdinals[position] = (char) ordinal;
+        }
+    }
+
+    /**
+     * Returns the number of icons in this table.
+     *
+     * @return The number of icons.
+     */
+    public int size() {
+        return icons.length;
+    }
+
+    /**
+     * Returns the icon with the given ordinal.
+     *
+     * @param ordinal The ordinal of the icon, between 0 and {@link #size()} - 1.
+     * @return The icon.
+     */
+    public MfbIcon getIcon(int ordinal) {
+        return icons[ordinal];
+    }
+
+    /**
+     * Returns the name of the icon with the given ordinal.
+     *
+     * @param ordinal The ordinal of the icon, between 0 and {@link #size()} - 1.
+     * @return The name of the icon.
+     */
+    public String getName(int ordinal) {
+        return names[ordinal];
+    }
+
+    /**
+     * Returns the glyph of the icon with the given ordinal.
+     *
+     * @param ordinal The ordinal of the icon, between 0 and {@link #size()} - 1.
+     * @return The character of the icon in its font.
+     */
+    public char getCharacter(int ordinal) {
+        return characters[ordinal];
+    }
+
+    /**
+     * Returns the names of all the icons, in ordinal order.
+     *
+     * @return An unmodifiable view over the icon names.
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Builds a map of all the icon names to their glyph. Prefer {@link #indexOf(CharSequence)} and
+     * {@link #getCharacter(int)}, which don't box any character.
+     *
+     * @return A new HashMap of the icon names mapped to their character values.
+     */
+    public HashMap<String, Character> toCharacterMap() {
+        HashMap<String, Character> characterHashMap = new HashMap<>(names.length * 4 / 3 + 1);
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            characterHashMap.put(names[ordinal], characters[ordinal]);
+        }
+        return characterHashMap;
+    }
+
+    /**
+     * Finds the ordinal of the icon with the given name.
+     *
+     * @param name The name of the icon, eg. {@code "CMDI_ACCOUNT"} or {@code "CMDI-ACCOUNT"}. Can be {@code null}.
+     * @return The ordinal of the icon, or {@code -1} if this table has no icon with the given name.
+     */
+    public int indexOf(CharSequence name) {
+        if (name == null) {
+            return -1;
+        }
+        int hash = mix(keyHashCode(name));
+        int slot = hash & slotMask;
+        int entry;
+        while ((entry = slots[slot]) != EMPTY_SLOT) {
+            int ordinal = entry - 1;
+            if (nameHashes[ordinal] == hash && keyEquals(names[ordinal], name)) {
+                return ordinal;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the icon with the given name.
+     *
+     * @param name The name of the icon, eg. {@code "CMDI_ACCOUNT"} or {@code "CMDI-ACCOUNT"}. Can be {@code null}.
+     * @return The icon, or {@code null} if this table has no icon with the given name.
+     */
+    public MfbIcon find(CharSequence name) {
+        int ordinal = indexOf(name);
+        return ordinal < 0 ? null : icons[ordinal];
+    }
+
+    /**
+     * Finds the ordinal of the icon drawn with the given character.
+     *
+     * @param character The character of the icon in its font.
+     * @return The ordinal of the icon, or {@code -1} if no icon of this table uses the character. If several icons
+     *         share the character, the one with the lowest ordinal is returned.
+     */
+    public int indexOfCharacter(char character) {
+        if (denseOrdinals != null) {
+            int offset = character - minCharacter;
+            return offset >= 0 && offset < denseOrdinals.length ? denseOrdinals[offset] - 1 : -1;
+        }
+        int position = Arrays.binarySearch(sortedCharacters, character);
+        if (position < 0) {
+            return -1;
+        }
+        while (position > 0 && sortedCharacters[position - 1] == character) {
+            position--;
+        }
+        return sortedOrdinals[position];
+    }
+
+    /**
+     * Finds the icon drawn with the given character.
+     *
+     * @param character The character of the icon in its font.
+     * @return The icon, or {@code null} if no icon of this table uses the character.
+     */
+    public MfbIcon findByCharacter(char character) {
+        int ordinal = indexOfCharacter(character);
+        return ordinal < 0 ? null : icons[ordinal];
+    }
+
+    /**
+     * Computes the {@link String#hashCode()} of a key with its dashes replaced by underscores, without replacing them.
+     */
+    private static int keyHashCode(CharSequence key) {
+        int hash = 0;
+        for (int index = 0; index < key.length(); index++) {
+            char character = key.charAt(index);
+            hash = 31 * hash + (character == '-' ? '_' : character);
+        }
+        return hash;
+    }
+
+    /**
+     * Compares an icon name with a key whose dashes stand for underscores.
+     */
+    private static boolean keyEquals(String name, CharSequence key) {
+        if (name.length() != key.length()) {
+            return false;
+        }
+        for (int index = 0; index < name.length(); index++) {
+            char character = key.charAt(index);
+            if (name.charAt(index) != (character == '-' ? '_' : character)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Spreads the bits of a String hash code, as icon names of a font share long common prefixes.
+     */
+    private static int mix(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
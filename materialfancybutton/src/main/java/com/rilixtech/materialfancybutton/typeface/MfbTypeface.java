@@ -3,8 +3,10 @@ package com.rilixtech.materialfancybutton.typeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * Created by mikepenz on 01.11.14.
@@ -13,8 +15,63 @@ public interface MfbTypeface {
 
     MfbIcon getIcon(String key);
 
+    /**
+     * Finds the icon for the given key without using exceptions for unknown keys.
+     * Implementations should override this with a lookup that does not throw, such as an {@link IconTable}.
+     *
+     * @param key The key of the icon, eg. {@code "CMDI_ACCOUNT"}.
+     * @return The icon, or {@code null} if this font has no icon for the given key.
+     */
+    default MfbIcon findIcon(String key) {
+        try {
+            return getIcon(key);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the icon drawn with the given character of this font.
+     *
+     * @param character The character of the icon.
+     * @return The icon, or {@code null} if no icon of this font uses the character.
+     */
+    default MfbIcon findIcon(char character) {
+        return getIconTable().findByCharacter(character);
+    }
+
+    /**
+     * Gets all the icon names of this font mapped to their characters. This boxes every character, prefer
+     * {@link #getIconTable()} which exposes the same glyphs in primitive arrays.
+     *
+     * @return HashMap of all icon names mapped to their character values.
+     */
     HashMap<String, Character> getCharacters();
 
+    /**
+     * Gets the compact glyph table of this font, indexed by icon ordinal.
+     * Implementations should override this to return a table built once, rather than one built on every call.
+     *
+     * @return The IconTable of all the icons of this font.
+     */
+    default IconTable getIconTable() {
+        List<MfbIcon> icons = new ArrayList<>();
+        for (String key : getIcons()) {
+            icons.add(getIcon(key));
+        }
+        return new IconTable(icons.toArray(new MfbIcon[0]));
+    }
+
+    /**
+     * Gets the precomputed metrics of the glyphs of this font, indexed by icon ordinal like {@link #getIconTable()},
+     * which allow sizing icons without measuring them as text.
+     *
+     * @return The GlyphMetrics of all the icons of this font, or {@code null} if they are not available.
+     */
+    default GlyphMetrics getGlyphMetrics() {
+        return null;
+    }
+
     /**
      * The Mapping Prefix to identify this font.
      * must have a length of {@code CoreIcon.FONT_MAPPING_PREFIX}
@@ -0,0 +1,23 @@
+package com.rilixtech.materialfancybutton.typeface;
+
+/**
+ * Creates the {@link MfbTypeface} implementations of the typeface modules of an application by mapping prefix, without
+ * reflection. The provider of an application can be generated at build time by typeface-provider.gradle, and set at
+ * startup with {@link com.rilixtech.materialfancybutton.CoreIcon#setTypefaceProvider(MfbTypefaceProvider)}. Without a
+ * provider, the typefaces are instantiated by class name.
+ */
+public interface MfbTypefaceProvider {
+
+    /**
+     * Returns the mapping prefixes of the typefaces this provider creates, sorted. The array must not be modified.
+     */
+    String[] getMappingPrefixes();
+
+    /**
+     * Creates the typeface of a mapping prefix.
+     *
+     * @param mappingPrefix The mapping prefix of the typeface, eg. {@code "CMDI"}.
+     * @return A new typeface, or {@code null} if this provider has no typeface for the prefix.
+     */
+    MfbTypeface newTypeface(String mappingPrefix);
+}
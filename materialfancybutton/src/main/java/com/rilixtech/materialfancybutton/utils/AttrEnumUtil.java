@@ -21,10 +21,12 @@ public class AttrEnumUtil {
         BOTTOM(4);
 
         private static final Map<Integer, MfbIconPosition> BY_VALUE = new HashMap<>();
+        private static final Map<String, MfbIconPosition> BY_LABEL = new HashMap<>();
 
         static {
             for (MfbIconPosition e : values()) {
                 BY_VALUE.put(e.value, e);
+                BY_LABEL.put(e.name(), e);
             }
         }
 
@@ -37,6 +39,16 @@ public class AttrEnumUtil {
         public static MfbIconPosition labelOfValue(int value) {
             return BY_VALUE.get(value);
         }
+
+        /**
+         * Finds the constant of the given name, like valueOf but without throwing for unknown names.
+         *
+         * @param label The name of the constant, eg. {@code "LEFT"}.
+         * @return The constant, or {@code null} if no constant has this name.
+         */
+        public static MfbIconPosition valueOfLabel(String label) {
+            return BY_LABEL.get(label);
+        }
     }
 
     /**
@@ -53,6 +65,14 @@ public class AttrEnumUtil {
         END(TextAlignment.END),
         CENTER(TextAlignment.CENTER);
 
+        private static final Map<String, MfbTextGravity> BY_LABEL = new HashMap<>();
+
+        static {
+            for (MfbTextGravity e : values()) {
+                BY_LABEL.put(e.name(), e);
+            }
+        }
+
         private int value;
 
         MfbTextGravity(int value) {
@@ -66,5 +86,15 @@ public class AttrEnumUtil {
         private void setValue(int value) {
             this.value = value;
         }
+
+        /**
+         * Finds the constant of the given name, like valueOf but without throwing for unknown names.
+         *
+         * @param label The name of the constant, eg. {@code "CENTER"}.
+         * @return The constant, or {@code null} if no constant has this name.
+         */
+        public static MfbTextGravity valueOfLabel(String label) {
+            return BY_LABEL.get(label);
+        }
     }
 }
@@ -0,0 +1,226 @@
+package com.rilixtech.materialfancybutton.utils;
+
+import ohos.agp.components.Attr;
+import ohos.agp.components.AttrSet;
+import ohos.agp.components.element.Element;
+import ohos.agp.utils.Color;
+import java.util.Optional;
+
+/**
+ * The attributes of a MaterialFancyButton or FlatFancyButton, read from its AttrSet in a single pass. Each attribute
+ * of the set is dispatched by name to its slot with a String switch, and its value is decoded once into a primitive
+ * array, so that reading the ~30 attributes of a button doesn't look every name up in the AttrSet nor wrap every
+ * value into an Optional. Slots are the constants of this class, and {@link #has(int)} tells whether the AttrSet
+ * gave a valid value for a slot.
+ */
+public final class ButtonAttributes {
+
+    private static final int UNKNOWN_SLOT = -1;
+
+    // Color slots
+    public static final int DEFAULT_COLOR = 0;
+    public static final int FOCUS_COLOR = 1;
+    public static final int DISABLED_COLOR = 2;
+    public static final int DISABLED_TEXT_COLOR = 3;
+    public static final int DISABLED_BORDER_COLOR = 4;
+    public static final int TEXT_COLOR = 5;
+    public static final int ICON_COLOR = 6;
+    public static final int BORDER_COLOR = 7;
+    // Boolean slots
+    public static final int ENABLED = 8;
+    public static final int TEXT_ALL_CAPS = 9;
+    public static final int GHOST = 10;
+    // Dimension slots, in px
+    public static final int TEXT_SIZE = 11;
+    public static final int OHOS_TEXT_SIZE = 12;
+    public static final int BORDER_WIDTH = 13;
+    public static final int RADIUS = 14;
+    public static final int RADIUS_TOP_LEFT = 15;
+    public static final int RADIUS_TOP_RIGHT = 16;
+    public static final int RADIUS_BOTTOM_LEFT = 17;
+    public static final int RADIUS_BOTTOM_RIGHT = 18;
+    public static final int FONT_ICON_SIZE = 19;
+    public static final int ICON_PADDING_LEFT = 20;
+    public static final int ICON_PADDING_RIGHT = 21;
+    public static final int ICON_PADDING_TOP = 22;
+    public static final int ICON_PADDING_BOTTOM = 23;
+    // Enum slots, holding the value of the constant named by the attribute
+    public static final int TEXT_GRAVITY = 24;
+    public static final int ICON_POSITION = 25;
+    // String slots
+    public static final int TEXT = 26;
+    public static final int OHOS_TEXT = 27;
+    public static final int FONT_ICON_RESOURCE = 28;
+    public static final int ICON_FONT = 29;
+    public static final int TEXT_FONT = 30;
+    public static final int ICON = 31;
+    // Element slot
+    public static final int ICON_RESOURCE = 32;
+
+    private static final int FIRST_BOOLEAN_SLOT = ENABLED;
+    private static final int FIRST_DIMENSION_SLOT = TEXT_SIZE;
+    private static final int FIRST_ENUM_SLOT = TEXT_GRAVITY;
+    private static final int FIRST_STRING_SLOT = TEXT;
+
+    // Bit of each slot whose attribute was read
+    private long presentSlots;
+    private final int[] values = new int[FIRST_STRING_SLOT];
+    private final String[] strings = new String[ICON_RESOURCE - FIRST_STRING_SLOT];
+    private Element iconResource;
+
+    private ButtonAttributes() {}
+
+    /**
+     * Reads the attributes of a button.
+     *
+     * @param attrSet The set of Attributes of the button.
+     * @return The attributes read.
+     */
+    public static ButtonAttributes read(AttrSet attrSet) {
+        ButtonAttributes attributes = new ButtonAttributes();
+        int length = attrSet.getLength();
+        for (int index = 0; index < length; index++) {
+            Optional<Attr> optionalAttribute = attrSet.getAttr(index);
+            if (optionalAttribute.isPresent()) {
+                attributes.read(optionalAttribute.get());
+            }
+        }
+        return attributes;
+    }
+
+    private void read(Attr attr) {
+        int slot = slotOf(attr.getName());
+        if (slot == UNKNOWN_SLOT) {
+            return;
+        }
+        if (slot < FIRST_BOOLEAN_SLOT) {
+            Color color = attr.getColorValue();
+            if (color == null) {
+                return;
+            }
+            values[slot] = color.getValue();
+        } else if (slot < FIRST_DIMENSION_SLOT) {
+            values[slot] = attr.getBoolValue() ? 1 : 0;
+        } else if (slot < FIRST_ENUM_SLOT) {
+            values[slot] = attr.getDimensionValue();
+        } else if (slot < FIRST_STRING_SLOT) {
+            int value = slot == TEXT_GRAVITY ? textGravityOf(attr.getStringValue())
+                    : iconPositionOf(attr.getStringValue());
+            if (value == UNKNOWN_SLOT) {
+                return;
+            }
+            values[slot] = value;
+        } else if (slot < ICON_RESOURCE) {
+            strings[slot - FIRST_STRING_SLOT] = attr.getStringValue();
+        } else {
+            iconResource = attr.getElement();
+        }
+        presentSlots |= 1L << slot;
+    }
+
+    /**
+     * Finds the slot of an attribute.
+     *
+     * @param name The name of the attribute, eg. {@code "mfb_radius"}.
+     * @return The slot of the attribute, or {@code -1} if it isn't an attribute of the buttons.
+     */
+    static int slotOf(String name) {
+        switch (name) {
+            case "mfb_defaultColor": return DEFAULT_COLOR;
+            case "mfb_focusColor": return FOCUS_COLOR;
+            case "mfb_disabledColor": return DISABLED_COLOR;
+            case "mfb_disabledTextColor": return DISABLED_TEXT_COLOR;
+            case "mfb_disabledBorderColor": return DISABLED_BORDER_COLOR;
+            case "mfb_textColor": return TEXT_COLOR;
+            case "mfb_iconColor": return ICON_COLOR;
+            case "mfb_borderColor": return BORDER_COLOR;
+            case "enabled": return ENABLED;
+            case "mfb_textAllCaps": return TEXT_ALL_CAPS;
+            case "mfb_ghost": return GHOST;
+            case "mfb_textSize": return TEXT_SIZE;
+            case "text_size": return OHOS_TEXT_SIZE;
+            case "mfb_borderWidth": return BORDER_WIDTH;
+            case "mfb_radius": return RADIUS;
+            case "mfb_radiusTopLeft": return RADIUS_TOP_LEFT;
+            case "mfb_radiusTopRight": return RADIUS_TOP_RIGHT;
+            case "mfb_radiusBottomLeft": return RADIUS_BOTTOM_LEFT;
+            case "mfb_radiusBottomRight": return RADIUS_BOTTOM_RIGHT;
+            case "mfb_fontIconSize": return FONT_ICON_SIZE;
+            case "mfb_iconPaddingLeft": return ICON_PADDING_LEFT;
+            case "mfb_iconPaddingRight": return ICON_PADDING_RIGHT;
+            case "mfb_iconPaddingTop": return ICON_PADDING_TOP;
+            case "mfb_iconPaddingBottom": return ICON_PADDING_BOTTOM;
+            case "mfb_textGravity": return TEXT_GRAVITY;
+            case "mfb_iconPosition": return ICON_POSITION;
+            case "mfb_text": return TEXT;
+            case "text": return OHOS_TEXT;
+            case "mfb_fontIconResource": return FONT_ICON_RESOURCE;
+            case "mfb_iconFont": return ICON_FONT;
+            case "mfb_textFont": return TEXT_FONT;
+            case "mfb_icon": return ICON;
+            case "mfb_iconResource": return ICON_RESOURCE;
+            default: return UNKNOWN_SLOT;
+        }
+    }
+
+    private static int textGravityOf(String label) {
+        AttrEnumUtil.MfbTextGravity textGravity = AttrEnumUtil.MfbTextGravity.valueOfLabel(label);
+        return textGravity == null ? UNKNOWN_SLOT : textGravity.getValue();
+    }
+
+    private static int iconPositionOf(String label) {
+        AttrEnumUtil.MfbIconPosition iconPosition = AttrEnumUtil.MfbIconPosition.valueOfLabel(label);
+        return iconPosition == null ? UNKNOWN_SLOT : iconPosition.value;
+    }
+
+    /**
+     * Checks whether the AttrSet gave a valid value for a slot.
+     *
+     * @param slot The slot of the attribute.
+     * @return true if the attribute was read.
+     */
+    public boolean has(int slot) {
+        return (presentSlots & 1L << slot) != 0;
+    }
+
+    /**
+     * Returns the value of a color, dimension or enum attribute.
+     *
+     * @param slot The slot of the attribute.
+     * @param defaultValue The value to be returned if the attribute is missing.
+     * @return The color, the dimension in px or the value of the enum constant.
+     */
+    public int getInt(int slot, int defaultValue) {
+        return has(slot) ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Returns the value of a boolean attribute.
+     *
+     * @param slot The slot of the attribute.
+     * @param defaultValue The value to be returned if the attribute is missing.
+     * @return The boolean value of the attribute.
+     */
+    public boolean getBoolean(int slot, boolean defaultValue) {
+        return has(slot) ? values[slot] != 0 : defaultValue;
+    }
+
+    /**
+     * Returns the value of a String attribute.
+     *
+     * @param slot The slot of the attribute.
+     * @return The String value of the attribute, {@code null} if it is missing.
+     */
+    public String getString(int slot) {
+        return strings[slot - FIRST_STRING_SLOT];
+    }
+
+    /**
+     * Returns the {@code mfb_iconResource} attribute.
+     *
+     * @return The element of the icon, {@code null} if it is missing.
+     */
+    public Element getIconResource() {
+        return iconResource;
+    }
+}
@@ -0,0 +1,263 @@
+package com.rilixtech.materialfancybutton.utils;
+
+import ohos.app.AbilityContext;
+import ohos.global.resource.RawFileDescriptor;
+import ohos.global.resource.RawFileEntry;
+import ohos.global.resource.Resource;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent cache of the font files extracted from the rawfile directory of the HAP, so that they can be loaded
+ * by {@link ohos.agp.text.Font.Builder}. Each font is extracted once, next to a small manifest recording the asset
+ * name, its size, the CRC32 of its content and the stamp of the installed HAP. On later launches a font is reused
+ * as long as its manifest still matches the packaged asset and the HAP wasn't updated since, which only costs a
+ * couple of file metadata reads. Updating the app, and with it this library or the font, extracts the fonts again.
+ * Files are written to a temporary file first and then renamed, so that concurrent extractions by several
+ * Abilities never expose a partially written font. The copies extracted by older versions directly into the cache
+ * directory of the app are deleted when the directory of this cache is first created.
+ */
+public final class FontFileCache {
+
+    private static final String CACHE_DIR_NAME = "mfb_fonts";
+    private static final String MANIFEST_EXTENSION = ".manifest";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final String KEY_ASSET = "asset";
+    private static final String KEY_SIZE = "size";
+    private static final String KEY_CRC32 = "crc32";
+    private static final String KEY_BUNDLE_STAMP = "bundleStamp";
+    private static final int COPY_BUFFER_SIZE = 8 * 1024;
+    // Fonts were extracted by older versions as file_<fontName>, directly in the cache directory of the app
+    private static final String LEGACY_FILE_PREFIX = "file_";
+    private static final String[] LEGACY_FILE_EXTENSIONS = {".ttf", ".otf"};
+
+    private static final AtomicLong hitCount = new AtomicLong();
+    private static final AtomicLong missCount = new AtomicLong();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+
+    // Stamp of the installed HAP, which doesn't change while the process runs
+    private static volatile String bundleStamp = null;
+
+    private FontFileCache() {}
+
+    /**
+     * Returns the extracted font file for the given rawfile, extracting it first if it isn't cached yet or if the
+     * cached copy doesn't match the packaged asset anymore.
+     *
+     * @param context The AbilityContext of the HAP containing the font.
+     * @param fontName The name of the font file as stored in the rawfile directory, including its extension.
+     * @return The extracted font file.
+     * @throws IllegalStateException In case the rawfile does not exist or could not be extracted.
+     */
+    public static File getFontFile(AbilityContext context, String fontName) throws IllegalStateException {
+        RawFileEntry rawFileEntry = context.getResourceManager().getRawFileEntry("resources/rawfile/" + fontName);
+        File cacheDir = new File(context.getCacheDir(), CACHE_DIR_NAME);
+        String stamp = getBundleStamp(context);
+        try (RawFileDescriptor rawFileDescriptor = rawFileEntry.openRawFileDescriptor()) {
+            long assetSize = rawFileDescriptor.getFileSize();
+            File fontFile = new File(cacheDir, fontName);
+            if (isValid(fontFile, fontName, assetSize, stamp)) {
+                hitCount.incrementAndGet();
+                return fontFile;
+            }
+            missCount.incrementAndGet();
+            try (Resource resource = rawFileEntry.openRawFile()) {
+                extract(resource, fontFile, fontName, assetSize, stamp);
+            }
+            return fontFile;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Returns the stamp of the installed HAP: the modification time of its code path, which changes whenever the app
+     * is installed or updated, so that fonts extracted by an older build are not reused.
+     */
+    static String getBundleStamp(AbilityContext context) {
+        String stamp = bundleStamp;
+        if (stamp == null) {
+            String bundleCodePath = context.getBundleCodePath();
+            stamp = bundleCodePath == null ? "" : String.valueOf(new File(bundleCodePath).lastModified());
+            bundleStamp = stamp;
+        }
+        return stamp;
+    }
+
+    /**
+     * Checks that the font file was extracted from an asset of the given name and size, by the build of the HAP
+     * with the given stamp. The content itself is not read, see {@link #verify(File)} for a full integrity check.
+     */
+    static boolean isValid(File fontFile, String assetName, long assetSize, String bundleStamp) {
+        if (fontFile.length() != assetSize) {
+            return false;
+        }
+        Properties manifest = readManifest(fontFile);
+        return manifest != null
+                && bundleStamp.equals(manifest.getProperty(KEY_BUNDLE_STAMP))
+                && assetName.equals(manifest.getProperty(KEY_ASSET))
+                && String.valueOf(assetSize).equals(manifest.getProperty(KEY_SIZE));
+    }
+
+    /**
+     * Recomputes the CRC32 of an extracted font file and compares it with the one recorded in its manifest.
+     *
+     * @param fontFile The extracted font file.
+     * @return {@code true} if the content of the file matches its manifest.
+     */
+    public static boolean verify(File fontFile) {
+        Properties manifest = readManifest(fontFile);
+        if (manifest == null) {
+            return false;
+        }
+        CRC32 crc32 = new CRC32();
+        byte[] buf = new byte[COPY_BUFFER_SIZE];
+        try (InputStream input = new FileInputStream(fontFile)) {
+            int bytesRead;
+            while ((bytesRead = input.read(buf)) != -1) {
+                crc32.update(buf, 0, bytesRead);
+            }
+        } catch (IOException ex) {
+            return false;
+        }
+        return Long.toHexString(crc32.getValue()).equals(manifest.getProperty(KEY_CRC32));
+    }
+
+    /**
+     * Streams the asset to the font file and writes its manifest, both through a temporary file and a rename.
+     */
+    static void extract(InputStream asset, File fontFile, String assetName, long assetSize, String bundleStamp)
+            throws IOException {
+        File cacheDir = fontFile.getParentFile();
+        if (!cacheDir.isDirectory()) {
+            if (!cacheDir.mkdirs() && !cacheDir.isDirectory()) {
+                throw new IOException("Can't create " + cacheDir);
+            }
+            deleteLegacyFiles(cacheDir.getParentFile());
+        }
+        CRC32 crc32 = new CRC32();
+        File tempFontFile = File.createTempFile(fontFile.getName(), TEMP_EXTENSION, cacheDir);
+        try {
+            long totalBytesRead = 0;
+            try (OutputStream output = new FileOutputStream(tempFontFile)) {
+                byte[] buf = new byte[COPY_BUFFER_SIZE];
+                int bytesRead;
+                while ((bytesRead = asset.read(buf)) != -1) {
+                    output.write(buf, 0, bytesRead);
+                    crc32.update(buf, 0, bytesRead);
+                    totalBytesRead += bytesRead;
+                }
+            }
+            if (totalBytesRead != assetSize) {
+                throw new IOException("Asset read failed");
+            }
+            rename(tempFontFile, fontFile);
+            bytesWritten.addAndGet(totalBytesRead);
+        } finally {
+            tempFontFile.delete();
+        }
+
+        Properties manifest = new Properties();
+        manifest.setProperty(KEY_ASSET, assetName);
+        manifest.setProperty(KEY_SIZE, String.valueOf(assetSize));
+        manifest.setProperty(KEY_CRC32, Long.toHexString(crc32.getValue()));
+        manifest.setProperty(KEY_BUNDLE_STAMP, bundleStamp);
+        File tempManifestFile = File.createTempFile(fontFile.getName(), TEMP_EXTENSION, cacheDir);
+        try {
+            try (OutputStream output = new FileOutputStream(tempManifestFile)) {
+                manifest.store(output, null);
+            }
+            rename(tempManifestFile, getManifestFile(fontFile));
+        } finally {
+            tempManifestFile.delete();
+        }
+    }
+
+    /**
+     * Deletes the fonts extracted by older versions into the given directory, which nothing reads anymore. Called once,
+     * when the cache directory is created.
+     */
+    static void deleteLegacyFiles(File directory) {
+        File[] files = directory == null ? null : directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (isLegacyFile(file.getName()) && file.isFile()) {
+                file.delete();
+            }
+        }
+    }
+
+    private static boolean isLegacyFile(String fileName) {
+        if (!fileName.startsWith(LEGACY_FILE_PREFIX)) {
+            return false;
+        }
+        String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+        for (String extension : LEGACY_FILE_EXTENSIONS) {
+            if (lowerCaseName.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void rename(File from, File to) throws IOException {
+        if (!from.renameTo(to)) {
+            throw new IOException("Can't rename " + from + " to " + to);
+        }
+    }
+
+    private static File getManifestFile(File fontFile) {
+        return new File(fontFile.getParentFile(), fontFile.getName() + MANIFEST_EXTENSION);
+    }
+
+    private static Properties readManifest(File fontFile) {
+        File manifestFile = getManifestFile(fontFile);
+        if (!manifestFile.isFile()) {
+            return null;
+        }
+        Properties manifest = new Properties();
+        try (InputStream input = new FileInputStream(manifestFile)) {
+            manifest.load(input);
+        } catch (IOException | IllegalArgumentException ex) {
+            return null;
+        }
+        return manifest;
+    }
+
+    /**
+     * Returns the number of fonts that were found in the cache.
+     *
+     * @return The number of cache hits since the process started.
+     */
+    public static long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of fonts that had to be extracted.
+     *
+     * @return The number of cache misses since the process started.
+     */
+    public static long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of bytes of font files written to the cache.
+     *
+     * @return The number of bytes written since the process started.
+     */
+    public static long getBytesWritten() {
+        return bytesWritten.get();
+    }
+}
@@ -4,14 +4,8 @@ import ohos.agp.components.AttrHelper;
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
 import ohos.app.Context;
-import ohos.global.resource.RawFileDescriptor;
-import ohos.global.resource.RawFileEntry;
-import ohos.global.resource.Resource;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Utility class for Font related functionality.
@@ -19,7 +13,16 @@ import java.util.Map;
 public class FontUtil {
     private FontUtil() {}
 
-    private static final Map<String, Font> cachedFontMap = new HashMap<>();
+    /**
+     * Default maximum total size, in bytes of font files, of the fonts kept in memory.
+     */
+    public static final long DEFAULT_FONT_CACHE_SIZE = 4L * 1024 * 1024;
+
+    // Nominal weight of a fallback to Font.DEFAULT, so that names of missing fonts can't grow the cache without bounds
+    private static final long FALLBACK_FONT_WEIGHT = 4L * 1024;
+
+    // Fonts loaded from rawfile keyed by file name and weighted by file size, and fallbacks to Font.DEFAULT
+    private static final LruCache<String, Font> fontCache = new LruCache<>(DEFAULT_FONT_CACHE_SIZE);
 
     /**
      * Converts a pixel value to the corresponding fp equivalent.
@@ -90,24 +93,67 @@ public class FontUtil {
      */
     private static void updateCacheIfNotEmpty(String key, Font font) {
         if (!TextUtils.isEmpty(key)) {
-            cachedFontMap.put(key, font);
+            fontCache.put(key, font, FALLBACK_FONT_WEIGHT);
         }
     }
 
     private static Font loadFontIfExists(AbilityContext context, String fontName) {
-        Font typeface;
-        if (!cachedFontMap.containsKey(fontName)) {
-            try {
-                typeface = getFontFromRawFile(context, fontName);
-                cachedFontMap.put(fontName, typeface);
-            } catch (IllegalStateException e) {
-                // File read failed. Return null
-                typeface = null;
-            }
-        } else {
-            typeface = cachedFontMap.get(fontName);
+        try {
+            return loadFont(context, fontName);
+        } catch (IllegalStateException e) {
+            // File read failed. Return null
+            return null;
+        }
+    }
+
+    /**
+     * Returns the Font built from the given rawfile, loading it through {@link #getFontFromRawFile} and caching it
+     * if it isn't cached yet. The cache is shared by all the typefaces and custom text fonts, and is bounded by the
+     * total size of the font files it holds, evicting the least recently used fonts first.
+     *
+     * @param context The AbilityContext from which this Font is being loaded.
+     * @param fontName The name of the font file as stored in the rawfile directory, including its extension.
+     * @return The cached or newly loaded Font.
+     * @throws IllegalStateException In case the file does not exist, could not be read, or is not a readable font file.
+     */
+    public static Font loadFont(AbilityContext context, String fontName) throws IllegalStateException {
+        Font font = fontCache.get(fontName);
+        if (font != null) {
+            return font;
         }
-        return typeface;
+        File file = FontFileCache.getFontFile(context, fontName);
+        font = new Font.Builder(file).build();
+        // Another thread may have loaded the same font meanwhile, in which case its instance is kept
+        return fontCache.putIfAbsent(fontName, font, file.length());
+    }
+
+    /**
+     * Evicts the given font from the in-memory cache. It is loaded again the next time it is requested.
+     *
+     * @param fontName The name of the font file as stored in the rawfile directory, including its extension.
+     * @return {@code true} if the font was cached.
+     */
+    public static boolean evictFont(String fontName) {
+        return fontCache.evict(fontName);
+    }
+
+    /**
+     * Releases fonts held in memory, typically from the onMemoryLevel callback of the application.
+     *
+     * @param level {@link LruCache#TRIM_MEMORY_MODERATE} to release the least recently used fonts until half of
+     *              the cache size is used, or {@link LruCache#TRIM_MEMORY_COMPLETE} to release all fonts.
+     */
+    public static void trimMemory(int level) {
+        fontCache.trimMemory(level);
+    }
+
+    /**
+     * Changes the maximum total size of the fonts kept in memory, evicting fonts if needed.
+     *
+     * @param maxSize The maximum size, in bytes of font files. Defaults to {@link #DEFAULT_FONT_CACHE_SIZE}.
+     */
+    public static void setFontCacheMaxSize(long maxSize) {
+        fontCache.setMaxWeight(maxSize);
     }
 
     /**
@@ -123,33 +169,26 @@ public class FontUtil {
      * @throws IllegalStateException In case the file does not exist, could not be read, or is not a readable font file.
      */
     public static Font getFontFromRawFile(AbilityContext context, String fontName) throws IllegalStateException  {
-        Font typeface;
-        RawFileEntry rawFileEntry = context.getResourceManager()
-                .getRawFileEntry("resources/rawfile/" + fontName);
-        File file = getFileFromRawFile(context, rawFileEntry, "file_" + fontName);
+        File file = FontFileCache.getFontFile(context, fontName);
         Font.Builder newTypeface = new Font.Builder(file);
-        typeface = newTypeface.build();
-        return typeface;
+        return newTypeface.build();
     }
 
-    private static File getFileFromRawFile(AbilityContext ctx, RawFileEntry rawFileEntry, String filename)
-            throws IllegalStateException {
-        byte[] buf;
-        try (Resource resource = rawFileEntry.openRawFile();
-             RawFileDescriptor rawFileDescriptor = rawFileEntry.openRawFileDescriptor()) {
-            File file = new File(ctx.getCacheDir(), filename);
-
-            buf = new byte[(int) rawFileDescriptor.getFileSize()];
-            int bytesRead = resource.read(buf);
-            if (bytesRead != buf.length) {
-                throw new IOException("Asset read failed");
-            }
-            FileOutputStream output = new FileOutputStream(file);
-            output.write(buf, 0, bytesRead);
-            output.close();
-            return file;
-        } catch (IOException ex) {
+    /**
+     * Reads the character map and metrics of a font file from the rawfile directory of the current HAP, eg. to check
+     * that the icons of a typeface have a glyph in it, without building a platform Font.
+     *
+     * @param context The AbilityContext of the HAP containing the font.
+     * @param fontName The name of the font file as stored in the rawfile directory, including its extension.
+     * @return The parsed font.
+     * @throws IllegalStateException In case the file does not exist, could not be read, or is not a supported font.
+     */
+    public static TrueTypeFont readFontFile(AbilityContext context, String fontName) throws IllegalStateException {
+        File file = FontFileCache.getFontFile(context, fontName);
+        try {
+            return TrueTypeFont.read(file);
+        } catch (IOException | IllegalArgumentException ex) {
             throw new IllegalStateException(ex);
         }
     }
-}
\ No newline at end of file
+}
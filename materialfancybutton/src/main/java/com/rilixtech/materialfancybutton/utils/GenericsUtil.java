@@ -1,6 +1,7 @@
 package com.rilixtech.materialfancybutton.utils;
 
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import java.util.Arrays;
 
 /**
  * Utility class containing methods to handle the different {@link MfbTypeface}
@@ -10,35 +11,31 @@ public class GenericsUtil {
 
     private GenericsUtil() {}
 
-    // If a new font module is to be added, its name should be appended in the below array
-    private static final String[] SUPPORTED_FONT_CLASSES = new String[]{
-        "com.rilixtech.communitymaterialtypeface.CommunityMaterial",
-        "com.rilixtech.devicontypeface.Devicon",
-        "com.rilixtech.dripiconstypeface.Dripicons",
-        "com.rilixtech.entypotypeface.Entypo",
-        "com.rilixtech.fontawesometypeface.FontAwesome",
-        "com.rilixtech.foundationiconstypeface.FoundationIcons",
-        "com.rilixtech.glyphiconshalflingstypeface.GlyphiconsHalflings",
-        "com.rilixtech.googlematerialtypeface.GoogleMaterial",
-        "com.rilixtech.ioniconstypeface.Ionicons",
-        "com.rilixtech.materialdesigniconictypeface.MaterialDesignIconic",
-        "com.rilixtech.meteoconstypeface.Meteocons",
-        "com.rilixtech.mfglabsiconsettypeface.MfgLabsIconset",
-        "com.rilixtech.mobiriseiconstypeface.MobiriseIcons",
-        "com.rilixtech.octiconstypeface.Octicons",
-        "com.rilixtech.openiconictypeface.OpenIconic",
-        "com.rilixtech.picoltypeface.Picol",
-        "com.rilixtech.pixeden7stroketypeface.Pixeden7Stroke",
-        "com.rilixtech.themifyiconstypeface.ThemifyIcons",
-        "com.rilixtech.typiconstypeface.Typicons",
-        "com.rilixtech.vaadiniconstypeface.VaadinIcons",
-        "com.rilixtech.weathericonstypeface.WeatherIcons"
-    };
+    // The supported fonts are indexed at build time by the generateTypefaceIndex task, which scans the typeface modules
+    // for MfbTypeface implementations. A new font module is picked up automatically on the next build.
 
     /**
      * Find the full class names for each of the MfbTypeface classes defined in each typeface module.
      */
     public static String[] getFields() {
-        return SUPPORTED_FONT_CLASSES;
+        return TypefaceIndex.CLASS_NAMES;
+    }
+
+    /**
+     * Find the mapping prefixes of each of the MfbTypeface classes defined in each typeface module.
+     */
+    public static String[] getMappingPrefixes() {
+        return TypefaceIndex.MAPPING_PREFIXES;
+    }
+
+    /**
+     * Find the full class name of the MfbTypeface class registered for the given mapping prefix.
+     *
+     * @param mappingPrefix The mapping prefix of the font, eg. {@code "CMDI"}.
+     * @return The full class name, or {@code null} if no supported font uses this prefix.
+     */
+    public static String getFontClassName(String mappingPrefix) {
+        int index = Arrays.binarySearch(TypefaceIndex.MAPPING_PREFIXES, mappingPrefix);
+        return index >= 0 ? TypefaceIndex.CLASS_NAMES[index] : null;
     }
 }
@@ -0,0 +1,220 @@
+package com.rilixtech.materialfancybutton.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe cache bounded by the total weight of its values, which evicts the least recently used values first.
+ * The weight of a value is given when it is added, eg. the size in bytes of a font file.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+public class LruCache<K, V> {
+
+    /**
+     * Trim level releasing half of the maximum weight of the cache.
+     */
+    public static final int TRIM_MEMORY_MODERATE = 1;
+    /**
+     * Trim level releasing all the values of the cache.
+     */
+    public static final int TRIM_MEMORY_COMPLETE = 2;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private long maxWeight;
+    private long weight = 0;
+    private long evictionCount = 0;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxWeight The maximum total weight of the values held by this cache.
+     */
+    public LruCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the value cached for the given key, and marks it as the most recently used.
+     *
+     * @param key The key of the value.
+     * @return The cached value, or {@code null} if there is none.
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Returns whether a value is cached for the given key, without marking it as used.
+     *
+     * @param key The key of the value.
+     * @return {@code true} if a value is cached for the key.
+     */
+    public synchronized boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Caches a value, unless a value is already cached for the key. Least recently used values are then evicted
+     * until the cache fits in its maximum weight, which may evict the new value right away if it is too heavy.
+     *
+     * @param key The key of the value.
+     * @param value The value to be cached.
+     * @param valueWeight The weight of the value, eg. its size in bytes.
+     * @return The value already cached for the key, or the given value if there was none.
+     */
+    public synchronized V putIfAbsent(K key, V value, long valueWeight) {
+        Entry<V> existingEntry = entries.get(key);
+        if (existingEntry != null) {
+            return existingEntry.value;
+        }
+        entries.put(key, new Entry<>(value, valueWeight));
+        weight += valueWeight;
+        trimToWeight(maxWeight);
+        return value;
+    }
+
+    /**
+     * Caches a value, evicting any other value already cached for the key.
+     *
+     * @param key The key of the value.
+     * @param value The value to be cached.
+     * @param valueWeight The weight of the value, eg. its size in bytes.
+     */
+    public synchronized void put(K key, V value, long valueWeight) {
+        Entry<V> previousEntry = entries.put(key, new Entry<>(value, valueWeight));
+        weight += valueWeight;
+        if (previousEntry != null) {
+            weight -= previousEntry.weight;
+            // Re-putting the same value only updates its weight
+            if (previousEntry.value != value) {
+                evictionCount++;
+                onEvicted(key, previousEntry.value);
+            }
+        }
+        trimToWeight(maxWeight);
+    }
+
+    /**
+     * Evicts the value cached for the given key.
+     *
+     * @param key The key of the value.
+     * @return {@code true} if a value was cached for the key.
+     */
+    public synchronized boolean evict(K key) {
+        Entry<V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        weight -= entry.weight;
+        evictionCount++;
+        onEvicted(key, entry.value);
+        return true;
+    }
+
+    /**
+     * Evicts all the cached values.
+     */
+    public synchronized void evictAll() {
+        trimToWeight(-1);
+    }
+
+    /**
+     * Releases memory held by the cache, typically when the system runs low on memory.
+     *
+     * @param level {@link #TRIM_MEMORY_MODERATE} to release half of the maximum weight of the cache, or
+     *              {@link #TRIM_MEMORY_COMPLETE} to release all of its values.
+     */
+    public synchronized void trimMemory(int level) {
+        if (level >= TRIM_MEMORY_COMPLETE) {
+            evictAll();
+        } else if (level >= TRIM_MEMORY_MODERATE) {
+            trimToWeight(maxWeight / 2);
+        }
+    }
+
+    /**
+     * Evicts the least recently used values until the total weight of the cache is at most the given weight.
+     *
+     * @param targetWeight The maximum weight to be kept, or a negative value to evict all values.
+     */
+    public synchronized void trimToWeight(long targetWeight) {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while ((weight > targetWeight || targetWeight < 0) && iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            weight -= entry.getValue().weight;
+            iterator.remove();
+            evictionCount++;
+            onEvicted(entry.getKey(), entry.getValue().value);
+        }
+    }
+
+    /**
+     * Called with the lock of the cache held after a value was evicted, eg. to release the resources it holds.
+     * Does nothing by default.
+     *
+     * @param key The key of the evicted value.
+     * @param value The evicted value.
+     */
+    protected void onEvicted(K key, V value) {
+    }
+
+    /**
+     * Changes the maximum total weight of the values held by this cache, evicting values if needed.
+     *
+     * @param maxWeight The new maximum weight.
+     */
+    public synchronized void setMaxWeight(long maxWeight) {
+        this.maxWeight = maxWeight;
+        trimToWeight(maxWeight);
+    }
+
+    /**
+     * Returns the maximum total weight of the values held by this cache.
+     *
+     * @return The maximum weight.
+     */
+    public synchronized long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Returns the total weight of the values currently cached.
+     *
+     * @return The current weight.
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns the number of values currently cached.
+     *
+     * @return The number of values.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of values evicted since this cache was created.
+     *
+     * @return The number of evictions.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+
+        private Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package com.rilixtech.materialfancybutton.utils;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal reader of TrueType and OpenType font files, which doesn't depend on the platform {@link ohos.agp.text.Font}
+ * and so also runs on a plain JVM, eg. in unit tests or build scripts. Only the tables needed to find the glyph of a
+ * character and its metrics are read: head, hhea, maxp, hmtx, the Unicode subtable of cmap, in format 4 or 12, and
+ * the glyph bounding boxes of loca and glyf when the font has TrueType outlines. The font data is not retained; the
+ * character map is kept as sorted ranges of consecutive characters mapped to consecutive glyphs, which icon fonts
+ * mostly consist of, and the metrics as {@code short[]}, so lookups don't allocate.
+ */
+public final class TrueTypeFont {
+
+    private static final int SFNT_VERSION_TRUETYPE = 0x00010000;
+    private static final int SFNT_VERSION_APPLE = 0x74727565;  // 'true'
+    private static final int SFNT_VERSION_OPENTYPE = 0x4F54544F;  // 'OTTO'
+
+    private static final int TAG_CMAP = 0x636D6170;
+    private static final int TAG_GLYF = 0x676C7966;
+    private static final int TAG_HEAD = 0x68656164;
+    private static final int TAG_HHEA = 0x68686561;
+    private static final int TAG_HMTX = 0x686D7478;
+    private static final int TAG_LOCA = 0x6C6F6361;
+    private static final int TAG_MAXP = 0x6D617870;
+
+    private static final int PLATFORM_UNICODE = 0;
+    private static final int PLATFORM_WINDOWS = 3;
+    private static final int ENCODING_WINDOWS_SYMBOL = 0;
+    private static final int ENCODING_WINDOWS_BMP = 1;
+    private static final int ENCODING_WINDOWS_FULL = 10;
+
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private final int unitsPerEm;
+    private final int ascender;
+    private final int descender;
+    private final int glyphCount;
+    // Advance width of each glyph up to numberOfHMetrics, the following glyphs share the last one
+    private final short[] advanceWidths;
+    // xMin, yMin, xMax and yMax of each glyph, null if the font has no TrueType outlines
+    private final short[] glyphBounds;
+    // Ranges of characters, the glyph of a character being rangeGlyphs[i] + character - rangeStarts[i]
+    private final int[] rangeStarts;
+    private final int[] rangeEnds;
+    private final int[] rangeGlyphs;
+    private final int codepointCount;
+
+    private TrueTypeFont(int unitsPerEm, int ascender, int descender, int glyphCount, short[] advanceWidths,
+                         short[] glyphBounds, RangeBuilder ranges) {
+        this.unitsPerEm = unitsPerEm;
+        this.ascender = ascender;
+        this.descender = descender;
+        this.glyphCount = glyphCount;
+        this.advanceWidths = advanceWidths;
+        this.glyphBounds = glyphBounds;
+        this.rangeStarts = Arrays.copyOf(ranges.starts, ranges.size);
+        this.rangeEnds = Arrays.copyOf(ranges.ends, ranges.size);
+        this.rangeGlyphs = Arrays.copyOf(ranges.glyphs, ranges.size);
+        int count = 0;
+        for (int range = 0; range < ranges.size; range++) {
+            count += rangeEnds[range] - rangeStarts[range] + 1;
+        }
+        this.codepointCount = count;
+    }
+
+    /**
+     * Reads a font file.
+     *
+     * @param file The .ttf or .otf file.
+     * @return The parsed font.
+     * @throws IOException In case the file couldn't be read.
+     * @throws IllegalArgumentException In case the file isn't a supported font.
+     */
+    public static TrueTypeFont read(File file) throws IOException {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            return read(inputStream);
+        }
+    }
+
+    /**
+     * Reads a font from a stream, which is left open.
+     *
+     * @param inputStream The stream of the content of a .ttf or .otf file.
+     * @return The parsed font.
+     * @throws IOException In case the stream couldn't be read.
+     * @throws IllegalArgumentException In case the content isn't a supported font.
+     */
+    public static TrueTypeFont read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream(READ_BUFFER_SIZE);
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int length;
+        while ((length = inputStream.read(buffer)) != -1) {
+            content.write(buffer, 0, length);
+        }
+        return parse(content.toByteArray());
+    }
+
+    /**
+     * Parses the content of a font file.
+     *
+     * @param data The content of a .ttf or .otf file.
+     * @return The parsed font.
+     * @throws IllegalArgumentException In case the content isn't a supported font.
+     */
+    public static TrueTypeFont parse(byte[] data) {
+        try {
+            return parse(ByteBuffer.wrap(data));
+        } catch (IndexOutOfBoundsException | BufferUnderflowException ex) {
+            throw new IllegalArgumentException("The font is truncated.", ex);
+        }
+    }
+
+    private static TrueTypeFont parse(ByteBuffer data) {
+        int sfntVersion = data.getInt(0);
+        if (sfntVersion != SFNT_VERSION_TRUETYPE && sfntVersion != SFNT_VERSION_APPLE
+                && sfntVersion != SFNT_VERSION_OPENTYPE) {
+            throw new IllegalArgumentException("Not a TrueType or OpenType font.");
+        }
+        int cmap = -1;
+        int glyf = -1;
+        int head = -1;
+        int hhea = -1;
+        int hmtx = -1;
+        int loca = -1;
+        int maxp = -1;
+        int tableCount = data.getShort(4) & 0xFFFF;
+        for (int table = 0; table < tableCount; table++) {
+            int record = 12 + table * 16;
+            int offset = data.getInt(record + 8);
+            switch (data.getInt(record)) {
+                case TAG_CMAP:
+                    cmap = offset;
+                    break;
+                case TAG_GLYF:
+                    glyf = offset;
+                    break;
+                case TAG_HEAD:
+                    head = offset;
+                    break;
+                case TAG_HHEA:
+                    hhea = offset;
+                    break;
+                case TAG_HMTX:
+                    hmtx = offset;
+                    break;
+                case TAG_LOCA:
+                    loca = offset;
+                    break;
+                case TAG_MAXP:
+                    maxp = offset;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (cmap < 0 || head < 0 || hhea < 0 || hmtx < 0 || maxp < 0) {
+            throw new IllegalArgumentException("The font lacks one of the cmap, head, hhea, hmtx or maxp tables.");
+        }
+
+        int unitsPerEm = data.getShort(head + 18) & 0xFFFF;
+        int ascender = data.getShort(hhea + 4);
+        int descender = data.getShort(hhea + 6);
+        int metricCount = data.getShort(hhea + 34) & 0xFFFF;
+        int glyphCount = data.getShort(maxp + 4) & 0xFFFF;
+        if (unitsPerEm == 0 || metricCount == 0) {
+            throw new IllegalArgumentException("The font has no units per em or no horizontal metrics.");
+        }
+        short[] advanceWidths = new short[metricCount];
+        for (int glyph = 0; glyph < metricCount; glyph++) {
+            advanceWidths[glyph] = data.getShort(hmtx + glyph * 4);
+        }
+        short[] glyphBounds = glyf < 0 || loca < 0
+                ? null : readGlyphBounds(data, glyf, loca, data.getShort(head + 50) != 0, glyphCount);
+        return new TrueTypeFont(unitsPerEm, ascender, descender, glyphCount, advanceWidths, glyphBounds,
+                readCharacterMap(data, cmap));
+    }
+
+    /**
+     * Reads the bounding box in the header of each glyph of the glyf table. Glyphs without outline, such as spaces,
+     * have an empty box at the origin.
+     */
+    private static short[] readGlyphBounds(ByteBuffer data, int glyf, int loca, boolean longOffsets, int glyphCount) {
+        short[] glyphBounds = new short[glyphCount * 4];
+        for (int glyph = 0; glyph < glyphCount; glyph++) {
+            int offset;
+            int nextOffset;
+            if (longOffsets) {
+                offset = data.getInt(loca + glyph * 4);
+                nextOffset = data.getInt(loca + glyph * 4 + 4);
+            } else {
+                offset = (data.getShort(loca + glyph * 2) & 0xFFFF) * 2;
+                nextOffset = (data.getShort(loca + glyph * 2 + 2) & 0xFFFF) * 2;
+            }
+            if (nextOffset > offset) {
+                for (int bound = 0; bound < 4; bound++) {
+                    glyphBounds[glyph * 4 + bound] = data.getShort(glyf + offset + 2 + bound * 2);
+                }
+            }
+        }
+        return glyphBounds;
+    }
+
+    /**
+     * Reads the best Unicode subtable of the cmap table: a full repertoire one in format 12 if there is one, or else
+     * a BMP one in format 4, or else the Windows symbol one, which icon fonts sometimes only have.
+     */
+    private static RangeBuilder readCharacterMap(ByteBuffer data, int cmap) {
+        int bestSubtable = -1;
+        int bestScore = 0;
+        int subtableCount = data.getShort(cmap + 2) & 0xFFFF;
+        for (int subtable = 0; subtable < subtableCount; subtable++) {
+            int record = cmap + 4 + subtable * 8;
+            int platform = data.getShort(record) & 0xFFFF;
+            int encoding = data.getShort(record + 2) & 0xFFFF;
+            int offset = cmap + data.getInt(record + 4);
+            int format = data.getShort(offset) & 0xFFFF;
+            int score = 0;
+            if (format == 12 && (platform == PLATFORM_UNICODE
+                    || (platform == PLATFORM_WINDOWS && encoding == ENCODING_WINDOWS_FULL))) {
+                score = 3;
+            } else if (format == 4 && (platform == PLATFORM_UNICODE
+                    || (platform == PLATFORM_WINDOWS && encoding == ENCODING_WINDOWS_BMP))) {
+                score = 2;
+            } else if (format == 4 && platform == PLATFORM_WINDOWS && encoding == ENCODING_WINDOWS_SYMBOL) {
+                score = 1;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestSubtable = offset;
+            }
+        }
+        if (bestSubtable < 0) {
+            throw new IllegalArgumentException("The font has no Unicode character map in format 4 or 12.");
+        }
+        RangeBuilder ranges = new RangeBuilder();
+        if (bestScore == 3) {
+            readFormat12(data, bestSubtable, ranges);
+        } else {
+            readFormat4(data, bestSubtable, ranges);
+        }
+        return ranges;
+    }
+
+    private static void readFormat4(ByteBuffer data, int subtable, RangeBuilder ranges) {
+        int segmentCount = (data.getShort(subtable + 6) & 0xFFFF) / 2;
+        int endCodes = subtable + 14;
+        int startCodes = endCodes + segmentCount * 2 + 2;
+        int idDeltas = startCodes + segmentCount * 2;
+        int idRangeOffsets = idDeltas + segmentCount * 2;
+        for (int segment = 0; segment < segmentCount; segment++) {
+            int start = data.getShort(startCodes + segment * 2) & 0xFFFF;
+            int end = data.getShort(endCodes + segment * 2) & 0xFFFF;
+            int idDelta = data.getShort(idDeltas + segment * 2);
+            int idRangeOffsetPosition = idRangeOffsets + segment * 2;
+            int idRangeOffset = data.getShort(idRangeOffsetPosition) & 0xFFFF;
+            for (int character = start; character <= end && character != 0xFFFF; character++) {
+                int glyph;
+                if (idRangeOffset == 0) {
+                    glyph = (character + idDelta) & 0xFFFF;
+                } else {
+                    glyph = data.getShort(idRangeOffsetPosition + idRangeOffset + (character - start) * 2) & 0xFFFF;
+                    if (glyph != 0) {
+                        glyph = (glyph + idDelta) & 0xFFFF;
+                    }
+                }
+                ranges.add(character, character, glyph);
+            }
+        }
+    }
+
+    private static void readFormat12(ByteBuffer data, int subtable, RangeBuilder ranges) {
+        int groupCount = data.getInt(subtable + 12);
+        for (int group = 0; group < groupCount; group++) {
+            int record = subtable + 16 + group * 12;
+            ranges.add(data.getInt(record), data.getInt(record + 4), data.getInt(record + 8));
+        }
+    }
+
+    /**
+     * Returns the number of font units per em square, which scale all the metrics of the font.
+     *
+     * @return The units per em, usually 1000 or 2048.
+     */
+    public int getUnitsPerEm() {
+        return unitsPerEm;
+    }
+
+    /**
+     * Returns the typographic ascender of the font, from its hhea table.
+     *
+     * @return The ascender in font units, positive above the baseline.
+     */
+    public int getAscender() {
+        return ascender;
+    }
+
+    /**
+     * Returns the typographic descender of the font, from its hhea table.
+     *
+     * @return The descender in font units, negative below the baseline.
+     */
+    public int getDescender() {
+        return descender;
+    }
+
+    /**
+     * Returns the number of glyphs of the font, including the .notdef glyph.
+     *
+     * @return The number of glyphs.
+     */
+    public int getGlyphCount() {
+        return glyphCount;
+    }
+
+    /**
+     * Finds the glyph of a character.
+     *
+     * @param codepoint The Unicode code point of the character.
+     * @return The index of the glyph, or 0, the .notdef glyph, if the font doesn't map the character or maps it past
+     *     its last glyph, as badly subset fonts may.
+     */
+    public int getGlyphId(int codepoint) {
+        int low = 0;
+        int high = rangeStarts.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (codepoint < rangeStarts[middle]) {
+                high = middle - 1;
+            } else if (codepoint > rangeEnds[middle]) {
+                low = middle + 1;
+            } else {
+                int glyph = rangeGlyphs[middle] + codepoint - rangeStarts[middle];
+                return glyph < glyphCount ? glyph : 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Checks whether the font has a glyph for a character.
+     *
+     * @param codepoint The Unicode code point of the character.
+     * @return true if the character is mapped to a glyph other than .notdef.
+     */
+    public boolean hasGlyph(int codepoint) {
+        return getGlyphId(codepoint) != 0;
+    }
+
+    /**
+     * Returns the number of characters mapped to a glyph.
+     *
+     * @return The number of supported characters.
+     */
+    public int getCodepointCount() {
+        return codepointCount;
+    }
+
+    /**
+     * Returns all the characters mapped to a glyph.
+     *
+     * @return A new array of the supported code points, in ascending order.
+     */
+    public int[] getCodepoints() {
+        int[] codepoints = new int[codepointCount];
+        int position = 0;
+        for (int range = 0; range < rangeStarts.length; range++) {
+            for (int codepoint = rangeStarts[range]; codepoint <= rangeEnds[range]; codepoint++) {
+                codepoints[position++] = codepoint;
+            }
+        }
+        return codepoints;
+    }
+
+    /**
+     * Returns the advance width of the glyph of a character, which is the .notdef glyph for unmapped characters.
+     *
+     * @param codepoint The Unicode code point of the character.
+     * @return The advance width in font units.
+     */
+    public int getAdvanceWidth(int codepoint) {
+        int glyph = getGlyphId(codepoint);
+        return advanceWidths[Math.min(glyph, advanceWidths.length - 1)] & 0xFFFF;
+    }
+
+    /**
+     * Returns the advance width of the glyph of a character drawn at the given size.
+     *
+     * @param codepoint The Unicode code point of the character.
+     * @param textSize The text size, in px.
+     * @return The advance width in px.
+     */
+    public float getAdvanceWidth(int codepoint, float textSize) {
+        return getAdvanceWidth(codepoint) * textSize / unitsPerEm;
+    }
+
+    /**
+     * Checks whether the bounding boxes of the glyphs were read, which requires TrueType outlines. Fonts with CFF
+     * outlines only have advance widths.
+     *
+     * @return true if {@link #getBounds(int, int[])} is supported.
+     */
+    public boolean hasGlyphBounds() {
+        return glyphBounds != null;
+    }
+
+    /**
+     * Reads the bounding box of the glyph of a character, which is the .notdef glyph for unmapped characters.
+     *
+     * @param codepoint The Unicode code point of the character.
+     * @param bounds The array receiving xMin, yMin, xMax and yMax, in font units with y pointing up.
+     * @return false, leaving the array untouched, if the font has no glyph bounding boxes.
+     */
+    public boolean getBounds(int codepoint, int[] bounds) {
+        if (glyphBounds == null) {
+            return false;
+        }
+        int glyph = getGlyphId(codepoint);
+        for (int bound = 0; bound < 4; bound++) {
+            bounds[bound] = glyphBounds[glyph * 4 + bound];
+        }
+        return true;
+    }
+
+    /**
+     * Builds the metrics of the icons of a table from the glyphs of this font.
+     *
+     * @param iconTable The IconTable of a typeface, whose font should be this one.
+     * @return The GlyphMetrics of the icons, indexed by icon ordinal.
+     */
+    public GlyphMetrics getGlyphMetrics(IconTable iconTable) {
+        short[] metrics = new short[iconTable.size() * GlyphMetrics.STRIDE];
+        int[] bounds = new int[4];
+        for (int ordinal = 0; ordinal < iconTable.size(); ordinal++) {
+            char character = iconTable.getCharacter(ordinal);
+            int index = ordinal * GlyphMetrics.STRIDE;
+            metrics[index] = (short) getAdvanceWidth(character);
+            if (getBounds(character, bounds)) {
+                for (int bound = 0; bound < 4; bound++) {
+                    metrics[index + 1 + bound] = (short) bounds[bound];
+                }
+            }
+        }
+        return new GlyphMetrics(unitsPerEm, ascender, descender, metrics);
+    }
+
+    /**
+     * Lists the icons of a table whose character has no glyph in this font, and would be drawn as .notdef.
+     *
+     * @param iconTable The IconTable of a typeface, whose font should be this one.
+     * @return The names of the icons missing from the font, in ordinal order.
+     */
+    public List<String> findMissingIcons(IconTable iconTable) {
+        List<String> missingIcons = new ArrayList<>();
+        for (int ordinal = 0; ordinal < iconTable.size(); ordinal++) {
+            if (!hasGlyph(iconTable.getCharacter(ordinal))) {
+                missingIcons.add(iconTable.getName(ordinal));
+            }
+        }
+        return missingIcons;
+    }
+
+    /**
+     * Growable arrays of ranges, merging ranges that continue the previous one.
+     */
+    private static final class RangeBuilder {
+        private int[] starts = new int[64];
+        private int[] ends = new int[64];
+        private int[] glyphs = new int[64];
+        private int size = 0;
+
+        private void add(int start, int end, int glyph) {
+            if (glyph == 0 || end < start) {
+                return;
+            }
+            if (size > 0) {
+                int last = size - 1;
+                if (start <= ends[last]) {
+                    throw new IllegalArgumentException("The character map of the font is not sorted.");
+                }
+                if (start == ends[last] + 1 && glyph == glyphs[last] + start - starts[last]) {
+                    ends[last] = end;
+                    return;
+                }
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                glyphs = Arrays.copyOf(glyphs, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            glyphs[size] = glyph;
+            size++;
+        }
+    }
+}
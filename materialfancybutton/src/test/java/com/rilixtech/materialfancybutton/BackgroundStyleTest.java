@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BackgroundStyleTest {
+
+    private static BackgroundStyle style(int backgroundColor, int radius, boolean enabled) {
+        return new BackgroundStyle(backgroundColor, 0xFF00FF00, 0xFFF6F7F9, 0xFFDDDFE2, 0xFF000000, 2, radius,
+                radius, radius, radius, radius, false, enabled);
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(style(0xFF112233, 8, true), style(0xFF112233, 8, true));
+        assertEquals(style(0xFF112233, 8, true).hashCode(), style(0xFF112233, 8, true).hashCode());
+        assertNotEquals(style(0xFF112233, 8, true), style(0xFF112234, 8, true));
+        assertNotEquals(style(0xFF112233, 8, true), style(0xFF112233, 4, true));
+        assertNotEquals(style(0xFF112233, 8, true), style(0xFF112233, 8, false));
+    }
+
+    @Test
+    public void testSharedShapes() {
+        BackgroundStyle.clearCache();
+        assertSame(style(0xFF112233, 8, true).getShapes(), style(0xFF112233, 8, true).getShapes());
+        assertNotSame(style(0xFF112233, 8, true).getShapes(), style(0xFF112233, 8, false).getShapes());
+    }
+
+    @Test
+    public void testBackgroundPerButton() {
+        // A StateElement holds the state and bounds of its button, so each button gets its own
+        assertNotSame(style(0xFF112233, 8, true).newBackground(), style(0xFF112233, 8, true).newBackground());
+    }
+}
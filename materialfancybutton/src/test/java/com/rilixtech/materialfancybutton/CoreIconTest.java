@@ -16,16 +16,25 @@
 
 package com.rilixtech.materialfancybutton;
 
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import com.rilixtech.materialfancybutton.typeface.MfbTypefaceProvider;
+import com.rilixtech.materialfancybutton.utils.GenericsUtil;
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -42,6 +51,61 @@ public class CoreIconTest {
         assertTrue(CoreIcon.isInitDone());
     }
 
+    @Test
+    public void testTypefaceProviderCreatesFontOnFirstRequest() {
+        final AtomicInteger createCount = new AtomicInteger();
+        // Indexes the prefix as having no font, which the provider must reset
+        assertFalse(CoreIcon.iconExists("TSTP_ONE"));
+        CoreIcon.setTypefaceProvider(new MfbTypefaceProvider() {
+            @Override
+            public String[] getMappingPrefixes() {
+                return new String[]{"TSTP"};
+            }
+
+            @Override
+            public MfbTypeface newTypeface(String mappingPrefix) {
+                createCount.incrementAndGet();
+                return new TestTypeface() {
+                    @Override
+                    public String getMappingPrefix() {
+                        return "TSTP";
+                    }
+                };
+            }
+        });
+        try {
+            assertNull(CoreIcon.findFont("TSTQ"));
+            assertFalse(CoreIcon.iconExists("TSTP_ONE"));
+            MfbTypeface font = CoreIcon.findFont("TSTP");
+            assertNotNull(font);
+            assertSame(font, CoreIcon.findFont("TSTP"));
+            assertEquals(1, createCount.get());
+        } finally {
+            CoreIcon.setTypefaceProvider(null);
+        }
+    }
+
+    @Test
+    public void testFindFontWithoutProvider() {
+        CoreIcon.setTypefaceProvider(null);
+        String mappingPrefix = GenericsUtil.getMappingPrefixes()[0];
+        MfbTypeface font = CoreIcon.findFont(mappingPrefix);
+        // The typeface modules are only on the classpath when their sources are compiled with the library
+        Assume.assumeTrue(isClassAvailable(GenericsUtil.getFontClassName(mappingPrefix)));
+        assertNotNull(font);
+        assertEquals(mappingPrefix, font.getMappingPrefix());
+        assertEquals(GenericsUtil.getFontClassName(mappingPrefix), font.getClass().getName());
+    }
+
+    private static boolean isClassAvailable(String className) {
+        try {
+            Class.forName(className);
+            return true;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
     @Test
     public void testIconExists() {
         // Pass an invalid key that does not correspond to any icon under any of the classes
@@ -160,4 +224,202 @@ public class CoreIconTest {
         CoreIcon.setLoggingEnabled(false);
         assertFalse(CoreIcon.isLoggingEnabled());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindIcon() {
+        assertTrue(CoreIcon.registerFont(new TestTypeface()));
+        assertSame(TestTypeface.Icon.TSTI_ACCOUNT_ALERT, CoreIcon.findIcon("TSTI-ACCOUNT-ALERT"));
+        assertNull(CoreIcon.findIcon("TSTI_UNKNOWN"));
+        assertNull(CoreIcon.findIcon("TST"));
+    }
+
+    @Test
+    public void testFindIconCharSequence() {
+        assertTrue(CoreIcon.registerFont(new TestTypeface()));
+        StringBuilder key = new StringBuilder("TSTI-ACCOUNT");
+        assertSame(TestTypeface.Icon.TSTI_ACCOUNT, CoreIcon.findIcon(key));
+        key.append("-ALERT");
+        assertSame(TestTypeface.Icon.TSTI_ACCOUNT_ALERT, CoreIcon.findIcon(key));
+        assertTrue(CoreIcon.iconExists(key));
+        assertNull(CoreIcon.findIcon("\u0100STI_ACCOUNT"));
+    }
+
+    @Test
+    public void testFindIconOfFontRegisteredAfterMiss() {
+        final MfbIcon icon = new MfbIcon() {
+            @Override
+            public String getFormattedName() {
+                return "{NEGC_ICON}";
+            }
+
+            @Override
+            public String getName() {
+                return "NEGC_ICON";
+            }
+
+            @Override
+            public char getCharacter() {
+                return 'a';
+            }
+
+            @Override
+            public MfbTypeface getTypeface() {
+                return null;
+            }
+        };
+        assertNull(CoreIcon.findIcon("NEGC_ICON"));
+        assertNull(CoreIcon.findIcon("NEGC_ICON"));
+        assertTrue(CoreIcon.registerFont(new TestTypeface() {
+            @Override
+            public String getMappingPrefix() {
+                return "NEGC";
+            }
+
+            @Override
+            public IconTable getIconTable() {
+                return new IconTable(new MfbIcon[] {icon});
+            }
+        }));
+        assertSame(icon, CoreIcon.findIcon("NEGC-ICON"));
+    }
+
+    @Test
+    public void testRecordMissingIcon() {
+        assertTrue(CoreIcon.recordMissingIcon("TSTI_RECORDED"));
+        assertFalse(CoreIcon.recordMissingIcon("TSTI_RECORDED"));
+        assertFalse(CoreIcon.recordMissingIcon(new StringBuilder("TSTI_RECORDED")));
+    }
+
+    @Test
+    public void testGetIconTableReusesIndexedTable() {
+        AtomicInteger tableBuilds = new AtomicInteger();
+        MfbTypeface typeface = new TestTypeface() {
+            @Override
+            public IconTable getIconTable() {
+                // Built on every call, like the default implementation
+                tableBuilds.incrementAndGet();
+                return new IconTable(TestTypeface.Icon.values());
+            }
+        };
+        try {
+            assertTrue(CoreIcon.registerFont(typeface));
+            int indexedBuilds = tableBuilds.get();
+            IconTable iconTable = CoreIcon.getIconTable(typeface);
+            assertSame(iconTable, CoreIcon.getIconTable(typeface));
+            assertEquals(indexedBuilds, tableBuilds.get());
+            // A font that isn't the registered one gets its own table
+            TestTypeface otherTypeface = new TestTypeface();
+            assertSame(otherTypeface.getIconTable(), CoreIcon.getIconTable(otherTypeface));
+        } finally {
+            CoreIcon.registerFont(new TestTypeface());
+        }
+    }
+
+    @Test
+    public void testRecordMissingIconWithZeroHash() {
+        // "TSTI_AHSQPTCP" hashes to 0, the value the table is filled with initially
+        assertTrue(CoreIcon.recordMissingIcon("TSTI_AHSQPTCP"));
+        assertFalse(CoreIcon.recordMissingIcon("TSTI_AHSQPTCP"));
+    }
+
+    @Test
+    public void testFindIconDoesNotAllocate() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        Assume.assumeTrue(allocationBean.isThreadAllocatedMemorySupported()
+                && allocationBean.isThreadAllocatedMemoryEnabled());
+        assertTrue(CoreIcon.registerFont(new TestTypeface()));
+        String[] keys = {"TSTI_ACCOUNT", "TSTI-ACCOUNT-ALERT", "TSTI_ALARM"};
+        long threadId = Thread.currentThread().getId();
+        int hits = 0;
+        long allocatedBytes = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int lookup = 0; lookup < 30000; lookup++) {
+            if (CoreIcon.findIcon(keys[lookup % keys.length]) != null) {
+                hits++;
+            }
+        }
+        allocatedBytes = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBytes;
+        assertEquals(30000, hits);
+        // Allows for the bytes allocated by the measure itself, far below one byte per lookup
+        assertTrue("Allocated " + allocatedBytes + " bytes", allocatedBytes < 1024);
+    }
+
+    @Test
+    public void testResolveAll() {
+        assertTrue(CoreIcon.registerFont(new TestTypeface()));
+        List<String> keys = Arrays.asList("TSTI_ALARM", "XXXX_ALARM", "TSTI-ACCOUNT-ALERT", null, "TSTI_UNKNOWN",
+                "TST", "TSTI_ACCOUNT");
+        MfbIcon[] icons = CoreIcon.resolveAll(keys);
+        assertArrayEquals(new MfbIcon[] {TestTypeface.Icon.TSTI_ALARM, null, TestTypeface.Icon.TSTI_ACCOUNT_ALERT,
+                null, null, null, TestTypeface.Icon.TSTI_ACCOUNT}, icons);
+    }
+
+    @Test
+    public void testResolveAllIntoBatch() {
+        assertTrue(CoreIcon.registerFont(new TestTypeface()));
+        IconBatch batch = new IconBatch();
+        List<String> keys = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            keys.add(index % 10 == 3 ? "TSTI_UNKNOWN" : "TSTI_ALARM");
+        }
+        assertSame(batch, CoreIcon.resolveAll(keys, batch));
+        assertEquals(100, batch.size());
+        assertEquals(10, batch.getMissCount());
+        assertSame(TestTypeface.Icon.TSTI_ALARM, batch.get(0));
+        assertTrue(batch.isMiss(73));
+        assertNull(batch.get(73));
+        int misses = 0;
+        for (int index = batch.nextMiss(0); index >= 0; index = batch.nextMiss(index + 1)) {
+            assertEquals(3, index % 10);
+            misses++;
+        }
+        assertEquals(10, misses);
+
+        // Reusing the batch replaces its content
+        CoreIcon.resolveAll(Collections.singletonList("TSTI_UNKNOWN"), batch);
+        assertEquals(1, batch.size());
+        assertEquals(1, batch.getMissCount());
+        assertEquals(0, batch.nextMiss(0));
+        assertEquals(-1, batch.nextMiss(1));
+    }
+
+    @Test
+    public void testResolveAllBoundsUnknownPrefixes() {
+        assertTrue(CoreIcon.registerFont(new TestTypeface()));
+        IconBatch batch = new IconBatch();
+        List<String> keys = new ArrayList<>();
+        keys.add("TSTI_ALARM");
+        for (int index = 0; index < 200; index++) {
+            keys.add(String.format("Q%03d_ALARM", index));
+        }
+        CoreIcon.resolveAll(keys, batch);
+        assertSame(TestTypeface.Icon.TSTI_ALARM, batch.get(0));
+        assertEquals(200, batch.getMissCount());
+        assertTrue(batch.getGroupCount() <= 17);
+
+        // Groups of prefixes without a font only last for the batch they were met in
+        CoreIcon.resolveAll(Collections.singletonList("TSTI_ALARM"), batch);
+        assertEquals(1, batch.getGroupCount());
+        assertSame(TestTypeface.Icon.TSTI_ALARM, batch.get(0));
+    }
+
+    @Test
+    public void testPreload() {
+        TestTypeface typeface = new TestTypeface();
+        assertTrue(CoreIcon.registerFont(typeface));
+        List<String> prefixes = Collections.singletonList(TestTypeface.TEST_PREFIX);
+
+        List<TypefaceLoadTask> tasks = CoreIcon.preload(null, prefixes, Runnable::run);
+        assertEquals(1, tasks.size());
+        assertTrue(tasks.get(0).isDone());
+        assertSame(tasks.get(0), CoreIcon.getTypefaceLoad(typeface));
+
+        // Listeners added after completion run immediately, and preloading again doesn't load the font again
+        AtomicInteger listenerCount = new AtomicInteger();
+        tasks.get(0).addListener(listenerCount::incrementAndGet);
+        assertEquals(1, listenerCount.get());
+        assertSame(tasks.get(0), CoreIcon.preload(null, prefixes, Runnable::run).get(0));
+        assertEquals(1, typeface.getTypefaceLoadCount());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton;
+
+import com.rilixtech.materialfancybutton.utils.LruCache;
+import ohos.agp.text.Font;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GlyphAtlasTest {
+
+    private static final Font FONT = new Font.Builder("test").build();
+
+    @Test
+    public void testGlyphIsRasterizedOnce() {
+        GlyphAtlas atlas = new GlyphAtlas(64, 2);
+        GlyphAtlas.Glyph glyph = atlas.getGlyph(FONT, 'x', 10, 0xFF000000);
+        assertNotNull(glyph);
+        assertSame(glyph, atlas.getGlyph(FONT, 'x', 10, 0xFF000000));
+        assertNotSame(glyph, atlas.getGlyph(FONT, 'x', 10, 0xFFFFFFFF));
+        assertNotSame(glyph, atlas.getGlyph(FONT, 'x', 12, 0xFF000000));
+        assertNotSame(glyph, atlas.getGlyph(Font.DEFAULT, 'x', 10, 0xFF000000));
+        assertEquals(1, atlas.getHitCount());
+        assertEquals(4, atlas.getMissCount());
+        assertEquals(4, atlas.getGlyphCount());
+        assertEquals(1, atlas.getPageCount());
+    }
+
+    @Test
+    public void testTooLargeGlyph() {
+        GlyphAtlas atlas = new GlyphAtlas(64, 2);
+        assertNull(atlas.getGlyph(FONT, 'x', 100, 0xFF000000));
+        assertEquals(0, atlas.getPageCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPageIsRecycled() {
+        GlyphAtlas atlas = new GlyphAtlas(64, 2);
+        GlyphAtlas.Glyph first = atlas.getGlyph(FONT, 'a', 50, 0xFF000000);
+        // Fill the first page until a second one is opened
+        char character = 'b';
+        while (atlas.getPageCount() < 2) {
+            atlas.getGlyph(FONT, character++, 50, 0xFF000000);
+        }
+        char secondPageCharacter = (char) (character - 1);
+        GlyphAtlas.Glyph second = atlas.getGlyph(FONT, secondPageCharacter, 50, 0xFF000000);
+        assertSame(first, atlas.getGlyph(FONT, 'a', 50, 0xFF000000));
+
+        // Fill the second page until a third one is opened, which recycles the second page as the first one was used
+        int glyphCount;
+        do {
+            glyphCount = atlas.getGlyphCount();
+            atlas.getGlyph(FONT, character++, 50, 0xFF000000);
+        } while (atlas.getGlyphCount() > glyphCount);
+        assertEquals(2, atlas.getPageCount());
+        assertSame(first, atlas.getGlyph(FONT, 'a', 50, 0xFF000000));
+        assertNotSame(second, atlas.getGlyph(FONT, secondPageCharacter, 50, 0xFF000000));
+    }
+
+    @Test
+    public void testRecycledPageIsReleasedAfterFrame() {
+        GlyphAtlas atlas = new GlyphAtlas(64, 1);
+        GlyphAtlas.Glyph held = atlas.getGlyph(FONT, 'a', 50, 0xFF000000);
+        // Fill the page until a second one is opened, which recycles the page of the held glyph
+        char character = 'b';
+        while (atlas.getPendingPageCount() == 0) {
+            atlas.getGlyph(FONT, character++, 50, 0xFF000000);
+        }
+        assertFalse(held.isReleased());
+        assertNotSame(held, atlas.getGlyph(FONT, 'a', 50, 0xFF000000));
+
+        List<Runnable> postedTasks = new ArrayList<>();
+        atlas.postPendingRelease(postedTasks::add);
+        atlas.postPendingRelease(postedTasks::add);
+        assertEquals(1, postedTasks.size());
+        assertFalse(held.isReleased());
+
+        postedTasks.get(0).run();
+        assertTrue(held.isReleased());
+        assertEquals(0, atlas.getPendingPageCount());
+    }
+
+    @Test
+    public void testTrimMemory() {
+        GlyphAtlas atlas = new GlyphAtlas(64, 2);
+        GlyphAtlas.Glyph glyph = atlas.getGlyph(FONT, 'a', 10, 0xFF000000);
+        atlas.trimMemory(LruCache.TRIM_MEMORY_COMPLETE);
+        assertEquals(0, atlas.getPageCount());
+        assertEquals(0, atlas.getPendingPageCount());
+        assertEquals(0, atlas.getGlyphCount());
+        assertTrue(glyph.isReleased());
+    }
+}
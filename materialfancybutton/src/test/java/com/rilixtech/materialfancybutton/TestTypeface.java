@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton;
+
+import com.rilixtech.materialfancybutton.typeface.IconTable;
+import com.rilixtech.materialfancybutton.typeface.MfbIcon;
+import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
+import ohos.agp.text.Font;
+import ohos.app.AbilityContext;
+
+import java.util.Collection;
+import java.util.HashMap;
+
+/**
+ * Minimal MfbTypeface with a handful of icons, usable without any font file.
+ */
+public class TestTypeface implements MfbTypeface {
+
+    public static final String TEST_PREFIX = "TSTI";
+
+    private int typefaceLoadCount = 0;
+
+    @Override
+    public MfbIcon getIcon(String key) {
+        MfbIcon icon = findIcon(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No TestTypeface icon named " + key);
+        }
+        return icon;
+    }
+
+    @Override
+    public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
+    }
+
+    @Override
+    public HashMap<String, Character> getCharacters() {
+        return Icon.ICON_TABLE.toCharacterMap();
+    }
+
+    @Override
+    public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    @Override
+    public String getMappingPrefix() {
+        return TEST_PREFIX;
+    }
+
+    @Override
+    public String getFontName() {
+        return "Test";
+    }
+
+    @Override
+    public String getVersion() {
+        return "1.0";
+    }
+
+    @Override
+    public int getIconCount() {
+        return Icon.ICON_TABLE.size();
+    }
+
+    @Override
+    public Collection<String> getIcons() {
+        return Icon.ICON_TABLE.getNames();
+    }
+
+    @Override
+    public String getAuthor() {
+        return null;
+    }
+
+    @Override
+    public String getUrl() {
+        return null;
+    }
+
+    @Override
+    public String getDescription() {
+        return null;
+    }
+
+    @Override
+    public String getLicense() {
+        return null;
+    }
+
+    @Override
+    public String getLicenseUrl() {
+        return null;
+    }
+
+    @Override
+    public Font getTypeface(AbilityContext ctx) {
+        typefaceLoadCount++;
+        return null;
+    }
+
+    public int getTypefaceLoadCount() {
+        return typefaceLoadCount;
+    }
+
+    public enum Icon implements MfbIcon {
+        TSTI_ACCOUNT((char) 0xF004),
+        TSTI_ACCOUNT_ALERT((char) 0xF005),
+        TSTI_ALARM((char) 0xE855);
+
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
+        private final char character;
+
+        Icon(char character) {
+            this.character = character;
+        }
+
+        @Override
+        public String getFormattedName() {
+            return "{" + name() + "}";
+        }
+
+        @Override
+        public String getName() {
+            return name();
+        }
+
+        @Override
+        public char getCharacter() {
+            return character;
+        }
+
+        @Override
+        public MfbTypeface getTypeface() {
+            return CoreIcon.findFont(TEST_PREFIX);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.typeface;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GlyphMetricsTest {
+
+    // Two icons: an advance of 1792 units, and a glyph below the baseline
+    private static final String ENCODED_METRICS = "\u0700\0\uff00\u0700\u0600"
+            + "\u0400\144\uff38\u0384\u0320";
+
+    private final GlyphMetrics glyphMetrics = GlyphMetrics.decode(2048, 1536, -512, ENCODED_METRICS);
+
+    @Test
+    public void testDecode() {
+        assertEquals(2, glyphMetrics.size());
+        assertEquals(2048, glyphMetrics.getUnitsPerEm());
+        assertEquals(1792, glyphMetrics.getAdvanceWidth(0));
+        assertEquals(1024, glyphMetrics.getAdvanceWidth(1));
+    }
+
+    @Test
+    public void testDecodeUnsignedAdvance() {
+        // An advance of 36864 units doesn't fit in a signed short, so it's stored negative and read back unsigned
+        GlyphMetrics wideMetrics = GlyphMetrics.decode(2048, 1536, -512, "\u9000\0\0\u9000\u0600");
+        assertEquals(36864, wideMetrics.getAdvanceWidth(0));
+        assertEquals(576f, wideMetrics.getAdvanceWidth(0, 32f), 0.001f);
+    }
+
+    @Test
+    public void testEncode() {
+        assertEquals(ENCODED_METRICS, glyphMetrics.encode());
+        assertEquals(1536, glyphMetrics.getAscender());
+        assertEquals(-512, glyphMetrics.getDescender());
+    }
+
+    @Test
+    public void testScaling() {
+        assertEquals(28f, glyphMetrics.getAdvanceWidth(0, 32f), 0.001f);
+        assertEquals(-24f, glyphMetrics.getAscent(32f), 0.001f);
+        assertEquals(8f, glyphMetrics.getDescent(32f), 0.001f);
+        assertEquals(32f, glyphMetrics.getLineHeight(32f), 0.001f);
+    }
+
+    @Test
+    public void testGlyphBounds() {
+        assertEquals(28f, glyphMetrics.getGlyphWidth(0, 32f), 0.001f);
+        assertEquals(28f, glyphMetrics.getGlyphHeight(0, 32f), 0.001f);
+        assertEquals(-24f, glyphMetrics.getGlyphTop(0, 32f), 0.001f);
+        // xMin 100, yMin -200, xMax 900, yMax 800
+        assertEquals(1.5625f, glyphMetrics.getGlyphLeft(1, 32f), 0.001f);
+        assertEquals(-12.5f, glyphMetrics.getGlyphTop(1, 32f), 0.001f);
+        assertEquals(15.625f, glyphMetrics.getGlyphHeight(1, 32f), 0.001f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLength() {
+        new GlyphMetrics(1000, 800, -200, new short[GlyphMetrics.STRIDE + 1]);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.typeface;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IconTableTest {
+
+    enum TestIcon implements MfbIcon {
+        TEST_ACCOUNT((char) 0xF004),
+        TEST_ACCOUNT_ALERT((char) 0xF005),
+        TEST_ALARM((char) 0xE855);
+
+        private final char character;
+
+        TestIcon(char character) {
+            this.character = character;
+        }
+
+        @Override
+        public String getFormattedName() {
+            return "{" + name() + "}";
+        }
+
+        @Override
+        public String getName() {
+            return name();
+        }
+
+        @Override
+        public char getCharacter() {
+            return character;
+        }
+
+        @Override
+        public MfbTypeface getTypeface() {
+            return null;
+        }
+    }
+
+    private final IconTable iconTable = new IconTable(TestIcon.values());
+
+    @Test
+    public void testSize() {
+        assertEquals(3, iconTable.size());
+        assertSame(TestIcon.TEST_ALARM, iconTable.getIcon(2));
+    }
+
+    @Test
+    public void testIndexOf() {
+        for (TestIcon icon : TestIcon.values()) {
+            assertEquals(icon.ordinal(), iconTable.indexOf(icon.name()));
+        }
+        assertEquals(-1, iconTable.indexOf("TEST_UNKNOWN"));
+        assertEquals(-1, iconTable.indexOf(null));
+    }
+
+    @Test
+    public void testFind() {
+        assertSame(TestIcon.TEST_ACCOUNT_ALERT, iconTable.find("TEST_ACCOUNT_ALERT"));
+        assertNull(iconTable.find("TEST_ACCOUNT_"));
+    }
+
+    @Test
+    public void testFindDashedCharSequence() {
+        assertSame(TestIcon.TEST_ACCOUNT_ALERT, iconTable.find("TEST-ACCOUNT-ALERT"));
+        assertSame(TestIcon.TEST_ALARM, iconTable.find(new StringBuilder("TEST-ALARM")));
+        assertEquals(-1, iconTable.indexOf("TEST-ALARM-"));
+        assertEquals(-1, iconTable.indexOf("TEST ALARM"));
+    }
+
+    @Test
+    public void testGlyphs() {
+        assertEquals("TEST_ACCOUNT_ALERT", iconTable.getName(1));
+        assertEquals((char) 0xF005, iconTable.getCharacter(1));
+        assertEquals(3, iconTable.getNames().size());
+        assertEquals(Character.valueOf((char) 0xE855), iconTable.toCharacterMap().get("TEST_ALARM"));
+    }
+
+    @Test
+    public void testIndexOfCharacter() {
+        for (TestIcon icon : TestIcon.values()) {
+            assertEquals(icon.ordinal(), iconTable.indexOfCharacter(icon.getCharacter()));
+        }
+        assertEquals(-1, iconTable.indexOfCharacter((char) 0xF006));
+        assertNull(iconTable.findByCharacter('a'));
+    }
+
+    @Test
+    public void testIndexOfCharacterDense() {
+        IconTable denseTable = new IconTable(new MfbIcon[]{TestIcon.TEST_ACCOUNT, TestIcon.TEST_ACCOUNT_ALERT});
+        assertSame(TestIcon.TEST_ACCOUNT_ALERT, denseTable.findByCharacter((char) 0xF005));
+        assertEquals(-1, denseTable.indexOfCharacter((char) 0xF003));
+        assertEquals(-1, denseTable.indexOfCharacter((char) 0xF006));
+    }
+}
@@ -19,6 +19,7 @@ package com.rilixtech.materialfancybutton.utils;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class AttrEnumUtilTest {
 
@@ -31,4 +32,12 @@ public class AttrEnumUtilTest {
     public void testMfbIconPositionValues() {
         assertEquals(1, AttrEnumUtil.MfbIconPosition.LEFT.value);
     }
+
+    @Test
+    public void testValueOfLabel() {
+        assertEquals(AttrEnumUtil.MfbIconPosition.RIGHT, AttrEnumUtil.MfbIconPosition.valueOfLabel("RIGHT"));
+        assertNull(AttrEnumUtil.MfbIconPosition.valueOfLabel("right"));
+        assertEquals(AttrEnumUtil.MfbTextGravity.END, AttrEnumUtil.MfbTextGravity.valueOfLabel("END"));
+        assertNull(AttrEnumUtil.MfbTextGravity.valueOfLabel(null));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class FontFileCacheTest {
+
+    private static final String FONT_NAME = "test-font.ttf";
+    private static final byte[] FONT_CONTENT = new byte[20000];
+    private static final String BUNDLE_STAMP = "1634000000000";
+
+    static {
+        for (int i = 0; i < FONT_CONTENT.length; i++) {
+            FONT_CONTENT[i] = (byte) i;
+        }
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testExtract() throws IOException {
+        File fontFile = new File(temporaryFolder.getRoot(), "fonts/" + FONT_NAME);
+        assertFalse(FontFileCache.isValid(fontFile, FONT_NAME, FONT_CONTENT.length, BUNDLE_STAMP));
+
+        long bytesWritten = FontFileCache.getBytesWritten();
+        FontFileCache.extract(new ByteArrayInputStream(FONT_CONTENT), fontFile, FONT_NAME, FONT_CONTENT.length,
+                BUNDLE_STAMP);
+
+        assertEquals(FONT_CONTENT.length, fontFile.length());
+        assertEquals(bytesWritten + FONT_CONTENT.length, FontFileCache.getBytesWritten());
+        assertTrue(FontFileCache.isValid(fontFile, FONT_NAME, FONT_CONTENT.length, BUNDLE_STAMP));
+        assertTrue(FontFileCache.verify(fontFile));
+        // Only the font and its manifest are left, the temporary files are renamed
+        assertEquals(2, fontFile.getParentFile().list().length);
+    }
+
+    @Test
+    public void testDeletesLegacyFilesOnce() throws IOException {
+        File appCacheDir = temporaryFolder.getRoot();
+        File legacyFile = temporaryFolder.newFile("file_" + FONT_NAME);
+        File otherFile = temporaryFolder.newFile("file_notes.txt");
+        File fontFile = new File(appCacheDir, "fonts/" + FONT_NAME);
+        FontFileCache.extract(new ByteArrayInputStream(FONT_CONTENT), fontFile, FONT_NAME, FONT_CONTENT.length,
+                BUNDLE_STAMP);
+        assertFalse(legacyFile.exists());
+        assertTrue(otherFile.exists());
+
+        // Once the cache directory exists, the directory of the app isn't listed again
+        File laterFile = temporaryFolder.newFile("file_other-font.ttf");
+        FontFileCache.extract(new ByteArrayInputStream(FONT_CONTENT), new File(appCacheDir, "fonts/other-font.ttf"),
+                "other-font.ttf", FONT_CONTENT.length, BUNDLE_STAMP);
+        assertTrue(laterFile.exists());
+    }
+
+    @Test
+    public void testPackagedAssetChanged() throws IOException {
+        File fontFile = new File(temporaryFolder.getRoot(), FONT_NAME);
+        FontFileCache.extract(new ByteArrayInputStream(FONT_CONTENT), fontFile, FONT_NAME, FONT_CONTENT.length,
+                BUNDLE_STAMP);
+
+        assertFalse(FontFileCache.isValid(fontFile, FONT_NAME, FONT_CONTENT.length + 1L, BUNDLE_STAMP));
+        assertFalse(FontFileCache.isValid(fontFile, "other-font.ttf", FONT_CONTENT.length, BUNDLE_STAMP));
+    }
+
+    @Test
+    public void testAppUpdated() throws IOException {
+        File fontFile = new File(temporaryFolder.getRoot(), FONT_NAME);
+        FontFileCache.extract(new ByteArrayInputStream(FONT_CONTENT), fontFile, FONT_NAME, FONT_CONTENT.length,
+                BUNDLE_STAMP);
+
+        assertFalse(FontFileCache.isValid(fontFile, FONT_NAME, FONT_CONTENT.length, "1635000000000"));
+    }
+
+    @Test
+    public void testCorruptedFile() throws IOException {
+        File fontFile = new File(temporaryFolder.getRoot(), FONT_NAME);
+        FontFileCache.extract(new ByteArrayInputStream(FONT_CONTENT), fontFile, FONT_NAME, FONT_CONTENT.length,
+                BUNDLE_STAMP);
+        try (FileOutputStream output = new FileOutputStream(fontFile, true)) {
+            output.write(1);
+        }
+        assertFalse(FontFileCache.isValid(fontFile, FONT_NAME, FONT_CONTENT.length, BUNDLE_STAMP));
+        assertFalse(FontFileCache.verify(fontFile));
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncatedAsset() throws IOException {
+        File fontFile = new File(temporaryFolder.getRoot(), FONT_NAME);
+        try {
+            FontFileCache.extract(new ByteArrayInputStream(FONT_CONTENT), fontFile, FONT_NAME,
+                    FONT_CONTENT.length + 1L, BUNDLE_STAMP);
+        } finally {
+            assertFalse(fontFile.exists());
+            assertEquals(0, temporaryFolder.getRoot().list().length);
+        }
+    }
+}
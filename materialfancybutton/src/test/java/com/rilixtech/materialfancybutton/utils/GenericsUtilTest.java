@@ -27,4 +27,12 @@ public class GenericsUtilTest {
         String[] fields = GenericsUtil.getFields();
         assertTrue(fields.length > 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetFontClassName() {
+        assertEquals("com.rilixtech.communitymaterialtypeface.CommunityMaterial",
+                GenericsUtil.getFontClassName("CMDI"));
+        assertNull(GenericsUtil.getFontClassName("NONE"));
+        assertEquals(GenericsUtil.getFields().length, GenericsUtil.getMappingPrefixes().length);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LruCacheTest {
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        LruCache<String, String> cache = new LruCache<>(100);
+        cache.put("a", "A", 40);
+        cache.put("b", "B", 40);
+        assertEquals("A", cache.get("a"));
+        cache.put("c", "C", 40);
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("c"));
+        assertEquals(80, cache.getWeight());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testPutIfAbsent() {
+        LruCache<String, String> cache = new LruCache<>(100);
+        assertEquals("A", cache.putIfAbsent("a", "A", 10));
+        assertEquals("A", cache.putIfAbsent("a", "other", 10));
+        assertEquals(10, cache.getWeight());
+        assertEquals("huge", cache.putIfAbsent("huge", "huge", 1000));
+        assertNull(cache.get("huge"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPutReplacesWeight() {
+        LruCache<String, String> cache = new LruCache<>(100);
+        cache.put("a", "A", 10);
+        cache.put("a", "A2", 30);
+        assertEquals("A2", cache.get("a"));
+        assertEquals(30, cache.getWeight());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testEvictAndTrimMemory() {
+        LruCache<String, String> cache = new LruCache<>(100);
+        cache.put("a", "A", 30);
+        cache.put("b", "B", 30);
+        cache.put("c", "C", 30);
+        assertTrue(cache.evict("a"));
+        assertFalse(cache.evict("a"));
+        assertEquals(60, cache.getWeight());
+        cache.trimMemory(LruCache.TRIM_MEMORY_MODERATE);
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("c"));
+        cache.put("zero", "Z", 0);
+        cache.trimMemory(LruCache.TRIM_MEMORY_COMPLETE);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void testSetMaxWeight() {
+        LruCache<String, String> cache = new LruCache<>(100);
+        cache.put("a", "A", 50);
+        cache.put("b", "B", 50);
+        cache.setMaxWeight(60);
+        assertEquals(60, cache.getMaxWeight());
+        assertEquals(1, cache.size());
+        assertTrue(cache.containsKey("b"));
+    }
+
+    @Test
+    public void testOnEvicted() {
+        final List<String> evicted = new ArrayList<>();
+        LruCache<String, String> cache = new LruCache<String, String>(100) {
+            @Override
+            protected void onEvicted(String key, String value) {
+                evicted.add(value);
+            }
+        };
+        cache.put("a", "A", 60);
+        cache.put("b", "B", 60);
+        cache.put("c", "C", 10);
+        cache.evict("c");
+        assertEquals(Arrays.asList("A", "C"), evicted);
+
+        // A replaced value is evicted, unless it is put again
+        cache.put("b", "B2", 60);
+        cache.put("b", "B2", 50);
+        assertEquals(Arrays.asList("A", "C", "B"), evicted);
+        assertEquals(3, cache.getEvictionCount());
+        assertEquals(50, cache.getWeight());
+    }
+}
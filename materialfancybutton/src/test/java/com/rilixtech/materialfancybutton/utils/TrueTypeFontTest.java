@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.utils;
+
+import com.rilixtech.materialfancybutton.TestTypeface;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class TrueTypeFontTest {
+
+    private static final int UNITS_PER_EM = 1000;
+    private static final short[] ADVANCE_WIDTHS = {500, 600, 700, 800, 900};
+    private static final int GLYPH_COUNT = 7;
+
+    /**
+     * Builds a font with the given cmap subtable and the minimal head, hhea, maxp and hmtx tables.
+     */
+    private static byte[] buildFont(int platform, int encoding, byte[] subtable) {
+        return buildFont(platform, encoding, subtable, false);
+    }
+
+    /**
+     * Builds a font with the given cmap subtable, the minimal head, hhea, maxp and hmtx tables, and optionally loca
+     * and glyf tables in which glyph g has the bounding box (10g, -5g, 100 + 10g, 500 + g) and glyph 0 no outline.
+     */
+    private static byte[] buildFont(int platform, int encoding, byte[] subtable, boolean withOutlines) {
+        ByteBuffer head = ByteBuffer.allocate(54);
+        head.putInt(0, 0x00010000);
+        head.putShort(18, (short) UNITS_PER_EM);
+        ByteBuffer hhea = ByteBuffer.allocate(36);
+        hhea.putShort(4, (short) 800);
+        hhea.putShort(6, (short) -200);
+        hhea.putShort(34, (short) ADVANCE_WIDTHS.length);
+        ByteBuffer maxp = ByteBuffer.allocate(6);
+        maxp.putInt(0, 0x00005000);
+        maxp.putShort(4, (short) GLYPH_COUNT);
+        ByteBuffer hmtx = ByteBuffer.allocate(ADVANCE_WIDTHS.length * 4 + (GLYPH_COUNT - ADVANCE_WIDTHS.length) * 2);
+        for (int glyph = 0; glyph < ADVANCE_WIDTHS.length; glyph++) {
+            hmtx.putShort(glyph * 4, ADVANCE_WIDTHS[glyph]);
+        }
+        ByteBuffer cmap = ByteBuffer.allocate(12 + subtable.length);
+        cmap.putShort(2, (short) 1);
+        cmap.putShort(4, (short) platform);
+        cmap.putShort(6, (short) encoding);
+        cmap.putInt(8, 12);
+        cmap.position(12);
+        cmap.put(subtable);
+
+        ByteBuffer loca = ByteBuffer.allocate((GLYPH_COUNT + 1) * 2);
+        ByteBuffer glyf = ByteBuffer.allocate((GLYPH_COUNT - 1) * 12);
+        for (int glyph = 1; glyph < GLYPH_COUNT; glyph++) {
+            int offset = (glyph - 1) * 12;
+            glyf.putShort(offset + 2, (short) (glyph * 10));
+            glyf.putShort(offset + 4, (short) (-glyph * 5));
+            glyf.putShort(offset + 6, (short) (100 + glyph * 10));
+            glyf.putShort(offset + 8, (short) (500 + glyph));
+            // Short offsets are stored divided by two
+            loca.putShort((glyph + 1) * 2, (short) (glyph * 6));
+        }
+
+        String[] tags = withOutlines
+                ? new String[] {"cmap", "glyf", "head", "hhea", "hmtx", "loca", "maxp"}
+                : new String[] {"cmap", "head", "hhea", "hmtx", "maxp"};
+        ByteBuffer[] tables = withOutlines
+                ? new ByteBuffer[] {cmap, glyf, head, hhea, hmtx, loca, maxp}
+                : new ByteBuffer[] {cmap, head, hhea, hmtx, maxp};
+        int length = 12 + tables.length * 16;
+        for (ByteBuffer table : tables) {
+            length += (table.capacity() + 3) & ~3;
+        }
+        ByteBuffer font = ByteBuffer.allocate(length);
+        font.putInt(0x00010000);
+        font.putShort((short) tables.length);
+        font.putShort((short) 0);
+        font.putShort((short) 0);
+        font.putShort((short) 0);
+        int offset = 12 + tables.length * 16;
+        for (int table = 0; table < tables.length; table++) {
+            font.put(tags[table].getBytes());
+            font.putInt(0);
+            font.putInt(offset);
+            font.putInt(tables[table].capacity());
+            System.arraycopy(tables[table].array(), 0, font.array(), offset, tables[table].capacity());
+            offset += (tables[table].capacity() + 3) & ~3;
+        }
+        return font.array();
+    }
+
+    /**
+     * A format 4 subtable mapping 0xE000-0xE002 to glyphs 1-3 and 0xE855 to glyph 4 by delta, and 0xF004 and
+     * 0xF006 to glyphs 6 and 5 through the glyph id array, leaving 0xF005 unmapped.
+     */
+    private static byte[] buildFormat4() {
+        int[] starts = {0xE000, 0xE855, 0xF004, 0xFFFF};
+        int[] ends = {0xE002, 0xE855, 0xF006, 0xFFFF};
+        int[] deltas = {1 - 0xE000, 4 - 0xE855, 0, 1};
+        int[] glyphIds = {6, 0, 5};
+        int segmentCount = starts.length;
+        ByteBuffer subtable = ByteBuffer.allocate(16 + segmentCount * 8 + glyphIds.length * 2);
+        subtable.putShort((short) 4);
+        subtable.putShort((short) subtable.capacity());
+        subtable.putShort((short) 0);
+        subtable.putShort((short) (segmentCount * 2));
+        subtable.putShort((short) 0);
+        subtable.putShort((short) 0);
+        subtable.putShort((short) 0);
+        for (int end : ends) {
+            subtable.putShort((short) end);
+        }
+        subtable.putShort((short) 0);
+        for (int start : starts) {
+            subtable.putShort((short) start);
+        }
+        for (int delta : deltas) {
+            subtable.putShort((short) delta);
+        }
+        for (int segment = 0; segment < segmentCount; segment++) {
+            // The glyph id array follows the idRangeOffset array, which the offset is relative to
+            subtable.putShort((short) (segment == 2 ? (segmentCount - segment) * 2 : 0));
+        }
+        for (int glyphId : glyphIds) {
+            subtable.putShort((short) glyphId);
+        }
+        return subtable.array();
+    }
+
+    /**
+     * A format 12 subtable mapping 'A'-'C' to glyphs 1-3 and two emoji beyond the BMP to glyphs 4-5.
+     */
+    private static byte[] buildFormat12() {
+        return buildFormat12(new int[][] {{'A', 'C', 1}, {0x1F600, 0x1F601, 4}});
+    }
+
+    /**
+     * A format 12 subtable mapping each group of characters, given as first, last and glyph of the first, to glyphs.
+     */
+    private static byte[] buildFormat12(int[][] groups) {
+        ByteBuffer subtable = ByteBuffer.allocate(16 + groups.length * 12);
+        subtable.putShort((short) 12);
+        subtable.putShort((short) 0);
+        subtable.putInt(subtable.capacity());
+        subtable.putInt(0);
+        subtable.putInt(groups.length);
+        for (int[] group : groups) {
+            subtable.putInt(group[0]);
+            subtable.putInt(group[1]);
+            subtable.putInt(group[2]);
+        }
+        return subtable.array();
+    }
+
+    @Test
+    public void testMetrics() {
+        TrueTypeFont font = TrueTypeFont.parse(buildFont(3, 1, buildFormat4()));
+        assertEquals(UNITS_PER_EM, font.getUnitsPerEm());
+        assertEquals(800, font.getAscender());
+        assertEquals(-200, font.getDescender());
+        assertEquals(GLYPH_COUNT, font.getGlyphCount());
+    }
+
+    @Test
+    public void testFormat4() {
+        TrueTypeFont font = TrueTypeFont.parse(buildFont(3, 1, buildFormat4()));
+        assertEquals(1, font.getGlyphId(0xE000));
+        assertEquals(3, font.getGlyphId(0xE002));
+        assertEquals(4, font.getGlyphId(0xE855));
+        assertEquals(6, font.getGlyphId(0xF004));
+        assertEquals(5, font.getGlyphId(0xF006));
+        assertFalse(font.hasGlyph(0xF005));
+        assertFalse(font.hasGlyph(0xE003));
+        assertFalse(font.hasGlyph(0xFFFF));
+        assertEquals(6, font.getCodepointCount());
+        assertArrayEquals(new int[] {0xE000, 0xE001, 0xE002, 0xE855, 0xF004, 0xF006}, font.getCodepoints());
+    }
+
+    @Test
+    public void testFormat12() {
+        TrueTypeFont font = TrueTypeFont.parse(buildFont(3, 10, buildFormat12()));
+        assertEquals(2, font.getGlyphId('B'));
+        assertEquals(5, font.getGlyphId(0x1F601));
+        assertFalse(font.hasGlyph('D'));
+        assertArrayEquals(new int[] {'A', 'B', 'C', 0x1F600, 0x1F601}, font.getCodepoints());
+    }
+
+    @Test
+    public void testAdvanceWidth() {
+        TrueTypeFont font = TrueTypeFont.parse(buildFont(3, 1, buildFormat4()));
+        assertEquals(600, font.getAdvanceWidth(0xE000));
+        assertEquals(800, font.getAdvanceWidth(0xE002));
+        // Glyphs past the horizontal metrics share the last advance width
+        assertEquals(900, font.getAdvanceWidth(0xF004));
+        // Unmapped characters are drawn with the .notdef glyph
+        assertEquals(500, font.getAdvanceWidth(0xF005));
+        assertEquals(28f, font.getAdvanceWidth(0xE001, 40f), 0.001f);
+    }
+
+    @Test
+    public void testBounds() {
+        TrueTypeFont font = TrueTypeFont.parse(buildFont(3, 1, buildFormat4(), true));
+        assertTrue(font.hasGlyphBounds());
+        int[] bounds = new int[4];
+        assertTrue(font.getBounds(0xE855, bounds));
+        assertArrayEquals(new int[] {40, -20, 140, 504}, bounds);
+        // The .notdef glyph of this font has no outline
+        assertTrue(font.getBounds(0xF005, bounds));
+        assertArrayEquals(new int[] {0, 0, 0, 0}, bounds);
+
+        TrueTypeFont fontWithoutOutlines = TrueTypeFont.parse(buildFont(3, 1, buildFormat4()));
+        assertFalse(fontWithoutOutlines.hasGlyphBounds());
+        assertFalse(fontWithoutOutlines.getBounds(0xE855, bounds));
+    }
+
+    @Test
+    public void testGlyphMetrics() {
+        TrueTypeFont font = TrueTypeFont.parse(buildFont(3, 1, buildFormat4(), true));
+        GlyphMetrics glyphMetrics = font.getGlyphMetrics(new TestTypeface().getIconTable());
+        assertEquals(3, glyphMetrics.size());
+        assertEquals(UNITS_PER_EM, glyphMetrics.getUnitsPerEm());
+        // TSTI_ACCOUNT is 0xF004, drawn with glyph 6
+        assertEquals(900, glyphMetrics.getAdvanceWidth(0));
+        assertEquals(10f, glyphMetrics.getGlyphWidth(0, 100f), 0.001f);
+        assertEquals(-50.6f, glyphMetrics.getGlyphTop(0, 100f), 0.001f);
+        // TSTI_ACCOUNT_ALERT is missing from the font, and measured as the .notdef glyph
+        assertEquals(500, glyphMetrics.getAdvanceWidth(1));
+        assertEquals(0f, glyphMetrics.getGlyphWidth(1, 100f), 0.001f);
+        // TSTI_ALARM is 0xE855, drawn with glyph 4
+        assertEquals(900, glyphMetrics.getAdvanceWidth(2));
+        assertEquals(4f, glyphMetrics.getGlyphLeft(2, 100f), 0.001f);
+        assertEquals(52.4f, glyphMetrics.getGlyphHeight(2, 100f), 0.001f);
+    }
+
+    @Test
+    public void testGlyphPastLastGlyph() {
+        // TSTI_ACCOUNT, 0xF004, is mapped past the last glyph, as in a badly subset font, and drawn as .notdef
+        int[][] groups = {{0xE855, 0xE855, 4}, {0xF004, 0xF004, GLYPH_COUNT}};
+        TrueTypeFont font = TrueTypeFont.parse(buildFont(3, 10, buildFormat12(groups), true));
+        assertEquals(4, font.getGlyphId(0xE855));
+        assertEquals(0, font.getGlyphId(0xF004));
+        assertFalse(font.hasGlyph(0xF004));
+        assertEquals(500, font.getAdvanceWidth(0xF004));
+        int[] bounds = new int[4];
+        assertTrue(font.getBounds(0xF004, bounds));
+        assertArrayEquals(new int[] {0, 0, 0, 0}, bounds);
+
+        GlyphMetrics glyphMetrics = font.getGlyphMetrics(new TestTypeface().getIconTable());
+        assertEquals(500, glyphMetrics.getAdvanceWidth(0));
+        assertEquals(0f, glyphMetrics.getGlyphWidth(0, 100f), 0.001f);
+        assertEquals(Arrays.asList("TSTI_ACCOUNT", "TSTI_ACCOUNT_ALERT"),
+                font.findMissingIcons(new TestTypeface().getIconTable()));
+    }
+
+    @Test
+    public void testFindMissingIcons() throws IOException {
+        TrueTypeFont font = TrueTypeFont.read(new ByteArrayInputStream(buildFont(0, 3, buildFormat4())));
+        assertEquals(Collections.singletonList("TSTI_ACCOUNT_ALERT"),
+                font.findMissingIcons(new TestTypeface().getIconTable()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotAFont() {
+        TrueTypeFont.parse("not a font at all".getBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncatedFont() {
+        byte[] font = buildFont(3, 1, buildFormat4());
+        TrueTypeFont.parse(Arrays.copyOf(font, font.length / 2));
+    }
+}
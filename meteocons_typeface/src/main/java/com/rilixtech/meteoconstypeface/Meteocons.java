@@ -2,12 +2,13 @@ package com.rilixtech.meteoconstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Meteocons font. It hosts a variety of icons that can be used by
@@ -29,7 +30,6 @@ public class Meteocons implements MfbTypeface {
             + "The Icons as such are the property of the author.";
     public static final String METEOCONS_LICENSE_URL = "";
 
-    private static Font meteoconsTypeface = null;
 
     private static HashMap<String, Character> meteoconsCharMap;
 
@@ -40,7 +40,22 @@ public class Meteocons implements MfbTypeface {
      */
     @Override
     public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No Meteocons icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * Meteocons MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which Meteocons MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override
+    public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -51,16 +66,31 @@ public class Meteocons implements MfbTypeface {
     @Override
     public HashMap<String, Character> getCharacters() {
         if (meteoconsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.meteoconsCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
-
         return meteoconsCharMap;
     }
 
+    /**
+     * Get the compact table of all the Meteocons icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all Meteocons icon names and characters.
+     */
+    @Override
+    public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the Meteocons icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all Meteocons icons.
+     */
+    @Override
+    public GlyphMetrics getGlyphMetrics() {
+        return MeteoconsMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the Meteocons Characters into a HashMap.
      */
@@ -85,15 +115,11 @@ public class Meteocons implements MfbTypeface {
 
     @Override
     public int getIconCount() {
-        return meteoconsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> meteoconsKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            meteoconsKeyList.add(value.name());
-        }
-        return meteoconsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override
@@ -123,18 +149,7 @@ public class Meteocons implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (meteoconsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return meteoconsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        meteoconsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -207,6 +222,9 @@ public class Meteocons implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface meteoconsTypeface;
 
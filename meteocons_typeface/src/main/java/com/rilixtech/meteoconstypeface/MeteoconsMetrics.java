@@ -0,0 +1,30 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.meteoconstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of meteocons.ttf for the Meteocons icons, in ordinal order.
+ */
+final class MeteoconsMetrics {
+
+    private MeteoconsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1000, 850, -150, ""
+            + "\u03e8\0\uffa8\u03e8\u0313\u03e8\uffff\uff6a\u03e7\u0351\u03e8\uffff\uff6a\u03e7\u0351"
+            + "\u03e8\uffff\uff6a\u03e7\u0351\u03e8\0\uffd2\u03e9\u02ea\u03e8\uffff\uff6a\u03e8\u0351"
+            + "\u03e8\0\uffa8\u0271\u0313\u03e8\ufffe\uff69\u03e8\u0351\u03e8\0\0\u0382\u021d"
+            + "\u03e8\0\0\u02d2\u0216\u03e8\0\0\u02d4\u0213\u03e8\uffff\uff6a\u03e8\u0351"
+            + "\u03e8\0\uffc7\u038a\u02f4\u03e8\0\0\u02c9\u0233\u03e8\uffff\uff6a\u03e7\u0352"
+            + "\u03e8\uffff\uff6a\u03e7\u030b\u03e8\uffff\0\u03e7\u0296\u03e8\uffff\uffa8\u03e7\u0351"
+            + "\u03e8\uffff\uffa8\u03e7\u0313\u03e8\uffff\uff69\u03e7\u0351\u03e8\0\0\u03e7\u025a"
+            + "\u03e8\0\0\u031e\u0297\u03e8\0\uffc7\u038a\u02f4\u03e8\0\0\u02e8\u0252"
+            + "\u03e8\0\uffaa\u036a\u02d7\u03e8\0\0\u03e6\u0298\u03e8\0\0\u03a8\u0259"
+            + "\u03e8\0\0\u030a\u0297\u03e8\uffff\uff6a\u03e7\u0352\u03e8\0\uff6a\u03e9\u0306"
+            + "\u03e8\0\uffe9\u038a\u0315\u03e8\0\uffe9\u038a\u02d3\u03e8\0\uffe7\u03e8\u02d5"
+            + "\u03e8\0\0\u032d\u0258\u03e8\uffff\0\u03e7\u0296\u03e8\uffff\uffa8\u03e7\u0351"
+            + "\u03e8\uffff\uffa8\u03e7\u0351\u03e8\uffff\uffa8\u03e7\u0313\u03e8\uffff\uff69\u03e7\u0351"
+            + "\u03e8\0\0\u03e7\u025a\u03e8\0\uffa8\u03e8\u0313\u03e8\uffff\uff6a\u03e7\u0351"
+            + "\u03e8\uffff\0\u03e7\u0351\u03e8\uffff\uff6a\u03e7\u0351\u03e8\uffff\uff6a\u03e7\u0351"
+            + "\u03e8\uffff\uff6a\u03e8\u0285\u03e8\uffff\uff6a\u03e8\u0351");
+}
@@ -2,12 +2,13 @@ package com.rilixtech.mfglabsiconsettypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the MfgLabsIconset font. It hosts a variety of icons that can be used by
@@ -24,7 +25,6 @@ public class MfgLabsIconset implements MfbTypeface {
     public static final String MFGLABS_ICONSET_LICENSE = "Licensed under the SIL Open Font License - http://scripts.sil.org/OFL";
     public static final String MFGLABS_ICONSET_LICENSE_URL = "http://scripts.sil.org/OFL";
 
-    private static Font mfgLabsIconsetTypeface = null;
 
     private static HashMap<String, Character> mfgLabsIconsetCharMap;
 
@@ -35,7 +35,22 @@ public class MfgLabsIconset implements MfbTypeface {
      */
     @Override
     public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No MfgLabsIconset icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * MfgLabsIconset MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which MfgLabsIconset MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override
+    public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -45,15 +60,29 @@ public class MfgLabsIconset implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (mfgLabsIconsetCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.mfgLabsIconsetCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return mfgLabsIconsetCharMap;
     }
 
+    /**
+     * Get the compact table of all the MfgLabsIconset icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all MfgLabsIconset icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the MfgLabsIconset icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all MfgLabsIconset icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return MfgLabsIconsetMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the MfgLabsIconset Characters into a HashMap.
      */
@@ -83,15 +112,11 @@ public class MfgLabsIconset implements MfbTypeface {
 
     @Override
     public int getIconCount() {
-        return mfgLabsIconsetCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> mfgLabsIconsetKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            mfgLabsIconsetKeyList.add(value.name());
-        }
-        return mfgLabsIconsetKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override
@@ -121,18 +146,7 @@ public class MfgLabsIconset implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (mfgLabsIconsetTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return mfgLabsIconsetTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        mfgLabsIconsetTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -345,6 +359,9 @@ public class MfgLabsIconset implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface mfgLabsIconsetTypeface;
 
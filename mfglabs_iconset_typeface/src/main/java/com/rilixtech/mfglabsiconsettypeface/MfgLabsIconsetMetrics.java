@@ -0,0 +1,76 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.mfglabsiconsettypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of mfglabsiconset-webfont-1.0.ttf for the MfgLabsIconset icons, in ordinal order.
+ */
+final class MfgLabsIconsetMetrics {
+
+    private MfgLabsIconsetMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(2048, 1987, -565, ""
+            + "\u09a4\0\ufff9\u099f\u05d5\u071c\0\uff1b\u071d\u069b\u0708\0\uff57\u0708\u0660"
+            + "\u0706\0\u01fd\u0707\u03ba\u068a\0\ufedd\u068a\u065d\u068a\0\ufed9\u068b\u0659"
+            + "\u0781\0\uff8f\u0781\u061b\u0781\0\uff9c\u0781\u0627\u068a\0\332\u068b\u04d0"
+            + "\u0689\0\347\u0689\u04dd\u03f6\0\uff90\u03f7\u061b\u03f6\0\uff9c\u03f6\u0627"
+            + "\u0896\213\ufff9\u080b\u05be\u0780\0\ufff9\u0780\u05be\u0780\0\uff1e\u0780\u0699"
+            + "\u0780\0\uff1e\u0780\u0699\u08ab\0\203\u08ab\u0533\u08ab\0\207\u08ab\u0531"
+            + "\u05e2\0\uff93\u05e2\u0623\u0545\0\uffbb\u0546\u05fb\u0703\0\uffc5\u0703\u0625"
+            + "\u0692\0\uffd8\u0692\u05de\u0bc6\0\uffb1\u0bc7\u0606\u0bc6\0\uffb0\u0bc7\u0606"
+            + "\u09a4\0\uffee\u099f\u05c9\u09a5\uffff\uffee\u0988\u05c9\u0780\0\uff1b\u0780\u069b"
+            + "\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u092c\13\uff6d\u0927\u063c\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0780\0\uff1b\u0780\u069b\u0773\3\uff6f\u076d\u064e\u03d9\6\uff63\u03d9\u0699"
+            + "\u07fb\6\uff1b\u07f5\u069b\u03fd\6\uff1b\u03fe\u069b\u0825\4\uff1b\u0826\u069b"
+            + "\u0780\0\uff80\u0780\u064b\u0780\0\uff80\u0780\u064b\u074c\3\uff76\u0749\u0641"
+            + "\u075e\0\15\u075f\u058b\u0766\3\26\u0763\u05a2\u0780\0\uff1b\u0780\u069b"
+            + "\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0588\0\uff32\u0588\u069b\u0870\0\uff77\u0870\u0640\u059b\0\uff1b\u059b\u069b"
+            + "\u0474\0\uff1b\u0475\u069b\u0653\0\uff1b\u0653\u069b\u0583\0\uff1b\u0583\u069b"
+            + "\u088d\101\uff1b\u084d\u069b\u0870\0\uff93\u0870\u0623\u0780\0\uff1b\u0780\u069b"
+            + "\u08e9\0\52\u08e9\u058f\u0870\0\uffbc\u0870\u05fb\u0870\0\uff5d\u0870\u0698"
+            + "\u0a5b\0\ufece\u0a5b\u0713\u0780\0\uff1b\u0780\u069b\u073d\0\uff24\u072b\u0650"
+            + "\u0780\0\uff1b\u0780\u069b\u08e8\0\uff93\u08e8\u0623\u0771\0\uff1b\u0772\u068d"
+            + "\u0780\0\uff4d\u0780\u066a\u0762\0\uff29\u0762\u068d\u09d0\0\ufdf3\u09d0\u07c3"
+            + "\u071d\17\uff7e\u0719\u0688\u070e\0\ufefe\u070f\u06b9\u04e9\0\ufefe\u04e9\u06b9"
+            + "\u0755\0\uff98\u0756\u060f\u0653\0\uff1b\u0653\u069b\u0780\0\uff9d\u0780\u061a"
+            + "\u0780\0\uff9d\u0780\u0619\u0690\11\uff1b\u0687\u069b\u068e\11\uff1b\u0686\u069b"
+            + "\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0380\0\uff1b\u0380\u069b\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0780\0\uffaf\u0780\u0608\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0780\0\uffcf\u0780\u05e8\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0780\0\uff1b\u0780\u069b\u0923\0\203\u0923\u0533\u069d\0\uff1b\u069e\u069b"
+            + "\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b\u0833\0\uff1b\u0833\u069b"
+            + "\u07d2\0\uff1b\u07d2\u0676\u07f6\0\uff1b\u07f7\u0699\u099c\0\uff1b\u099d\u069b"
+            + "\u0860\0\uffd5\u085d\u05e2\u0780\0\uffcf\u0780\u05e8\u0861\0\uffd5\u085e\u05e2"
+            + "\u0780\0\uffcf\u0780\u05e8\u06a3\0\uff1b\u06a3\u066e\u075d\0\56\u075e\u0579"
+            + "\u057e\0\26\u057e\u0594\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0724\26\uff48\u0725\u066f\u08e9\0\347\u08e9\u04d0\u0780\0\uff1b\u0780\u069b"
+            + "\u0841\0\ufec1\u0841\u06f6\u04b0\0\uff1b\u04b0\u069b\u069d\0\uff1b\u069e\u069b"
+            + "\u0584\0\uff1b\u0585\u069b\u0584\0\uff1b\u0585\u069b\u0780\0\uffb1\u0780\u0606"
+            + "\u0780\0\uffb1\u0780\u0606\u0653\0\uff1b\u0653\u069b\u0654\0\uff1b\u0655\u069b"
+            + "\u0719\20\uff5f\u0709\u0658\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u085e\27\uff1b\u085f\u069b\u085e\27\uff1b\u085f\u069b\u0780\0\uff1b\u0780\u069b"
+            + "\u0780\0\uff1b\u0780\u069b\u0692\0\uff92\u0692\u0625\u0780\0\uff6d\u0780\u060d"
+            + "\u0780\0\1\u0780\u05b7\u0714\0\uff1b\u0715\u069b\u0809\0\336\u0809\u04d9"
+            + "\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b\u0780\0\uff59\u0780\u065e"
+            + "\u0780\0\162\u0780\u0545\u0864\0\210\u0865\u0530\u0780\0\uff1b\u0780\u069b"
+            + "\u0685\uffff\ufeee\u0686\u06c9\u048d\0\uff1b\u048e\u069b\u0608\0\uffd7\u0608\u05e0"
+            + "\u068c\3\uff1b\u068a\u069b\u0483\0\uff1f\u0483\u0697\u04b3\0\uff1b\u04b3\u069b"
+            + "\u0780\0\uffd0\u0780\u05e7\u0780\0\uff3e\u0780\u0679\u09c8\0\uff1b\u09c8\u069b"
+            + "\u0780\u03c0\u02db\u0780\u069b\u0780\0\uff1b\u0780\u069b\u0780\0\uff3e\u0780\u0679"
+            + "\u0769\0\uff34\u0769\u0699\u0770\0\ufede\u076d\u06c6\u08c5\4\uff1b\u08c3\u069b"
+            + "\u0780\u0268\u0183\u0518\u0434\u0780\u0137\uff39\u0647\u067e\u0738\0\uff4a\u0739\u0678"
+            + "\u0738\0\uff3f\u0739\u0678\u0739\0\uff75\u072e\u0642\u0739\0\uff75\u072e\u0642"
+            + "\u071d\21\uff2b\u071f\u064a\u075a\7\ufe98\u075a\u06ee\u075b\0\uff29\u075c\u068e"
+            + "\u086b\14\uff1b\u0860\u069b\u073a\0\uff33\u073a\u0661\u0780\0\uff1b\u0780\u069b"
+            + "\u0762\7\uff40\u0762\u069b\u0780\0\uff3e\u0780\u0678\u089d\0\uff1b\u089e\u069b"
+            + "\u0780\0\ufffe\u0780\u05b9\u0780\4\uff1f\u077e\u0698\u0780\0\ufe82\u0780\u0719"
+            + "\u0780\0\uff1b\u0780\u069b\u0780\0\uff1b\u0780\u069b\u075b\0\uff2d\u075b\u0689"
+            + "\u075a\1\ufe98\u075a\u06ee\u075c\14\uff2e\u075d\u0689\u0780\0\35\u0780\u059b"
+            + "\u06a9\0\uff1b\u06a9\u069b\u0780\0\uff1b\u0780\u069b\u096c\0\uff1b\u096d\u0677");
+}
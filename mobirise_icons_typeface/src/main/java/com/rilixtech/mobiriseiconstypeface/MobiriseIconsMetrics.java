@@ -0,0 +1,64 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.mobiriseiconstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of mobirise-icons-v1.0.0.ttf for the MobiriseIcons icons, in ordinal order.
+ */
+final class MobiriseIconsMetrics {
+
+    private MobiriseIconsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1024, 960, -64, ""
+            + "\u0400\0\0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\40\200\u03e0\u0300"
+            + "\u0400\40\200\u03e0\u0300\u0400\40\200\u03e0\u0300\u0400\40\200\u03e0\u0300"
+            + "\u0400\100\uffc0\u03be\u03c0\u0400\11\312\u03f7\u02b7\u0400\u0109\uffc9\u02f6\u03b7"
+            + "\u0400\u010a\uffc9\u02f7\u03b7\u0400\11\311\u03f7\u02b6\u0400\300\uffc0\u0340\u03c0"
+            + "\u0400\100\uffc2\u03c0\u03c0\u0400\0\0\u0400\u03c0\u0400\0\0\u0400\u03c0"
+            + "\u0400\0\100\u0400\u0340\u0400\0\uffc0\u03e0\u03c0\u0400\0\100\u03c0\u0360"
+            + "\u0400\0\0\u0400\u0380\u0400\40\0\u03e0\u0340\u0400\40\0\u03f7\u03b7"
+            + "\u0400\0\200\u03c0\u0340\u0400\14\uffc0\u03fc\u03bc\u0400\0\12\u0400\u03c0"
+            + "\u0400\0\0\u03c0\u03c0\u0400\12\uffc9\u03f6\u03b7\u0400\0\200\u0400\u0340"
+            + "\u0400\10\220\u03f8\u02ef\u0400\0\100\u0400\u0360\u0400\0\200\u0400\u0340"
+            + "\u0400\37\uffc8\u03f8\u03a0\u0400\0\12\u0400\u03c0\u0400\0\0\u0400\u03c0"
+            + "\u0400\40\200\u0400\u0300\u0400\0\0\u0400\u03c0\u0400\0\0\u0400\u0380"
+            + "\u0400\11\uffc8\u03b6\u03a0\u0400\0\10\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\10\10\u03b8\u03b8\u0400\0\uffc0\u03f6\u03c0\u0400\0\uffc0\u03f7\u03b7"
+            + "\u0400\0\100\u0400\u0340\u0400\0\uffc0\u03e6\u03a6\u0400\0\uffc0\u03f5\u03ac"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\0\uffc0\u03bc\u03c0\u0400\0\100\u0400\u0380"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffcc\u0400\u03c0\u0400\0\0\u03c0\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03a0\u0400\0\4\u0400\u0380"
+            + "\u0400\40\12\u0400\u0380\u0400\20\0\u03f0\u0360\u0400\0\uffc0\u0400\u03a0"
+            + "\u0400\40\uffc0\u03a0\u03a0\u0400\4\105\u03f9\u0379\u0400\0\100\u0400\u0340"
+            + "\u0400\0\0\u03c0\u03c0\u0400\u0140\uffc0\u02c0\u03c0\u0400\0\0\u03c0\u03c0"
+            + "\u0400\0\100\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\10\112\u03f7\u0336"
+            + "\u0400\10\12\u03e0\u03b7\u0400\0\200\u0400\u0300\u0400\0\0\u0400\u03c0"
+            + "\u0400\0\300\u0400\u02c0\u0400\200\uffc0\u0340\u03c0\u0400\40\0\u0400\u03c0"
+            + "\u0400\11\0\u0400\u03c0\u0400\12\uffc9\u03e0\u03a0\u0400\102\uffbf\u03be\u03c0"
+            + "\u0400\40\200\u03e0\u0340\u0400\300\uffc0\u0340\u03c0\u0400\300\uffc0\u0340\u03c0"
+            + "\u0400\0\0\u03e0\u03a0\u0400\0\u0140\u0400\u0240\u0400\u0180\uffc0\u0280\u03c0"
+            + "\u0400\100\uffc0\u03c0\u03c0\u0400\200\uffc0\u0380\u03c0\u0400\0\uffc0\u03e0\u03b7"
+            + "\u0400\0\0\u03ff\u0380\u0400\200\uffc0\u0380\u03c0\u0400\20\uffd3\u03fe\u03b7"
+            + "\u0400\114\14\u037a\u039a\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\200\uffc6\u0380\u03c0\u0400\100\uffe0\u0384\u03bb\u0400\40\40\u03a0\u03a0"
+            + "\u0400\4\200\u03fc\u0300\u0400\0\uffc0\u0400\u03c0\u0400\200\uffc2\u0380\u03bb"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\100\u0400\u02ff\u0400\0\201\u0400\u0340"
+            + "\u0400\0\340\u0400\u0300\u0400\100\uffc0\u03c0\u03b7\u0400\0\0\u0400\u03c0"
+            + "\u0400\40\12\u03f8\u03b7\u0400\6\uffc6\u03ea\u03aa\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\33\uffdb\u0400\u03c0\u0400\0\0\u03c0\u03a0\u0400\11\uffc9\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u03c0\u03c0\u0400\0\uffe6\u03dc\u03c0"
+            + "\u0400\0\0\u0400\u037a\u0400\0\uffc0\u0400\u03c0\u0400\2\0\u03be\u03b7"
+            + "\u0400\40\0\u03f7\u0340\u0400\0\100\u0400\u0340\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\304\uffcc\u0312\u03c0\u0400\3\uffcb\u03fd\u03c0\u0400\12\211\u03f6\u02f7"
+            + "\u0400\40\40\u03a0\u03a0\u0400\40\40\u03a0\u03a0\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\0\100\u0400\u0340\u0400\40\40\u03a0\u03a0\u0400\100\0\u0380\u03c0"
+            + "\u0400\0\uffe0\u0400\u03c0\u0400\0\uffe0\u0400\u03c0\u0400\0\0\u03f6\u0380"
+            + "\u0400\0\0\u03f6\u0340\u0400\201\uffc0\u037e\u03c0\u0400\200\uffc0\u0340\u03c0"
+            + "\u0400\0\340\u0400\u0300\u0400\0\31\u0400\u03a7\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\212\uffc9\u0376\u03b8\u0400\11\uffe0\u03b6\u03b8\u0400\12\102\u03f6\u037e"
+            + "\u0400\0\140\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\200\u0400\u0340\u0400\0\200\u0400\u0340"
+            + "\u0400\0\200\u0400\u0300\u0400\0\100\u0400\u0340\u0400\12\100\u03f6\u0232"
+            + "\u0400\0\2\u03c0\u03c0\u0400\11\uffc9\u0400\u03c0");
+}
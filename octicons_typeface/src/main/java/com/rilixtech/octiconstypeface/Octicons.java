@@ -2,12 +2,13 @@ package com.rilixtech.octiconstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Octicons font. It hosts a variety of icons that can be used by
@@ -24,7 +25,6 @@ public class Octicons implements MfbTypeface {
     public static final String OCTICONS_LICENSE = " SIL OFL 1.1";
     public static final String OCTICONS_LICENSE_URL = "http://scripts.sil.org/OFL";
 
-    private static Font octiconsTypeface = null;
     private static HashMap<String, Character> octiconsCharMap;
 
     /**
@@ -33,7 +33,21 @@ public class Octicons implements MfbTypeface {
      * @param key Key for which Octicons MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No Octicons icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * Octicons MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which Octicons MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -43,15 +57,29 @@ public class Octicons implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (octiconsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.octiconsCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return octiconsCharMap;
     }
 
+    /**
+     * Get the compact table of all the Octicons icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all Octicons icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the Octicons icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all Octicons icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return OcticonsMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the Octicons Characters into a HashMap.
      */
@@ -81,16 +109,12 @@ public class Octicons implements MfbTypeface {
 
     @Override
     public int getIconCount() {
-        return octiconsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override
     public Collection<String> getIcons() {
-        Collection<String> octiconsKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            octiconsKeyList.add(value.name());
-        }
-        return octiconsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override
@@ -120,18 +144,7 @@ public class Octicons implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (octiconsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return octiconsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        octiconsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -351,6 +364,9 @@ public class Octicons implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface octiconsTypeface;
 
@@ -0,0 +1,79 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.octiconstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of octicons-v3.2.0.ttf for the Octicons icons, in ordinal order.
+ */
+final class OcticonsMetrics {
+
+    private OcticonsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1024, 832, -192, ""
+            + "\u0400\0\uffc0\u03f7\u033f\u0280\0\0\u0280\u0280\u0280\0\0\u0280\u0280"
+            + "\u0280\0\0\u0280\u0280\u0180\0\0\u0180\u0200\u0180\0\0\u0180\u0200"
+            + "\u0180\0\0\u0180\u0200\u0180\0\0\u0180\u0200\u0280\0\0\u0280\u0280"
+            + "\u0400\0\uff40\u03a6\u0340\u0400\0\uff40\u03a6\u0340\u0380\0\uff40\u0380\u0300"
+            + "\u0280\0\uffbf\u0230\u02c2\u0400\0\uffc0\u03c0\u02c0\u0280\uffff\uff40\u0281\u0341"
+            + "\u0380\0\uffc0\u0380\u02c0\u0400\0\uff40\u03c0\u0340\u0380\0\uffc0\u0380\u02c0"
+            + "\u0400\0\uffc0\u038b\u0300\u0380\0\uff80\u0340\u0300\u0300\0\0\u0300\u0260"
+            + "\u0400\0\uffa0\u0400\u02c0\u0280\0\0\u0280\u0220\u0200\0\0\u01c0\u0280"
+            + "\u0200\0\0\u01e0\u0280\u0280\0\0\u0280\u0240\u0380\0\uff80\u0380\u0300"
+            + "\u0380\0\uff80\u0380\u0300\u0380\0\uff80\u0380\u0340\u0380\0\uff80\u0380\u0300"
+            + "\u0400\0\uff40\u0400\u02c0\u0400\0\uffc0\u0400\u02c0\u0380\0\0\u0380\u0280"
+            + "\u0300\0\uffc0\u0300\u02c0\u0380\0\uff60\u0380\u02c0\u0380\0\uff60\u0380\u02c0"
+            + "\u0400\0\uff80\u03c0\u02c0\u0400\0\0\u0400\u02c0\u0200\0\0\u0200\u0180"
+            + "\u0400\0\uff40\u03c0\u0300\u0300\0\uff80\u0300\u0300\u0400\0\uff80\u0400\u0340"
+            + "\u0400\0\uff80\u0400\u0340\u0400\0\uffc0\u0400\u02c0\u0400\0\uffbb\u0400\u0285"
+            + "\u0400\0\uff80\u0400\u02c0\u0280\0\uff40\u0280\u0340\u0380\0\uff40\u0340\u0340"
+            + "\u0380\0\uff80\u0380\u0300\u0380\0\uff80\u0380\u0300\u0380\0\uff80\u0380\u0300"
+            + "\u0380\0\uff80\u0380\u0300\u0380\0\uff80\u0380\u0300\u0300\0\0\u0300\u0200"
+            + "\u0400\0\uffc0\u0400\u02c0\u0400\0\uffc0\u0400\u02c0\u0400\0\uffc0\u0400\u02c0"
+            + "\u0300\0\uff80\u0300\u0300\u0300\0\uff80\u0300\u0300\u0380\0\uffc0\u0380\u02c0"
+            + "\u0300\0\uff80\u0300\u0300\u0300\0\uff80\u0300\u0300\u0380\0\uffc0\u0380\u02c0"
+            + "\u0380\0\uffc0\u0380\u02c0\u0300\0\uff80\u0300\u0300\u0300\0\uff80\u0300\u0300"
+            + "\u0300\0\uff80\u0300\u0300\u0400\0\uff64\u035d\u0313\u0380\0\uff80\u0380\u0340"
+            + "\u0380\0\uff80\u0380\u0300\u0380\0\uffc0\u0380\u0301\u0300\0\uffc0\u0300\u0300"
+            + "\u0380\0\uffc0\u0377\u02c0\u0280\0\uff80\u0280\u0300\u0280\0\uff80\u0280\u0300"
+            + "\u0280\0\uff80\u0280\u0300\u0380\0\0\u0380\u0240\u0380\0\uff40\u0380\u0340"
+            + "\u0300\0\uff80\u0300\u0300\u0300\0\uff80\u0300\u0340\u0300\0\uff80\u0300\u0340"
+            + "\u0400\0\uffc0\u0380\u02c0\u0400\0\uff80\u0400\u0340\u0300\uffff\uffc0\u0301\u0280"
+            + "\u0380\0\uff80\u0380\u0300\u0400\0\uff80\u0400\u0300\u027f\0\0\u0280\u0280"
+            + "\u0380\0\uffc0\u0380\u02c0\u0380\0\uff80\u0380\u0300\u0380\0\uff81\u0380\u0301"
+            + "\u0400\0\uff80\u0400\u0300\u0380\0\uff80\u0380\u0300\u0380\0\uff80\u0380\u0300"
+            + "\u0180\0\uffc0\u0168\u0300\u0380\0\uff40\u0340\u0340\u0380\0\uffc0\u0380\u0300"
+            + "\u0400\0\0\u0400\u02c0\u0380\0\uff80\u0380\u0300\u0300\0\uff40\u02c0\u0340"
+            + "\u0400\0\0\u0400\u0280\u0300\0\uffc0\u0300\u02c0\u0300\0\uff80\u0302\u0300"
+            + "\u0300\ufffe\uffc0\u0302\u02c0\u0300\0\uff40\u0300\u0340\u0300\0\uff80\u0300\u0340"
+            + "\u0300\0\uff80\u0300\u0340\u0300\0\uff80\u0300\u0340\u0300\0\uff80\u0300\u0340"
+            + "\u0b28\0\0\u0b29\u0347\u0380\0\0\u0380\u0280\u0380\0\uff80\u0380\u0340"
+            + "\u0300\0\0\u0300\u02a0\u0400\0\uff57\u0400\u0340\u0400\0\0\u0400\u0280"
+            + "\u0400\0\uff80\u0400\u0300\u0380\0\uff80\u0380\u0340\u0380\0\uff40\u0380\u0340"
+            + "\u0400\0\uff40\u0400\u0340\u0400\0\uff40\u0400\u0340\u0400\0\uffff\u03ff\u028f"
+            + "\u0400\0\uffbc\u03e2\u02c4\u0400\0\0\u0400\u0240\u0400\0\uffba\u0400\u0303"
+            + "\u0380\0\uff40\u0380\u0340\u0400\0\uff9f\u03c0\u02df\u0300\0\uff80\u0300\u0340"
+            + "\u0380\0\uff80\u0366\u02e6\u0200\0\uff40\u0200\u0340\u0200\0\uff40\u0200\u0340"
+            + "\u0200\0\uff40\u0200\u0340\u0400\0\uff80\u03d9\u0319\u0400\0\0\u03c0\u0280"
+            + "\u0300\0\uffc0\u0300\u02c0\u0300\0\uffc0\u0300\u02c0\u0300\0\uffc0\u0300\u02c0"
+            + "\u0300\0\uffc0\u0300\u02c0\u0300\0\uffc0\u0300\u02c0\u01ff\uffff\0\u0200\u0240"
+            + "\u0200\0\0\u0200\u0240\u0380\0\uffd9\u0380\u02da\u0380\0\uff80\u0380\u0300"
+            + "\u0380\0\uffc0\u034a\u02eb\u0400\0\uff80\u0400\u032c\u0300\0\uff40\u0300\u0340"
+            + "\u0300\0\uff40\u0300\u0340\u0400\0\uff40\u0400\u0340\u02ff\0\uff40\u0300\u0340"
+            + "\u0280\0\uff80\u0280\u0300\u0280\0\uff80\u0280\u0300\u0400\0\uff40\u0400\u0340"
+            + "\u0300\0\uff40\u0300\u0340\u0400\0\uff40\u0401\u0341\u0280\0\0\u0280\u0280"
+            + "\u0400\0\uffc0\u0400\u02c0\u0400\0\uff3f\u0400\u0300\u0400\0\uff3f\u0400\u0300"
+            + "\u0300\0\uff80\u0300\u0300\u0400\0\uffc0\u03c0\u02c0\u0380\0\uff40\u0380\u0340"
+            + "\u0380\0\uff40\u0340\u0340\u0380\0\uff40\u0340\u0340\u0400\0\uff40\u0400\u0340"
+            + "\u0400\0\uff40\u0400\u0340\u0400\0\uff7f\u0400\u0300\u0380\0\uffc0\u0380\u0300"
+            + "\u0380\0\uffc0\u0380\u0300\u0380\0\uffc0\u0380\u0300\u0380\0\uff80\u0380\u0300"
+            + "\u0300\ufffc\uffbc\u0304\u02c3\u0300\ufffc\uffbc\u0304\u02c3\u0380\0\uff7a\u0346\u02c0"
+            + "\u0380\0\uff7a\u0346\u02c0\u0380\0\uff7a\u0346\u02c0\u0400\0\uffc0\u0402\u0340"
+            + "\u0380\0\uff40\u0336\u0340\u0380\0\uffc0\u0380\u02c0\u0400\uffad\uffc0\u0400\u02c0"
+            + "\u0300\ufffe\0\u0302\u0280\u0380\0\uff40\u0381\u0340\u0380\0\uff40\u0381\u0340"
+            + "\u0400\ufff9\uff3f\u0400\u0341\u0300\0\uff80\u02c0\u0300\u02ff\0\0\u0300\u01c0"
+            + "\u017f\0\uffc0\u0180\u02c0\u017f\0\uffc0\u0180\u02c0\u02ff\0\0\u0300\u0240"
+            + "\u0380\0\uff40\u0380\u0300\u0400\0\uffbc\u03c0\u02c4\u0380\0\0\u0380\u0280"
+            + "\u0300\0\uff40\u0300\u0340\u0300\0\ufff1\u02cf\u028f\u0300\0\ufff1\u02cf\u028f"
+            + "\u0280\0\uff40\u0280\u0340");
+}
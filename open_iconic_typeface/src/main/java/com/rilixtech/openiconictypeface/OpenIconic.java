@@ -2,12 +2,13 @@ package com.rilixtech.openiconictypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the OpenIconic font. It hosts a variety of icons that can be used by
@@ -24,7 +25,6 @@ public class OpenIconic implements MfbTypeface {
     public static final String OPEN_ICONIC_LICENSE = " SIL OFL 1.1";
     public static final String OPEN_ICONIC_LICENSE_URL = "http://scripts.sil.org/OFL";
 
-    private static Font openIconicTypeface = null;
     private static HashMap<String, Character> openIconicCharMap;
 
     /**
@@ -33,7 +33,21 @@ public class OpenIconic implements MfbTypeface {
      * @param key Key for which OpenIconic MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No OpenIconic icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * OpenIconic MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which OpenIconic MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -43,15 +57,29 @@ public class OpenIconic implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (openIconicCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.openIconicCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return openIconicCharMap;
     }
 
+    /**
+     * Get the compact table of all the OpenIconic icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all OpenIconic icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the OpenIconic icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all OpenIconic icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return OpenIconicMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the OpenIconic Characters into a HashMap.
      */
@@ -81,15 +109,11 @@ public class OpenIconic implements MfbTypeface {
 
     @Override
     public int getIconCount() {
-        return openIconicCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> openIconicKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            openIconicKeyList.add(value.name());
-        }
-        return openIconicKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override
@@ -119,18 +143,7 @@ public class OpenIconic implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (openIconicTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return openIconicTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        openIconicTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -380,6 +393,9 @@ public class OpenIconic implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface openIconicTypeface;
 
@@ -0,0 +1,89 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.openiconictypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of open-iconic-1.1.1.ttf for the OpenIconic icons, in ordinal order.
+ */
+final class OpenIconicMetrics {
+
+    private OpenIconicMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(800, 800, -101, ""
+            + "\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u02bc\u0320\0\144\u0320\u02bc"
+            + "\u0320\0\144\u0320\u02bc\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u02bc"
+            + "\u0320\0\0\u0320\u02bc\u0320\0\uff9f\u0320\u02bc\u0258\0\0\u01f4\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\144\u0320\u0258\u0320\0\144\u0320\u0258"
+            + "\u0258\0\0\u0258\u0320\u0320\0\144\u0320\u02bc\u0320\0\144\u0320\u02bc"
+            + "\u0258\0\0\u0258\u0320\u0258\0\0\u01f4\u0320\u0320\0\0\u02bc\u0320"
+            + "\u0320\0\42\u0320\u0258\u0190\0\0\u0190\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u0320\u0320\0\144\u0320\u02bc"
+            + "\u0320\0\144\u0320\u02bc\u0320\0\uff9c\u0320\u02bc\u0320\0\0\u0320\u0320"
+            + "\u0258\0\0\u0226\u0320\u0320\0\0\u0320\u0320\u0258\0\0\u01f4\u0320"
+            + "\u0320\0\0\u02bc\u0320\u0190\0\0\u0190\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0258\0\0\u0258\u0320\u0320\0\uff9c\u0320\u02bc"
+            + "\u0320\0\0\u031a\u031d\u0320\0\uffbb\u02ce\u02bc\u0320\0\2\u02bc\u02bc"
+            + "\u0320\0\0\u02bc\u0320\u0320\0\0\u02bc\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\310\u0320\u0258\u0190\0\0\u0190\u0320\u0190\0\0\u0190\u0320"
+            + "\u0320\0\310\u0320\u0258\u0320\0\0\u031f\u0258\u0320\0\0\u0320\u02bc"
+            + "\u0320\0\102\u0310\u02bc\u0320\0\62\u0320\u0258\u0258\0\0\u0226\u0320"
+            + "\u0258\0\0\u0226\u0320\u0320\0\62\u0320\u0258\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u02bc\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\144\u0320\u02bc"
+            + "\u0320\0\0\u0320\u0320\u0320\0\144\u0320\u02bc\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u02bc\u02bc\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\144\u0320\u02bc\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\144\u0320\u02bc"
+            + "\u0320\0\144\u0320\u02bc\u0320\0\0\u02bc\u0320\u0258\0\uff9c\u01f4\u02bc"
+            + "\u0320\0\144\u0320\u02bc\u0320\0\144\u0320\u02bc\u0320\0\144\u0320\u02bc"
+            + "\u0320\0\144\u0320\u02bc\u0258\0\uffea\u0258\u0320\u0320\0\0\u0320\u0320"
+            + "\u0258\0\0\u0258\u0320\u0320\0\u012c\u0320\u01f4\u0320\0\144\u0320\u02bc"
+            + "\u0320\0\0\u0320\u0320\u0320\0\uff9c\u0320\u02bc\u0320\0\0\u0320\u02bc"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\144\u0320\u02bc"
+            + "\u0384\0\uff9c\u0322\u02bd\u0320\0\0\u02bc\u0320\u0320\0\0\u02bc\u0320"
+            + "\u0320\0\0\u0320\u0320\u0190\0\0\u0190\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u02bc\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u02bc\u02bc"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u02bc\u0320"
+            + "\u0320\0\0\u02bc\u02bc\u0320\0\0\u0320\u02bc\u0320\0\23\u0320\u02bc"
+            + "\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\310\u0320\u0258\u0190\0\0\u0190\u0320\u0320\0\0\u02bc\u0320"
+            + "\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u02bc"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0258\u0320\0\0\u0320\u0320"
+            + "\u0258\0\uff9b\u01fc\u02bd\u0320\0\0\u031e\u0320\u0320\0\5\u031e\u031d"
+            + "\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u0320"
+            + "\u0258\0\0\u0258\u02bc\u0258\0\0\u0258\u0320\u0320\0\144\u0320\u02bc"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u02bc\u0384\0\ufffe\u0322\u0320"
+            + "\u0258\0\0\u0258\u0320\u0384\0\0\u0321\u0320\u0258\0\144\u0258\u02bc"
+            + "\u0258\0\144\u0258\u02bc\u0258\0\144\u0258\u02bc\u0320\0\144\u0320\u02bc"
+            + "\u0320\0\144\u0320\u02bc\u0320\0\144\u02bc\u02bc\u0320\0\144\u02bc\u02bc"
+            + "\u0258\0\144\u0258\u02bc\u0320\0\0\u0320\u0320\u0320\0\3\u0320\u02bc"
+            + "\u0258\0\uff9c\u0258\u02c0\u0320\0\u012c\u0320\u01f4\u0320\0\uff9c\u0320\u02bc"
+            + "\u0320\0\uffb2\u030a\u02bc\u0320\0\0\u02bc\u02bc\u0320\0\0\u0320\u0320"
+            + "\u02bc\0\uff9d\u02ba\u02bc\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0258\0\0\u01f4\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\uff9c\u02bc\u02bc\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u02bc\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u02bc"
+            + "\u0320\0\uffe1\u0320\u02bc\u0320\0\uff9c\u0320\u02bc\u01f4\0\uff9c\u01f1\u02bc"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0258\0\0\u01f4\u0320\u0320\0\144\u0320\u0258"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u02bc\u0320\u0320\0\0\u02bc\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u0320"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u02bc\u0320\u0320\0\0\u0320\u0320"
+            + "\u0320\0\144\u0320\u0258\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u02bc"
+            + "\u0320\0\0\u0320\u0320\u0320\0\0\u0320\u0320\u0320\0\3\u02bc\u02bc"
+            + "\u0320\0\0\u02bc\u02bc\u0320\0\uff9c\u02bc\u02bc\u0320\0\0\u0320\u02bc"
+            + "\u0320\0\0\u02bc\u0320\u0320\0\0\u02bc\u0320\u0320\0\0\u0320\u02bc"
+            + "\u0320\0\0\u0320\u02bc\u0320\0\0\u0320\u02bc\u0320\0\144\u0320\u0258"
+            + "\u0320\0\0\u0320\u0320\u0258\0\0\u0258\u0320\u0190\0\0\u0190\u0320"
+            + "\u0320\0\0\u02bc\u0320\u0320\0\0\u02f1\u0320\u0384\0\0\u0321\u0320"
+            + "\u0320\0\uffac\u0310\u02bc\u0320\0\0\u02bc\u0320\u0384\0\ufffe\u0322\u0320"
+            + "\u0384\0\ufffe\u0322\u0320");
+}
@@ -2,12 +2,13 @@ package com.rilixtech.picoltypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Picol Icon font. It hosts a variety of icons that can be used by
@@ -25,7 +26,6 @@ public class Picol implements MfbTypeface {
     public static final String PICOL_ICON_LICENSE = "Creative Commons-License BY";
     public static final String PICOL_ICON_LICENSE_URL = "http://www.creativecommons.org/licenses/by/3.0/";
 
-    private static Font picolIconTypeface = null;
     private static HashMap<String, Character> picolIconCharMap;
 
     /**
@@ -34,7 +34,21 @@ public class Picol implements MfbTypeface {
      * @param key Key for which Picol Icon MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No Picol icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * Picol MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which Picol MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -44,15 +58,29 @@ public class Picol implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (picolIconCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.picolIconCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return picolIconCharMap;
     }
 
+    /**
+     * Get the compact table of all the Picol icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all Picol icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the Picol icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all Picol icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return PicolMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the Picol Icon Characters into a HashMap.
      */
@@ -78,15 +106,11 @@ public class Picol implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return picolIconCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> picolIconKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            picolIconKeyList.add(value.name());
-        }
-        return picolIconKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -111,18 +135,7 @@ public class Picol implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (picolIconTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return picolIconTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        picolIconTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -697,6 +710,9 @@ public class Picol implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface picolIconTypeface;
 
@@ -0,0 +1,197 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.picoltypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of picol-v1.1.ttf for the Picol icons, in ordinal order.
+ */
+final class PicolMetrics {
+
+    private PicolMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1000, 850, -150, ""
+            + "\u03e8\175\46\u03aa\u0297\u03e8\74\uffa8\u03aa\u0316\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\46\u03e8\u0297\u03e8\175\uffe7\u036b\u02f4\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\77\uffa8\u03a9\u0314\u03e8\77\uffa8\u03aa\u0314\u03e8\175\uffe7\u036b\u02d5"
+            + "\u03e8\175\uffe7\u036b\u02d5\u03e8\77\uffa8\u03aa\u0314\u03e8\77\uffa8\u03aa\u0314"
+            + "\u03e8\175\uffe7\u036b\u02d5\u03e8\175\uffe7\u036b\u02d5\u03e8\77\144\u03aa\u021a"
+            + "\u03e8\372\uffa8\u02b0\u0314\u03e8\175\uffe7\u02ee\u0258\u03e8\372\uffe7\u036b\u0258"
+            + "\u03e8\u0139\uffa8\u02ee\u0314\u03e8\77\243\u03aa\u0258\u03e8\175\144\u02ee\u02d5"
+            + "\u03e8\372\144\u036b\u02d5\u03e8\0\341\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297"
+            + "\u03e8\0\uff6a\u03e8\u0297\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\77\uff6a\u03aa\u0352\u03e8\77\uff6a\u03e8\u0352"
+            + "\u03e8\77\uff6a\u03e8\u0352\u03e8\77\uff6a\u03e8\u0352\u03e8\77\uff6a\u03e8\u0352"
+            + "\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\u01b6\uff6a\u03e8\u019d"
+            + "\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\u01b6\uff6a\u03e8\u019d"
+            + "\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\u01b6\uff6a\u03e8\u019d"
+            + "\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\u01b6\uff6a\u03e8\u019d"
+            + "\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\u01b6\uff6a\u03e8\u019d\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\144\u03e8\u0258\u03e8\0\144\u03e8\u0258"
+            + "\u03e8\0\144\u03e8\u0258\u03e8\0\144\u03e8\u0258\u03e8\0\144\u03e8\u0258"
+            + "\u03e8\0\144\u03e8\u0258\u03e8\0\144\u03e8\u0258\u03e8\77\144\u03aa\u021a"
+            + "\u03e8\37\uff4b\u034c\u0333\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\37\uff4b\u034c\u0333\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u0271\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\37\uff4b\u034c\u0333\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\37\uff4b\u034c\u0333"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uffe7\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uffc9\u03e8\u0352"
+            + "\u03e8\274\uff6a\u032d\u0352\u03e8\0\uff68\u03ed\u0352\u03e8\77\uffa8\u03aa\u0314"
+            + "\u03e8\77\uffa8\u0271\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uffe7\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\274\46\u032d\u0297\u03e8\0\144\u03e8\u0297"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\46\u03e8\u0297"
+            + "\u03e8\77\uffa8\u03aa\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\0\uffa8\u03e8\u0314\u03e8\0\uff6a\u03e8\u0314"
+            + "\u03e8\0\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0314"
+            + "\u03e8\0\uff6a\u03e8\u0314\u03e8\0\uffe7\u03e8\u02d5\u03e8\0\uffe7\u03e8\u02d5"
+            + "\u03e8\77\uffa8\u03aa\u02d5\u03e8\0\uffe7\u032d\u02d5\u03e8\175\uffe7\u036b\u02d5"
+            + "\u03e8\u0139\uffe7\u02b0\u02d5\u03e8\u0139\uffe7\u02b0\u02d5\u03e8\274\uffe7\u03e8\u02d5"
+            + "\u03e8\175\uffe7\u036b\u02d5\u03e8\0\uff6a\u03e8\u0352\u03e8\0\144\u03e8\u0258"
+            + "\u03e8\0\46\u03e8\u0297\u03e8\0\46\u03e8\u0297\u03e8\0\144\u03e8\u0258"
+            + "\u03e8\77\uff6b\u03a9\u0351\u03e8\77\uff6a\u03e8\u0351\u03e8\77\uff6a\u03e8\u0351"
+            + "\u03e8\77\uff6a\u03e8\u0351\u03e8\77\uff6a\u03e8\u0351\u03e8\77\uff6a\u03e8\u0351"
+            + "\u03e8\77\uff6a\u03e8\u0351\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u02ee\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u02ee\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u02ee\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u02ee\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u02ee\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\175\uffa9\u036b\u0313"
+            + "\u03e8\77\46\u03aa\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\175\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uffe7\u03e8\u02d5\u03e8\0\uff6a\u02ee\u0352\u03e8\77\uff6a\u03aa\u0352"
+            + "\u03e8\77\uff6a\u03e8\u0352\u03e8\77\uff6a\u03aa\u0352\u03e8\77\uff6a\u03e8\u0352"
+            + "\u03e8\77\uff6a\u03e8\u0352\u03e8\77\uff6a\u03e8\u0352\u03e8\77\uff6a\u03e8\u0352"
+            + "\u03e8\175\uff6a\u03aa\u0352\u03e8\u010c\144\u02dc\u028d\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uffa8\u03e8\u0314\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\60\uff99\u03b9\u0323\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\203\u03e8\u0258\u03e8\136\uff6a\u038a\u0352\u03e8\333\uff6a\u030d\u0352"
+            + "\u03e8\77\uffa8\u03aa\u0313\u03e8\77\uff6a\u03e8\u0313\u03e8\77\uff6a\u03e8\u0313"
+            + "\u03e8\77\uff6a\u03e8\u0313\u03e8\77\uff6a\u03e8\u0313\u03e8\77\uffa8\u03aa\u0313"
+            + "\u03e8\77\uff6a\u03e8\u0313\u03e8\37\uff89\u03c9\u0332\u03e8\77\uff6a\u03e8\u0313"
+            + "\u03e8\77\uff6a\u03e8\u0313\u03e8\77\uffa8\u03aa\243\u03e8\77\uff6a\u03e8\u019d"
+            + "\u03e8\77\uff6a\u03e8\u019d\u03e8\77\uff6a\u03e8\u019d\u03e8\77\uffa8\u03aa\u0314"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uffe7\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u02d5\u03e8\0\uff6a\u03e8\u0297"
+            + "\u03e8\372\uffa8\u02b0\u0314\u03e8\77\uffa8\u03aa\u0314\u03e8\0\uffa8\u03e8\243"
+            + "\u03e8\175\uff6a\u036b\u0339\u03e8\175\uff6a\u03e7\u0339\u03e8\175\uff6a\u03e7\u0339"
+            + "\u03e8\175\uff6a\u03e7\u0339\u03e8\175\uff6a\u03e7\u0339\u03e8\175\uffe7\u036b\u02d5"
+            + "\u03e8\274\uff6a\u036b\u0352\u03e8\77\uff6a\u03e8\u0352\u03e8\0\144\u03e8\u0258"
+            + "\u03e8\0\uff6a\u03e8\u0258\u03e8\0\uff6a\u03e8\u0258\u03e8\0\uff6a\u03e8\u0258"
+            + "\u03e8\77\uffa8\u03aa\u02d5\u03e8\77\uffc8\u03aa\u02f4\u03e8\175\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uffe7\u03e8\u02d5\u03e8\0\uff6b\u03e8\u02d5"
+            + "\u03e8\0\uff6b\u03e8\u02d5\u03e8\0\uffe7\u03e8\u02d5\u03e8\0\uff6b\u03e8\u02d5"
+            + "\u03e8\0\uff6b\u03e8\u02d5\u03e8\0\uffe7\u03e8\u0258\u03e8\0\uffe7\u03e8\u0258"
+            + "\u03e8\0\uff6b\u03e8\u02d5\u03e8\0\uff6b\u03e8\u02d5\u03e8\0\uff6b\u03e8\u02d5"
+            + "\u03e8\0\uff6b\u03e8\u02d5\u03e8\0\uff6b\u03e8\u02d5\u03e8\0\uff6b\u03e8\u02d5"
+            + "\u03e8\0\uff6b\u03e8\u02d5\u03e8\274\uff6a\u032d\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\372\uff6a\u02ee\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u036b\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\175\uff6a\u036b\u0352\u03e8\77\uffa8\u03aa\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\0\uff6b\u03aa\u0314\u03e8\0\uff6a\u03e8\u0314"
+            + "\u03e8\0\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0297"
+            + "\u03e8\175\uffe7\u036b\u02d5\u03e8\175\uff6a\u03e8\u02d5\u03e8\175\uff6a\u03e8\u02d5"
+            + "\u03e8\175\uff6a\u03e8\u02d5\u03e8\175\uff6a\u03e8\u02d5\u03e8\175\uff6a\u03e8\u02d5"
+            + "\u03e8\175\uff6a\u03e8\u02d5\u03e8\175\uff6a\u03e8\u02d5\u03e8\175\uff6a\u03e8\u02d5"
+            + "\u03e8\77\uffa8\u03aa\u0314\u03e8\0\uff6a\u03e8\u0352\u03e8\175\uff6a\u036b\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\175\uff6a\u036b\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\175\uff6a\u036b\u0352\u03e8\u0118\uffa8\u0290\u0314\u03e8\0\144\u03e8\u0258"
+            + "\u03e8\77\uffa8\u03aa\u0314\u03e8\274\uff6a\u032d\u0352\u03e8\372\uff6a\u032d\u0352"
+            + "\u03e8\175\uff6a\u036b\u0352\u03e8\77\uffa8\u03aa\u0314\u03e8\77\uffa8\u03e7\u0352"
+            + "\u03e8\274\uff6a\u032d\u0352\u03e8\274\uff6a\u032d\u0352\u03e8\77\uffa8\u03aa\u0314"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\77\uffa8\u03aa\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\u010e\uffa8\u02ee\u0314\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\175\uff6a\u036b\u0352\u03e8\77\uffa8\u03e8\u0314\u03e8\77\uff6a\u03aa\u0314"
+            + "\u03e8\77\341\u03aa\u021a\u03e8\175\uff6a\u036b\u0352\u03e8\0\uff6a\u03c9\u0333"
+            + "\u03e8\0\341\u03e8\u01db\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u021a\u03e8\77\uff6a\u03aa\u0352\u03e8\77\uffa8\u03aa\u0314"
+            + "\u03e8\274\uffa8\u032d\u02d5\u03e8\77\uffa9\u03e8\u02d5\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\77\uffa8\u03aa\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uffa8\u03aa\u0314\u03e8\100\uffe8\u03a8\u02d3\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\372\uff6a\u02ee\u0352"
+            + "\u03e8\372\uff6a\u03e8\u0352\u03e8\372\uff6a\u03e8\u0352\u03e8\372\uff6a\u03e8\u0352"
+            + "\u03e8\372\uff6a\u03e8\u0352\u03e8\372\uff6a\u03e8\u0352\u03e8\372\uff6a\u03e8\u0352"
+            + "\u03e8\372\uff6a\u03e8\u0352\u03e8\0\144\u03e8\u0258\u03e8\0\uff6a\u03e8\u0258"
+            + "\u03e8\0\uff6a\u03e8\u0258\u03e8\0\uff6a\u03e8\u0258\u03e8\0\uff6a\u03e8\u0258"
+            + "\u03e8\0\uff6a\u03e8\u0258\u03e8\0\uff6a\u03e8\u0258\u03e8\0\uff6a\u03e8\u0258"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\46\u03e8\u0297"
+            + "\u03e8\77\uffe7\u03a9\u02d5\u03e8\0\uffa9\u032d\u02d5\u03e8\77\uffe7\u02ee\u02d5"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\77\uffa8\u03aa\u0314"
+            + "\u03e8\175\uffe7\u036b\u02d5\u03e8\0\46\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297"
+            + "\u03e8\0\uff6a\u03e8\u0297\u03e8\175\uff6a\u036e\u0352\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\175\uffa8\u03aa\u0314\u03e8\77\46\u03aa\u02d5"
+            + "\u03e8\77\46\u03aa\u02d5\u03e8\77\46\u03aa\u02d5\u03e8\77\46\u03aa\u02d5"
+            + "\u03e8\370\uffa8\u02ee\u0314\u03e8\372\uffa8\u02ee\u0314\u03e8\0\uffa8\u03e8\u0314"
+            + "\u03e8\0\47\u03e8\u021a\u03e8\0\47\u03e8\u01db\u03e8\0\46\u03e8\u0297"
+            + "\u03e8\0\144\u03e8\u0297\u03e8\0\47\u03e8\u021a\u03e8\0\47\u03e8\u0258"
+            + "\u03e8\175\uff6a\u036b\u02d5\u03e8\175\uff6a\u036b\u0314\u03e8\175\uff6a\u036b\u0352"
+            + "\u03e8\77\46\u03aa\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314"
+            + "\u03e8\77\uff6a\u03e8\u0314\u03e8\77\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0314"
+            + "\u03e8\0\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0314"
+            + "\u03e8\0\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0314\u03e8\0\uff6a\u03e8\u0314"
+            + "\u03e8\u0139\uff6a\u02b0\u0351\u03e8\u0139\uff6a\u03e8\u0351\u03e8\u0139\uff6a\u03e8\u0351"
+            + "\u03e8\u0139\uff6a\u03e8\u0351\u03e8\u0139\uff6a\u03e8\u0351\u03e8\u0139\uff6a\u03e8\u0351"
+            + "\u03e8\u0139\uff6a\u03e8\u0351\u03e8\372\uff6a\u02ee\u0352\u03e8\372\uff6a\u03e8\u0352"
+            + "\u03e8\372\uff6a\u03e8\u0352\u03e8\372\uff6a\u03e8\u0352\u03e8\372\uff6a\u03e8\u0352"
+            + "\u03e8\372\uff6a\u03e8\u0352\u03e8\372\uff6a\u03e8\u0352\u03e8\0\uff6a\u02ee\u0352"
+            + "\u03e8\0\uff6a\u03e8\u0352\u03e8\0\uff6a\u03e8\u0352\u03e8\0\46\u03e8\u0297"
+            + "\u03e8\0\uff6a\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297"
+            + "\u03e8\0\uff6a\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297"
+            + "\u03e8\0\uff6a\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297"
+            + "\u03e8\0\uff6a\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297\u03e8\0\uff6a\u03e8\u0297"
+            + "\u03e8\0\uff6a\u03e8\u0297\u03e8\0\46\u03e8\u0297\u03e8\0\46\u03e8\u0297"
+            + "\u03e8\0\46\u03e8\u0297\u03e8\0\46\u03e8\u0297\u03e8\77\uffa8\u03aa\u0314"
+            + "\u03e8\0\uff6a\u03e8\u0297\u03e8\77\uff6a\u03aa\u0314\u03e8\0\uff6a\u03e8\u0352"
+            + "\u03e8\175\uff6a\u036b\u0352\u03e8\74\uffa8\u03aa\u0316\u03e8\0\uff6a\u03e8\u0352");
+}
@@ -2,12 +2,13 @@ package com.rilixtech.pixeden7stroketypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Pixeden7Stroke font. It hosts a variety of icons that can be used by
@@ -25,7 +26,6 @@ public class Pixeden7Stroke implements MfbTypeface {
             "Royalty free for use in both personal and commercial projects";
     public static final String PIXEDEN_7_STROKE_LICENSE_URL = "http://themes-pixeden.com/font-demos/7-stroke/";
 
-    private static Font pixeden7StrokeTypeface = null;
     private static HashMap<String, Character> pixeden7StrokeCharMap;
 
     /**
@@ -34,7 +34,21 @@ public class Pixeden7Stroke implements MfbTypeface {
      * @param key Key for which Pixeden7Stroke MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No Pixeden7Stroke icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * Pixeden7Stroke MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which Pixeden7Stroke MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -44,15 +58,29 @@ public class Pixeden7Stroke implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (pixeden7StrokeCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.pixeden7StrokeCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return pixeden7StrokeCharMap;
     }
 
+    /**
+     * Get the compact table of all the Pixeden7Stroke icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all Pixeden7Stroke icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the Pixeden7Stroke icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all Pixeden7Stroke icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return Pixeden7StrokeMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the Pixeden7Stroke Characters into a HashMap.
      */
@@ -78,15 +106,11 @@ public class Pixeden7Stroke implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return pixeden7StrokeCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> pixeden7StrokeKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            pixeden7StrokeKeyList.add(value.name());
-        }
-        return pixeden7StrokeKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override
@@ -116,18 +140,7 @@ public class Pixeden7Stroke implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (pixeden7StrokeTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return pixeden7StrokeTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        pixeden7StrokeTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -355,6 +368,9 @@ public class Pixeden7Stroke implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface pixeden7StrokeTypeface;
 
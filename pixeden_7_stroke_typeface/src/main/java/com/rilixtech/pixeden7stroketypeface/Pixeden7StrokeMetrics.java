@@ -0,0 +1,82 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.pixeden7stroketypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of pixeden-7-stroke-font-v1.2.0.ttf for the Pixeden7Stroke icons, in ordinal order.
+ */
+final class Pixeden7StrokeMetrics {
+
+    private Pixeden7StrokeMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(512, 480, -32, ""
+            + "\u01cd\0\23\u01cd\u01ad\u01a9\0\14\u01a8\u01b4\u01de\0\ufffc\u01de\u01c5"
+            + "\u01db\5\ufff3\u01d5\u01cd\u01cd\0\55\u01cd\u0193\u01bf\0\23\u01bf\u01ad"
+            + "\u01ab\0\13\u01ab\u01b5\u01a0\0\21\u019f\u01af\u0123\0\2\u0123\u01be"
+            + "\u0200\0\106\u0200\u017a\u01d4\0\ufff6\u01d4\u01ca\u01ab\0\ufff1\u01ab\u01cf"
+            + "\u01ef\0\uffe9\u01ef\u01d7\u012b\0\13\u012b\u01b5\u0111\0\uffe0\u0111\u01e0"
+            + "\u01a0\0\20\u01a0\u01b0\u019a\0\23\u019a\u01ad\u0189\0\ufffa\u0189\u01c6"
+            + "\u01de\0\ufffc\u01de\u01c5\u01c5\0\ufff1\u01c5\u01cf\357\0\ufffa\357\u01c6"
+            + "\u01ab\0\23\u01ab\u01ad\u01e7\0\ufff9\u01e9\u01c6\u01cd\0\44\u01cd\u01ae"
+            + "\u01af\0\23\u01b0\u01ad\u0156\0\uffe0\u0155\u01e0\u01de\2\ufff0\u01de\u01cd"
+            + "\u0145\0\13\u0144\u01b5\u019a\0\23\u019a\u01ad\346\0\uffe0\346\u01e0"
+            + "\u01d5\0\ufff6\u01d4\u01cc\u01ca\0\ufffa\u01ca\u01c6\u0200\1\66\u0201\u01cf"
+            + "\u01d6\0\101\u01d6\u017f\u0200\237\200\u0161\u0141\u0102\0\uffe1\u0102\u01df"
+            + "\u0200\1\ufff2\u0200\u01cf\u0161\0\ufffd\u0161\u01c3\u0200\53\13\u01d5\u01b5"
+            + "\u01b5\0\16\u01b4\u01b2\u0200\240\262\u0160\u011f\u01b7\0\4\u01b7\u01bc"
+            + "\u0200\52\13\u01d5\u01b6\u0172\0\ufff1\u0171\u01cf\u0200\322\200\u013f\u0140"
+            + "\u01c6\0\30\u01c5\u01a8\u0200\52\13\u01d5\u01b6\u01c5\0\60\u01c5\u0190"
+            + "\u0200\301\200\u012d\u0140\u0193\0\27\u0193\u01a9\u0200\52\13\u01d5\u01b6"
+            + "\u01a4\0\16\u01a4\u01b2\u0200\240\241\u0160\u010e\u01f8\0\111\u01f8\u0177"
+            + "\u0200\52\13\u01d5\u01b6\u01d3\3\107\u01d3\u0177\u0200\63\23\u01cd\u01ad"
+            + "\u01a4\0\37\u01a4\u01a1\u0200\53\13\u01d5\u01b5\u0200\53\13\u01d5\u01b5"
+            + "\u0200\0\155\u0200\u0153\u0200\21\117\u01ef\u0171\u0200\63\23\u01cd\u01ad"
+            + "\u0200\125\uffe8\u01ab\u0182\u0200\125\2\u01ab\u01be\u0200\0\ufff1\u0200\u01cf"
+            + "\u0200\136\13\u01a2\u01b5\u0200\35\ufffb\u01e5\u01c5\u0200\53\13\u01d5\u01b5"
+            + "\u0200\32\ufffa\u01e6\u01c6\u0200\63\21\u01cd\u01af\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\10\33\u01f8\u01a5\u0200\74\13\u01c4\u01b5\u0200\32\6\u01e6\u01ba"
+            + "\u0200\0\75\u0200\u0183\u0200\32\61\u01e6\u018f\u0200\52\45\u01d6\u019b"
+            + "\u0200\63\23\u01cd\u01ad\u0200\32\2\u01e6\u01be\u0200\74\2\u01c4\u01be"
+            + "\u0200\67\27\u01c9\u01a9\u01a4\0\60\u01a4\u0190\u0200\107\13\u01b6\u01b5"
+            + "\u01a4\0\16\u01a4\u01b2\u0200\136\23\u01a2\u01ad\u0200\53\15\u01d5\u01b3"
+            + "\u0200\63\uffe9\u01cd\u01d7\u01b4\0\60\u01b4\u0190\u0200\0\76\u0200\u0182"
+            + "\u01b7\1\36\u01b5\u01a2\u0200\53\34\u01d5\u01a4\u0193\0\ufff1\u0193\u01cf"
+            + "\u0200\42\13\u01de\u01b5\u0193\0\27\u0193\u01a9\u0200\21\130\u01ef\u0168"
+            + "\u0185\0\36\u0185\u01a2\u0200\63\13\u01cd\u01b5\u012e\0\ufff5\u012e\u01cb"
+            + "\u0200\63\51\u01cd\u0197\u01b5\0\17\u01b4\u01b1\u0200\53\13\u01d5\u01b5"
+            + "\u01a4\0\16\u01a4\u01b2\u0200\146\55\u019a\u0193\353\0\ufffd\353\u01c3"
+            + "\u0200\30\ufff9\u01e7\u01c7\u01d6\0\4\u01d6\u01bc\u0200\32\44\u01e6\u019c"
+            + "\u01b7\0\5\u01b6\u01bb\u0200\170\ufffa\u0188\u01c6\u01af\0\10\u01af\u01b8"
+            + "\u0200\24\ufff0\u01ec\u01ce\u01a4\0\16\u01a4\u01b2\u0200\53\13\u01d5\u01b5"
+            + "\u01a1\0\60\u01a1\u0190\u0200\57\ufff1\u01d1\u01cf\u01a4\0\16\u01a4\u01b2"
+            + "\u0200\63\23\u01cd\u01ad\u0200\74\34\u01c4\u01a4\u0200\21\130\u01ef\u0168"
+            + "\u0200\53\13\u01d5\u01b5\u0200\53\13\u01d5\u01b5\u0200\63\ufff7\u01cd\u01c9"
+            + "\u0200\200\uffe0\u0180\u01e0\u0200\0\255\u0200\u0113\u0200\53\13\u01d5\u01b5"
+            + "\u0200\42\34\u01de\u01a4\u0200\157\uffe1\u0191\u01df\u0200\63\117\u01cd\u0171"
+            + "\u0200\53\21\u01d5\u01af\u0200\125\uffe0\u01ab\u01e0\u0200\53\130\u01d5\u0168"
+            + "\u0200\53\ufff1\u01d5\u01cf\u0200\53\ufff1\u01d5\u01cf\u0200\104\13\u01bc\u01b5"
+            + "\u0200\0\161\u0200\u014f\u0200\0\106\u0200\u017a\u0200\125\2\u01ab\u01be"
+            + "\u0200\211\uffe0\u0177\u01e0\u0200\53\13\u01d5\u01b5\u0200\53\41\u01d5\u019f"
+            + "\u0200\125\uffe8\u01ab\u01d8\u0200\53\13\u01d5\u01b5\u0200\74\34\u01c4\u01a4"
+            + "\u0200\53\117\u01d5\u0171\u0200\53\13\u01d5\u01b5\u0200\52\13\u01d6\u01b5"
+            + "\u0200\63\23\u01cd\u01ad\u0200\53\13\u01d5\u01b5\u0200\53\34\u01d5\u01a4"
+            + "\u0200\63\23\u01cd\u01ad\u0200\25\ufff1\u01eb\u01cf\u0200\53\13\u01d5\u01b5"
+            + "\u0200\53\13\u01d5\u01b5\u0200\146\uffe0\u019a\u01e0\u0200\0\165\u0200\u014b"
+            + "\u0200\63\2\u01cd\u01be\u0200\63\61\u01cd\u018f\u0200\146\44\u019a\u019c"
+            + "\u0200\42\34\u01de\u01a4\u0200\153\23\u0195\u01ad\u0200\63\23\u01cd\u01ad"
+            + "\u0200\63\23\u01cd\u01ad\u0200\74\23\u01c4\u01ad\u0200\136\ufff1\u01a2\u01cf"
+            + "\u0200\53\117\u01d5\u0171\u0200\125\75\u01ab\u01d7\u0200\32\40\u01e6\u01a0"
+            + "\u0200\42\30\u01de\u01a8\u0200\63\23\u01cd\u01ad\u0200\63\23\u01cd\u01ad"
+            + "\u0200\32\13\u01e6\u01b5\u0200\14\16\u01f4\u01b2\u0200\53\23\u01d5\u01ad"
+            + "\u0200\32\106\u01e6\u017a\u0200\102\0\u01be\u01c0\u0200\53\13\u01d5\u01b5"
+            + "\u0200\63\ufff1\u01cd\u01cf\u0200\63\55\u01cd\u0193\u0200\74\ufffa\u01c4\u01c6"
+            + "\u0200\0\76\u0200\u0182\u0200\63\23\u01cd\u01ad\u0200\53\13\u01d5\u01b5"
+            + "\u0200\53\13\u01d5\u01b5\u0200\26\2\u01ea\u01be\u0200\53\76\u01d5\u0182"
+            + "\u0200\63\ufffa\u01c8\u01c6\u0200\146\23\u019a\u01ad\u0200\53\13\u01d5\u01b5"
+            + "\u0200\32\uffef\u01e6\u01d1\u0200\63\40\u01cd\u01a0\u0200\53\34\u01d5\u01a4"
+            + "\u0200\0\123\u0200\u016d\u0200\63\2\u01cd\u01be\u0200\0\161\u0200\u014f"
+            + "\u0200\53\13\u01d5\u01b5\u0200\53\76\u01d5\u0182\u0200\32\30\u01e6\u01a8"
+            + "\u0200\40\ufffa\u01e0\u01c6\u0200\32\23\u01e6\u01ad\u0200\53\13\u01d5\u01b5"
+            + "\u0200\63\55\u01cd\u0193");
+}
@@ -0,0 +1,135 @@
+package com.rilixtech.materialfancybutton.fixtures;
+
+import ohos.app.AbilityContext;
+import ohos.app.dispatcher.TaskDispatcher;
+import ohos.global.resource.RawFileDescriptor;
+import ohos.global.resource.RawFileEntry;
+import ohos.global.resource.Resource;
+import ohos.global.resource.ResourceManager;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * AbilityContext reading the rawfile resources of a HAP from the resources directories of its modules, eg. the
+ * {@code src/main/resources} directories of the typeface modules, and caching files in a given directory. Its UI task
+ * dispatcher runs the tasks immediately on the calling thread.
+ */
+public class StubAbilityContext extends AbilityContext {
+
+    private final File[] resourceDirs;
+    private final File cacheDir;
+    private final ResourceManager resourceManager = this::findRawFileEntry;
+    private final TaskDispatcher uiTaskDispatcher = Runnable::run;
+
+    /**
+     * Creates a context.
+     *
+     * @param cacheDir The cache and files directory of the context.
+     * @param resourceDirs The directories containing the {@code rawfile} directories, searched in order.
+     */
+    public StubAbilityContext(File cacheDir, File... resourceDirs) {
+        this.cacheDir = cacheDir;
+        this.resourceDirs = resourceDirs.clone();
+    }
+
+    @Override
+    public ResourceManager getResourceManager() {
+        return resourceManager;
+    }
+
+    @Override
+    public File getCacheDir() {
+        return cacheDir;
+    }
+
+    @Override
+    public File getFilesDir() {
+        return cacheDir;
+    }
+
+    @Override
+    public String getString(int resId) {
+        return "";
+    }
+
+    @Override
+    public String getBundleCodePath() {
+        // The HAP is stood in for by the cache directory, whose modification time changes with its content
+        return cacheDir.getPath();
+    }
+
+    @Override
+    public TaskDispatcher getUITaskDispatcher() {
+        return uiTaskDispatcher;
+    }
+
+    private RawFileEntry findRawFileEntry(String path) {
+        // Paths are relative to the resources directory of the HAP, eg. "resources/rawfile/fontawesome.ttf"
+        String relativePath = path.startsWith("resources/") ? path.substring("resources/".length()) : path;
+        File file = new File(resourceDirs.length == 0 ? cacheDir : resourceDirs[0], relativePath);
+        for (File resourceDir : resourceDirs) {
+            File candidate = new File(resourceDir, relativePath);
+            if (candidate.isFile()) {
+                file = candidate;
+                break;
+            }
+        }
+        return new FileRawFileEntry(file);
+    }
+
+    private static final class FileRawFileEntry implements RawFileEntry {
+
+        private final File file;
+
+        FileRawFileEntry(File file) {
+            this.file = file;
+        }
+
+        @Override
+        public Resource openRawFile() throws IOException {
+            InputStream inputStream = new FileInputStream(file);
+            return new Resource() {
+                @Override
+                public int read() throws IOException {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    return inputStream.read(buffer, offset, length);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    inputStream.close();
+                }
+            };
+        }
+
+        @Override
+        public RawFileDescriptor openRawFileDescriptor() throws IOException {
+            if (!file.isFile()) {
+                throw new IOException("No raw file " + file);
+            }
+            return new RawFileDescriptor() {
+                @Override
+                public long getFileSize() {
+                    return file.length();
+                }
+
+                @Override
+                public long getStartPosition() {
+                    return 0;
+                }
+
+                @Override
+                public FileDescriptor getFileDescriptor() {
+                    return null;
+                }
+            };
+        }
+    }
+}
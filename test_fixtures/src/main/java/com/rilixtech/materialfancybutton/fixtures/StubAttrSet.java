@@ -0,0 +1,137 @@
+package com.rilixtech.materialfancybutton.fixtures;
+
+import ohos.agp.components.Attr;
+import ohos.agp.components.AttrSet;
+import ohos.agp.components.element.Element;
+import ohos.agp.utils.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AttrSet of the attributes of a component, as they would be declared in a layout, eg.
+ * {@code new StubAttrSet().put("mfb_text", "Sign in").put("mfb_radius", 30)}. Values are converted on access like
+ * the ohos attributes: a String value is parsed for the numeric and boolean getters and a number is printed for
+ * {@link Attr#getStringValue()}.
+ */
+public class StubAttrSet implements AttrSet {
+
+    private final List<Attr> attrs = new ArrayList<>();
+    private String style;
+
+    /**
+     * Adds an attribute, or replaces the attribute of the same name.
+     *
+     * @param name The name of the attribute, eg. {@code "mfb_text"}.
+     * @param value The value of the attribute: a String, Number, Boolean, {@link Color} or {@link Element}.
+     * @return This AttrSet.
+     */
+    public StubAttrSet put(String name, Object value) {
+        for (int index = 0; index < attrs.size(); index++) {
+            if (attrs.get(index).getName().equals(name)) {
+                attrs.set(index, new StubAttr(name, value));
+                return this;
+            }
+        }
+        attrs.add(new StubAttr(name, value));
+        return this;
+    }
+
+    /**
+     * Sets the style of the component.
+     *
+     * @param style The name of the style.
+     * @return This AttrSet.
+     */
+    public StubAttrSet setStyle(String style) {
+        this.style = style;
+        return this;
+    }
+
+    @Override
+    public Optional<String> getStyle() {
+        return Optional.ofNullable(style);
+    }
+
+    @Override
+    public int getLength() {
+        return attrs.size();
+    }
+
+    @Override
+    public Optional<Attr> getAttr(int index) {
+        StubCounters.countCall("AttrSet.getAttr");
+        return index < 0 || index >= attrs.size() ? Optional.empty() : Optional.of(attrs.get(index));
+    }
+
+    @Override
+    public Optional<Attr> getAttr(String name) {
+        StubCounters.countCall("AttrSet.getAttr");
+        for (Attr attr : attrs) {
+            if (attr.getName().equals(name)) {
+                return Optional.of(attr);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static final class StubAttr implements Attr {
+
+        private final String name;
+        private final Object value;
+
+        StubAttr(String name, Object value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getStringValue() {
+            return String.valueOf(value);
+        }
+
+        @Override
+        public boolean getBoolValue() {
+            return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(getStringValue());
+        }
+
+        @Override
+        public int getDimensionValue() {
+            return getIntegerValue();
+        }
+
+        @Override
+        public Color getColorValue() {
+            if (value instanceof Color) {
+                return (Color) value;
+            }
+            if (value instanceof Number) {
+                return new Color(((Number) value).intValue());
+            }
+            return new Color(Color.getIntColor(getStringValue()));
+        }
+
+        @Override
+        public Element getElement() {
+            if (value instanceof Element) {
+                return (Element) value;
+            }
+            throw new IllegalArgumentException(name + " is not an element.");
+        }
+
+        @Override
+        public int getIntegerValue() {
+            return value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(getStringValue());
+        }
+
+        @Override
+        public float getFloatValue() {
+            return value instanceof Number ? ((Number) value).floatValue() : Float.parseFloat(getStringValue());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.rilixtech.materialfancybutton.fixtures;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the stand-in ohos objects created and the calls to the stand-in methods that change a component, so that
+ * tests and benchmarks running on a plain JVM can measure the work done to build and update buttons. Counts are kept
+ * per thread, so that concurrent tests don't see each other's counts, and counting doesn't allocate once a class or
+ * method was counted on a thread.
+ */
+public final class StubCounters {
+
+    private static final ThreadLocal<StubCounters> COUNTERS = ThreadLocal.withInitial(StubCounters::new);
+
+    private final Map<Class<?>, long[]> allocationCounts = new HashMap<>();
+    private final Map<String, long[]> callCounts = new HashMap<>();
+    private long allocationCount;
+    private long callCount;
+
+    private StubCounters() {}
+
+    /**
+     * Counts the creation of a stand-in object, under its runtime class.
+     *
+     * @param stub The object being created.
+     */
+    public static void countAllocation(Object stub) {
+        StubCounters counters = COUNTERS.get();
+        counters.allocationCounts.computeIfAbsent(stub.getClass(), type -> new long[1])[0]++;
+        counters.allocationCount++;
+    }
+
+    /**
+     * Counts a call to a stand-in method.
+     *
+     * @param method The name of the method, prefixed by its class, eg. {@code "Component.invalidate"}.
+     */
+    public static void countCall(String method) {
+        StubCounters counters = COUNTERS.get();
+        counters.callCounts.computeIfAbsent(method, name -> new long[1])[0]++;
+        counters.callCount++;
+    }
+
+    /**
+     * Returns the number of objects of the given class created on this thread since the last reset, excluding
+     * objects of its subclasses.
+     *
+     * @param type The class of the objects.
+     * @return The number of objects created.
+     */
+    public static long getAllocationCount(Class<?> type) {
+        long[] count = COUNTERS.get().allocationCounts.get(type);
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Returns the number of stand-in objects created on this thread since the last reset.
+     *
+     * @return The number of objects created.
+     */
+    public static long getAllocationCount() {
+        return COUNTERS.get().allocationCount;
+    }
+
+    /**
+     * Returns the number of calls to a stand-in method on this thread since the last reset.
+     *
+     * @param method The name of the method, prefixed by its class, eg. {@code "Component.invalidate"}.
+     * @return The number of calls.
+     */
+    public static long getCallCount(String method) {
+        long[] count = COUNTERS.get().callCounts.get(method);
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Returns the number of calls to the counted stand-in methods on this thread since the last reset.
+     *
+     * @return The number of calls.
+     */
+    public static long getCallCount() {
+        return COUNTERS.get().callCount;
+    }
+
+    /**
+     * Resets the counts of this thread to zero.
+     */
+    public static void reset() {
+        StubCounters counters = COUNTERS.get();
+        for (long[] count : counters.allocationCounts.values()) {
+            count[0] = 0;
+        }
+        for (long[] count : counters.callCounts.values()) {
+            count[0] = 0;
+        }
+        counters.allocationCount = 0;
+        counters.callCount = 0;
+    }
+}
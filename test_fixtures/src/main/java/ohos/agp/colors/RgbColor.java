@@ -0,0 +1,21 @@
+package ohos.agp.colors;
+
+/**
+ * Stand-in of the ohos RgbColor.
+ */
+public class RgbColor {
+
+    private final int argb;
+
+    private RgbColor(int argb) {
+        this.argb = argb;
+    }
+
+    public static RgbColor fromArgbInt(int argb) {
+        return new RgbColor(argb);
+    }
+
+    public int asArgbInt() {
+        return argb;
+    }
+}
@@ -0,0 +1,26 @@
+package ohos.agp.components;
+
+import ohos.agp.components.element.Element;
+import ohos.agp.utils.Color;
+
+/**
+ * Stand-in of the ohos Attr, a single attribute of an {@link AttrSet}.
+ */
+public interface Attr {
+
+    String getName();
+
+    String getStringValue();
+
+    boolean getBoolValue();
+
+    int getDimensionValue();
+
+    Color getColorValue();
+
+    Element getElement();
+
+    int getIntegerValue();
+
+    float getFloatValue();
+}
@@ -0,0 +1,19 @@
+package ohos.agp.components;
+
+import ohos.app.Context;
+
+/**
+ * Stand-in of the ohos AttrHelper, converting units at a density of 1.
+ */
+public class AttrHelper {
+
+    private AttrHelper() {}
+
+    public static int fp2px(float fp, Context context) {
+        return Math.round(fp);
+    }
+
+    public static int vp2px(float vp, Context context) {
+        return Math.round(vp);
+    }
+}
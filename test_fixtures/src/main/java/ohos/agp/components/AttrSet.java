@@ -0,0 +1,17 @@
+package ohos.agp.components;
+
+import java.util.Optional;
+
+/**
+ * Stand-in of the ohos AttrSet, the attributes of a component declared in a layout.
+ */
+public interface AttrSet {
+
+    Optional<String> getStyle();
+
+    int getLength();
+
+    Optional<Attr> getAttr(int index);
+
+    Optional<Attr> getAttr(String name);
+}
@@ -0,0 +1,179 @@
+package ohos.agp.components;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.agp.components.element.Element;
+import ohos.agp.render.Canvas;
+import ohos.app.Context;
+
+/**
+ * Stand-in of the ohos Component. It keeps the state set on it, counts its creation and the calls that change it, and
+ * never lays out nor draws anything.
+ */
+public class Component {
+
+    public static final int FOCUS_ENABLE = 1;
+    public static final int HORIZONTAL = 0;
+    public static final int VERTICAL = 1;
+
+    private final Context context;
+    private ComponentContainer.LayoutConfig layoutConfig;
+    private Element background;
+    private boolean enabled = true;
+    private int paddingLeft;
+    private int paddingTop;
+    private int paddingRight;
+    private int paddingBottom;
+    private int estimatedWidth;
+    private int estimatedHeight;
+
+    public Component(Context context) {
+        this.context = context;
+        StubCounters.countAllocation(this);
+    }
+
+    public Component(Context context, AttrSet attrSet) {
+        this(context);
+    }
+
+    public Context getContext() {
+        return context;
+    }
+
+    public void setLayoutConfig(ComponentContainer.LayoutConfig layoutConfig) {
+        StubCounters.countCall("Component.setLayoutConfig");
+        this.layoutConfig = layoutConfig;
+    }
+
+    public ComponentContainer.LayoutConfig getLayoutConfig() {
+        return layoutConfig;
+    }
+
+    public void setPadding(int left, int top, int right, int bottom) {
+        StubCounters.countCall("Component.setPadding");
+        paddingLeft = left;
+        paddingTop = top;
+        paddingRight = right;
+        paddingBottom = bottom;
+    }
+
+    public int getPaddingLeft() {
+        return paddingLeft;
+    }
+
+    public int getPaddingTop() {
+        return paddingTop;
+    }
+
+    public int getPaddingRight() {
+        return paddingRight;
+    }
+
+    public int getPaddingBottom() {
+        return paddingBottom;
+    }
+
+    public void setClickable(boolean clickable) {
+        StubCounters.countCall("Component.setClickable");
+    }
+
+    public void setFocusable(int focusable) {
+        StubCounters.countCall("Component.setFocusable");
+    }
+
+    public void setEnabled(boolean enabled) {
+        StubCounters.countCall("Component.setEnabled");
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setBackground(Element background) {
+        StubCounters.countCall("Component.setBackground");
+        this.background = background;
+    }
+
+    public Element getBackgroundElement() {
+        return background;
+    }
+
+    public void invalidate() {
+        StubCounters.countCall("Component.invalidate");
+    }
+
+    public void postLayout() {
+        StubCounters.countCall("Component.postLayout");
+    }
+
+    public int getWidth() {
+        return estimatedWidth;
+    }
+
+    public int getHeight() {
+        return estimatedHeight;
+    }
+
+    public void addDrawTask(DrawTask drawTask) {
+        StubCounters.countCall("Component.addDrawTask");
+    }
+
+    public void setEstimateSizeListener(EstimateSizeListener listener) {
+        StubCounters.countCall("Component.setEstimateSizeListener");
+    }
+
+    public void setEstimatedSize(int width, int height) {
+        StubCounters.countCall("Component.setEstimatedSize");
+        estimatedWidth = EstimateSpec.getSize(width);
+        estimatedHeight = EstimateSpec.getSize(height);
+    }
+
+    /**
+     * Stand-in of the ohos Component.DrawTask.
+     */
+    public interface DrawTask {
+
+        int BETWEEN_BACKGROUND_AND_CONTENT = 1;
+
+        void onDraw(Component component, Canvas canvas);
+    }
+
+    /**
+     * Stand-in of the ohos Component.EstimateSizeListener.
+     */
+    public interface EstimateSizeListener {
+
+        boolean onEstimateSize(int widthEstimateConfig, int heightEstimateConfig);
+    }
+
+    /**
+     * Stand-in of the ohos Component.EstimateSpec, packing a mode in the two high bits of a size.
+     */
+    public static class EstimateSpec {
+
+        private static final int MODE_SHIFT = 30;
+        private static final int MODE_MASK = 0x3 << MODE_SHIFT;
+
+        public static final int UNCONSTRAINT = 0;
+        public static final int PRECISE = 1 << MODE_SHIFT;
+        public static final int NOT_EXCEED = 2 << MODE_SHIFT;
+
+        private EstimateSpec() {}
+
+        public static int getMode(int estimateSpec) {
+            return estimateSpec & MODE_MASK;
+        }
+
+        public static int getSize(int estimateSpec) {
+            return estimateSpec & ~MODE_MASK;
+        }
+
+        public static int getSizeWithMode(int size, int mode) {
+            return (size & ~MODE_MASK) | (mode & MODE_MASK);
+        }
+
+        public static int getChildSizeWithMode(int childSize, int parentSize, int parentMode) {
+            return getSizeWithMode(childSize, parentMode);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package ohos.agp.components;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.app.Context;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in of the ohos ComponentContainer, holding its children in a list.
+ */
+public class ComponentContainer extends Component {
+
+    private final List<Component> children = new ArrayList<>();
+
+    public ComponentContainer(Context context) {
+        super(context);
+    }
+
+    public ComponentContainer(Context context, AttrSet attrSet) {
+        super(context, attrSet);
+    }
+
+    public void addComponent(Component child) {
+        StubCounters.countCall("ComponentContainer.addComponent");
+        children.add(child);
+    }
+
+    public void addComponent(Component child, int index) {
+        StubCounters.countCall("ComponentContainer.addComponent");
+        children.add(index, child);
+    }
+
+    public void removeComponent(Component child) {
+        StubCounters.countCall("ComponentContainer.removeComponent");
+        children.remove(child);
+    }
+
+    public void removeAllComponents() {
+        StubCounters.countCall("ComponentContainer.removeAllComponents");
+        children.clear();
+    }
+
+    public int getChildCount() {
+        return children.size();
+    }
+
+    public Component getComponentAt(int index) {
+        return index < 0 || index >= children.size() ? null : children.get(index);
+    }
+
+    /**
+     * Stand-in of the ohos ComponentContainer.LayoutConfig.
+     */
+    public static class LayoutConfig {
+
+        public static final int MATCH_PARENT = -1;
+        public static final int MATCH_CONTENT = -2;
+
+        public int width;
+        public int height;
+        private int marginLeft;
+        private int marginTop;
+        private int marginRight;
+        private int marginBottom;
+
+        public LayoutConfig() {
+            this(MATCH_CONTENT, MATCH_CONTENT);
+        }
+
+        public LayoutConfig(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        public void setMargins(int left, int top, int right, int bottom) {
+            marginLeft = left;
+            marginTop = top;
+            marginRight = right;
+            marginBottom = bottom;
+        }
+
+        public void setMarginLeft(int margin) {
+            marginLeft = margin;
+        }
+
+        public void setMarginTop(int margin) {
+            marginTop = margin;
+        }
+
+        public void setMarginRight(int margin) {
+            marginRight = margin;
+        }
+
+        public void setMarginBottom(int margin) {
+            marginBottom = margin;
+        }
+
+        public int getMarginLeft() {
+            return marginLeft;
+        }
+
+        public int getMarginTop() {
+            return marginTop;
+        }
+
+        public int getMarginRight() {
+            return marginRight;
+        }
+
+        public int getMarginBottom() {
+            return marginBottom;
+        }
+    }
+}
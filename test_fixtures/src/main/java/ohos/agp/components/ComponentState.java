@@ -0,0 +1,14 @@
+package ohos.agp.components;
+
+/**
+ * Stand-in of the ohos ComponentState constants.
+ */
+public class ComponentState {
+
+    public static final int COMPONENT_STATE_EMPTY = 0;
+    public static final int COMPONENT_STATE_FOCUSED = 2;
+    public static final int COMPONENT_STATE_DISABLED = 32;
+    public static final int COMPONENT_STATE_PRESSED = 16384;
+
+    private ComponentState() {}
+}
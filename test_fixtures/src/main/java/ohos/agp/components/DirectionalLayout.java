@@ -0,0 +1,51 @@
+package ohos.agp.components;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.app.Context;
+
+/**
+ * Stand-in of the ohos DirectionalLayout.
+ */
+public class DirectionalLayout extends ComponentContainer {
+
+    private int orientation = HORIZONTAL;
+    private int alignment;
+
+    public DirectionalLayout(Context context) {
+        super(context);
+    }
+
+    public DirectionalLayout(Context context, AttrSet attrSet) {
+        super(context, attrSet);
+    }
+
+    public void setOrientation(int orientation) {
+        StubCounters.countCall("DirectionalLayout.setOrientation");
+        this.orientation = orientation;
+    }
+
+    public int getOrientation() {
+        return orientation;
+    }
+
+    public void setAlignment(int alignment) {
+        StubCounters.countCall("DirectionalLayout.setAlignment");
+        this.alignment = alignment;
+    }
+
+    public int getAlignment() {
+        return alignment;
+    }
+
+    /**
+     * Stand-in of the ohos DirectionalLayout.LayoutConfig.
+     */
+    public static class LayoutConfig extends ComponentContainer.LayoutConfig {
+
+        public int alignment;
+
+        public LayoutConfig(int width, int height) {
+            super(width, height);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ohos.agp.components;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.agp.components.element.Element;
+import ohos.app.Context;
+
+/**
+ * Stand-in of the ohos Image.
+ */
+public class Image extends Component {
+
+    private Element imageElement;
+
+    public Image(Context context) {
+        super(context);
+    }
+
+    public void setImageElement(Element imageElement) {
+        StubCounters.countCall("Image.setImageElement");
+        this.imageElement = imageElement;
+    }
+
+    public Element getImageElement() {
+        return imageElement;
+    }
+}
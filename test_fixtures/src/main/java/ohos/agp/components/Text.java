@@ -0,0 +1,74 @@
+package ohos.agp.components;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.agp.text.Font;
+import ohos.agp.utils.Color;
+import ohos.app.Context;
+
+/**
+ * Stand-in of the ohos Text.
+ */
+public class Text extends Component {
+
+    private String text = "";
+    private Font font;
+    private Color textColor;
+    private int textSize;
+    private int textAlignment;
+
+    public Text(Context context) {
+        super(context);
+    }
+
+    public void setText(String text) {
+        StubCounters.countCall("Text.setText");
+        this.text = text;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setFont(Font font) {
+        StubCounters.countCall("Text.setFont");
+        this.font = font;
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    public void setTextColor(Color textColor) {
+        StubCounters.countCall("Text.setTextColor");
+        this.textColor = textColor;
+    }
+
+    public Color getTextColor() {
+        return textColor;
+    }
+
+    public void setTextSize(int textSize, TextSizeType textSizeType) {
+        StubCounters.countCall("Text.setTextSize");
+        this.textSize = textSize;
+    }
+
+    public int getTextSize() {
+        return textSize;
+    }
+
+    public void setTextAlignment(int textAlignment) {
+        StubCounters.countCall("Text.setTextAlignment");
+        this.textAlignment = textAlignment;
+    }
+
+    public int getTextAlignment() {
+        return textAlignment;
+    }
+
+    /**
+     * Stand-in of the ohos Text.TextSizeType.
+     */
+    public enum TextSizeType {
+        PX, VP, FP
+    }
+}
@@ -0,0 +1,25 @@
+package ohos.agp.components.element;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.agp.utils.Rect;
+
+/**
+ * Stand-in of the ohos Element.
+ */
+public class Element {
+
+    private final Rect bounds = new Rect();
+
+    public Element() {
+        StubCounters.countAllocation(this);
+    }
+
+    public void setBounds(int left, int top, int right, int bottom) {
+        StubCounters.countCall("Element.setBounds");
+        bounds.set(left, top, right, bottom);
+    }
+
+    public Rect getBounds() {
+        return bounds;
+    }
+}
@@ -0,0 +1,39 @@
+package ohos.agp.components.element;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.agp.colors.RgbColor;
+
+/**
+ * Stand-in of the ohos ShapeElement.
+ */
+public class ShapeElement extends Element {
+
+    private RgbColor rgbColor;
+    private float cornerRadius;
+
+    public void setRgbColor(RgbColor rgbColor) {
+        StubCounters.countCall("ShapeElement.setRgbColor");
+        this.rgbColor = rgbColor;
+    }
+
+    public RgbColor getRgbColor() {
+        return rgbColor;
+    }
+
+    public void setCornerRadius(float cornerRadius) {
+        StubCounters.countCall("ShapeElement.setCornerRadius");
+        this.cornerRadius = cornerRadius;
+    }
+
+    public float getCornerRadius() {
+        return cornerRadius;
+    }
+
+    public void setCornerRadiiArray(float[] cornerRadii) {
+        StubCounters.countCall("ShapeElement.setCornerRadiiArray");
+    }
+
+    public void setStroke(int width, RgbColor color) {
+        StubCounters.countCall("ShapeElement.setStroke");
+    }
+}
@@ -0,0 +1,26 @@
+package ohos.agp.components.element;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in of the ohos StateElement.
+ */
+public class StateElement extends Element {
+
+    private final List<Element> stateElements = new ArrayList<>();
+
+    public void addState(int[] states, Element element) {
+        StubCounters.countCall("StateElement.addState");
+        stateElements.add(element);
+    }
+
+    public int getStateCount() {
+        return stateElements.size();
+    }
+
+    public Element getStateElement(int index) {
+        return stateElements.get(index);
+    }
+}
@@ -0,0 +1,22 @@
+package ohos.agp.render;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.agp.utils.RectFloat;
+
+/**
+ * Stand-in of the ohos Canvas, which draws nothing.
+ */
+public class Canvas {
+
+    public Canvas() {}
+
+    public Canvas(Texture texture) {}
+
+    public void drawText(Paint paint, String text, float x, float y) {
+        StubCounters.countCall("Canvas.drawText");
+    }
+
+    public void drawPixelMapHolderRect(PixelMapHolder holder, RectFloat source, RectFloat destination, Paint paint) {
+        StubCounters.countCall("Canvas.drawPixelMapHolderRect");
+    }
+}
@@ -0,0 +1,59 @@
+package ohos.agp.render;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.agp.text.Font;
+import ohos.agp.utils.Color;
+
+/**
+ * Stand-in of the ohos Paint, measuring text as if every character was half as wide as the text size.
+ */
+public class Paint {
+
+    private int textSize = 10;
+    private Font font;
+
+    public void setAntiAlias(boolean antiAlias) {}
+
+    public void setColor(Color color) {}
+
+    public void setTextSize(int textSize) {
+        this.textSize = textSize;
+    }
+
+    public int getTextSize() {
+        return textSize;
+    }
+
+    public void setFont(Font font) {
+        this.font = font;
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    public float measureText(String text) {
+        StubCounters.countCall("Paint.measureText");
+        return text.length() * textSize * 0.5f;
+    }
+
+    public FontMetrics getFontMetrics() {
+        StubCounters.countCall("Paint.getFontMetrics");
+        FontMetrics fontMetrics = new FontMetrics();
+        fontMetrics.ascent = -0.8f * textSize;
+        fontMetrics.descent = 0.2f * textSize;
+        return fontMetrics;
+    }
+
+    /**
+     * Stand-in of the ohos Paint.FontMetrics.
+     */
+    public static class FontMetrics {
+
+        public float ascent;
+        public float descent;
+        public float leading;
+        public float top;
+        public float bottom;
+    }
+}
@@ -0,0 +1,13 @@
+package ohos.agp.render;
+
+import ohos.media.image.PixelMap;
+
+/**
+ * Stand-in of the ohos PixelMapHolder.
+ */
+public class PixelMapHolder {
+
+    public PixelMapHolder(PixelMap pixelMap) {}
+
+    public void release() {}
+}
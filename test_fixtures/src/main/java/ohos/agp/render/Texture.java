@@ -0,0 +1,11 @@
+package ohos.agp.render;
+
+import ohos.media.image.PixelMap;
+
+/**
+ * Stand-in of the ohos Texture.
+ */
+public class Texture {
+
+    public Texture(PixelMap pixelMap) {}
+}
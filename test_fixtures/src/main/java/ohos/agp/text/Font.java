@@ -0,0 +1,44 @@
+package ohos.agp.text;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import java.io.File;
+
+/**
+ * Stand-in of the ohos Font, which only remembers the file it was built from.
+ */
+public class Font {
+
+    public static final Font DEFAULT = new Font(null);
+    public static final Font DEFAULT_BOLD = new Font(null);
+
+    private final String name;
+
+    private Font(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Stand-in of the ohos Font.Builder.
+     */
+    public static class Builder {
+
+        private final String name;
+
+        public Builder(File file) {
+            this.name = file.getName();
+        }
+
+        public Builder(String name) {
+            this.name = name;
+        }
+
+        public Font build() {
+            StubCounters.countCall("Font.Builder.build");
+            return new Font(name);
+        }
+    }
+}
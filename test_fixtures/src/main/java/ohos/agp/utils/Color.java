@@ -0,0 +1,25 @@
+package ohos.agp.utils;
+
+/**
+ * Stand-in of the ohos Color.
+ */
+public class Color {
+
+    public static final Color BLACK = new Color(0xFF000000);
+    public static final Color WHITE = new Color(0xFFFFFFFF);
+    public static final Color TRANSPARENT = new Color(0);
+
+    private final int value;
+
+    public Color(int value) {
+        this.value = value;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public static int getIntColor(String color) {
+        return (int) Long.parseLong(color.substring(1), 16) | (color.length() == 7 ? 0xFF000000 : 0);
+    }
+}
@@ -0,0 +1,16 @@
+package ohos.agp.utils;
+
+/**
+ * Stand-in of the ohos LayoutAlignment constants.
+ */
+public class LayoutAlignment {
+
+    public static final int LEFT = 1;
+    public static final int TOP = 2;
+    public static final int HORIZONTAL_CENTER = 8;
+    public static final int VERTICAL_CENTER = 16;
+    public static final int CENTER = 72;
+    public static final int START = 256;
+
+    private LayoutAlignment() {}
+}
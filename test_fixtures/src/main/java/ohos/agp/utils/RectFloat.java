@@ -0,0 +1,25 @@
+package ohos.agp.utils;
+
+/**
+ * Stand-in of the ohos RectFloat.
+ */
+public class RectFloat {
+
+    public float left;
+    public float top;
+    public float right;
+    public float bottom;
+
+    public RectFloat() {}
+
+    public RectFloat(float left, float top, float right, float bottom) {
+        modify(left, top, right, bottom);
+    }
+
+    public void modify(float left, float top, float right, float bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+}
@@ -0,0 +1,19 @@
+package ohos.agp.utils;
+
+/**
+ * Stand-in of the ohos TextAlignment constants.
+ */
+public class TextAlignment {
+
+    public static final int LEFT = 1;
+    public static final int TOP = 2;
+    public static final int BOTTOM = 4;
+    public static final int RIGHT = 8;
+    public static final int HORIZONTAL_CENTER = 16;
+    public static final int VERTICAL_CENTER = 32;
+    public static final int CENTER = 48;
+    public static final int START = 64;
+    public static final int END = 128;
+
+    private TextAlignment() {}
+}
@@ -0,0 +1,13 @@
+package ohos.app;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+
+/**
+ * Stand-in of the ohos AbilityContext. See {@link com.rilixtech.materialfancybutton.fixtures.StubAbilityContext}.
+ */
+public abstract class AbilityContext implements Context {
+
+    protected AbilityContext() {
+        StubCounters.countAllocation(this);
+    }
+}
@@ -0,0 +1,23 @@
+package ohos.app;
+
+import ohos.app.dispatcher.TaskDispatcher;
+import ohos.global.resource.ResourceManager;
+import java.io.File;
+
+/**
+ * Stand-in of the ohos Context.
+ */
+public interface Context {
+
+    ResourceManager getResourceManager();
+
+    File getCacheDir();
+
+    File getFilesDir();
+
+    String getString(int resId);
+
+    String getBundleCodePath();
+
+    TaskDispatcher getUITaskDispatcher();
+}
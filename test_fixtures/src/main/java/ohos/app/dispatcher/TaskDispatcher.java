@@ -0,0 +1,9 @@
+package ohos.app.dispatcher;
+
+/**
+ * Stand-in of the ohos TaskDispatcher.
+ */
+public interface TaskDispatcher {
+
+    void asyncDispatch(Runnable task);
+}
@@ -0,0 +1,19 @@
+package ohos.global.resource;
+
+import java.io.FileDescriptor;
+import java.io.IOException;
+
+/**
+ * Stand-in of the ohos RawFileDescriptor.
+ */
+public abstract class RawFileDescriptor implements AutoCloseable {
+
+    public abstract long getFileSize();
+
+    public abstract long getStartPosition();
+
+    public abstract FileDescriptor getFileDescriptor();
+
+    @Override
+    public void close() throws IOException {}
+}
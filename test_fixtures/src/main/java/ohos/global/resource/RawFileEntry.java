@@ -0,0 +1,13 @@
+package ohos.global.resource;
+
+import java.io.IOException;
+
+/**
+ * Stand-in of the ohos RawFileEntry.
+ */
+public interface RawFileEntry {
+
+    Resource openRawFile() throws IOException;
+
+    RawFileDescriptor openRawFileDescriptor() throws IOException;
+}
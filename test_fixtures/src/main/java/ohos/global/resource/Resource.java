@@ -0,0 +1,8 @@
+package ohos.global.resource;
+
+import java.io.InputStream;
+
+/**
+ * Stand-in of the ohos Resource, the content of a raw file.
+ */
+public abstract class Resource extends InputStream {}
@@ -0,0 +1,9 @@
+package ohos.global.resource;
+
+/**
+ * Stand-in of the ohos ResourceManager.
+ */
+public interface ResourceManager {
+
+    RawFileEntry getRawFileEntry(String path);
+}
@@ -0,0 +1,9 @@
+package ohos.hiviewdfx;
+
+/**
+ * Stand-in of the ohos HiLogLabel.
+ */
+public class HiLogLabel {
+
+    public HiLogLabel(int type, int domain, String tag) {}
+}
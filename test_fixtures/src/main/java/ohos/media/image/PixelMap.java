@@ -0,0 +1,50 @@
+package ohos.media.image;
+
+import com.rilixtech.materialfancybutton.fixtures.StubCounters;
+import ohos.media.image.common.PixelFormat;
+import ohos.media.image.common.Size;
+
+/**
+ * Stand-in of the ohos PixelMap, which holds no pixels.
+ */
+public class PixelMap {
+
+    private Size size;
+    private boolean released;
+
+    private PixelMap() {
+        StubCounters.countAllocation(this);
+    }
+
+    public static PixelMap create(InitializationOptions options) {
+        PixelMap pixelMap = new PixelMap();
+        pixelMap.size = options.size;
+        return pixelMap;
+    }
+
+    public Size getSize() {
+        return size;
+    }
+
+    public boolean writePixels(int color) {
+        return true;
+    }
+
+    public void release() {
+        released = true;
+    }
+
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Stand-in of the ohos PixelMap.InitializationOptions.
+     */
+    public static class InitializationOptions {
+
+        public Size size;
+        public PixelFormat pixelFormat;
+        public boolean editable;
+    }
+}
@@ -0,0 +1,8 @@
+package ohos.media.image.common;
+
+/**
+ * Stand-in of the ohos PixelFormat.
+ */
+public enum PixelFormat {
+    UNKNOWN, ARGB_8888, RGB_565
+}
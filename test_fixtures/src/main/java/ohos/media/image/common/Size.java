@@ -0,0 +1,17 @@
+package ohos.media.image.common;
+
+/**
+ * Stand-in of the ohos Size.
+ */
+public class Size {
+
+    public int width;
+    public int height;
+
+    public Size() {}
+
+    public Size(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.fixtures;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class StubAbilityContextTest {
+
+    @Test
+    public void testReadRawFile() throws IOException {
+        File resourceDir = Files.createTempDirectory("resources").toFile();
+        File rawFileDir = new File(resourceDir, "rawfile");
+        assertTrue(rawFileDir.mkdir());
+        try (FileOutputStream outputStream = new FileOutputStream(new File(rawFileDir, "test.ttf"))) {
+            outputStream.write(new byte[] {1, 2, 3});
+        }
+        StubAbilityContext context = new StubAbilityContext(resourceDir, resourceDir);
+        assertEquals(3, context.getResourceManager().getRawFileEntry("resources/rawfile/test.ttf")
+                .openRawFileDescriptor().getFileSize());
+        try (InputStream inputStream = context.getResourceManager().getRawFileEntry("resources/rawfile/test.ttf")
+                .openRawFile()) {
+            assertEquals(1, inputStream.read());
+        }
+    }
+
+    @Test
+    public void testDispatchOnCallingThread() {
+        StubAbilityContext context = new StubAbilityContext(new File("."));
+        boolean[] ran = new boolean[1];
+        context.getUITaskDispatcher().asyncDispatch(() -> ran[0] = true);
+        assertTrue(ran[0]);
+    }
+}
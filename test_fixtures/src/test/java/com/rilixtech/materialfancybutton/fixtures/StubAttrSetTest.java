@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.fixtures;
+
+import ohos.agp.components.Attr;
+import ohos.agp.components.element.ShapeElement;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StubAttrSetTest {
+
+    @Test
+    public void testGetAttr() {
+        StubAttrSet attrSet = new StubAttrSet().put("mfb_text", "Sign in").put("mfb_radius", 30)
+                .put("mfb_iconPosition", "2").put("mfb_ghost", true);
+        assertEquals(4, attrSet.getLength());
+        assertEquals("Sign in", attrSet.getAttr("mfb_text").get().getStringValue());
+        assertEquals(30, attrSet.getAttr("mfb_radius").get().getDimensionValue());
+        assertEquals(2, attrSet.getAttr("mfb_iconPosition").get().getIntegerValue());
+        assertTrue(attrSet.getAttr("mfb_ghost").get().getBoolValue());
+        assertFalse(attrSet.getAttr("mfb_unknown").isPresent());
+        assertEquals("mfb_radius", attrSet.getAttr(1).get().getName());
+        assertFalse(attrSet.getAttr(4).isPresent());
+    }
+
+    @Test
+    public void testPutReplaces() {
+        ShapeElement element = new ShapeElement();
+        StubAttrSet attrSet = new StubAttrSet().put("mfb_text", "a").put("mfb_text", "b").put("background", element);
+        assertEquals(2, attrSet.getLength());
+        assertEquals("b", attrSet.getAttr("mfb_text").get().getStringValue());
+        assertSame(element, attrSet.getAttr("background").get().getElement());
+    }
+
+    @Test
+    public void testColorValue() {
+        Attr attr = new StubAttrSet().put("mfb_textColor", "#FF0000").getAttr("mfb_textColor").get();
+        assertEquals(0xFFFF0000, attr.getColorValue().getValue());
+    }
+}
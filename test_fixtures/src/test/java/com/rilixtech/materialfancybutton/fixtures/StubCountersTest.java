@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2020-21 Application Library Engineering Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.rilixtech.materialfancybutton.fixtures;
+
+import ohos.agp.components.Component;
+import ohos.agp.components.DirectionalLayout;
+import ohos.agp.components.Text;
+import ohos.agp.components.element.ShapeElement;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StubCountersTest {
+
+    @Before
+    public void resetCounters() {
+        StubCounters.reset();
+    }
+
+    @Test
+    public void testCountAllocation() {
+        new Text(null);
+        new Text(null);
+        new DirectionalLayout(null);
+        new ShapeElement();
+        assertEquals(2, StubCounters.getAllocationCount(Text.class));
+        assertEquals(1, StubCounters.getAllocationCount(DirectionalLayout.class));
+        assertEquals(0, StubCounters.getAllocationCount(Component.class));
+        assertEquals(4, StubCounters.getAllocationCount());
+    }
+
+    @Test
+    public void testCountCall() {
+        Text text = new Text(null);
+        text.setText("a");
+        text.setText("b");
+        text.invalidate();
+        assertEquals(2, StubCounters.getCallCount("Text.setText"));
+        assertEquals(1, StubCounters.getCallCount("Component.invalidate"));
+        assertEquals(0, StubCounters.getCallCount("Component.postLayout"));
+        assertEquals(3, StubCounters.getCallCount());
+        assertEquals("b", text.getText());
+    }
+
+    @Test
+    public void testReset() {
+        new Text(null).invalidate();
+        StubCounters.reset();
+        assertEquals(0, StubCounters.getAllocationCount(Text.class));
+        assertEquals(0, StubCounters.getCallCount("Component.invalidate"));
+        assertEquals(0, StubCounters.getAllocationCount());
+        assertEquals(0, StubCounters.getCallCount());
+    }
+
+    @Test
+    public void testCountsPerThread() throws InterruptedException {
+        Thread thread = new Thread(() -> new Text(null).invalidate());
+        thread.start();
+        thread.join();
+        assertEquals(0, StubCounters.getAllocationCount());
+        assertEquals(0, StubCounters.getCallCount());
+    }
+}
@@ -2,12 +2,13 @@ package com.rilixtech.themifyiconstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the ThemifyIcons font. It hosts a variety of icons that can be used by
@@ -25,7 +26,6 @@ public class ThemifyIcons implements MfbTypeface {
     public static final String THEMIFY_ICONS_LICENSE = "SIL Open Font License (OFL)";
     public static final String THEMIFY_ICONS_LICENSE_URL = "http://scripts.sil.org/OFL";
 
-    private static Font themifyIconsTypeface = null;
     private static HashMap<String, Character> themifyIconsCharMap;
 
     /**
@@ -34,7 +34,21 @@ public class ThemifyIcons implements MfbTypeface {
      * @param key Key for which ThemifyIcons MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No ThemifyIcons icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * ThemifyIcons MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which ThemifyIcons MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -44,15 +58,29 @@ public class ThemifyIcons implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (themifyIconsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.themifyIconsCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return themifyIconsCharMap;
     }
 
+    /**
+     * Get the compact table of all the ThemifyIcons icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all ThemifyIcons icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the ThemifyIcons icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all ThemifyIcons icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return ThemifyIconsMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the ThemifyIcons Characters into a HashMap.
      */
@@ -78,15 +106,11 @@ public class ThemifyIcons implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return themifyIconsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> themifyIconsKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            themifyIconsKeyList.add(value.name());
-        }
-        return themifyIconsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -111,18 +135,7 @@ public class ThemifyIcons implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (themifyIconsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return themifyIconsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        themifyIconsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -499,6 +512,9 @@ public class ThemifyIcons implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface themifyIconsTypeface;
 
@@ -0,0 +1,131 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.themifyiconstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of themify-icons-v0.1.2.ttf for the ThemifyIcons icons, in ordinal order.
+ */
+final class ThemifyIconsMetrics {
+
+    private ThemifyIconsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(512, 480, -32, ""
+            + "\u0200\23\ufff3\u0200\u01e0\u0200\75\uffeb\u01e3\u01da\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\74\uffdf\u01c4\u01e1\u0200\37\uffdf\u01de\u01bd\u0200\151\ufffe\u01b5\u01d1"
+            + "\u0200\0\uffef\u0200\u01e0\u0200\uffff\uffe0\u0201\u01e1\u0200\226\ufffd\u0188\u01c2"
+            + "\u0200\36\uffe0\u01e2\u01e0\u0200\13\uffec\u01f5\u01bf\u0200\74\uffe0\u01c6\u01e0"
+            + "\u0200\36\ufffe\u01e2\u01db\u0200\ufffe\ufffe\u0200\u01a4\u0200\ufffe\ufffe\u0200\u01c2"
+            + "\u0200\0\uffe1\u0200\u01e1\u0200\0\uffed\u01f4\u01e1\u0200\0\uffec\u01f4\u01e0"
+            + "\u0200\0\uffed\u01f4\u01e1\u0200\36\uffe0\u01e2\u01ae\u0200\227\uffe0\u0169\u01e0"
+            + "\u0200\36\uffdd\u01c4\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\153\ufff0\u0188\u01c2"
+            + "\u0200\36\ufffe\u01e2\u01e0\u0200\0\ufff3\u0200\u01cd\u0200\36\ufffe\u01e2\u01c2"
+            + "\u0200\227\ufffe\u0169\u01c2\u0200\45\4\u01d4\u01b4\u0200\0\uffe0\u01fe\u01d3"
+            + "\u0200\0\uffe0\u01e2\u01e0\u0200\0\uffef\u0200\u01e0\u0200\17\uffef\u01f1\u01d1"
+            + "\u0200\132\uffe0\u01a6\u01e0\u0200\74\321\u01c4\357\u0200\151\uffef\u0197\u01e0"
+            + "\u0200\151\uffef\u0197\u01e0\u0200\227\uffe0\u0169\u01e0\u0200\40\22\u01e2\u01b6"
+            + "\u0200\43\ufffe\u01dd\u01c8\u0200\36\3\u01d9\u01be\u0200\47\3\u01e2\u01be"
+            + "\u0200\43\ufff8\u01dd\u01c2\u0200\74\uffdf\u01c3\u01e1\u0200\73\ufffc\u01e4\u01a5"
+            + "\u0200\133\uffdf\u0187\u01a4\u0200\0\uffe0\u0200\u01e0\u0200\0\ufffe\u0200\u01c2"
+            + "\u0200\0\ufffe\u0200\u01c2\u0200\36\uffff\u01d3\u0198\u0200\0\uffe0\u0200\u01c3"
+            + "\u0200\36\ufffe\u01e2\u01c2\u0200\0\ufff0\u0200\u01cc\u0200\ufff7\ufff0\u0209\u01cc"
+            + "\u0200\76\uffe0\u01a6\u01e0\u0200\57\uffe0\u01cb\u01e0\u0200\136\ufffe\u01a5\u01a3"
+            + "\u0200\0\uffe0\u0200\u01a4\u0200\42\uffe0\u01c4\u01e0\u0200\55\uffe0\u01c4\u01e0"
+            + "\u0200\36\uffe0\u01c4\u01e0\u0200\1\47\u01ff\u017b\u0200\0\uffe0\u0200\u01d8"
+            + "\u0200\23\uffe1\u01ed\u01df\u0200\0\ufffe\u0200\u01c2\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\ufffb\ufffe\u0205\u01de\u0200\0\uffdc\u0200\u01e0\u0200\0\uffdd\u0200\u01e0"
+            + "\u0200\0\uffdd\u0200\u01e0\u0200\43\3\u01dd\u01bd\u0200\227\ufffe\u016a\u01c3"
+            + "\u0200\23\144\u01ed\u0166\u0200\214\ufff4\u018e\u01cd\u0200\162\ufff4\u0174\u01cd"
+            + "\u0200\23\133\u01ed\u015c\u0200\62\24\u01d0\u01bb\u0200\36\ufffe\u01c9\u01d9"
+            + "\u0200\0\34\u0200\u01a4\u0200\0\11\u0200\u019d\u0200\36\ufffe\u01df\u01bb"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\207\32\u01af\u01a3\u0200\230\25\u0164\u01ac"
+            + "\u0200\36\uffe0\u01e2\u01e0\u0200\36\uffe0\u01e2\u01e0\u0200\20\ufff0\u01f0\u01d0"
+            + "\u0200\214\uffe9\u0174\u01d7\u0200\11\154\u01f7\u0154\u0200\36\ufffe\u01e2\u01c2"
+            + "\u0200\170\130\u01e2\u01c2\u0200\35\130\u0187\u01c2\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\62\105\u01ce\u01bb\u0200\77\22\u01b4\u01ae\u0200\64\22\u01aa\u01ae"
+            + "\u0200\62\16\u01ce\u0183\u0200\74\uffe0\u01c4\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\74\uffe0\u01e2\u01e0\u0200\0\ufffe\u0200\u01e0\u0200\0\ufffe\u0200\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\36\72\u01e2\u0168\u0200\0\uffe0\u0200\u01e6"
+            + "\u0200\74\ufffe\u01c4\u01c2\u0200\0\uffe0\u0200\u0186\u0200\36\uffe0\u01e2\u01e0"
+            + "\u0200\170\ufffe\u0188\u01c2\u0200\111\ufffe\u01e2\u01a1\u0200\36\1\u01b7\u01a4"
+            + "\u0200\132\ufffe\u01a6\u01a4\u0200\0\uffe0\u0200\u0186\u0200\0\uffe0\u0200\u0164"
+            + "\u0200\0\uffe9\u0200\u01d7\u0200\11\uffe0\u01f7\u01e0\u0200\0\ufffe\u0200\u01a4"
+            + "\u0200\36\ufffe\u01e2\u01c2\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\36\ufffd\u01e2\u01c1\u0200\36\uffe0\u01e2\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\10\46\u01f8\u017c\u0200\6\46\u01f7\u017c\u0200\0\uffec\u0200\u01d7"
+            + "\u0200\0\uffdd\u0200\u01e0\u0200\36\uffe0\u01e2\u01e0\u0200\132\uffe0\u01a6\u01e0"
+            + "\u0200\36\ufffe\u0200\u01e0\u0200\37\ufffe\u01e2\u01c1\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\0\uffde\u0200\u01e1\u0200\140\26\u01c9\u01d9\u0200\44\uffe0\u0200\u01d8"
+            + "\u0200\132\uffe0\u01a6\u01e0\u0200\132\uffe0\u01a6\u01e0\u0200\227\uffe0\u0169\u01e0"
+            + "\u0200\74\uffe0\u01c4\u01e0\u0200\36\34\u01e2\u0186\u0200\36\72\u01e2\u01a4"
+            + "\u0200\0\16\u01e2\u018b\u0200\0\ufff0\u01e2\u01c2\u0200\0\ufff3\u0200\u01ae"
+            + "\u0200\132\uffe7\u01a6\u01d1\u0200\0\72\u0200\u0186\u0200\132\uffe0\u01a6\u01e0"
+            + "\u0200\170\ufffe\u0188\u01c1\u0200\273\24\u0145\u01c3\u0200\0\167\u0200\u0168"
+            + "\u0200\0\34\u0200\u0186\u0200\170\uffe0\u01b8\u01e0\u0200\6\uffe0\u01fa\u01d5"
+            + "\u0200\206\ufff0\u0178\u01c3\u0200\0\34\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\0\72\u0200\u0186\u0200\0\uffe0\u0200\u01ce\u0200\0\34\u0200\u01c2"
+            + "\u0200\20\uffe0\u01f0\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\74\uffe0\u01c4\u01e0"
+            + "\u0200\6\ufffe\u0200\u01bc\u0200\74\uffe0\u01c4\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\36\uffe0\u01f5\u01e0\u0200\51\uffe0\u01d7\u01e0\u0200\0\111\u0200\u0186"
+            + "\u0200\132\72\u01a6\u0186\u0200\0\22\u0206\u01ae\u0200\132\61\u01b8\u018f"
+            + "\u0200\132\34\u01a6\u01a4\u0200\132\51\u01cc\u0197\u0200\64\51\u01a6\u0197"
+            + "\u0200\0\130\u0200\u0177\u0200\0\34\u0200\u01b3\u0200\0\11\u0200\u01b3"
+            + "\u0200\36\uffe0\u01e2\u01e0\u0200\0\uffe0\u0200\u012b\u0200\0\uffe0\u0200\u01c2"
+            + "\u0200\0\ufff7\u0200\u01c7\u0200\31\uffef\u01e8\u01c2\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\0\uffe0\u0200\u01a4\u0200\0\uffe0\u0200\u01a4\u0200\74\ufffe\u01b7\u01ae"
+            + "\u0200\111\ufff3\u01c4\u01a4\u0200\74\34\u01c4\u01a4\u0200\0\uffe0\u0200\u01a4"
+            + "\u0200\63\11\u01cd\u01e0\u0200\0\34\u0200\u01a4\u0200\0\34\u0200\u01a4"
+            + "\u0200\0\34\u0200\u01a4\u0200\0\34\u0200\u01a4\u0200\6\ufffe\u01fa\u01b3"
+            + "\u0200\55\uffe0\u01d3\u01c2\u0200\36\uffe0\u01e2\u01e0\u0200\36\uffdf\u0200\u01e0"
+            + "\u0200\0\ufffe\u0200\u01c2\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\ufffe\u0200\u01a4\u0200\0\ufffe\u0200\u01c2"
+            + "\u0200\0\34\u0200\u01c2\u0200\0\uffe0\u0200\u01e0\u0200\0\210\u0200\u0137"
+            + "\u0200\33\7\u01fc\u01b9\u0200\33\7\u01fc\u01a8\u0200\0\ufffe\u0200\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\47\uffe0\u01d9\u01e0\u0200\16\33\u0200\u0197"
+            + "\u0200\1\ufffe\u0201\u01c2\u0200\323\uffe0\u01ca\u01e0\u0200\66\uffe0\u012d\u01e0"
+            + "\u0200\0\uffe0\u01f7\u01d7\u0200\74\uffe3\u01c4\u01e0\u0200\132\uffe0\u01a6\u01e0"
+            + "\u0200\4\uffe4\u0200\u01e0\u0200\265\uffdd\u014b\u01e0\u0200\17\uffee\u01f1\u01d1"
+            + "\u0200\0\263\u0200\u012b\u0200\0\263\u0200\u012b\u0200\200\uffe0\u0180\u01e2"
+            + "\u0200\36\uffe0\u01e2\u01e0\u0200\0\263\u0200\u012b\u0200\0\321\u0200\357"
+            + "\u0200\0\321\u0200\357\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\74\uffe0\u01c4\u01e0\u0200\0\ufffe\u0200\u01a4\u0200\0\ufffe\u0200\u01a4"
+            + "\u0200\0\ufffe\u0200\u01c2\u0200\0\u0149\u0200\u01c2\u0200\0\34\u0200\u01c2"
+            + "\u0200\0\72\u0200\u0186\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\1\ufffe\u0201\u01c2\u0200\0\263\u0188\u010d"
+            + "\u0200\132\ufffe\u01a6\u01c2\u0200\0\263\u0200\u010d\u0200\0\263\u0200\u010d"
+            + "\u0200\0\ufffe\u0200\u01c2\u0200\0\130\u0200\u0168\u0200\0\ufffe\u0200\u01c2"
+            + "\u0200\0\72\u0200\u01a4\u0200\0\ufffe\u0200\u01c2\u0200\0\ufffe\u0200\u01c2"
+            + "\u0200\0\130\u0200\u0168\u0200\0\ufffe\u0200\u01c2\u0200\36\72\u01e2\u0168"
+            + "\u0200\0\72\u0200\u01a4\u0200\0\34\u0200\u0186\u0200\0\72\u0200\u0186"
+            + "\u0200\0\130\u0200\u0168\u0200\0\321\u0200\357\u0200\36\ufffe\u01e2\u01c2"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\ufffe\u01e2\u01e0\u0200\0\34\u0200\u01a4"
+            + "\u0200\0\72\u0200\u0186\u0200\0\72\u0200\u0186\u0200\0\72\u0200\u0186"
+            + "\u0200\0\130\u0200\u0186\u0200\0\130\u0200\u0186\u0200\36\uffe0\u01e2\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\132\ufffe\u01a6\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\121\ufff1\u01b5\u01e0\u0200\17\34\u01fe\u0180\u0200\0\34\u01ef\u0180"
+            + "\u0200\113\uffe0\u01af\u01cf\u0200\0\ufffe\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\34\u0200\u01a4\u0200\132\34\u01a6\u01a4"
+            + "\u0200\132\34\u01a6\u01a4\u0200\113\53\u01b5\u0195\u0200\74\72\u01c4\u018e"
+            + "\u0200\6\uffe6\u0200\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\54\uffe0\u01d4\u01e0"
+            + "\u0200\33\31\u01e3\u01a7\u0200\0\20\u0200\u01b0\u0200\5\uffe0\u0205\u01e0"
+            + "\u0200\135\uffe0\u01a3\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\1\uffe0\u0201\u01d0"
+            + "\u0200\0\uffe0\u0200\u01d0\u0200\170\uffe0\u01a6\u01e0\u0200\72\ufff2\u01c5\u01cc"
+            + "\u0200\0\uffe0\u01c4\u01a4\u0200\0\uffe0\u0200\u01e0\u0200\42\75\u0200\u0182"
+            + "\u0200\17\ufffa\u01f1\u01c6\u0200\0\uffe0\u0200\u01e0\u0200\36\ufffe\u01e2\u01c2"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\ufffe\u01e2\u01e0\u0200\36\uffe0\u01e2\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\0\7\u0200\u01b9\u0200\0\162\u0200\u014e"
+            + "\u0200\211\uffe0\u0177\u01e0\u0200\4\ufffd\u01fc\u01c4\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\52\uffe0\u01d6\u01e0\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0"
+            + "\u0200\101\uffef\u01bf\u01d1\u0200\17\uffef\u01f1\u01d1\u0200\17\24\u01ef\u01ae"
+            + "\u0200\0\20\u0200\u01b0\u0200\154\uffef\u0194\u01d1\u0200\17\uffef\u01f1\u01d1"
+            + "\u0200\103\uffef\u01bd\u01d1\u0200\17\167\u01f1\u0149\u0200\17\uffef\u01f1\u01d1"
+            + "\u0200\17\uffef\u01f1\u01d1\u0200\17\26\u01f1\u01aa\u0200\17\uffef\u01f1\u01d1"
+            + "\u0200\0\uffe0\u0200\u01e0\u0200\64\ufff0\u01c1\u01d1\u0200\17\73\u01f1\u0185"
+            + "\u0200\17\uffef\u01f1\u01d1\u0200\54\uffef\u01d4\u01d1\u0200\17\uffef\u01f1\u01d1"
+            + "\u0200\0\34\u0200\u01a4\u0200\55\uffef\u01d3\u01d1\u0200\17\0\u01f1\u01c0"
+            + "\u0200\17\6\u01f1\u01ba\u0200\0\uffe0\u0200\u01e0\u0200\0\uffe0\u0200\u01e0");
+}
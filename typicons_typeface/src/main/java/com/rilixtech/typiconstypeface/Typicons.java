@@ -2,12 +2,13 @@ package com.rilixtech.typiconstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the Typicons font. It hosts a variety of icons that can be used by
@@ -24,7 +25,6 @@ public class Typicons implements MfbTypeface {
     public static final String TYPICONS_LICENSE = "SIL OPEN FONT LICENSE";
     public static final String TYPICONS_LICENSE_URL = "http://scripts.sil.org/cms/scripts/page.php?item_id=OFL_web";
 
-    private static Font typiconsTypeface = null;
     private static HashMap<String, Character> typiconsCharMap;
 
     /**
@@ -33,7 +33,21 @@ public class Typicons implements MfbTypeface {
      * @param key Key for which Typicons MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No Typicons icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * Typicons MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which Typicons MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -43,15 +57,29 @@ public class Typicons implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (typiconsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.typiconsCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return typiconsCharMap;
     }
 
+    /**
+     * Get the compact table of all the Typicons icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all Typicons icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the Typicons icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all Typicons icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return TypiconsMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the Typicons Characters into a HashMap.
      */
@@ -81,15 +109,11 @@ public class Typicons implements MfbTypeface {
 
     @Override
     public int getIconCount() {
-        return typiconsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> typiconsKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            typiconsKeyList.add(value.name());
-        }
-        return typiconsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override
@@ -119,18 +143,7 @@ public class Typicons implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (typiconsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return typiconsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        typiconsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -491,6 +504,9 @@ public class Typicons implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface typiconsTypeface;
 
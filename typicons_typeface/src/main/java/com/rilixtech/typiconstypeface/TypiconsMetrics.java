@@ -0,0 +1,126 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.typiconstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of typicons-font-v2.0.7.1.ttf for the Typicons icons, in ordinal order.
+ */
+final class TypiconsMetrics {
+
+    private TypiconsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1000, 800, -242, ""
+            + "\u030f\2\uffa7\u030d\u02b1\u029b\0\uffdf\u029b\u0279\u02ee\0\uff4d\u02ee\u02f6"
+            + "\u0247\0\uffa0\u0247\u02a3\u0318\0\uffdf\u0318\u0250\u02ee\0\uffdf\u02ee\u0264"
+            + "\u029b\0\10\u029b\u023b\u029b\0\uffa8\u029b\u02cd\u0247\uffff\uffe3\u0248\u02a3"
+            + "\u01a1\0\ufff7\u01a0\u01fc\u02ee\0\uffdf\u02ee\u0264\u029b\0\10\u029b\u023b"
+            + "\u0325\0\uffb5\u0325\u024e\u02c0\0\uffdf\u02c0\u0227\u0205\0\134\u0205\u01fc"
+            + "\u03be\0\uffb5\u03be\u0279\u02ee\0\62\u02ee\u024f\u0318\0\uff8b\u0318\u02a3"
+            + "\u029b\0\uffdf\u029b\u0279\u0318\0\uff8b\u0318\u02a3\u029b\0\uffdf\u029a\u0279"
+            + "\u03b7\uffff\uff50\u03b8\u0308\u0310\0\uffa4\u0310\u02b4\u03be\0\uff38\u03be\u0279"
+            + "\u02ee\0\uffdf\u02ee\u0279\u0325\0\uffb5\u0325\u024e\u02c0\0\uffdf\u02c0\u0227"
+            + "\u0205\0\134\u0205\u01fc\u02ee\0\uffb5\u02ee\u0279\u021e\0\205\u021e\u01d3"
+            + "\u021e\0\257\u021e\u01fc\u0318\0\uff0e\u0318\u0320\u0271\0\uff62\u0271\u02cc"
+            + "\u021e\0\uffb5\u021e\u02a3\u029b\0\uffb5\u029b\u02d7\u0247\uffff\uffdc\u0248\u029c"
+            + "\u01a1\0\62\u01a0\u0237\u029b\0\uffdf\u029b\u0279\u031a\0\uff9f\u031a\u02b9"
+            + "\u0274\0\uffc8\u0274\u023d\u036a\0\uffb5\u036a\u0250\u0340\4\uffdf\u0340\u0250"
+            + "\u0318\0\10\u0318\u01fc\u0318\0\10\u0318\u01fc\u0318\0\10\u0318\u01fc"
+            + "\u0318\0\10\u0318\u01fc\u0318\0\10\u0318\u01fc\u0275\4\uffdf\u0271\u0250"
+            + "\u02c4\0\uffb5\u02c4\u02a3\u029a\4\uff8b\u0297\u02a3\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u0247\0\uffb4\u0247\u02cd\u02ee\0\uffdf\u02ee\u0279\u02f0\3\uffa9\u02ea\u0299"
+            + "\u0395\0\uffdf\u0395\u0279\u0247\0\uffb5\u0247\u02a3\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u02ee\0\uffb5\u02ee\u02a3\u0341\0\uffdf\u0341\u0279\u0341\0\uffdf\u0341\u0279"
+            + "\u02c4\0\uffca\u02c4\u028e\u029b\0\uffdf\u029b\u0279\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u02ee\0\uffb5\u02ee\u0279\u029b\0\uffb5\u029b\u02f6\u029b\0\uffb5\u029b\u02cd"
+            + "\u02ee\0\uffb5\u02ee\u0279\u029b\0\uffb5\u029b\u024f\u02d2\0\uffa1\u02d2\u02f6"
+            + "\u02a3\0\uffb5\u02a3\u029d\u01fe\0\uffdf\u01fe\u0278\u019a\0\10\u019a\u0250"
+            + "\u01fe\0\uffdf\u01fe\u0278\u019a\uffff\10\u019a\u0250\u029b\0\uffb5\u029b\u02a3"
+            + "\u0341\0\10\u0341\u0250\u034c\0\10\u034c\u0250\u03b7\0\10\u03b7\u01fb"
+            + "\u0325\0\62\u0325\u01d3\u02c4\0\10\u02c4\u0250\u0302\0\uff8b\u0302\u02a3"
+            + "\u023f\1\uffdf\u023e\u0250\u02ee\0\uffb5\u02ee\u02a3\u0318\0\uffb5\u0318\u02a3"
+            + "\u02c4\0\uffdf\u02c4\u01fc\u02ee\0\uffc6\u02ee\u0292\u0247\0\uff86\u0247\u02c7"
+            + "\u02ee\0\uffb5\u02ee\u02a3\u029b\0\uffdf\u029b\u0279\u03e8\0\uff8b\u03e8\u02f6"
+            + "\u03e8\0\uffb5\u03e8\u02a3\u021e\0\uffb5\u021e\u02a3\u02c4\0\uff8b\u02c4\u02f6"
+            + "\u02ea\0\uff8b\u02ea\u0279\u02ee\0\uffa0\u02ee\u02b8\u029b\0\uffd4\u029b\u0284"
+            + "\u029b\0\uffb5\u029b\u02a3\u029b\0\uffb5\u029b\u02a3\u029b\0\uffb5\u029b\u02a3"
+            + "\u029b\0\uffb5\u029b\u02a3\u02ee\0\uff62\u02ee\u0320\u02ee\0\uff8b\u02ee\u02cd"
+            + "\u02ee\0\uffb9\u02ee\u028a\u0318\0\uffb5\u0318\u02cd\u02c2\0\uff8b\u02c2\u0250"
+            + "\u0286\0\ufff4\u0286\u0279\u02ee\0\10\u02ee\u0226\u029b\0\62\u029b\u01fc"
+            + "\u0318\0\uffb5\u0318\u02a3\u02ee\0\uffb5\u02ee\u0279\u02ee\0\10\u02ee\u01fc"
+            + "\u0341\7\uffdf\u033a\u0226\u02c4\0\uff62\u02c4\u02f7\u029b\0\uffb5\u029b\u02cd"
+            + "\u029f\1\uffdf\u029e\u0226\u0247\0\ufffe\u0247\u02a3\u0247\0\ufffe\u0247\u02a3"
+            + "\u0247\1\uff8b\u0247\u02cd\u01f4\1\uffb5\u01f4\u02a3\u029b\0\uff8b\u029b\u02cd"
+            + "\u029b\0\uff8b\u029b\u02cd\u029b\0\uff8b\u029b\u02cd\u029b\0\uff8b\u029b\u02cd"
+            + "\u02ee\0\uffdf\u02ee\u0279\u02ee\0\uffdf\u02ee\u0279\u036c\0\uffdf\u036b\u0279"
+            + "\u02ee\0\uffdf\u02ee\u0279\u02ee\0\uff8b\u02ee\u02a3\u028c\0\uff8b\u028c\u02cc"
+            + "\u028c\0\uff8b\u028c\u02cc\u03be\0\uffb5\u03be\u0279\u03be\0\uffb5\u03be\u0279"
+            + "\u02ee\0\uff8b\u02ee\u0279\u0328\0\uffda\u0328\u0279\u0328\0\uffda\u0328\u0279"
+            + "\u032c\0\uffdf\u032c\u0279\u02d9\0\uffdf\u02d9\u0226\u0395\0\uff8b\u0395\u02da"
+            + "\u0341\0\uffb5\u0341\u02a3\u0247\0\uff8b\u0247\u02cd\u0341\0\uffdf\u0341\u0279"
+            + "\u0341\0\10\u0341\u02a3\u0380\0\ufffe\u0380\u020d\u02d9\0\122\u02d9\u01ba"
+            + "\u01ca\1\uffb5\u01ca\u02cd\u014d\3\ufff4\u014d\u028e\u0333\0\uffb5\u0322\u028e"
+            + "\u0333\0\uffb5\u0333\u028e\u0271\0\10\u0261\u0279\u0247\0\10\u0247\u0250"
+            + "\u0286\0\uffb5\u0286\u0250\u0232\0\uffdf\u0232\u0226\u0341\0\62\u0341\u0226"
+            + "\u02c4\0\uff62\u02c4\u02f7\u0271\0\uff8b\u0271\u02f6\u02f6\0\uff83\u02f6\u0279"
+            + "\u0250\0\uffd6\u0250\u0226\u027c\0\uffb9\u0272\u0233\u0228\2\uffe4\u0224\u0206"
+            + "\u029b\0\uff8b\u029a\u02a3\u029b\0\uff8b\u029a\u02a3\u0247\0\uffb5\u0247\u0279"
+            + "\u0247\0\uffb5\u0247\u0279\u02c4\0\uffb5\u02c4\u0279\u02c4\0\uffb5\u02c4\u0279"
+            + "\u02ee\0\uffdf\u02ee\u01fc\u029b\0\uffdf\u029b\u029f\u0247\0\uffb5\u0247\u0279"
+            + "\u0247\0\uffdf\u0247\u0279\u02ee\0\10\u02ee\u0215\u02ee\0\10\u02ee\u0215"
+            + "\u021e\0\uffdf\u021e\u0250\u01ca\0\62\u01ca\u0226\u01a1\0\10\u01a1\u0250"
+            + "\u01a1\0\10\u01a1\u0250\u01a1\0\10\u01a1\u0250\u01a1\0\10\u01a1\u0250"
+            + "\u01f4\0\62\u01f4\u0226\u01f4\0\62\u01f4\u0226\u02ee\0\10\u02ee\u0215"
+            + "\u02ee\0\10\u02ee\u0215\u01f4\0\62\u01f4\u0226\u01f4\0\62\u01f4\u0226"
+            + "\u0318\0\uff8b\u0318\u0226\u02ee\0\uffb5\u02ee\u0250\u03e8\0\uff62\u03e8\u0279"
+            + "\u0247\0\uff8b\u0247\u02cd\u0247\0\uff8b\u0247\u02cd\u02ee\0\205\u02ee\u017f"
+            + "\u029b\0\257\u029b\u0156\u0341\0\uffce\u0341\u027e\u0395\0\uffdf\u0395\u0279"
+            + "\u029b\0\uffb5\u029b\u027f\u0271\0\uffb5\u0271\u027c\u0319\2\uff98\u0319\u02b1"
+            + "\u0300\0\uffb5\u0300\u02b5\u0344\0\uffb3\u0343\u02f6\u02c6\0\ufff2\u02c4\u02b8"
+            + "\u02ee\0\uffdf\u02ee\u0250\u0247\0\62\u0247\u01fc\u02c5\0\uffdf\u02c5\u02a4"
+            + "\u029c\0\uffdf\u029a\u0279\u02fe\0\uffa5\u02fe\u02a3\u0341\6\uff3c\u033b\u02ec"
+            + "\u029b\2\uffa5\u0299\u02b3\u0247\0\uff8b\u0247\u02cd\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u029b\0\uffdf\u029b\u0279\u0341\0\uff8b\u0341\u02cd\u029b\0\uffdf\u029b\u0279"
+            + "\u02c4\0\uffc7\u02c4\u02cd\u021e\0\32\u021e\u0279\u02c4\0\uffb5\u02c4\u02cd"
+            + "\u02c4\0\uff8b\u02c4\u02b8\u021e\0\uffdf\u021e\u0264\u02c4\0\uffa0\u02c4\u0264"
+            + "\u0247\0\uffdf\u0247\u0226\u029b\0\uffb5\u029b\u0250\u01f4\0\10\u01f4\u01fb"
+            + "\u029b\0\uffb5\u029b\u0250\u029b\0\uffdf\u029b\u0279\u0365\0\uff61\u0366\u0298"
+            + "\u02bf\0\uffce\u02ba\u0271\u029b\0\uffb5\u029b\u0279\u0322\0\uffb5\u0322\u02a3"
+            + "\u02ee\0\uffb5\u02ee\u02a3\u02ee\0\uffb5\u02ee\u02a3\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u02ee\0\uffb5\u02ee\u02a3\u0177\0\uffdf\u0177\u0279\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u02c4\0\205\u02c4\u01d3\u02ee\0\uffb5\u02ee\u02a3\u0247\0\65\u0247\u0223"
+            + "\u02ee\0\uffb5\u02ee\u02a3\u0269\0\uffe3\u0269\u0250\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u02ee\0\uffb5\u02ee\u02a3\u02ee\0\uffb5\u02ee\u02a3\u0271\0\176\u0271\u01da"
+            + "\u02ee\0\uffb5\u02ee\u02a3\u0249\0\10\u0249\u0250\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u01f4\0\uffd5\u01f4\u0259\u02ee\0\uff9c\u02ee\u02a3\u02ee\0\uffa8\u02ee\u02b0"
+            + "\u02ee\0\uffb5\u02ee\u02a3\u014a\0\27\u014a\u0235\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u02ee\0\ufffc\u02ee\u025c\u02ee\0\uffb5\u02ee\u02a3\u0247\0\63\u0244\u022b"
+            + "\u02ee\0\uffb5\u02ee\u02a3\u0395\0\10\u0395\u0250\u03e8\6\uffdf\u03e8\u0226"
+            + "\u0395\1\62\u0395\u01d3\u03d6\6\uffdf\u03d6\u0226\u036b\1\62\u036b\u01d3"
+            + "\u0318\0\uffb5\u0318\u02cd\u029b\0\ufff4\u029b\u028e\u02ef\0\uffd2\u02ee\u027f"
+            + "\u0304\2\uffb5\u0300\u02a3\u0304\2\uffb5\u0300\u02a3\u015c\2\uffe3\u015c\u0279"
+            + "\u030b\3\uffb6\u0308\u02a2\u02b8\2\uffe3\u02b6\u0278\u0341\0\uff8b\u0341\u02cb"
+            + "\u0318\0\uffa0\u0318\u02b8\u02ee\0\uff62\u02ee\u02cd\u02c4\0\uffca\u02c4\u028e"
+            + "\u02c4\0\uffb5\u02c4\u0279\u036b\0\uff62\u036b\u02cd\u0341\0\uff38\u0341\u02f6"
+            + "\u0341\0\uff8b\u0341\u02cd\u02ee\0\uffb5\u02ee\u02a3\u0341\0\uff8b\u0341\u02cd"
+            + "\u0303\0\uffa0\u0303\u02b8\u0341\0\uff8b\u0341\u02cd\u02ee\0\uffb5\u02ee\u02a3"
+            + "\u0341\0\uff8b\u0341\u02cd\u0318\0\uffa0\u0318\u02b8\u01a1\0\uff8b\u01a1\u02cd"
+            + "\u02c4\1\uff8b\u02c4\u0279\u02db\31\uff59\u02d5\u02ff\u02c4\0\uffdf\u02c3\u02cd"
+            + "\u0271\0\uffdf\u0261\u0250\u021e\uffff\10\u021b\u0223\u0357\0\uff84\u0357\u02d3"
+            + "\u02ee\0\uff8b\u02ee\u0279\u0247\0\10\u0247\u024e\u01f4\uffff\62\u01f5\u0227"
+            + "\u0271\0\uffb5\u0271\u0279\u02ee\5\uff62\u02e9\u02cd\u02ee\0\uff62\u02ee\u031e"
+            + "\u02ee\0\uff8b\u02ee\u02e2\u0318\0\uffb5\u0318\u0279\u0318\0\uffb5\u0318\u0279"
+            + "\u0318\0\uffb5\u0318\u0279\u0318\0\uffb5\u0318\u0279\u01f4\0\uffb5\u01f4\u0279"
+            + "\u01f4\0\uffb5\u01f4\u0279\u0295\2\uffb5\u0295\u02cd\u02ee\0\uffdf\u02ee\u029b"
+            + "\u0341\0\uffb5\u0341\u0250\u036b\0\10\u036b\u0250\u0294\0\uffd7\u0294\u022d"
+            + "\u0271\0\uffd7\u0271\u024f\u037f\0\uffd7\u037f\u022d\u01f4\0\uffd7\u01f4\u022d"
+            + "\u0333\22\uffb5\u0321\u028e\u0333\22\uffb5\u0321\u028e\u0247\0\uff8b\u0247\u02cd"
+            + "\u02ee\0\uffb5\u02ee\u0264\u0247\0\10\u0247\u0210\u0341\0\10\u0341\u0250"
+            + "\u0341\0\uff38\u0341\u0279\u01d9\0\uffdf\u01d9\u0250\u0390\0\uff8b\u038e\u02db"
+            + "\u0341\0\uffa7\u0341\u0279\u02b1\0\uffa7\u02b1\u02b1\u0341\0\uff62\u0341\u0279"
+            + "\u030f\2\uffa7\u030d\u02b1\u0341\0\uffb5\u0341\u02cd\u02d5\0\10\u02d5\u0250"
+            + "\u02fb\0\uffdf\u02fb\u0247\u036a\uffff\uffde\u036a\u0266\u01d0\0\uffb5\u01d0\u02a3"
+            + "\u02ee\0\uffdf\u02ee\u02cd\u02ee\0\uffdf\u02ee\u02cd\u02bc\0\uffa8\u02bc\u0264"
+            + "\u02bc\0\uffa8\u02bc\u0264\u02bc\0\uffa8\u02bc\u0264\u02bc\0\uffa8\u02bc\u0264"
+            + "\u02bc\0\uffbd\u02bc\u0279\u02bc\0\uffbd\u02bc\u0279");
+}
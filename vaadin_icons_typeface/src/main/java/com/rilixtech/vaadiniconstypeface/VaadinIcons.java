@@ -2,12 +2,13 @@ package com.rilixtech.vaadiniconstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the VaadinIcons font. It hosts a variety of icons that can be used by
@@ -25,7 +26,6 @@ public class VaadinIcons implements MfbTypeface {
     public static final String VAADIN_ICONS_LICENSE = "Creative Commons licenses: CC-BY license";
     public static final String VAADIN_ICONS_LICENSE_URL = "https://creativecommons.org/licenses/by/4.0/";
 
-    private static Font vaadinIconsTypeface = null;
     private static HashMap<String, Character> vaadinIconsCharMap;
 
     /**
@@ -34,7 +34,21 @@ public class VaadinIcons implements MfbTypeface {
      * @param key Key for which VaadinIcons MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No VaadinIcons icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * VaadinIcons MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which VaadinIcons MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -44,15 +58,29 @@ public class VaadinIcons implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (vaadinIconsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.vaadinIconsCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return vaadinIconsCharMap;
     }
 
+    /**
+     * Get the compact table of all the VaadinIcons icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all VaadinIcons icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the VaadinIcons icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all VaadinIcons icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return VaadinIconsMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the VaadinIcons Characters into a HashMap.
      */
@@ -78,15 +106,11 @@ public class VaadinIcons implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return vaadinIconsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> vaadinIconsKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            vaadinIconsKeyList.add(value.name());
-        }
-        return vaadinIconsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -111,18 +135,7 @@ public class VaadinIcons implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (vaadinIconsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return vaadinIconsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        vaadinIconsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -784,6 +797,9 @@ public class VaadinIcons implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface vaadinIconsTypeface;
 
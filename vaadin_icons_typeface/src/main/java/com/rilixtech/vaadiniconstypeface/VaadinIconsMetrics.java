@@ -0,0 +1,226 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.vaadiniconstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of vaadin-icons-v4.1.0.ttf for the VaadinIcons icons, in ordinal order.
+ */
+final class VaadinIconsMetrics {
+
+    private VaadinIconsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(1024, 960, -64, ""
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\100\uffc0\u03c0\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u03ed\u03ad\u0400\0\0\u0400\u03c0\u0400\0\0\u0400\u03c0"
+            + "\u0400\0\0\u0400\u03c0\u0400\0\0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\300\100\u0340\u0340\u0400\200\200\u0380\u0300\u0400\200\200\u0380\u0300"
+            + "\u0400\300\100\u0340\u0340\u0400\300\u0100\u0340\u02c0\u0400\u0140\200\u0300\u0300"
+            + "\u0400\u0100\200\u02c0\u0300\u0400\300\300\u0340\u0280\u0400\0\uffc0\u0400\u0380"
+            + "\u0400\300\uffc0\u0340\u03c0\u0400\0\uffc0\u0400\u0340\u0400\0\100\u0400\u0300"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\206\uffc0\u037a\u03c0"
+            + "\u0400\0\100\u0400\u0300\u0400\0\106\u0400\u033a\u0400\u0140\0\u02c0\u0380"
+            + "\u0400\100\u0100\u03c0\u0280\u0400\0\106\u0400\u033a\u0400\200\uffc0\u037a\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\100\0\u03c0\u0380\u0400\0\u0100\u0400\u0280"
+            + "\u0400\100\u0100\u03c0\u0280\u0400\u0140\0\u02c0\u0380\u0400\u0140\uffc0\u02c0\u03c0"
+            + "\u0400\0\uffc0\u03fa\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u03e0\u03c0"
+            + "\u0400\0\0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u03c0\u03c0"
+            + "\u0400\0\200\u0400\u0300\u0400\0\100\u0400\u0380\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u0380\u0400\200\uffc0\u0380\u03c0\u0400\77\uffc0\u03c0\u03c0"
+            + "\u0400\0\uffc0\u03d3\u0393\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\300\uffc0\u0346\u03c0\u0400\300\uffc0\u0340\u03c0"
+            + "\u0400\0\0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\300\uffc0\u0340\u03c0\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\0\100\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\300\u0400\u02c0"
+            + "\u0400\100\uffe0\u03c0\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\100\u0400\u0380"
+            + "\u0400\0\0\u0406\u0340\u0400\300\u0100\u0340\u02c0\u0400\u0100\200\u02c0\u0300"
+            + "\u0400\u0140\200\u0300\u0300\u0400\100\0\u03c0\u0380\u0400\100\0\u03c0\u0380"
+            + "\u0400\100\0\u03c0\u0380\u0400\100\0\u03c0\u0380\u0400\300\300\u0340\u0280"
+            + "\u0400\0\uffc0\u0400\u0380\u0400\0\uffc0\u0400\u0380\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffba\u0400\u03c0\u0400\15\63\u03e6\u035a"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u03ed\u0386"
+            + "\u0400\100\0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\172\u0400\u0306\u0400\272\uffc0\u0346\u03c0\u0400\272\uffc0\u0346\u03c0"
+            + "\u0400\0\172\u0400\u0306\u0400\267\uffc0\u0344\u0300\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\200\uffc0\u03c0\u03c0\u0400\200\uffc0\u03c0\u03c0"
+            + "\u0400\200\uffc0\u03c0\u03c0\u0400\200\uffc0\u03c0\u03c0\u0400\200\uffc0\u03c0\u03c0"
+            + "\u0400\200\uffc0\u03c0\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\200\u0400\u0300"
+            + "\u0400\0\100\u0400\u0380\u0400\0\0\u0400\u0340\u0400\0\100\u0400\u02f3"
+            + "\u0400\0\100\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\100\u0400\u0340"
+            + "\u0400\0\100\u0400\u0340\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\300\u0400\u02c0\u0400\0\72\u0400\u0380"
+            + "\u0400\0\72\u0400\u0380\u0400\0\100\u0400\u0380\u0400\0\100\u0400\u0380"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\23\uffd3\u03ed\u03ad"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\100\uffc0\u03c0\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\4\uffc3\u03fd\u03bd\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\100\u0400\u0340"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\46\uffe0\u03e6\u03b3\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\0\u0400\u03c0"
+            + "\u0400\100\uffc0\u03c0\u03c0\u0400\300\uffc0\u0340\u03c0\u0400\0\0\u0400\u0340"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\0\u0400\u03c0\u0400\0\0\u0400\u0340"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\106\uffc0\u03b3\u03c0"
+            + "\u0400\0\100\u0400\u0380\u0400\346\uffc0\u02e6\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\300\uffc0\u0340\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\100\0\u03c0\u0380"
+            + "\u0400\55\uffc0\u03ba\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\u0140\u0400\u0240\u0400\u0180\uffc0\u0280\u03c0\u0400\0\100\u0400\u0300"
+            + "\u0400\0\100\u0400\u0300\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\40\0\u0400\u0380\u0400\0\100\u0400\u0300\u0400\u0180\uffc0\u0280\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\100\uffc0\u03c0\u03c0"
+            + "\u0400\72\uffc0\u03c0\u03c0\u0400\100\0\u03c0\u0380\u0400\100\0\u03c0\u0380"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\172\u0400\u02c6\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u03c0\u0380"
+            + "\u0400\u014d\uffc0\u0340\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\0\u0400\u0380\u0400\0\0\u0400\u0380\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\100\u0400\u0340\u0400\0\0\u0400\u0380\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\0\uffc0\u03fc\u03bf\u0400\0\uffc0\u0400\u03c0\u0400\100\uffc0\u03c0\u03c0"
+            + "\u0400\100\uffba\u03c0\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\0\uffc0\u03c0\u03c0\u0400\0\uffc0\u0400\u0380"
+            + "\u0400\0\0\u0400\u0340\u0400\0\0\u0400\u0340\u0400\0\0\u03f3\u0340"
+            + "\u0400\0\0\u0400\u0340\u0400\100\uffc0\u03c0\u03c0\u0400\0\0\u0400\u0380"
+            + "\u0400\0\0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\200\uffc0\u0340\u03c0"
+            + "\u0400\0\100\u0400\u0342\u0400\32\uffda\u03f3\u03ad\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u03c0\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\u0100\u0400\u0280"
+            + "\u0400\15\uffc0\u0400\u03c0\u0400\6\15\u0400\u036d\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\300\100\u0380\u0340\u0400\0\uffc0\u0400\u03c0\u0400\100\0\u03c0\u0380"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\206\0\u0380\u03a6\u0400\u0153\uffc0\u0400\u026d"
+            + "\u0400\171\uffc0\u0389\u03c0\u0400\0\0\u0400\u0380\u0400\0\0\u0400\u0380"
+            + "\u0400\100\ufff3\u03c0\u038d\u0400\200\uffc0\u0380\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\100\u0400\u0340\u0400\0\0\u0400\u0340\u0400\0\ufffa\u0400\u0340"
+            + "\u0400\0\0\u0400\u0380\u0400\0\0\u0400\u0380\u0400\0\0\u0400\u03c0"
+            + "\u0400\0\0\u0400\u03c0\u0400\u0180\uffc0\u0280\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\300\u0400\u02c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\100\u0400\u0340\u0400\0\uffc0\u0400\u03c0\u0400\u0140\uffc0\u02c0\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\200\u0400\u02c0"
+            + "\u0400\0\200\u0400\u02c0\u0400\0\200\u0400\u0340\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\300\0\u0340\u0380\u0400\300\uffc0\u0340\u03c0\u0400\100\100\u03c0\u02c0"
+            + "\u0400\0\200\u0400\u0300\u0400\100\100\u03c0\u02c0\u0400\0\200\u0400\u0300"
+            + "\u0400\300\0\u0340\u0380\u0400\300\uffc0\u0340\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\300\uffc0\u0340\u03c0\u0400\0\u01c0\u0400\u0200\u0400\u0200\uffc0\u0240\u03c0"
+            + "\u0400\0\0\u0400\u0380\u0400\0\0\u0400\u0380\u0400\106\6\u03ba\u037a"
+            + "\u0400\0\0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\100\u0400\u0380"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\300\uffc0\u0340\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\0\u0400\u0380\u0400\267\uffc0\u0344\u03c0\u0400\300\uffc0\u0340\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\240\uffc0\u0360\u03c0"
+            + "\u0400\0\0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\300\uffc0\u0340\u03c0"
+            + "\u0400\200\u0180\u0380\u0200\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\100\0\u03c0\u0380\u0400\u0100\0\u0300\u0380\u0400\0\0\u0400\u0380"
+            + "\u0400\0\0\u0400\u0380\u0400\0\200\u0400\u0300\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u03d3\u03c0\u0400\0\200\u0400\u02c0\u0400\0\uffc0\u0340\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\300\u0400\u02c0\u0400\100\uffc8\u0380\u03c0"
+            + "\u0400\0\0\u0400\u0341\u0400\0\0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u03f3\u03ba\u0400\17\uffda\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\63\uffed\u03ba\u0346\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\100\uffc0\u03c0\u03c0\u0400\0\300\u0400\u02c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\0\u0400\u0380\u0400\0\uffc0\u03f3\u03b3\u0400\0\uffc0\u03f3\u03b3"
+            + "\u0400\0\100\u0400\u0340\u0400\0\uffc0\u0400\u03c0\u0400\115\uffc0\u03c0\u03c0"
+            + "\u0400\0\uffc0\u0400\u03ba\u0400\300\uffc0\u0340\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\200\0\u0380\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\100\uffc0\u03ad\u03ad\u0400\200\100\u0380\u0340\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\100\u0400\u0340\u0400\100\0\u03c0\u0380"
+            + "\u0400\300\0\u0380\u03c0\u0400\100\uffc0\u03c0\u0380\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\u0100\u0400\u0280\u0400\46\uffc0\u03d3\u03a0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\200\uffc0\u0326\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\100\u0400\u0360\u0400\0\40\u0400\u0340"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\100\uffc0\u0400\u0380"
+            + "\u0400\0\uffc0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\100\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\0\u0400\u0380"
+            + "\u0400\0\200\u0400\u02c0\u0400\0\uffc0\u0400\u0380\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\15\uffc6\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\100\uffc0\u03c0\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\6\uffc0\u0400\u03c0\u0400\15\uffcd\u0400\u03ba"
+            + "\u0400\0\uffc6\u03ed\u03c0\u0400\0\uffc6\u03ed\u03c0\u0400\0\uffc6\u03ed\u03c0"
+            + "\u0400\0\300\u0400\u02c0\u0400\200\uffc0\u0380\u0380\u0400\300\uffc0\u0340\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\100\uffc0\u03c0\u03c0"
+            + "\u0400\0\0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\0\u0400\u0380"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\55\u0400\u0300\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\300\u0400\u02c0\u0400\100\uffc0\u03c0\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\u0140\200\u02c0\u0300\u0400\0\0\u03fa\u0380\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03b3\u0400\0\uffc0\u0400\u01c0\u0400\0\uffc0\u0400\u032d"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\0\u0400\u0380\u0400\0\0\u0400\u0380"
+            + "\u0400\u0120\uffc0\u02a0\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffe6\u03f3\u03ad"
+            + "\u0400\6\uffe0\u0200\u03a6\u0400\6\uffe0\u03fa\u03a6\u0400\u0200\uffe0\u0400\u03a6"
+            + "\u0400\6\uffe0\u03fa\u03a6\u0400\6\uffe0\u03fa\u03a6\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\200\0\u0380\u0380\u0400\200\0\u0380\u0380\u0400\0\uffc0\u03fa\u03c0"
+            + "\u0400\100\0\u03c0\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u039a"
+            + "\u0400\0\uffc0\u0400\u0300\u0400\0\0\u0400\u0380\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\200\u0400\u03a0\u0400\23\uffe0\u03f3\u03b3\u0400\0\uffc0\u0400\u0380"
+            + "\u0400\0\100\u0400\u0340\u0400\0\100\u0400\u0340\u0400\100\0\u03c0\u0380"
+            + "\u0400\0\0\u0400\u0340\u0400\0\uffc0\u0400\u03c0\u0400\0\0\u0400\u03c0"
+            + "\u0400\100\200\u03c0\u0300\u0400\100\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\100\u0400\u0340\u0400\0\uffc0\u03c0\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\100\0\u03c0\u0380\u0400\240\uffc0\u035a\u03c0\u0400\0\uffc0\u0400\u0380"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\0\u0400\u03c0\u0400\0\uffba\u0400\u03c0"
+            + "\u0400\0\200\u0400\u0300\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\100\u0400\u0340\u0400\0\uffcd\u0400\u03c0\u0400\300\uffc0\u0346\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u0300\u0400\0\100\u0400\u0340\u0400\0\40\u0400\u0360"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\33\uffc0\u03ff\u03c0\u0400\200\uffc0\u0386\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u03c0\u0380\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\106\uffc0\u03b3\u03c0\u0400\0\100\u0400\u0340"
+            + "\u0400\106\uffc0\u03f3\u03c0\u0400\106\uffc0\u0400\u03c0\u0400\106\uffc0\u03e6\u03c0"
+            + "\u0400\0\uffc0\u0400\u0386\u0400\0\uffda\u0400\u03a6\u0400\32\uffc0\u03e6\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\23\u03fa\u037a\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\0\u0386\u0380\u0400\0\0\u0306\u0380\u0400\0\0\u0240\u0380"
+            + "\u0400\0\uffe0\u0406\u03a0\u0400\0\0\u0400\u0380\u0400\0\uffe0\u03e0\u03c0"
+            + "\u0400\72\ufffa\u03c6\u0386\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\132\uffc0\u03a6\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u0380"
+            + "\u0400\154\300\u0394\u02c0\u0400\u0100\54\u0300\u0354\u0400\u0100\54\u0300\u0354"
+            + "\u0400\154\300\u0394\u02c0\u0400\uffff\uffc0\u0403\u03c1\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\100\u0400\u0300\u0400\0\uffc0\u0400\u03c0\u0400\100\uffbe\u03c0\u03bf"
+            + "\u0400\200\300\u0380\u0300\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u0380"
+            + "\u0400\0\300\u0400\u02c0\u0400\0\100\u0400\u0340\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\200\u0400\u0300\u0400\100\uffc0\u03c0\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\200\uffc0\u03c0\u03c0\u0400\303\203\u033d\u02fd\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\ufffe\uffbf\u03ff\u03c0\u0400\100\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\100\277\u03c0\u0300\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\u0100\uffc0\u0340\u03c0\u0400\u0100\uffc0\u0340\u03c0\u0400\100\277\u03c0\u0300"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\0\u0400\u0340\u0400\0\0\u0400\u0340"
+            + "\u0400\0\u0140\u0400\u0240\u0400\u0180\uffc0\u0280\u03c0\u0400\0\200\u0400\u0300"
+            + "\u0400\100\uffc0\u03c0\u03c0\u0400\0\100\u0400\u0340\u0400\0\100\u0400\u0340"
+            + "\u0400\100\300\u03c2\u0300\u0400\0\uffc0\u0400\u03c0\u0400\200\uffc0\u0383\u0380"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\100\uffc0\u03c0\u03c0\u0400\100\uffc0\u03c0\u03c0"
+            + "\u0400\100\uffc0\u03bf\u03c0\u0400\0\100\u0400\u0380\u0400\0\100\u0400\u032f"
+            + "\u0400\0\0\u0400\u0340\u0400\0\0\u0400\u0340\u0400\0\0\u03ff\u0340"
+            + "\u0400\0\0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc2\u0400\u0380"
+            + "\u0400\0\100\u03ff\u0300\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0\u0400\200\uffc0\u0380\u03c0"
+            + "\u0400\200\uffc0\u0380\u03c0\u0400\0\uffc0\u0400\u03bc\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\u0100\uffc0\u02c0\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\u0100\u0400\u02c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u0380"
+            + "\u0400\100\0\u03c0\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\0\u0400\u0380"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0401\u03c0\u0400\0\100\u0401\u0340"
+            + "\u0400\0\0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u0380"
+            + "\u0400\0\uffc0\u0400\u0380\u0400\0\uffc0\u0400\u03c0\u0400\100\100\u03c0\u0340"
+            + "\u0400\0\100\u0400\u0340\u0400\0\uffc0\u0400\u03c0\u0400\0\220\u0400\u02e4"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0"
+            + "\u0400\0\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c0\u0400\0\100\u0400\u0380"
+            + "\u0400\0\100\u0400\u0380\u0400\0\300\u0400\u02c0\u0400\0\100\u0400\u0340"
+            + "\u0400\1\uffc0\u0401\u03c0\u0400\300\uffc0\u0380\u03c0\u0400\0\100\u0400\u031a"
+            + "\u0400\0\146\u0400\u0340\u0400\112\uffc0\u0400\u03c0\u0400\0\uffc0\u0400\u03c1");
+}
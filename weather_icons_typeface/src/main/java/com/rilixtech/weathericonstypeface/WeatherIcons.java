@@ -2,12 +2,13 @@ package com.rilixtech.weathericonstypeface;
 
 import ohos.agp.text.Font;
 import ohos.app.AbilityContext;
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+import com.rilixtech.materialfancybutton.typeface.IconTable;
 import com.rilixtech.materialfancybutton.typeface.MfbIcon;
 import com.rilixtech.materialfancybutton.typeface.MfbTypeface;
 import com.rilixtech.materialfancybutton.utils.FontUtil;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 /**
  * MfbTypeface implementation using the WeatherIcons font. It hosts a variety of icons that can be used by
@@ -26,7 +27,6 @@ public class WeatherIcons implements MfbTypeface {
     public static final String WEATHER_ICONS_LICENSE = "SIL OFL 1.1";
     public static final String WEATHER_ICONS_LICENSE_URL = "http://scripts.sil.org/cms/scripts/page.php?site_id=nrsi&id=OFL";
 
-    private static Font weatherIconsTypeface = null;
     private static HashMap<String, Character> weatherIconsCharMap;
 
     /**
@@ -35,7 +35,21 @@ public class WeatherIcons implements MfbTypeface {
      * @param key Key for which WeatherIcons MfbIcon is to be retrieved.
      */
     @Override public MfbIcon getIcon(String key) {
-        return Icon.valueOf(key);
+        MfbIcon icon = Icon.ICON_TABLE.find(key);
+        if (icon == null) {
+            throw new IllegalArgumentException("No WeatherIcons icon named " + key);
+        }
+        return icon;
+    }
+
+    /**
+     * WeatherIcons MfbIcon object corresponding to this typeface for the given key, without throwing on unknown keys.
+     *
+     * @param key Key for which WeatherIcons MfbIcon is to be retrieved.
+     * @return The MfbIcon, or {@code null} if this typeface has no icon for the given key.
+     */
+    @Override public MfbIcon findIcon(String key) {
+        return Icon.ICON_TABLE.find(key);
     }
 
     /**
@@ -45,15 +59,29 @@ public class WeatherIcons implements MfbTypeface {
      */
     @Override public HashMap<String, Character> getCharacters() {
         if (weatherIconsCharMap == null) {
-            HashMap<String, Character> characterHashMap = new HashMap<>();
-            for (Icon v : Icon.values()) {
-                characterHashMap.put(v.name(), v.weatherIconsCharacter);
-            }
-            setChars(characterHashMap);
+            setChars(Icon.ICON_TABLE.toCharacterMap());
         }
         return weatherIconsCharMap;
     }
 
+    /**
+     * Get the compact table of all the WeatherIcons icons, indexed by icon ordinal.
+     *
+     * @return IconTable of all WeatherIcons icon names and characters.
+     */
+    @Override public IconTable getIconTable() {
+        return Icon.ICON_TABLE;
+    }
+
+    /**
+     * Get the metrics of the glyphs of all the WeatherIcons icons, indexed by icon ordinal.
+     *
+     * @return GlyphMetrics of all WeatherIcons icons.
+     */
+    @Override public GlyphMetrics getGlyphMetrics() {
+        return WeatherIconsMetrics.GLYPH_METRICS;
+    }
+
     /**
      * Set the WeatherIcons Characters into a HashMap.
      */
@@ -79,15 +107,11 @@ public class WeatherIcons implements MfbTypeface {
     }
 
     @Override public int getIconCount() {
-        return weatherIconsCharMap.size();
+        return Icon.ICON_TABLE.size();
     }
 
     @Override public Collection<String> getIcons() {
-        Collection<String> weatherIconsKeyList = new LinkedList<>();
-        for (Icon value : Icon.values()) {
-            weatherIconsKeyList.add(value.name());
-        }
-        return weatherIconsKeyList;
+        return Icon.ICON_TABLE.getNames();
     }
 
     @Override public String getAuthor() {
@@ -112,18 +136,7 @@ public class WeatherIcons implements MfbTypeface {
 
     @Override
     public Font getTypeface(AbilityContext context) {
-        if (weatherIconsTypeface == null) {
-            try {
-                cacheTypeface(FontUtil.getFontFromRawFile(context, TTF_FILE));
-            } catch (IllegalStateException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-        return weatherIconsTypeface;
-    }
-
-    private static void cacheTypeface(Font font) {
-        weatherIconsTypeface = font;
+        return FontUtil.loadFont(context, TTF_FILE);
     }
 
     /**
@@ -739,6 +752,9 @@ public class WeatherIcons implements MfbTypeface {
             return name();
         }
 
+        // name lookup table, built once from the enum constants instead of Enum.valueOf
+        private static final IconTable ICON_TABLE = new IconTable(values());
+
         // remember the typeface so we can use it later
         private static MfbTypeface weatherIconsTypeface;
 
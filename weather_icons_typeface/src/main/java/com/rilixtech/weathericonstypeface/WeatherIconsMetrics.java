@@ -0,0 +1,211 @@
+// Generated by gradlew :benchmark:checkGlyphMetrics -PupdateGlyphMetrics. Do not edit.
+package com.rilixtech.weathericonstypeface;
+
+import com.rilixtech.materialfancybutton.typeface.GlyphMetrics;
+
+/**
+ * Metrics of the glyphs of weather-icons-v2.0.10.ttf for the WeatherIcons icons, in ordinal order.
+ */
+final class WeatherIconsMetrics {
+
+    private WeatherIconsMetrics() {}
+
+    static final GlyphMetrics GLYPH_METRICS = GlyphMetrics.decode(2048, 2245, -718, ""
+            + "\u08db\0\ufe95\u08db\u0770\u0b33\0\uffff\u0b33\u08ba\u0c36\0\ufe7b\u0c37\u08bd"
+            + "\u0c21\0\ufeb0\u0c21\u08bb\u0c3c\0\ufeb1\u0c3d\u08ba\u0b44\0\ufda2\u0b45\u08c5"
+            + "\u08db\0\0\u08db\u0706\u0b34\0\ufd5e\u0b35\u08bf\u0b3d\0\ufd92\u0b3e\u08c0"
+            + "\u0b45\0\ufd75\u0b37\u08ba\u0b45\0\ufd66\u0b46\u08c1\u0b34\0\ufd98\u0b35\u08b6"
+            + "\u0b43\0\ufd71\u0b43\u08c0\u0b43\0\ufd75\u0b43\u08c3\u0b30\0\ufdb2\u0b30\u08b7"
+            + "\u0b43\0\ufd89\u0b43\u08c3\u0b30\0\ufdb2\u0b30\u08b7\u0b30\0\uff15\u0b30\u08b7"
+            + "\u0b43\0\ufd89\u0b43\u08c3\u09ed\0\uff71\u09ee\u089b\u0b3b\0\ufda6\u0b3b\u08be"
+            + "\u0b44\0\ufe71\u0b45\u08b8\u08db\0\ufe95\u08db\u0770\u090d\0\uff06\u090e\u0773"
+            + "\u0935\0\ufedf\u0936\u06db\u0a94\1\uffdd\u0a96\u08b8\u05e8\0\35\u05e5\u0607"
+            + "\u090c\0\0\u090d\u06df\u0a04\0\ufe7a\u0a05\u06e2\u0a8b\0\ufeb0\u0a8b\u06e1"
+            + "\u0915\0\ufda3\u0916\u06de\u0910\0\ufe4e\u0910\u06e2\u091b\0\ufd99\u091b\u06e7"
+            + "\u091c\0\ufd75\u091d\u06ea\u091d\0\ufd5a\u091e\u06e2\u091b\0\ufd93\u091b\u06e0"
+            + "\u0918\0\ufd6f\u0918\u06db\u0918\0\ufd75\u0918\u06e1\u091b\0\ufdaa\u091b\u06e3"
+            + "\u0918\0\ufd8d\u0918\u06e1\u091b\0\ufdaa\u091b\u06e3\u0913\0\uff11\u0913\u06e2"
+            + "\u0918\0\ufd8d\u0918\u06e1\u091a\0\ufda6\u091a\u06e9\u08ea\0\1\u08ea\u0675"
+            + "\u09f4\0\ufe7e\u09f5\u067b\u0a79\0\ufeb9\u0a79\u0677\u0a48\0\ufec2\u0a48\u06d8"
+            + "\u08f6\0\ufdaa\u08f7\u0679\u08ed\0\ufe4d\u08ee\u0676\u06db\0\uff71\u06db\u0603"
+            + "\u08f3\0\ufda7\u08f3\u0676\u0903\0\ufd75\u0903\u0680\u0913\0\ufd7f\u0913\u067b"
+            + "\u08f5\0\ufd93\u08f6\u0673\u08fa\0\ufd6b\u08fa\u0671\u0b43\0\ufd75\u08fa\u067a"
+            + "\u08f9\0\ufdad\u08f9\u067a\u08fa\0\ufd89\u08fa\u067a\u08f9\0\ufdb2\u08f9\u067a"
+            + "\u08f8\ufffe\uff11\u08f6\u067e\u08f6\0\ufd9d\u08f7\u0679\u08f0\0\ufd8f\u08f0\u0676"
+            + "\u0456\0\330\u0457\u052f\u0806\0\uff63\u0807\u0757\u0984\uffff\uff1e\u0980\u0778"
+            + "\u0984\0\uff1d\u0985\u0775\u06db\0\uff6e\u06e1\u0600\u08a8\0\0\u08a8\u0607"
+            + "\u0942\0\uffff\u0942\u0611\u097c\0\ufe7a\u097d\u060a\u09eb\0\ufeb1\u09eb\u0605"
+            + "\u0a51\0\ufeb3\u0a51\u0605\u08a2\0\ufd92\u08a2\u0601\u08a3\0\ufda6\u08a3\u0601"
+            + "\u08a1\0\ufd75\u08a1\u0600\u08a5\0\ufd67\u08a6\u0601\u08aa\0\ufd92\u08aa\u0606"
+            + "\u0918\0\ufd6e\u08ae\u0603\u08a2\0\uff10\u08a2\u0600\u08a4\0\ufd9a\u08a5\u0602"
+            + "\u08a5\0\ufd7e\u08a6\u0602\u08a3\0\ufdad\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601"
+            + "\u0736\0\uff62\u0737\u0726\u0718\0\uff63\u0718\u0725\u05de\0\ufee5\u05d9\u06a5"
+            + "\u0353\0\u0145\u0353\u05dd\u0456\1\227\u0458\u0635\u0664\0\231\u0665\u04fb"
+            + "\u0649\0\ufff6\u0649\u0641\u08a1\0\u0122\u08a1\u042e\u09eb\0\22\u09eb\u055f"
+            + "\u09eb\0\ufff5\u09eb\u05f8\u0820\0\uff30\u0820\u071b\u065c\1\uff8d\u065b\u06ce"
+            + "\u06eb\ufff8\3\u06e3\u063f\u0698\0\ufed0\u0676\u0805\u0846\0\0\u0847\u078d"
+            + "\u066e\13\uff79\u065f\u077f\u034a\3\uffd0\u0345\u0650\u05cc\0\10\u05cd\u060d"
+            + "\u0453\0\ufedb\u0453\u0600\u039b\0\ufedb\u0453\u0600\u045d\0\ufedb\u045e\u0600"
+            + "\u0601\0\ufedb\u045e\u0600\u0601\0\ufffe\u0601\u05ff\u0621\166\uffb1\u0601\u06a0"
+            + "\u0460\0\u0168\u0458\u054f\u0472\0\u016e\u0472\u0547\u0182\0\u0482\u0182\u0607"
+            + "\u043d\0\ufed6\u043e\u080b\u043d\0\ufed6\u043e\u080b\u021a\0\uffe3\u021a\u0530"
+            + "\u08a8\0\1\u08a8\u0608\u08a3\0\1\u08a3\u0605\u08a4\0\uffce\u08a5\u0606"
+            + "\u0864\0\uffff\u0865\u0573\u0914\0\0\u0915\u0706\u0a35\0\uffff\u0a36\u07ce"
+            + "\u0a19\0\ufed0\u0a19\u07b5\u060d\7\0\u0613\u05f3\u060d\0\ufed0\u060d\u05f3"
+            + "\u045b\0\165\u045b\u058a\u02ae\0\u0118\u02af\u0550\u08a8\3\ufee2\u08a8\u06cf"
+            + "\u061a\1\uff57\u061b\u06a8\u05ea\ufff6\ufedd\u0622\u06d5\u06c9\1\u0172\u06ca\u045a"
+            + "\u08f6\0\uff53\u08f7\u07f5\u0601\0\0\u0603\u0603\u0601\u0301\0\u0601\u0601"
+            + "\u0601\u0301\0\u0601\u0601\u0601\u0301\0\u0601\u0601\u0601\u0301\0\u0601\u0601"
+            + "\u0601\u0300\0\u0601\u0601\u0601\u0300\0\u0601\u0601\u0601\u0301\0\u0601\u0601"
+            + "\u0601\u02b7\0\u0601\u0601\u0601\u026e\0\u0601\u0601\u0601\u0226\0\u0603\u0603"
+            + "\u0601\u01dd\0\u0603\u0603\u0601\u0193\0\u0603\u0603\u0601\u014a\0\u0603\u0603"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0501\u05fa\u0601\0\0\u04b9\u05fb"
+            + "\u0601\0\0\u0470\u05fd\u0601\0\0\u0427\u05fe\u0601\0\0\u03dd\u05fe"
+            + "\u0601\0\0\u0393\u05ff\u0601\0\0\u0300\u0601\u0601\0\0\u0300\u0601"
+            + "\u0601\0\0\u0301\u0601\u0601\0\0\u0300\u0601\u0601\0\0\u0301\u0601"
+            + "\u0601\0\0\u0300\u0601\u0601\0\0\u0300\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u06db\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0603\u0603\u0601\0\0\u0603\u0603"
+            + "\u0601\0\0\u0603\u0603\u0601\0\0\u0603\u0603\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0603\u0603\u0601\u0301\0\u0601\u0601\u0601\u0301\0\u0601\u0601"
+            + "\u0601\u0301\0\u0601\u0601\u0601\u0301\0\u0601\u0601\u0601\u0300\0\u0601\u0601"
+            + "\u0601\u0300\0\u0601\u0601\u0601\u0301\0\u0601\u0601\u0601\u02b7\0\u0601\u0601"
+            + "\u0601\u026e\0\u0601\u0601\u0601\u0226\0\u0603\u0603\u0601\u01dd\0\u0603\u0603"
+            + "\u0601\u0193\0\u0603\u0603\u0601\u014a\0\u0603\u0603\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0501\u05fa\u0601\0\0\u04b9\u05fb\u0601\0\0\u0470\u05fd"
+            + "\u0601\0\0\u0427\u05fe\u0601\0\0\u03dd\u05fe\u0601\0\0\u0393\u05ff"
+            + "\u0601\0\0\u0300\u0601\u0601\0\0\u0300\u0601\u0601\0\0\u0301\u0601"
+            + "\u0601\0\0\u0300\u0601\u0601\0\0\u0301\u0601\u0601\0\0\u0300\u0601"
+            + "\u0601\0\0\u0300\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601\u0601\0\0\u0601\u0601"
+            + "\u0601\0\0\u0601\u0601\u02b3\1\u0116\u02b3\u054e\u02a4\0\u01e8\u02a5\u048d"
+            + "\u0439\1\u01c9\u0439\u047b\u02a5\0\u01cb\u02a6\u0470\u02b2\0\345\u02b2\u051d"
+            + "\u02a5\0\u01d6\u02a6\u047a\u0438\0\u0185\u0438\u0437\u02a4\uffff\u01df\u02a3\u0483"
+            + "\u0865\11\ufffb\u0861\u0595\u07c6\11\0\u071f\u0595\u0875\11\0\u0876\u0595"
+            + "\u0861\11\0\u0861\u0595\u086b\11\ufffb\u0871\u0595\u086e\11\ufffa\u086f\u0595"
+            + "\u0878\11\ufffb\u0878\u0595\u088b\11\ufffb\u088b\u0595\u0869\11\ufffb\u0869\u0595"
+            + "\u0855\11\ufffb\u0856\u0595\u09f1\11\ufffb\u09f1\u0595\u08ab\11\ufffb\u08ab\u0595"
+            + "\u0a03\11\ufffb\u0a03\u0595\u05cc\0\10\u05cd\u060d\u0b43\0\ufd89\u0b43\u08c3"
+            + "\u034a\3\uffd0\u0345\u0650\u08a5\0\ufd7e\u08a6\u0602\u08a5\0\ufd7e\u08a6\u0602"
+            + "\u08a1\0\ufd75\u08a1\u0600\u08a1\0\ufd75\u08a1\u0600\u08a1\0\ufd75\u08a1\u0600"
+            + "\u08a2\0\ufd92\u08a2\u0601\u08aa\0\ufd92\u08aa\u0606\u08a2\0\ufd92\u08a2\u0601"
+            + "\u08aa\0\ufd92\u08aa\u0606\u08aa\0\ufd92\u08aa\u0606\u08a3\0\ufdad\u08a3\u0601"
+            + "\u0b30\0\ufdb2\u0b30\u08b7\u08a3\0\ufdad\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601"
+            + "\u08a2\0\ufd92\u08a2\u0601\u08a1\0\ufd75\u08a1\u0600\u0664\0\231\u0665\u04fb"
+            + "\u0a51\0\ufeb3\u0a51\u0605\u08a1\0\u0122\u08a1\u042e\u0718\0\uff63\u0718\u0725"
+            + "\u09eb\0\22\u09eb\u055f\u09eb\0\22\u09eb\u055f\u0649\0\ufff6\u0649\u0641"
+            + "\u0942\0\uffff\u0942\u0611\u08ea\0\1\u08ea\u0675\u0b33\0\uffff\u0b33\u08ba"
+            + "\u08ea\0\1\u08ea\u0675\u0b33\0\uffff\u0b33\u08ba\u05e8\0\35\u05e5\u0607"
+            + "\u08db\0\ufe95\u08db\u0770\u06db\0\uff71\u06db\u0603\u09ed\0\uff71\u09ee\u089b"
+            + "\u08a1\0\ufd75\u08a1\u0600\u090d\0\uff06\u090e\u0773\u0b43\0\ufd89\u0b43\u08c3"
+            + "\u0b43\0\ufd89\u0b43\u08c3\u0b43\0\ufd89\u0b43\u08c3\u08aa\0\ufd92\u08aa\u0606"
+            + "\u08a3\0\ufdad\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601"
+            + "\u09ed\0\uff71\u09ee\u089b\u0b43\0\ufd89\u0b43\u08c3\u08a3\0\ufdad\u08a3\u0601"
+            + "\u0b43\0\ufd89\u0b43\u08c3\u0806\0\uff63\u0807\u0757\u08db\0\ufe95\u08db\u0770"
+            + "\u05e8\0\35\u05e5\u0607\u08a3\0\ufda6\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601"
+            + "\u0918\0\ufd6e\u08ae\u0603\u09eb\0\22\u09eb\u055f\u0a51\0\ufeb3\u0a51\u0605"
+            + "\u0942\0\uffff\u0942\u0611\u0b33\0\uffff\u0b33\u08ba\u08ea\0\1\u08ea\u0675"
+            + "\u08a2\0\ufd92\u08a2\u0601\u08a5\0\ufd7e\u08a6\u0602\u05cc\0\10\u05cd\u060d"
+            + "\u043d\0\ufed6\u043e\u080b\u043d\0\ufed6\u043e\u080b\u0942\0\uffff\u0942\u0611"
+            + "\u0942\0\uffff\u0942\u0611\u043d\0\ufed6\u043e\u080b\u043d\0\ufed6\u043e\u080b"
+            + "\u0942\0\uffff\u0942\u0611\u0942\0\uffff\u0942\u0611\u0a51\0\ufeb3\u0a51\u0605"
+            + "\u0a51\0\ufeb3\u0a51\u0605\u0a51\0\ufeb3\u0a51\u0605\u0a51\0\ufeb3\u0a51\u0605"
+            + "\u0a51\0\ufeb3\u0a51\u0605\u0a51\0\ufeb3\u0a51\u0605\u05de\0\ufee5\u05d9\u06a5"
+            + "\u09eb\0\22\u09eb\u055f\u0a51\0\ufeb3\u0a51\u0605\u08a1\0\ufd75\u08a1\u0600"
+            + "\u08a1\0\ufd75\u08a1\u0600\u08a3\0\ufda6\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601"
+            + "\u08a2\0\ufd92\u08a2\u0601\u08a5\0\ufd7e\u08a6\u0602\u0664\0\231\u0665\u04fb"
+            + "\u0664\0\231\u0665\u04fb\u0664\0\231\u0665\u04fb\u0a51\0\ufeb3\u0a51\u0605"
+            + "\u0a51\0\ufeb3\u0a51\u0605\u0a51\0\ufeb3\u0a51\u0605\u0a51\0\ufeb3\u0a51\u0605"
+            + "\u0a51\0\ufeb3\u0a51\u0605\u0a51\0\ufeb3\u0a51\u0605\u08a1\0\ufd75\u08a1\u0600"
+            + "\u08a2\0\uff10\u08a2\u0600\u08a3\0\ufda6\u08a3\u0601\u08a2\0\uff10\u08a2\u0600"
+            + "\u08a3\0\ufda6\u08a3\u0601\u08a2\0\ufd92\u08a2\u0601\u08a2\0\ufd92\u08a2\u0601"
+            + "\u08a3\0\ufdad\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601\u08a2\0\uff10\u08a2\u0600"
+            + "\u08a2\0\uff10\u08a2\u0600\u08a3\0\ufda6\u08a3\u0601\u08a3\0\ufda6\u08a3\u0601"
+            + "\u0649\0\ufff6\u0649\u0641\u0649\0\ufff6\u0649\u0641\u0649\0\ufff6\u0649\u0641"
+            + "\u08a2\0\uff10\u08a2\u0600\u08a3\0\ufda6\u08a3\u0601\u08a2\0\uff10\u08a2\u0600"
+            + "\u08a2\0\uff10\u08a2\u0600\u08a3\0\ufda6\u08a3\u0601\u08a3\0\ufda6\u08a3\u0601"
+            + "\u08a2\0\ufd92\u08a2\u0601\u08a2\0\ufd92\u08a2\u0601\u08a2\0\ufd92\u08a2\u0601"
+            + "\u08a1\0\ufd75\u08a1\u0600\u08a1\0\ufd75\u08a1\u0600\u08a3\0\ufdad\u08a3\u0601"
+            + "\u08a3\0\ufdad\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601"
+            + "\u0649\0\ufff6\u0649\u0641\u0649\0\ufff6\u0649\u0641\u0649\0\ufff6\u0649\u0641"
+            + "\u08a3\0\ufdad\u08a3\u0601\u0649\0\ufff6\u0649\u0641\u08a3\0\ufda6\u08a3\u0601"
+            + "\u08a2\0\uff10\u08a2\u0600\u08a3\0\ufda6\u08a3\u0601\u08a3\0\ufda6\u08a3\u0601"
+            + "\u08a4\0\ufd9a\u08a5\u0602\u08a1\0\ufd75\u08a1\u0600\u08a1\0\ufd75\u08a1\u0600"
+            + "\u08a1\0\ufd75\u08a1\u0600\u08a2\0\ufd92\u08a2\u0601\u05de\0\ufee5\u05d9\u06a5"
+            + "\u08a4\0\ufd9a\u08a5\u0602\u08a5\0\ufd7e\u08a6\u0602\u08a5\0\ufd7e\u08a6\u0602"
+            + "\u05de\0\ufee5\u05d9\u06a5\u08a5\0\ufd7e\u08a6\u0602\u08a5\0\ufd7e\u08a6\u0602"
+            + "\u05cc\0\10\u05cd\u060d\u08a5\0\ufd7e\u08a6\u0602\u08a5\0\ufd7e\u08a6\u0602"
+            + "\u08a5\0\ufd7e\u08a6\u0602\u05de\0\ufee5\u05d9\u06a5\u05de\0\ufee5\u05d9\u06a5"
+            + "\u05de\0\ufee5\u05d9\u06a5\u05de\0\ufee5\u05d9\u06a5\u08a5\0\ufd7e\u08a6\u0602"
+            + "\u08a5\0\ufd7e\u08a6\u0602\u08a5\0\ufd7e\u08a6\u0602\u08a2\0\uff10\u08a2\u0600"
+            + "\u08a2\0\uff10\u08a2\u0600\u08a3\0\ufda6\u08a3\u0601\u08a1\0\ufd75\u08a1\u0600"
+            + "\u08a3\0\ufda6\u08a3\u0601\u08a3\0\ufda6\u08a3\u0601\u08aa\0\ufd92\u08aa\u0606"
+            + "\u08a3\0\ufda6\u08a3\u0601\u08a2\0\uff10\u08a2\u0600\u08a2\0\uff10\u08a2\u0600"
+            + "\u08a3\0\ufda6\u08a3\u0601\u08a3\0\ufda6\u08a3\u0601\u08a3\0\ufda6\u08a3\u0601"
+            + "\u08a3\0\ufda6\u08a3\u0601\u08a1\0\ufd75\u08a1\u0600\u08aa\0\ufd92\u08aa\u0606"
+            + "\u08aa\0\ufd92\u08aa\u0606\u08aa\0\ufd92\u08aa\u0606\u08a4\0\ufd9a\u08a5\u0602"
+            + "\u08a3\0\ufdad\u08a3\u0601\u08a3\0\ufdad\u08a3\u0601\u0918\0\ufd6e\u08ae\u0603"
+            + "\u08a1\0\ufd75\u08a1\u0600\u08a1\0\ufd75\u08a1\u0600\u08a1\0\ufd75\u08a1\u0600"
+            + "\u08a1\0\ufd75\u08a1\u0600\u08a1\0\ufd75\u08a1\u0600\u08a3\0\ufdad\u08a3\u0601"
+            + "\u08a3\0\ufdad\u08a3\u0601\u08aa\0\ufd92\u08aa\u0606\u0718\0\uff63\u0718\u0725"
+            + "\u08db\0\0\u08db\u0706\u0664\0\231\u0665\u04fb\u0a51\0\ufeb3\u0a51\u0605"
+            + "\u0664\0\231\u0665\u04fb\u0664\0\231\u0665\u04fb\u097c\0\ufe7a\u097d\u060a"
+            + "\u05cc\0\10\u05cd\u060d\u08db\0\ufe95\u08db\u0770\u097c\0\ufe7a\u097d\u060a"
+            + "\u097c\0\ufe7a\u097d\u060a\u09eb\0\ufeb1\u09eb\u0605\u0942\0\uffff\u0942\u0611"
+            + "\u05cc\0\10\u05cd\u060d\u08a4\0\ufd9a\u08a5\u0602\u034a\3\uffd0\u0345\u0650"
+            + "\u0649\0\ufff6\u0649\u0641\u090d\0\uff06\u090e\u0773\u08a1\0\u0122\u08a1\u042e"
+            + "\u08a2\0\ufd92\u08a2\u0601\u09eb\0\22\u09eb\u055f\u0b3b\0\ufda6\u0b3b\u08be"
+            + "\u0b3b\0\ufda6\u0b3b\u08be\u0b3b\0\ufda6\u0b3b\u08be\u0b34\0\ufd5e\u0b35\u08bf"
+            + "\u0b34\0\ufd5e\u0b35\u08bf\u0b34\0\ufd5e\u0b35\u08bf\u0b34\0\ufd5e\u0b35\u08bf"
+            + "\u0b3b\0\ufda6\u0b3b\u08be\u0b3b\0\ufda6\u0b3b\u08be\u0b3b\0\ufda6\u0b3b\u08be"
+            + "\u0b30\0\uff15\u0b30\u08b7\u0b30\0\uff15\u0b30\u08b7\u0b3d\0\ufd92\u0b3e\u08c0"
+            + "\u0b3d\0\ufd92\u0b3e\u08c0\u0b3d\0\ufd92\u0b3e\u08c0\u0b3d\0\ufd92\u0b3e\u08c0"
+            + "\u0b3d\0\ufd92\u0b3e\u08c0\u0b3d\0\ufd92\u0b3e\u08c0\u0b30\0\uff15\u0b30\u08b7"
+            + "\u0b30\0\uff15\u0b30\u08b7\u0b3d\0\ufd92\u0b3e\u08c0\u0b3d\0\ufd92\u0b3e\u08c0"
+            + "\u0b3d\0\ufd92\u0b3e\u08c0\u0b3d\0\ufd92\u0b3e\u08c0\u0b45\0\ufd75\u0b37\u08ba"
+            + "\u0b34\0\ufd98\u0b35\u08b6\u0b34\0\ufd98\u0b35\u08b6\u0b34\0\ufd98\u0b35\u08b6"
+            + "\u0b43\0\ufd89\u0b43\u08c3\u0b30\0\ufdb2\u0b30\u08b7\u0b43\0\ufd71\u0b43\u08c0"
+            + "\u0b30\0\ufdb2\u0b30\u08b7\u0b45\0\ufd75\u0b37\u08ba\u0b45\0\ufd75\u0b37\u08ba"
+            + "\u0b45\0\ufd75\u0b37\u08ba\u0b45\0\ufd75\u0b37\u08ba\u0b45\0\ufd75\u0b37\u08ba"
+            + "\u0b30\0\ufdb2\u0b30\u08b7\u0b30\0\ufdb2\u0b30\u08b7\u0b34\0\ufd98\u0b35\u08b6"
+            + "\u0718\0\uff63\u0718\u0725\u08db\0\0\u08db\u0706\u0664\0\231\u0665\u04fb"
+            + "\u0c3c\0\ufeb1\u0c3d\u08ba\u0664\0\231\u0665\u04fb\u0664\0\231\u0665\u04fb"
+            + "\u05cc\0\10\u05cd\u060d\u08db\0\ufe95\u08db\u0770\u0c36\0\ufe7b\u0c37\u08bd"
+            + "\u0c36\0\ufe7b\u0c37\u08bd\u0c36\0\ufe7b\u0c37\u08bd\u09ed\0\uff71\u09ee\u089b"
+            + "\u05cc\0\10\u05cd\u060d\u034a\3\uffd0\u0345\u0650\u0649\0\ufff6\u0649\u0641"
+            + "\u090d\0\uff06\u090e\u0773\u0b44\0\ufda2\u0b45\u08c5\u09eb\0\22\u09eb\u055f"
+            + "\u091a\0\ufda6\u091a\u06e9\u091a\0\ufda6\u091a\u06e9\u091a\0\ufda6\u091a\u06e9"
+            + "\u0910\0\ufe4e\u0910\u06e2\u0910\0\ufe4e\u0910\u06e2\u0910\0\ufe4e\u0910\u06e2"
+            + "\u0910\0\ufe4e\u0910\u06e2\u091a\0\ufda6\u091a\u06e9\u091a\0\ufda6\u091a\u06e9"
+            + "\u091a\0\ufda6\u091a\u06e9\u0913\0\uff11\u0913\u06e2\u0913\0\uff11\u0913\u06e2"
+            + "\u091b\0\ufd99\u091b\u06e7\u091b\0\ufd99\u091b\u06e7\u091b\0\ufd99\u091b\u06e7"
+            + "\u091b\0\ufd99\u091b\u06e7\u091b\0\ufd99\u091b\u06e7\u091b\0\ufd99\u091b\u06e7"
+            + "\u0913\0\uff11\u0913\u06e2\u0913\0\uff11\u0913\u06e2\u091b\0\ufd99\u091b\u06e7"
+            + "\u091b\0\ufd99\u091b\u06e7\u091b\0\ufd99\u091b\u06e7\u091b\0\ufd99\u091b\u06e7"
+            + "\u091c\0\ufd75\u091d\u06ea\u091b\0\ufd93\u091b\u06e0\u091b\0\ufd93\u091b\u06e0"
+            + "\u091b\0\ufd93\u091b\u06e0\u0918\0\ufd8d\u0918\u06e1\u091b\0\ufdaa\u091b\u06e3"
+            + "\u0918\0\ufd6f\u0918\u06db\u091b\0\ufdaa\u091b\u06e3\u091c\0\ufd75\u091d\u06ea"
+            + "\u091c\0\ufd75\u091d\u06ea\u091c\0\ufd75\u091d\u06ea\u091c\0\ufd75\u091d\u06ea"
+            + "\u091c\0\ufd75\u091d\u06ea\u091b\0\ufdaa\u091b\u06e3\u091b\0\ufdaa\u091b\u06e3"
+            + "\u091b\0\ufd93\u091b\u06e0\u0718\0\uff63\u0718\u0725\u08db\0\0\u08db\u0706"
+            + "\u0664\0\231\u0665\u04fb\u0a48\0\ufec2\u0a48\u06d8\u0664\0\231\u0665\u04fb"
+            + "\u0664\0\231\u0665\u04fb\u05cc\0\10\u05cd\u060d\u05e8\0\35\u05e5\u0607"
+            + "\u0a04\0\ufe7a\u0a05\u06e2\u0a04\0\ufe7a\u0a05\u06e2\u0a04\0\ufe7a\u0a05\u06e2"
+            + "\u090c\0\0\u090d\u06df\u05cc\0\10\u05cd\u060d\u034a\3\uffd0\u0345\u0650"
+            + "\u0649\0\ufff6\u0649\u0641\u090d\0\uff06\u090e\u0773\u0915\0\ufda3\u0916\u06de"
+            + "\u09eb\0\22\u09eb\u055f\u08a3\0\ufdad\u08a3\u0601\u08a3\0\ufda6\u08a3\u0601"
+            + "\u0918\0\ufd6e\u08ae\u0603\u08a3\0\ufdad\u08a3\u0601\u08a5\0\ufd7e\u08a6\u0602"
+            + "\u08db\0\ufe95\u08db\u0770\u0b33\0\uffff\u0b33\u08ba\u08a3\0\ufdad\u08a3\u0601"
+            + "\u08db\0\0\u08db\u0706\u0b33\0\uffff\u0b33\u08ba\u08db\0\ufe95\u08db\u0770"
+            + "\u0b33\0\uffff\u0b33\u08ba\u08db\0\ufe95\u08db\u0770\u08aa\0\ufd92\u08aa\u0606"
+            + "\u0918\0\ufd6e\u08ae\u0603\u08a3\0\ufdad\u08a3\u0601\u08db\0\ufe95\u08db\u0770"
+            + "\u08a5\0\ufd7e\u08a6\u0602\u08db\0\ufe95\u08db\u0770");
+}